@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.applications;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
+import org.eclipse.pde.api.tools.internal.ApiAnalysisApplication.Request;
+import org.junit.Test;
+
+/**
+ * Tests the arguments of the API analysis application and of the request lines
+ * of its daemon mode
+ */
+public class ApiAnalysisApplicationTest {
+
+	@Test
+	public void testSplitArguments() {
+		assertArrayEquals(new String[] { "-project", "/a/b" }, Request.splitArguments("-project /a/b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertArrayEquals(new String[] { "-project", "/a/b" }, Request.splitArguments(" \t-project   /a/b  ")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertArrayEquals(new String[0], Request.splitArguments("")); //$NON-NLS-1$
+		assertArrayEquals(new String[0], Request.splitArguments("   ")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSplitQuotedArguments() {
+		assertArrayEquals(new String[] { "-project", "/a b/c" }, Request.splitArguments("-project \"/a b/c\"")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		// quotes may enclose a part of an argument only
+		assertArrayEquals(new String[] { "/a b/c d" }, Request.splitArguments("/a\" b\"/c\" d\"")); //$NON-NLS-1$ //$NON-NLS-2$
+		// an empty quoted argument is kept
+		assertArrayEquals(new String[] { "-baseline", "", "-failOnError" }, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				Request.splitArguments("-baseline \"\" -failOnError")); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testSplitEscapes() {
+		assertArrayEquals(new String[] { "\"quoted\"" }, Request.splitArguments("\\\"quoted\\\"")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertArrayEquals(new String[] { "a \"b\" c" }, Request.splitArguments("\"a \\\"b\\\" c\"")); //$NON-NLS-1$ //$NON-NLS-2$
+		// other backslashes are kept as in Windows paths
+		assertArrayEquals(new String[] { "C:\\dir\\project" }, Request.splitArguments("C:\\dir\\project")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testReadFromArgs() {
+		Request request = Request.readFromArgs(new String[] { "-project", "/a", "/b", "-failOnError", "-project", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+				"/c", "-baseline", "/baseline" }, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(List.of(new File("/a"), new File("/b"), new File("/c")), request.projects); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(request.failOnError);
+		assertEquals(new File("/baseline"), request.baselinePath); //$NON-NLS-1$
+		assertNull(request.tpFile);
+		assertFalse(request.daemon);
+
+		request = Request.readFromArgs(new String[] { "-project", "/a", "-failOnError" }, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertTrue(request.failOnError);
+		request = Request.readFromArgs(new String[] { "-failOnError", "false", "-project", "/a" }, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertFalse(request.failOnError);
+	}
+
+	/**
+	 * Tests that the options of a daemon request line default to the ones the
+	 * daemon was started with
+	 */
+	@Test
+	public void testReadFromArgsDefaults() {
+		Request defaults = Request.readFromArgs(new String[] { "-daemon", "-baseline", "/baseline", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				"-dependencyList", "/deps", "-failOnError", "-project", "/started" }, null); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		assertTrue(defaults.daemon);
+
+		Request request = Request.readFromArgs(Request.splitArguments("-project \"/a b\""), defaults); //$NON-NLS-1$
+		assertEquals(List.of(new File("/a b")), request.projects); //$NON-NLS-1$
+		assertEquals(new File("/baseline"), request.baselinePath); //$NON-NLS-1$
+		assertEquals(new File("/deps"), request.tpFile); //$NON-NLS-1$
+		assertTrue(request.failOnError);
+		assertFalse(request.daemon);
+
+		request = Request.readFromArgs(
+				Request.splitArguments("-project /a -baseline default -dependencyList /other -failOnError false"), //$NON-NLS-1$
+				defaults);
+		assertEquals(List.of(new File("/a")), request.projects); //$NON-NLS-1$
+		assertNull(request.baselinePath);
+		assertEquals(new File("/other"), request.tpFile); //$NON-NLS-1$
+		assertFalse(request.failOnError);
+		// the defaults are not changed by a request
+		assertEquals(new File("/baseline"), defaults.baselinePath); //$NON-NLS-1$
+		assertEquals(List.of(new File("/started")), defaults.projects); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,488 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.comparator.ClassFileComparator;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.problems.ApiProblemFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblemFilter;
+import org.eclipse.test.performance.Dimension;
+
+import junit.framework.Test;
+
+/**
+ * Micro benchmarks of the engines the API builder is made of, run on the
+ * checked-in source workspace and binary baseline so they work offline. Each
+ * benchmark measures one engine in isolation with all of its input prepared
+ * up front.
+ * <p>
+ * Next to the measurements of the performance framework, the mean time per
+ * operation, or the retained heap per element for footprint benchmarks, of
+ * each benchmark is appended as one JSON object per line to the
+ * file given by the <code>org.eclipse.pde.api.tools.perf.results</code>
+ * system property, if set.
+ * </p>
+ */
+public class EngineBenchmarkTests extends PerformanceTest {
+
+	private static final String RESULTS_PROPERTY = "org.eclipse.pde.api.tools.perf.results"; //$NON-NLS-1$
+
+	private static final int WARMUP = 2;
+
+	private static final int RUNS = 15;
+
+	private long fElapsed;
+	private long fStart;
+
+	public EngineBenchmarkTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * @return the tests for this class
+	 */
+	public static Test suite() {
+		return buildTestSuite(EngineBenchmarkTests.class);
+	}
+
+	@Override
+	protected String getBaselineLocation() {
+		return getTestSourcePath().append("bin-baseline.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	@Override
+	protected String getWorkspaceLocation() {
+		return getTestSourcePath().append("source-ws.zip").toOSString(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests comparing the class files of the workspace projects with the ones
+	 * of the baseline bundles.
+	 */
+	public void testClassFileComparator() throws Exception {
+		tagAsSummary("Compare class files", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		IApiBaseline reference = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		IApiBaseline workspace = getWorkspaceBaseline();
+		List<IApiTypeRoot[]> pairs = new ArrayList<>();
+		List<IApiComponent[]> components = new ArrayList<>();
+		for (IApiComponent component : getWorkspaceComponents()) {
+			IApiComponent referenceComponent = reference.getApiComponent(component.getSymbolicName());
+			if (referenceComponent == null) {
+				continue;
+			}
+			for (IApiTypeRoot root : collectTypeRoots(referenceComponent)) {
+				IApiTypeRoot root2 = component.findTypeRoot(root.getTypeName());
+				if (root2 != null) {
+					pairs.add(new IApiTypeRoot[] { root, root2 });
+					components.add(new IApiComponent[] { referenceComponent, component });
+				}
+			}
+		}
+		assertFalse("There should be class files to compare", pairs.isEmpty()); //$NON-NLS-1$
+
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (int i = 0; i < pairs.size(); i++) {
+				IApiTypeRoot[] pair = pairs.get(i);
+				IApiComponent[] owners = components.get(i);
+				new ClassFileComparator(pair[0], pair[1], owners[0], owners[1], reference, workspace, VisibilityModifiers.ALL_VISIBILITIES).getDelta();
+			}
+			end(j);
+		}
+		commit(pairs.size());
+	}
+
+	/**
+	 * Tests building the type structures of the class files of the baseline
+	 * bundles.
+	 */
+	public void testTypeStructureBuilder() throws Exception {
+		tagAsSummary("Build type structures", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		IApiBaseline reference = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		List<byte[]> contents = new ArrayList<>();
+		for (IApiComponent component : reference.getApiComponents()) {
+			if (component.isSystemComponent()) {
+				continue;
+			}
+			for (IApiTypeRoot root : collectTypeRoots(component)) {
+				if (root instanceof AbstractApiTypeRoot typeRoot) {
+					roots.add(root);
+					contents.add(typeRoot.getContents());
+				}
+			}
+		}
+		assertFalse("There should be class files to parse", roots.isEmpty()); //$NON-NLS-1$
+
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (int i = 0; i < roots.size(); i++) {
+				IApiTypeRoot root = roots.get(i);
+				TypeStructureBuilder.buildTypeStructure(contents.get(i), root.getApiComponent(), root);
+			}
+			end(j);
+		}
+		commit(roots.size());
+	}
+
+	/**
+	 * Tests extracting the references of the types of the workspace projects.
+	 */
+	public void testExtractReferences() throws Exception {
+		tagAsSummary("Extract references", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		List<IApiType> types = collectWorkspaceTypes();
+		assertFalse("There should be types to extract references from", types.isEmpty()); //$NON-NLS-1$
+
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (IApiType type : types) {
+				type.extractReferences(IReference.MASK_REF_ALL, null);
+			}
+			end(j);
+		}
+		commit(types.size());
+	}
+
+	/**
+	 * Tests resolving the references of the types of the workspace projects.
+	 * The references are extracted again before each run, outside of the
+	 * measurement, since they remember their resolution.
+	 */
+	public void testResolveReferences() throws Exception {
+		tagAsSummary("Resolve references", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		List<IApiType> types = collectWorkspaceTypes();
+		assertFalse("There should be types to resolve references of", types.isEmpty()); //$NON-NLS-1$
+
+		int count = 0;
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			List<IReference> references = new ArrayList<>();
+			for (IApiType type : types) {
+				references.addAll(type.extractReferences(IReference.MASK_REF_ALL, null));
+			}
+			count = references.size();
+			begin(j);
+			ReferenceResolver.resolveReferences(references);
+			end(j);
+		}
+		commit(count);
+	}
+
+	/**
+	 * Tests looking up the API descriptions of all types, methods and fields
+	 * of the workspace projects.
+	 */
+	public void testApiDescriptionLookup() throws Exception {
+		tagAsSummary("Look up API descriptions", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		List<IApiDescription> descriptions = new ArrayList<>();
+		List<IElementDescriptor> elements = new ArrayList<>();
+		for (IApiComponent component : getWorkspaceComponents()) {
+			IApiDescription description = component.getApiDescription();
+			for (IApiTypeRoot root : collectTypeRoots(component)) {
+				IApiType type = root.getStructure();
+				if (type == null) {
+					continue;
+				}
+				descriptions.add(description);
+				elements.add(type.getHandle());
+				for (IApiMethod method : type.getMethods()) {
+					descriptions.add(description);
+					elements.add(method.getHandle());
+				}
+				for (IApiField field : type.getFields()) {
+					descriptions.add(description);
+					elements.add(field.getHandle());
+				}
+			}
+		}
+		assertFalse("There should be elements to look up", elements.isEmpty()); //$NON-NLS-1$
+
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (int i = 0; i < elements.size(); i++) {
+				descriptions.get(i).resolveAnnotations(elements.get(i));
+			}
+			end(j);
+		}
+		commit(elements.size());
+	}
+
+	/**
+	 * Measures the heap retained by the API descriptions of the baseline
+	 * bundles, per described element.
+	 */
+	public void testApiDescriptionFootprint() throws Exception {
+		IApiBaseline reference = ApiPlugin.getDefault().getApiBaselineManager().getDefaultApiBaseline();
+		assertNotNull("the default baseline should exist", reference); //$NON-NLS-1$
+		List<BundleComponent> bundles = new ArrayList<>();
+		for (IApiComponent component : reference.getApiComponents()) {
+			if (component instanceof BundleComponent bundle && !component.isSystemComponent()) {
+				bundles.add(bundle);
+			}
+		}
+		assertFalse("There should be bundles in the baseline", bundles.isEmpty()); //$NON-NLS-1$
+
+		int[] elements = new int[1];
+		long retained = 0;
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			for (BundleComponent bundle : bundles) {
+				bundle.releaseApiDescription();
+			}
+			long before = usedHeap();
+			List<IApiDescription> descriptions = new ArrayList<>();
+			for (BundleComponent bundle : bundles) {
+				descriptions.add(bundle.getApiDescription());
+			}
+			long after = usedHeap();
+			if (j >= WARMUP) {
+				retained += after - before;
+			}
+			elements[0] = 0;
+			for (IApiDescription description : descriptions) {
+				description.accept(new ApiDescriptionVisitor() {
+					@Override
+					public boolean visitElement(IElementDescriptor element, IApiAnnotations annotations) {
+						elements[0]++;
+						return true;
+					}
+				}, null);
+			}
+		}
+		assertTrue("There should be described elements", elements[0] > 0); //$NON-NLS-1$
+		writeResult(elements[0], "bytesPerElement", (double) retained / RUNS / elements[0]); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests matching problems against the filters of the workspace projects,
+	 * one problem per filter and one unfiltered problem per source file.
+	 */
+	public void testApiFilterStore() throws Exception {
+		tagAsSummary("Match problem filters", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		List<IApiFilterStore> stores = new ArrayList<>();
+		List<IApiProblem> problems = new ArrayList<>();
+		IApiBaseline baseline = getWorkspaceBaseline();
+		for (IProject project : getEnv().getProjectBuildOrder()) {
+			IApiComponent component = baseline.getApiComponent(project);
+			IApiFilterStore store = component != null ? component.getFilterStore() : null;
+			if (store == null) {
+				continue;
+			}
+			for (IResource resource : store.getResources()) {
+				for (IApiProblemFilter filter : store.getFilters(resource)) {
+					stores.add(store);
+					problems.add(filter.getUnderlyingProblem());
+				}
+			}
+			project.accept(proxy -> {
+				if (proxy.getType() == IResource.FILE && proxy.getName().endsWith(".java")) { //$NON-NLS-1$
+					IResource resource = proxy.requestResource();
+					stores.add(store);
+					problems.add(ApiProblemFactory.newApiProblem(resource.getProjectRelativePath().toPortableString(), null, null, null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.TYPE, IApiProblem.ILLEGAL_IMPLEMENT, IApiProblem.NO_FLAGS));
+				}
+				return true;
+			}, IResource.NONE);
+		}
+		assertFalse("There should be problems to match", problems.isEmpty()); //$NON-NLS-1$
+
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (int i = 0; i < problems.size(); i++) {
+				stores.get(i).isFiltered(problems.get(i));
+			}
+			end(j);
+		}
+		commit(problems.size());
+	}
+
+	/**
+	 * Tests writing and reading back the build states of the workspace
+	 * projects.
+	 */
+	public void testBuildStateReadWrite() throws Exception {
+		tagAsSummary("Write and read build states", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		fullBuild();
+		List<BuildState> states = new ArrayList<>();
+		for (IProject project : getEnv().getProjectBuildOrder()) {
+			BuildState state = BuildState.getLastBuiltState(project);
+			if (state != null) {
+				states.add(state);
+			}
+		}
+		assertFalse("There should be build states", states.isEmpty()); //$NON-NLS-1$
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		for (int j = 0; j < WARMUP + RUNS; j++) {
+			begin(j);
+			for (BuildState state : states) {
+				bytes.reset();
+				try (DataOutputStream out = new DataOutputStream(bytes)) {
+					BuildState.write(state, out);
+				}
+				try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+					assertNotNull("The build state should be read back", BuildState.read(in)); //$NON-NLS-1$
+				}
+			}
+			end(j);
+		}
+		commit(states.size());
+	}
+
+	private IApiBaseline getWorkspaceBaseline() {
+		return ApiPlugin.getDefault().getApiBaselineManager().getWorkspaceBaseline();
+	}
+
+	/**
+	 * @return the API components of the projects in the workspace
+	 */
+	private List<IApiComponent> getWorkspaceComponents() {
+		IApiBaseline baseline = getWorkspaceBaseline();
+		List<IApiComponent> components = new ArrayList<>();
+		for (IProject project : getEnv().getProjectBuildOrder()) {
+			IApiComponent component = baseline.getApiComponent(project);
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		return components;
+	}
+
+	/**
+	 * @return the structures of all types of the projects in the workspace
+	 */
+	private List<IApiType> collectWorkspaceTypes() throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		for (IApiComponent component : getWorkspaceComponents()) {
+			for (IApiTypeRoot root : collectTypeRoots(component)) {
+				IApiType type = root.getStructure();
+				if (type != null) {
+					types.add(type);
+				}
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * @return all type roots of the given component
+	 */
+	private static List<IApiTypeRoot> collectTypeRoots(IApiComponent component) throws CoreException {
+		List<IApiTypeRoot> roots = new ArrayList<>();
+		component.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				roots.add(typeroot);
+			}
+		});
+		return roots;
+	}
+
+	/**
+	 * @return the heap in use after collecting garbage
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Starts a run, measured unless it warms up.
+	 */
+	private void begin(int run) {
+		if (run >= WARMUP) {
+			startMeasuring();
+			fStart = System.nanoTime();
+		}
+	}
+
+	/**
+	 * Ends a run started with {@link #begin(int)}.
+	 */
+	private void end(int run) {
+		if (run >= WARMUP) {
+			fElapsed += System.nanoTime() - fStart;
+			stopMeasuring();
+		}
+	}
+
+	/**
+	 * Commits the measurements and appends the result to the results file, if
+	 * any.
+	 *
+	 * @param operations the number of operations of one run
+	 */
+	private void commit(int operations) throws IOException {
+		commitMeasurements();
+		writeResult(operations, "nanosPerOperation", operations > 0 ? (double) fElapsed / RUNS / operations : 0); //$NON-NLS-1$
+		assertPerformance();
+	}
+
+	/**
+	 * Appends a result to the results file, if any.
+	 *
+	 * @param operations the number of operations of one run
+	 * @param metric the name of the measured value
+	 * @param value the mean value per operation
+	 */
+	private void writeResult(int operations, String metric, double value) throws IOException {
+		String file = System.getProperty(RESULTS_PROPERTY);
+		if (file != null) {
+			try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+				writer.println(String.format(Locale.ROOT, "{\"benchmark\":\"%s\",\"runs\":%d,\"operations\":%d,\"%s\":%.1f}", //$NON-NLS-1$
+						getName(), RUNS, operations, metric, value));
+			}
+		}
+	}
+}
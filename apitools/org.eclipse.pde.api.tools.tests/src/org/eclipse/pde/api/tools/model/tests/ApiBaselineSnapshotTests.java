@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.ApiBaselineSnapshot;
+import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests restoring baseline components from an {@link ApiBaselineSnapshot}
+ */
+public class ApiBaselineSnapshotTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ApiBaseline baseline;
+	private File bundle;
+
+	@Before
+	public void setUp() throws Exception {
+		baseline = (ApiBaseline) TestSuiteHelper.newApiBaseline("snapshot", TestSuiteHelper.getEEDescriptionFile()); //$NON-NLS-1$
+		File plugins = TestSuiteHelper.getPluginDirectoryPath().append("test-plugins").toFile(); //$NON-NLS-1$
+		File dest = folder.newFolder("plugins"); //$NON-NLS-1$
+		TestSuiteHelper.copy(new File(plugins, "component.a_1.0.0.jar"), dest); //$NON-NLS-1$
+		bundle = new File(dest, "component.a_1.0.0.jar"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() {
+		ApiTestingEnvironment.dispose(baseline);
+	}
+
+	/**
+	 * Tests that all headers are read from the bundle, not only the ones kept
+	 * by an initialized component
+	 */
+	@Test
+	public void testReadManifest() throws CoreException {
+		Map<String, String> manifest = readManifest();
+		assertEquals("component.a", manifest.get("Bundle-SymbolicName")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("true", manifest.get("Eclipse-LazyStart")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("component.a.Activator", manifest.get("Bundle-Activator")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that a component whose bundle did not change is created from the
+	 * recorded manifest
+	 */
+	@Test
+	public void testRestoreFromRecordedManifest() throws Exception {
+		Map<String, String> manifest = readManifest();
+		// a version that is not in the bundle shows where the manifest came from
+		manifest.put("Bundle-Version", "1.0.1"); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaselineSnapshot.Entry entry = ApiBaselineSnapshot.Entry.of(bundle.getAbsolutePath(), manifest);
+		assertTrue(entry.isUpToDate());
+
+		IApiComponent[] components = restore(List.of(entry));
+		assertEquals(1, components.length);
+		assertEquals("component.a", components[0].getSymbolicName()); //$NON-NLS-1$
+		assertEquals("1.0.1", components[0].getVersion()); //$NON-NLS-1$
+		assertEquals(bundle.getAbsolutePath(), components[0].getLocation());
+	}
+
+	/**
+	 * Tests that a component whose bundle changed since the snapshot was
+	 * written is created from its location
+	 */
+	@Test
+	public void testRestoreChangedBundle() throws Exception {
+		Map<String, String> manifest = readManifest();
+		manifest.put("Bundle-Version", "1.0.1"); //$NON-NLS-1$ //$NON-NLS-2$
+		ApiBaselineSnapshot.Entry entry = ApiBaselineSnapshot.Entry.of(bundle.getAbsolutePath(), manifest);
+		assertTrue(bundle.setLastModified(entry.lastModified() - 10000));
+		assertFalse(entry.isUpToDate());
+
+		IApiComponent[] components = restore(List.of(entry));
+		assertEquals(1, components.length);
+		assertEquals("1.0.0", components[0].getVersion()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that headers exceeding the limit of modified UTF-8 strings survive
+	 * writing and reading a snapshot
+	 */
+	@Test
+	public void testLargeHeaders() throws Exception {
+		char[] packages = new char[100000];
+		Arrays.fill(packages, 'a');
+		Map<String, String> manifest = new HashMap<>();
+		manifest.put("Export-Package", new String(packages)); //$NON-NLS-1$
+		ApiBaselineSnapshot.Entry entry = new ApiBaselineSnapshot.Entry("location", 1, 2, manifest); //$NON-NLS-1$
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			ApiBaselineSnapshot.write(out, "baseline", List.of(entry)); //$NON-NLS-1$
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertEquals(ApiBaselineSnapshot.MAGIC, in.readInt());
+			assertEquals("baseline", ApiBaselineSnapshot.readLocation(in)); //$NON-NLS-1$
+			assertEquals(List.of(entry), ApiBaselineSnapshot.readEntries(in));
+		}
+	}
+
+	/**
+	 * Tests that a truncated snapshot is reported, so that the baseline is
+	 * restored from its description instead
+	 */
+	@Test
+	public void testTruncatedSnapshot() throws Exception {
+		ApiBaselineSnapshot.Entry entry = ApiBaselineSnapshot.Entry.of(bundle.getAbsolutePath(), readManifest());
+		byte[] bytes = write(List.of(entry));
+		byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+		assertThrows(CoreException.class, () -> ApiBaselineManager.getManager().readBaselineComponents(baseline,
+				new ByteArrayInputStream(truncated)));
+	}
+
+	private Map<String, String> readManifest() throws CoreException {
+		// read in a baseline of its own, the restored components must not clash with it
+		IApiBaseline other = TestSuiteHelper.newApiBaseline("manifest", TestSuiteHelper.getEEDescriptionFile()); //$NON-NLS-1$
+		try {
+			BundleComponent component = (BundleComponent) ApiModelFactory.newApiComponent(other, bundle.getAbsolutePath());
+			return new HashMap<>(component.readManifest());
+		} finally {
+			ApiTestingEnvironment.dispose(other);
+		}
+	}
+
+	private IApiComponent[] restore(List<ApiBaselineSnapshot.Entry> entries) throws IOException, CoreException {
+		return ApiBaselineManager.getManager().readBaselineComponents(baseline,
+				new ByteArrayInputStream(write(entries)));
+	}
+
+	private static byte[] write(List<ApiBaselineSnapshot.Entry> entries) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			ApiBaselineSnapshot.write(out, null, entries);
+		}
+		return bytes.toByteArray();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,7 @@ import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -41,6 +42,7 @@ import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
@@ -800,4 +802,72 @@ public class ApiDescriptionTests {
 		IApiComponent componentA = profile.getApiComponent("component.a"); //$NON-NLS-1$
 		assertTrue("Should have an .api_description file", componentA.hasApiDescription()); //$NON-NLS-1$
 	}
+
+	/**
+	 * tests that the facets of a binary bundle are only loaded when used and
+	 * can be released separately
+	 */
+	@Test
+	public void testBinaryFacetsLoadedOnDemand() throws CoreException {
+		IApiBaseline profile = TestSuiteHelper.createTestingBaseline("test-plugins-with-desc"); //$NON-NLS-1$
+		BundleComponent componentA = (BundleComponent) profile.getApiComponent("component.a"); //$NON-NLS-1$
+		assertTrue("Should have an .api_description file", componentA.hasApiDescription()); //$NON-NLS-1$
+		BundleComponent.Facets facets = componentA.getFacets();
+		assertEquals("The API description should not be loaded", -1, facets.descriptionElements()); //$NON-NLS-1$
+
+		// a type of the bundle, the description of the bundle only lists its package
+		IReferenceTypeDescriptor generics = Factory.typeDescriptor("a.b.c.Generics"); //$NON-NLS-1$
+		IApiAnnotations annotations = componentA.getApiDescription().resolveAnnotations(generics);
+		assertNotNull("The type should be resolved", annotations); //$NON-NLS-1$
+		facets = componentA.getFacets();
+		assertTrue("The API description should be loaded", facets.descriptionElements() > 0); //$NON-NLS-1$
+		assertTrue("The type containers should be loaded", facets.typeContainers() > 0); //$NON-NLS-1$
+
+		componentA.releaseApiDescription();
+		componentA.releaseApiTypeContainers();
+		facets = componentA.getFacets();
+		assertEquals("The API description should be released", -1, facets.descriptionElements()); //$NON-NLS-1$
+		assertEquals("The type containers should be released", -1, facets.typeContainers()); //$NON-NLS-1$
+		IApiAnnotations reloaded = componentA.getApiDescription().resolveAnnotations(generics);
+		assertNotNull("The type should be resolved again", reloaded); //$NON-NLS-1$
+		assertEquals("The visibility should be the same once loaded again", annotations.getVisibility(), reloaded.getVisibility()); //$NON-NLS-1$
+		assertEquals("The restrictions should be the same once loaded again", annotations.getRestrictions(), reloaded.getRestrictions()); //$NON-NLS-1$
+	}
+
+	/**
+	 * tests that the members of a type with many described members are all
+	 * found again, updated in place and visited in name order
+	 */
+	@Test
+	public void testManyMembers() {
+		IApiDescription desc = newDescription();
+		IReferenceTypeDescriptor type = Factory.typeDescriptor("a.b.c.Many"); //$NON-NLS-1$
+		desc.setVisibility(type.getPackage(), VisibilityModifiers.API);
+		for (int i = 0; i < 200; i++) {
+			desc.setRestrictions(type.getMethod("m" + i, "()V"), RestrictionModifiers.NO_OVERRIDE); //$NON-NLS-1$ //$NON-NLS-2$
+			desc.setRestrictions(type.getField("f" + i), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$
+		}
+		desc.setRestrictions(type.getMethod("m42", "()V"), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < 200; i++) {
+			int expected = i == 42 ? RestrictionModifiers.NO_REFERENCE : RestrictionModifiers.NO_OVERRIDE;
+			assertEquals("Wrong method restrictions", expected, desc.resolveAnnotations(type.getMethod("m" + i, "()V")).getRestrictions()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("Wrong field restrictions", RestrictionModifiers.NO_REFERENCE, desc.resolveAnnotations(type.getField("f" + i)).getRestrictions()); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertNull("Should not find an undescribed method", desc.resolveAnnotations(type.getMethod("m200", "()V"))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		List<IElementDescriptor> visited = new ArrayList<>();
+		desc.accept(new ApiDescriptionVisitor() {
+			@Override
+			public boolean visitElement(IElementDescriptor element, IApiAnnotations description) {
+				visited.add(element);
+				return true;
+			}
+		}, null);
+		assertEquals("Wrong number of visited elements", 402, visited.size()); //$NON-NLS-1$
+		for (int i = 3; i < visited.size(); i++) {
+			String previous = ((IMemberDescriptor) visited.get(i - 1)).getName();
+			String current = ((IMemberDescriptor) visited.get(i)).getName();
+			assertTrue("Members should be visited in name order", previous.compareTo(current) < 0); //$NON-NLS-1$
+		}
+	}
 }
@@ -235,6 +235,44 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that filters only match problems with the same id, type name and
+	 * message arguments once the store holds several filters for one resource
+	 */
+	@Test
+	public void testIsFilteredMatchesExactProblem() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		IApiProblem filtered = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "m1()" }, null, //$NON-NLS-1$ //$NON-NLS-2$
+				null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE,
+				IApiProblem.NO_FLAGS);
+		IApiProblem otherArgument = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "m2()" }, //$NON-NLS-1$ //$NON-NLS-2$
+				null, null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD,
+				IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		IApiProblem otherType = ApiProblemFactory.newApiProblem(path, null, new String[] { "m1()" }, null, null, //$NON-NLS-1$
+				-1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE,
+				IApiProblem.NO_FLAGS);
+		IApiProblem otherId = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "m1()" }, null, //$NON-NLS-1$ //$NON-NLS-2$
+				null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_EXTEND,
+				IApiProblem.NO_FLAGS);
+		IApiFilterStore store = component.getFilterStore();
+		store.addFiltersFor(new IApiProblem[] { filtered });
+		try {
+			assertTrue("the problem should be filtered", store.isFiltered(filtered)); //$NON-NLS-1$
+			assertFalse("a problem with other arguments should not be filtered", store.isFiltered(otherArgument)); //$NON-NLS-1$
+			assertFalse("a problem without type should not be filtered", store.isFiltered(otherType)); //$NON-NLS-1$
+			assertFalse("a problem with another id should not be filtered", store.isFiltered(otherId)); //$NON-NLS-1$
+		} finally {
+			store.removeFilters(new IApiProblemFilter[] {
+					ApiProblemFactory.newProblemFilter(component.getSymbolicName(), filtered, null) });
+		}
+		assertFalse("the removed filter should not match anymore", store.isFiltered(filtered)); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 */
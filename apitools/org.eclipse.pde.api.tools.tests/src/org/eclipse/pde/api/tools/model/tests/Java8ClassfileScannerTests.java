@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) Mar 26, 2014 IBM Corporation and others.
+ * Copyright (c) Mar 26, 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,15 @@ public class Java8ClassfileScannerTests extends ScannerTest {
 		assertTrue("There should be a ref for HashSet#<init>", ref != null); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that the method and field references extracted from the test
+	 * classes and their line numbers match the instructions of the class files
+	 */
+	@Test
+	public void testReferencesMatchClassFiles() throws Exception {
+		assertReferencesMatchClassFiles();
+	}
+
 	/**
 	 * Cleans up after the tests are done. This must be the last test run
 	 */
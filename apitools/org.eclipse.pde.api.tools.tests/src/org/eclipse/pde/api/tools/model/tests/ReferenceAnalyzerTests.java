@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer.DetectorStatistics;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.junit.Test;
+
+/**
+ * Tests the detector statistics of a {@link ReferenceAnalyzer}
+ */
+public class ReferenceAnalyzerTests {
+
+	/**
+	 * Tests that the statistics describe the detectors of the last analysis
+	 * and add up to the problems found
+	 */
+	@Test
+	public void testDetectorStatistics() throws CoreException {
+		IApiBaseline baseline = TestSuiteHelper.createTestingBaseline("test-plugins"); //$NON-NLS-1$
+		try {
+			IApiComponent component = baseline.getApiComponent("component.b"); //$NON-NLS-1$
+			assertNotNull("Missing API component component.b", component); //$NON-NLS-1$
+			ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+			assertTrue(analyzer.getDetectorStatistics().isEmpty());
+
+			IApiProblem[] problems = analyzer.analyze(component, component, new NullProgressMonitor());
+			List<DetectorStatistics> statistics = analyzer.getDetectorStatistics();
+			assertFalse(statistics.isEmpty());
+			int count = 0;
+			for (DetectorStatistics detector : statistics) {
+				assertTrue(detector.references() >= 0);
+				assertTrue(detector.nanos() >= 0);
+				count += detector.problems();
+			}
+			assertEquals(problems.length, count);
+
+			// the statistics of a new analysis replace the previous ones
+			IApiProblem[] again = analyzer.analyze(component, component, new NullProgressMonitor());
+			List<DetectorStatistics> next = analyzer.getDetectorStatistics();
+			assertEquals(problems.length, again.length);
+			assertEquals(statistics.size(), next.size());
+			for (int i = 0; i < statistics.size(); i++) {
+				assertEquals(statistics.get(i).detector(), next.get(i).detector());
+				assertEquals(statistics.get(i).references(), next.get(i).references());
+				assertEquals(statistics.get(i).problems(), next.get(i).problems());
+			}
+		} finally {
+			baseline.dispose();
+		}
+	}
+}
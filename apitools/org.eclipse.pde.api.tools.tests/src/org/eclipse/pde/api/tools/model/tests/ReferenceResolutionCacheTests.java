@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ApiBaselineManager;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolutionCache;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceResolver;
+import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the {@link ReferenceResolutionCache} reuses the resolutions of
+ * earlier builds as long as their baseline is unchanged.
+ * <p>
+ * Resolving a reference builds the structure of the referenced type again
+ * once the {@link ApiModelCache} is flushed, so a resolution reused from the
+ * cache is recognized by being the very same member as before.
+ * </p>
+ */
+public class ReferenceResolutionCacheTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File fBundles;
+	private IApiBaseline fBaseline;
+
+	@Before
+	public void setUp() throws IOException {
+		fBundles = folder.newFolder("bundles"); //$NON-NLS-1$
+		createBundle("resolution.provider", "Export-Package: provider\n", //$NON-NLS-1$ //$NON-NLS-2$
+				"provider/Iface.java", "package provider; public interface Iface { default void run() {} }", //$NON-NLS-1$ //$NON-NLS-2$
+				"provider/Sub.java", "package provider; public interface Sub extends Iface {}", //$NON-NLS-1$ //$NON-NLS-2$
+				"provider/Impl.java", "package provider; public class Impl implements Sub {}"); //$NON-NLS-1$ //$NON-NLS-2$
+		createBundle("resolution.consumer", "Require-Bundle: resolution.provider\n", //$NON-NLS-1$ //$NON-NLS-2$
+				"consumer/Client.java", "package consumer; public class Client {}"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@After
+	public void tearDown() {
+		if (fBaseline != null) {
+			fBaseline.dispose();
+		}
+		ApiModelCache.getCache().flushCaches();
+	}
+
+	@Test
+	public void testResolutionReused() throws CoreException {
+		fBaseline = TestSuiteHelper.createBaseline("resolution", fBundles); //$NON-NLS-1$
+		IApiMember resolved = resolve(typeReference());
+		assertNotNull(resolved);
+		ApiModelCache.getCache().flushCaches();
+
+		// the type is built again when resolving without the cache
+		Reference uncached = typeReference();
+		uncached.resolve();
+		assertNotSame(resolved, uncached.getResolvedReference());
+		assertSame(resolved, resolve(typeReference()));
+	}
+
+	/**
+	 * Tests that a reused resolution of a default method refers to the
+	 * interface declaring it, as a new resolution does
+	 */
+	@Test
+	public void testDefaultMethodReused() throws CoreException {
+		fBaseline = TestSuiteHelper.createBaseline("resolution", fBundles); //$NON-NLS-1$
+		Reference first = methodReference();
+		IApiMember resolved = resolve(first);
+		assertTrue(resolved instanceof IApiMethod);
+		assertEquals("provider.Iface", first.getReferencedTypeName()); //$NON-NLS-1$
+		ApiModelCache.getCache().flushCaches();
+
+		Reference second = methodReference();
+		assertEquals("provider.Sub", second.getReferencedTypeName()); //$NON-NLS-1$
+		assertSame(resolved, resolve(second));
+		assertEquals("provider.Iface", second.getReferencedTypeName()); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testClearedWithBaseline() throws CoreException {
+		fBaseline = TestSuiteHelper.createBaseline("resolution", fBundles); //$NON-NLS-1$
+		IApiMember resolved = resolve(typeReference());
+		ReferenceResolutionCache.clear(fBaseline);
+		ApiModelCache.getCache().flushCaches();
+		assertNotSame(resolved, resolve(typeReference()));
+	}
+
+	/**
+	 * Tests that the resolutions are not kept for a baseline that is disposed,
+	 * since a new baseline of the same name may have other components
+	 */
+	@Test
+	public void testDisposedBaseline() throws CoreException {
+		fBaseline = TestSuiteHelper.createBaseline("resolution", fBundles); //$NON-NLS-1$
+		IApiMember resolved = resolve(typeReference());
+		fBaseline.dispose();
+		fBaseline = TestSuiteHelper.createBaseline("resolution", fBundles); //$NON-NLS-1$
+		assertNotSame(resolved, resolve(typeReference()));
+	}
+
+	/**
+	 * Tests that references to binary bundles imported into the workspace are
+	 * resolved again by every build, since their class files can change
+	 */
+	@Test
+	public void testWorkspaceBinaryNotCached() throws CoreException {
+		fBaseline = TestSuiteHelper.createBaseline(ApiBaselineManager.WORKSPACE_API_BASELINE_ID, fBundles);
+		IApiMember resolved = resolve(typeReference());
+		assertNotNull(resolved);
+		ApiModelCache.getCache().flushCaches();
+		assertNotSame(resolved, resolve(typeReference()));
+	}
+
+	private Reference typeReference() throws CoreException {
+		return Reference.typeReference(getClient(), "provider.Impl", IReference.REF_EXTENDS); //$NON-NLS-1$
+	}
+
+	private Reference methodReference() throws CoreException {
+		return Reference.methodReference(getClient(), "provider.Sub", "run", "()V", IReference.REF_INTERFACEMETHOD); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	private IApiType getClient() throws CoreException {
+		IApiComponent component = fBaseline.getApiComponent("resolution.consumer"); //$NON-NLS-1$
+		assertNotNull("Missing API component resolution.consumer", component); //$NON-NLS-1$
+		return component.findTypeRoot("consumer.Client").getStructure(); //$NON-NLS-1$
+	}
+
+	private static IApiMember resolve(Reference reference) throws CoreException {
+		ReferenceResolver.resolveReferences(List.of(reference));
+		return reference.getResolvedReference();
+	}
+
+	/**
+	 * Creates a bundle directory with the given manifest headers and compiles
+	 * the given sources into it
+	 *
+	 * @param name symbolic name of the bundle
+	 * @param headers additional manifest headers
+	 * @param sources pairs of source paths and contents
+	 */
+	private void createBundle(String name, String headers, String... sources) throws IOException {
+		Path source = folder.newFolder(name + ".src").toPath(); //$NON-NLS-1$
+		for (int i = 0; i < sources.length; i += 2) {
+			Path file = source.resolve(sources[i]);
+			Files.createDirectories(file.getParent());
+			Files.writeString(file, sources[i + 1]);
+		}
+		Path bundle = fBundles.toPath().resolve(name);
+		Files.createDirectories(bundle.resolve("META-INF")); //$NON-NLS-1$
+		Files.writeString(bundle.resolve("META-INF/MANIFEST.MF"), "Manifest-Version: 1.0\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "Bundle-ManifestVersion: 2\n" //$NON-NLS-1$
+				+ "Bundle-SymbolicName: " + name + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "Bundle-Version: 1.0.0\n" + headers); //$NON-NLS-1$
+		assertTrue("Sources of " + name + " must compile", //$NON-NLS-1$ //$NON-NLS-2$
+				TestSuiteHelper.compile(new String[] { source.toString() }, bundle.toString(),
+						TestSuiteHelper.getCompilerOptions()));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,22 +13,46 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.builder.Reference;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.junit.Before;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
 
 /**
  * Root class for testing scanning classfiles
@@ -190,6 +214,194 @@ public abstract class ScannerTest {
 		return ref;
 	}
 
+	/**
+	 * Asserts that the method and field references extracted from each class
+	 * file of the test workspace, including their line numbers, are the ones
+	 * found by walking the instructions of the class file. References are also
+	 * extracted from all class files at the same time on a few threads, which
+	 * must not change them.
+	 */
+	protected void assertReferencesMatchClassFiles() throws Exception {
+		File[] files = getWorkspaceRoot().append(getPackageName()).toFile().listFiles((dir, name) -> name.endsWith(".class")); //$NON-NLS-1$
+		assertNotNull(files);
+		assertTrue("there should be class files to scan", files.length > 0); //$NON-NLS-1$
+		Map<String, IApiType> types = new TreeMap<>();
+		for (File file : files) {
+			String name = file.getName().substring(0, file.getName().length() - ".class".length()); //$NON-NLS-1$
+			ClassNode node = new ClassNode();
+			new ClassReader(Files.readAllBytes(file.toPath())).accept(node, ClassReader.SKIP_FRAMES);
+			if (hasSyntheticAccessors(node)) {
+				// field references of synthetic accessors are moved to their callers
+				continue;
+			}
+			IApiType type = container.findTypeRoot(name).getStructure();
+			types.put(name, type);
+			List<String> actual = describe(type.extractReferences(IReference.MASK_REF_ALL, null));
+			assertEquals("references of " + name, match(getExpectedReferences(node), actual), actual); //$NON-NLS-1$
+		}
+		Map<String, List<String>> serial = new TreeMap<>();
+		for (Entry<String, IApiType> entry : types.entrySet()) {
+			serial.put(entry.getKey(), describe(entry.getValue().extractReferences(IReference.MASK_REF_ALL, null)));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Map<String, Future<List<String>>> parallel = new TreeMap<>();
+			for (Entry<String, IApiType> entry : types.entrySet()) {
+				parallel.put(entry.getKey(), executor.submit(() -> describe(entry.getValue().extractReferences(IReference.MASK_REF_ALL, null))));
+			}
+			for (Entry<String, Future<List<String>>> entry : parallel.entrySet()) {
+				assertEquals("references of " + entry.getKey(), serial.get(entry.getKey()), entry.getValue().get()); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static boolean hasSyntheticAccessors(ClassNode node) {
+		for (MethodNode method : node.methods) {
+			if ((method.access & Opcodes.ACC_SYNTHETIC) != 0 && method.name.startsWith("access$")) { //$NON-NLS-1$
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the sorted descriptions of the method and field references of
+	 * the given references
+	 */
+	private static List<String> describe(List<IReference> references) {
+		List<String> result = new ArrayList<>();
+		for (IReference ref : references) {
+			if (isInstructionReference(ref.getReferenceKind())) {
+				IApiMember member = ref.getMember();
+				String signature = member instanceof IApiMethod method ? method.getSignature() : ""; //$NON-NLS-1$
+				result.add(describe(member.getName() + signature, ref.getReferenceKind(), ref.getReferencedTypeName(),
+						ref.getReferencedMemberName(), ref.getLineNumber()));
+			}
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	private static String describe(String member, int kind, String type, String name, int line) {
+		return member + " " + Reference.getReferenceText(kind) + " " + type + "#" + name + " line " + line; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	private static boolean isInstructionReference(int kind) {
+		return switch (kind) {
+			case IReference.REF_GETFIELD, IReference.REF_PUTFIELD, IReference.REF_GETSTATIC, IReference.REF_PUTSTATIC,
+					IReference.REF_CONSTRUCTORMETHOD, IReference.REF_SUPER_CONSTRUCTORMETHOD,
+					IReference.REF_SPECIALMETHOD, IReference.REF_STATICMETHOD, IReference.REF_VIRTUALMETHOD,
+					IReference.REF_INTERFACEMETHOD -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * Returns the descriptions of the references made by the instructions of
+	 * the given class, filtered like the references within a class file are
+	 * filtered by the extractor. References before the first line number of a
+	 * method have no line number (<code>-1</code>), the extractor assigns them
+	 * one of the lines of the method.
+	 */
+	private static List<String> getExpectedReferences(ClassNode node) {
+		String typeName = node.name.replace('/', '.');
+		String superName = node.superName == null ? null : node.superName.replace('/', '.');
+		List<String> result = new ArrayList<>();
+		for (MethodNode method : node.methods) {
+			if ((method.access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_NATIVE)) != 0) {
+				continue;
+			}
+			String member = method.name + method.desc;
+			boolean superConstructor = false;
+			int line = -1;
+			for (AbstractInsnNode insn : method.instructions) {
+				if (insn instanceof LineNumberNode lineNumber) {
+					line = lineNumber.line;
+				} else if (insn instanceof FieldInsnNode field) {
+					int kind = switch (field.getOpcode()) {
+						case Opcodes.PUTSTATIC -> IReference.REF_PUTSTATIC;
+						case Opcodes.PUTFIELD -> IReference.REF_PUTFIELD;
+						case Opcodes.GETSTATIC -> IReference.REF_GETSTATIC;
+						default -> IReference.REF_GETFIELD;
+					};
+					addExpected(result, typeName, member, kind, field.owner, field.name, line);
+				} else if (insn instanceof MethodInsnNode invoke) {
+					int kind = switch (invoke.getOpcode()) {
+						case Opcodes.INVOKESPECIAL -> "<init>".equals(invoke.name) ? IReference.REF_CONSTRUCTORMETHOD : IReference.REF_SPECIALMETHOD; //$NON-NLS-1$
+						case Opcodes.INVOKESTATIC -> IReference.REF_STATICMETHOD;
+						case Opcodes.INVOKEINTERFACE -> IReference.REF_INTERFACEMETHOD;
+						default -> IReference.REF_VIRTUALMETHOD;
+					};
+					if (kind == IReference.REF_CONSTRUCTORMETHOD && !superConstructor && "<init>".equals(method.name) //$NON-NLS-1$
+							&& invoke.owner.replace('/', '.').equals(superName)) {
+						superConstructor = true;
+						kind = IReference.REF_SUPER_CONSTRUCTORMETHOD;
+					}
+					addExpected(result, typeName, member, kind, invoke.owner, invoke.name, line);
+				} else if (insn instanceof InvokeDynamicInsnNode indy) {
+					for (Object arg : indy.bsmArgs) {
+						if (arg instanceof Handle handle) {
+							addExpected(result, typeName, member, IReference.REF_VIRTUALMETHOD, handle.getOwner(), handle.getName(), line);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void addExpected(List<String> result, String typeName, String member, int kind, String owner, String name, int line) {
+		Type type = Type.getObjectType(owner);
+		if (type.getSort() == Type.ARRAY) {
+			type = type.getElementType();
+		}
+		if (type.getSort() != Type.OBJECT) {
+			return;
+		}
+		String referenced = type.getClassName();
+		boolean local = referenced.equals(typeName)
+				|| (referenced.startsWith(typeName) && referenced.charAt(typeName.length()) == '$');
+		if (local && kind != IReference.REF_VIRTUALMETHOD && kind != IReference.REF_GETFIELD && kind != IReference.REF_PUTFIELD) {
+			// references within the scanned type are not collected
+			return;
+		}
+		result.add(describe(member, kind, referenced, name, line));
+	}
+
+	/**
+	 * Returns the expected references in the order of the given actual
+	 * references, using the actual line number of an expected reference that
+	 * has none. Unmatched expected references are appended.
+	 */
+	private static List<String> match(List<String> expected, List<String> actual) {
+		List<String> remaining = new ArrayList<>(expected);
+		String[] result = new String[actual.size()];
+		for (int i = 0; i < result.length; i++) {
+			if (remaining.remove(actual.get(i))) {
+				result[i] = actual.get(i);
+			}
+		}
+		for (int i = 0; i < result.length; i++) {
+			if (result[i] == null) {
+				String actualRef = actual.get(i);
+				String unnumbered = actualRef.substring(0, actualRef.lastIndexOf(' ') + 1) + "-1"; //$NON-NLS-1$
+				if (remaining.remove(unnumbered)) {
+					result[i] = actualRef;
+				}
+			}
+		}
+		List<String> matched = new ArrayList<>();
+		for (String ref : result) {
+			if (ref != null) {
+				matched.add(ref);
+			}
+		}
+		matched.addAll(remaining);
+		return matched;
+	}
+
 	/**
 	 * Close the container and null it out
 	 */
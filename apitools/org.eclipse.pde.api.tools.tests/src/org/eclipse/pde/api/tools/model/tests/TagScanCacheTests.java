@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.TagScanCache;
+import org.eclipse.pde.api.tools.internal.TagScanCache.Restriction;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TagScanCache}
+ */
+public class TagScanCacheTests {
+
+	private static final String PATH = "/project/src/a/A.java"; //$NON-NLS-1$
+
+	private final Map<String, String> fOptions = new HashMap<>();
+
+	private TagScanCache fCache;
+
+	@Before
+	public void setUp() {
+		fOptions.put(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_11);
+		fOptions.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_11);
+		// a project that only answers its compiler options
+		IJavaProject project = (IJavaProject) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { IJavaProject.class }, (proxy, method, args) -> {
+					if ("getOptions".equals(method.getName())) { //$NON-NLS-1$
+						return new HashMap<>(fOptions);
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+		fCache = new TagScanCache(project);
+	}
+
+	/**
+	 * Tests that recorded restrictions are returned for unchanged content only
+	 */
+	@Test
+	public void testContentChanged() {
+		List<Restriction> restrictions = record();
+		assertEquals(restrictions, fCache.get(PATH, 1));
+		assertNull("changed content must be scanned again", fCache.get(PATH, 2)); //$NON-NLS-1$
+		fCache.remove(PATH);
+		assertNull(fCache.get(PATH, 1));
+	}
+
+	/**
+	 * Tests that recorded restrictions are dropped when the source level of
+	 * the project changes
+	 */
+	@Test
+	public void testSourceLevelChanged() {
+		record();
+		assertEquals(JavaCore.VERSION_11, fCache.getCompilerOptions().get(JavaCore.COMPILER_SOURCE));
+
+		fOptions.put(JavaCore.COMPILER_SOURCE, JavaCore.VERSION_17);
+		fOptions.put(JavaCore.COMPILER_COMPLIANCE, JavaCore.VERSION_17);
+		assertNull("units must be scanned again with the new source level", fCache.get(PATH, 1)); //$NON-NLS-1$
+		assertEquals(JavaCore.VERSION_17, fCache.getCompilerOptions().get(JavaCore.COMPILER_SOURCE));
+
+		// units scanned with the new options are kept again
+		record();
+		assertNotNull(fCache.get(PATH, 1));
+	}
+
+	/**
+	 * Tests that javadoc support is always enabled to find the tags
+	 */
+	@Test
+	public void testDocCommentSupport() {
+		fOptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.DISABLED);
+		assertEquals(JavaCore.ENABLED, fCache.getCompilerOptions().get(JavaCore.COMPILER_DOC_COMMENT_SUPPORT));
+	}
+
+	private List<Restriction> record() {
+		// a unit is looked up before it is scanned
+		assertNull(fCache.get(PATH, 1));
+		List<Restriction> restrictions = List.of(
+				new Restriction(Factory.typeDescriptor("a.A"), RestrictionModifiers.NO_EXTEND), //$NON-NLS-1$
+				new Restriction(Factory.methodDescriptor("a.A", "m", "()V"), RestrictionModifiers.NO_OVERRIDE)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		fCache.put(PATH, 1, restrictions);
+		return restrictions;
+	}
+}
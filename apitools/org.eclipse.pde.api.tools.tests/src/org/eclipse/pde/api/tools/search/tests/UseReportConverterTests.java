@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.search.ConsumerReportConvertor;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.search.XmlReferenceDescriptorWriter;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the HTML reports written on several threads are the ones written
+ * on a single thread
+ */
+public class UseReportConverterTests {
+
+	private static final String[] PRODUCERS = { "a.producer", "b.producer", "c.producer", "d.producer", "e.producer" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	private static final String[] CONSUMERS = { "x.consumer", "y.consumer", "z.consumer" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	private static final int[] VISIBILITIES = { VisibilityModifiers.API, VisibilityModifiers.PRIVATE,
+			VisibilityModifiers.PRIVATE_PERMISSIBLE };
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private String xmlLocation;
+
+	@Before
+	public void setUp() throws IOException {
+		xmlLocation = folder.newFolder("xml").getAbsolutePath(); //$NON-NLS-1$
+		List<IReferenceDescriptor> references = new ArrayList<>();
+		for (int p = 0; p < PRODUCERS.length; p++) {
+			IComponentDescriptor producer = Factory.componentDescriptor(PRODUCERS[p], "1.0.0"); //$NON-NLS-1$
+			for (int c = 0; c < CONSUMERS.length; c++) {
+				// not every consumer references every producer
+				if ((p + c) % 4 == 3) {
+					continue;
+				}
+				IComponentDescriptor consumer = Factory.componentDescriptor(CONSUMERS[c], "2.0.0"); //$NON-NLS-1$
+				for (int t = 0; t < 3; t++) {
+					String type = PRODUCERS[p] + ".Type" + t; //$NON-NLS-1$
+					String origin = CONSUMERS[c] + ".Client" + t; //$NON-NLS-1$
+					int visibility = VISIBILITIES[(p + t) % VISIBILITIES.length];
+					references.add(reference(consumer, origin, producer, Factory.typeDescriptor(type),
+							IReference.REF_EXTENDS, visibility, 10 + t));
+					references.add(reference(consumer, origin, producer,
+							Factory.methodDescriptor(type, "run", "(I)V"), IReference.REF_VIRTUALMETHOD, visibility, //$NON-NLS-1$ //$NON-NLS-2$
+							20 + t));
+					references.add(reference(consumer, origin, producer, Factory.fieldDescriptor(type, "count"), //$NON-NLS-1$
+							IReference.REF_GETSTATIC, visibility, 30 + t));
+				}
+			}
+		}
+		new XmlReferenceDescriptorWriter(xmlLocation).writeReferences(references.toArray(IReferenceDescriptor[]::new));
+	}
+
+	private static IReferenceDescriptor reference(IComponentDescriptor consumer, String origin,
+			IComponentDescriptor producer, IMemberDescriptor target, int kind, int visibility, int line) {
+		return Factory.referenceDescriptor(consumer, Factory.typeDescriptor(origin), line, producer, target, kind, 0,
+				visibility, null);
+	}
+
+	@Test
+	public void testUseReport() throws Exception {
+		Map<String, String> serial = useReport(1);
+		assertTrue("the pages of each producer must be written", serial.size() > PRODUCERS.length); //$NON-NLS-1$
+		for (int i = 0; i < 3; i++) {
+			assertEquals(serial, useReport(4));
+		}
+	}
+
+	@Test
+	public void testConsumerReport() throws Exception {
+		Map<String, String> serial = consumerReport(1);
+		assertTrue("the pages of each consumer must be written", serial.size() > CONSUMERS.length); //$NON-NLS-1$
+		for (int i = 0; i < 3; i++) {
+			assertEquals(serial, consumerReport(4));
+		}
+	}
+
+	private Map<String, String> useReport(int threadCount) throws Exception {
+		String htmlLocation = folder.newFolder().getAbsolutePath();
+		return convert(new UseReportConverter(htmlLocation, xmlLocation, null, null) {
+			@Override
+			protected int getWriterThreadCount() {
+				return threadCount;
+			}
+		}, htmlLocation);
+	}
+
+	private Map<String, String> consumerReport(int threadCount) throws Exception {
+		String htmlLocation = folder.newFolder().getAbsolutePath();
+		return convert(new ConsumerReportConvertor(htmlLocation, xmlLocation, null, null) {
+			@Override
+			protected int getWriterThreadCount() {
+				return threadCount;
+			}
+		}, htmlLocation);
+	}
+
+	/**
+	 * Converts the use scan and returns the written HTML files by path relative
+	 * to the HTML root
+	 */
+	private static Map<String, String> convert(UseReportConverter converter, String htmlLocation) throws Exception {
+		converter.convert(null, new NullProgressMonitor());
+		Path root = Path.of(htmlLocation);
+		Map<String, String> pages = new TreeMap<>();
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : files.filter(Files::isRegularFile).toList()) {
+				pages.put(root.relativize(file).toString(), Files.readString(file));
+			}
+		}
+		return pages;
+	}
+}
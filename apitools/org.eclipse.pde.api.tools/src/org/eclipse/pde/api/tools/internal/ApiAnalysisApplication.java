@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 
@@ -59,64 +66,195 @@ import org.osgi.framework.Bundle;
 
 public class ApiAnalysisApplication implements IApplication {
 
-	private static class Request {
+	/**
+	 * The options of one analysis, as given on the command line or on a
+	 * request line of the daemon mode
+	 */
+	public static final class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String DAEMON_ARG = "daemon"; //$NON-NLS-1$
 
 		private Request() {
 		}
 
-		public static Request readFromArgs(String[] params) {
+		/**
+		 * Reads a request from the given arguments, options that are not given
+		 * are taken from <code>defaults</code> if not <code>null</code>.
+		 * Several projects can be given, either as separate <code>-project</code>
+		 * options or as several values of one.
+		 */
+		public static Request readFromArgs(String[] params, Request defaults) {
 			Request res = new Request();
+			if (defaults != null) {
+				res.baselinePath = defaults.baselinePath;
+				res.failOnError = defaults.failOnError;
+				res.tpFile = defaults.tpFile;
+			}
 			String currentKey = null;
 			for (String param : params) {
+				if (param.isEmpty()) {
+					continue;
+				}
 				if (param.charAt(0) == '-') {
+					currentKey = param.substring(1);
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
+						// a flag unless followed by a value
 						res.failOnError = true;
+					} else if (DAEMON_ARG.equals(currentKey)) {
+						res.daemon = true;
 					}
-					currentKey = param.substring(1);
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
-				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
-					res.baselinePath = new File(param);
+					res.projects.add(new File(param));
+				} else if (BASELINE_ARG.equals(currentKey)) {
+					res.baselinePath = BASELINE_DEFAULT_VALUE.equals(param) ? null : new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
 				}
 			}
-			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
-				res.failOnError = true;
-			}
 			return res;
 		}
 
-		public File project;
+		/**
+		 * Splits a request line of the daemon mode into arguments. Arguments are
+		 * separated by white space; white space inside double quotes is part of
+		 * the argument, and a backslash escapes a following double quote, so that
+		 * paths containing spaces or quotes can be given. Other backslashes are
+		 * kept as they are, as in Windows paths.
+		 */
+		public static String[] splitArguments(String line) {
+			List<String> arguments = new ArrayList<>();
+			StringBuilder argument = new StringBuilder();
+			boolean inArgument = false;
+			boolean quoted = false;
+			for (int i = 0; i < line.length(); i++) {
+				char c = line.charAt(i);
+				if (c == '\\' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					argument.append(line.charAt(++i));
+					inArgument = true;
+				} else if (c == '"') {
+					quoted = !quoted;
+					inArgument = true;
+				} else if (Character.isWhitespace(c) && !quoted) {
+					if (inArgument) {
+						arguments.add(argument.toString());
+						argument.setLength(0);
+						inArgument = false;
+					}
+				} else {
+					argument.append(c);
+					inArgument = true;
+				}
+			}
+			if (inArgument) {
+				arguments.add(argument.toString());
+			}
+			return arguments.toArray(String[]::new);
+		}
+
+		public final List<File> projects = new ArrayList<>();
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean daemon;
 	}
 
-	private ICoreRunnable restoreOriginalProjectState = null;
+	/**
+	 * The state of a file the baseline or target platform was loaded from, used
+	 * to load them again only if they changed between two requests.
+	 */
+	private record FileState(File file, long lastModified, long length) {
+		static FileState of(File file) {
+			return file == null ? null : new FileState(file.getAbsoluteFile(), file.lastModified(), file.length());
+		}
+	}
+
+	/**
+	 * Printed on its own line after each request of the daemon mode, followed by
+	 * the exit code of the request.
+	 */
+	private static final String DAEMON_RESULT = "API-ANALYSIS-RESULT"; //$NON-NLS-1$
+
+	/**
+	 * A request line of the daemon mode that stops the application.
+	 */
+	private static final String DAEMON_EXIT = "exit"; //$NON-NLS-1$
+
+	private final Deque<ICoreRunnable> restoreOriginalProjectState = new ArrayDeque<>();
+
+	private IApiBaseline loadedBaseline;
+
+	/** The file of the loaded baseline, <code>null</code> for the default one. */
+	private FileState loadedBaselineState;
+
+	private FileState loadedTargetState;
+
+	private volatile boolean stopped;
 
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
-		restoreOriginalProjectState = null;
+		IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
+		desc.setAutoBuilding(false);
+		ResourcesPlugin.getWorkspace().setDescription(desc);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+
+		Request args = Request.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS),
+				null);
+		if (!args.daemon) {
+			return analyze(args);
+		}
+		// stay resident and keep the baseline and target platform loaded, each
+		// line of the standard input is a request with the syntax of the
+		// application arguments, the options given at startup are the defaults.
+		// Arguments containing spaces are quoted as on a command line
+		if (!args.projects.isEmpty()) {
+			printResult(analyze(args));
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+		String line;
+		while (!stopped && (line = reader.readLine()) != null) {
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+			if (DAEMON_EXIT.equals(line)) {
+				break;
+			}
+			printResult(analyze(Request.readFromArgs(Request.splitArguments(line), args)));
+		}
+		return IApplication.EXIT_OK;
+	}
+
+	private static void printResult(int result) {
+		System.out.println(DAEMON_RESULT + ' ' + result);
+		System.out.flush();
+		System.err.flush();
+	}
+
+	/**
+	 * Runs the API analysis on the projects of the given request.
+	 *
+	 * @return the exit code, the worst one of all projects
+	 */
+	private int analyze(Request args) {
 		try {
-			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
-			desc.setAutoBuilding(false);
-			ResourcesPlugin.getWorkspace().setDescription(desc);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
-
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
-			if (project == null) {
-				System.err.println("Project not loaded."); //$NON-NLS-1$
+			List<IProject> projects = new ArrayList<>();
+			for (File projectPath : args.projects) {
+				IProject project = importProject(projectPath);
+				if (project == null) {
+					System.err.println("Project not loaded."); //$NON-NLS-1$
+					return IStatus.ERROR;
+				}
+				projects.add(project);
+			}
+			if (projects.isEmpty()) {
+				System.err.println("No project specified."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
 			IApiBaseline baseline = setBaseline(args.baselinePath);
@@ -126,57 +264,21 @@ public class ApiAnalysisApplication implements IApplication {
 			}
 			setTargetPlatform(args.tpFile);
 
-			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
-			// wait untill all jobs has finished that might be sceduled as part of the
-			// build...
-			while (!Job.getJobManager().isIdle()) {
-				Thread.yield();
-			}
-			IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
-			Predicate<IMarker> isAPIMarker = marker -> {
-				try {
-					return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
-				} catch (CoreException e) {
-					ApiPlugin.log(e);
-					return false;
-				}
-			};
-			IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker) //
-					.toArray(IMarker[]::new);
-			IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
-					.filter(isAPIMarker.negate()) //
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
-					.toArray(IMarker[]::new);
-			if (allNonAPIErrors.length > 0) {
-				System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
-				for (IMarker marker : allNonAPIErrors) {
-					printMarker(marker, "FATAL"); //$NON-NLS-1$
-				}
-				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
-				return 10;
-			}
-			// errors
-			IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
-					.toArray(IMarker[]::new);
-			System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
-			for (IMarker marker : errorMarkers) {
-				printMarker(marker, "API ERROR"); //$NON-NLS-1$
+			// projects of one request may depend on each other, so they are
+			// built in the order of their references
+			IProject[] buildOrder = ResourcesPlugin.getWorkspace()
+					.computeProjectOrder(projects.toArray(IProject[]::new)).projects;
+			for (IProject project : buildOrder) {
+				project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+				// wait until all jobs have finished that might be scheduled as part
+				// of the build...
+				waitForIdleJobManager();
 			}
-			// warnings
-			IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
-					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
-					.toArray(IMarker[]::new);
-			System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
-			for (IMarker marker : warningMarkers) {
-				printMarker(marker, "API WARNING"); //$NON-NLS-1$
+			int result = IStatus.OK;
+			for (IProject project : projects) {
+				result = Math.max(result, reportMarkers(project, args.failOnError));
 			}
-			// fail
-			if (args.failOnError && errorMarkers.length > 0) {
-				return IStatus.ERROR;
-			}
-			return IStatus.OK;
+			return result;
 		} catch (CoreException e) {
 			System.err.println(e.getStatus());
 			return IStatus.ERROR;
@@ -184,12 +286,72 @@ public class ApiAnalysisApplication implements IApplication {
 			e.printStackTrace();
 			return IStatus.ERROR;
 		} finally {
-			if (restoreOriginalProjectState != null) {
-				restoreOriginalProjectState.run(new NullProgressMonitor());
+			while (!restoreOriginalProjectState.isEmpty()) {
+				try {
+					restoreOriginalProjectState.pop().run(new NullProgressMonitor());
+				} catch (CoreException e) {
+					System.err.println(e.getStatus());
+				}
 			}
 		}
 	}
 
+	private static int reportMarkers(IProject project, boolean failOnError) throws CoreException {
+		IMarker[] allProblemMarkers = project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		Predicate<IMarker> isAPIMarker = marker -> {
+			try {
+				return marker.getType().startsWith(ApiPlugin.PLUGIN_ID);
+			} catch (CoreException e) {
+				ApiPlugin.log(e);
+				return false;
+			}
+		};
+		IMarker[] allAPIProbleMarkers = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker) //
+				.toArray(IMarker[]::new);
+		IMarker[] allNonAPIErrors = Arrays.stream(allProblemMarkers) //
+				.filter(isAPIMarker.negate()) //
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR) //
+				.toArray(IMarker[]::new);
+		if (allNonAPIErrors.length > 0) {
+			System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
+			for (IMarker marker : allNonAPIErrors) {
+				printMarker(marker, "FATAL"); //$NON-NLS-1$
+			}
+			System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
+			return 10;
+		}
+		// errors
+		IMarker[] errorMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_ERROR)
+				.toArray(IMarker[]::new);
+		System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
+		for (IMarker marker : errorMarkers) {
+			printMarker(marker, "API ERROR"); //$NON-NLS-1$
+		}
+		// warnings
+		IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
+				.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
+				.toArray(IMarker[]::new);
+		System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+		for (IMarker marker : warningMarkers) {
+			printMarker(marker, "API WARNING"); //$NON-NLS-1$
+		}
+		// fail
+		if (failOnError && errorMarkers.length > 0) {
+			return IStatus.ERROR;
+		}
+		return IStatus.OK;
+	}
+
+	/**
+	 * Blocks until the jobs running or waiting, such as the ones scheduled by
+	 * a build, are done.
+	 */
+	private static void waitForIdleJobManager() throws InterruptedException {
+		Job.getJobManager().join(null, null);
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
@@ -216,7 +378,9 @@ public class ApiAnalysisApplication implements IApplication {
 	}
 
 	private void setTargetPlatform(File dependencyList) throws IOException, CoreException, InterruptedException {
-		if (dependencyList != null) {
+		FileState state = FileState.of(dependencyList);
+		if (state != null && !state.equals(loadedTargetState)) {
+			loadedTargetState = null;
 			if (!(dependencyList.isFile() && dependencyList.canRead())) {
 				throw new IllegalArgumentException(
 						"dependencyList argument points to non readable file: " + dependencyList.getAbsolutePath());//$NON-NLS-1$
@@ -239,10 +403,29 @@ public class ApiAnalysisApplication implements IApplication {
 			Job job = new LoadTargetDefinitionJob(target);
 			job.schedule();
 			job.join();
+			loadedTargetState = state;
 		}
 	}
 
+	/**
+	 * Sets the baseline read from the given file as default baseline, unless it
+	 * is already set and the file did not change since.
+	 */
 	private IApiBaseline setBaseline(File baselinePath) throws CoreException {
+		FileState state = FileState.of(baselinePath);
+		if (loadedBaseline != null && Objects.equals(state, loadedBaselineState)) {
+			return loadedBaseline;
+		}
+		if (loadedBaseline != null) {
+			ApiBaselineManager.getManager().removeApiBaseline(loadedBaseline.getName());
+			loadedBaseline = null;
+		}
+		loadedBaseline = loadBaseline(baselinePath);
+		loadedBaselineState = state;
+		return loadedBaseline;
+	}
+
+	private IApiBaseline loadBaseline(File baselinePath) throws CoreException {
 		if (baselinePath == null) {
 			ApiBaseline baseline = new ApiBaseline("current running application"); //$NON-NLS-1$
 			for (Bundle bundle : ApiPlugin.getDefault().getBundle().getBundleContext().getBundles()) {
@@ -366,12 +549,12 @@ public class ApiAnalysisApplication implements IApplication {
 			projectDescription.setBuildSpec(newBuilders);
 			project.setDescription(projectDescription, IResource.NONE, new NullProgressMonitor());
 
-			restoreOriginalProjectState = m -> {
+			restoreOriginalProjectState.push(m -> {
 				projectFile.setContents(new ByteArrayInputStream(originalContent), IResource.FORCE, m);
 				projectRemover.run(m);
-			};
+			});
 		} else {
-			restoreOriginalProjectState = projectRemover;
+			restoreOriginalProjectState.push(projectRemover);
 		}
 		return project;
 	}
@@ -385,7 +568,7 @@ public class ApiAnalysisApplication implements IApplication {
 
 	@Override
 	public void stop() {
-		// Nothing to do
+		stopped = true;
 	}
 
 }
@@ -13,17 +13,25 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -57,6 +65,8 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysis
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
 import org.eclipse.pde.api.tools.internal.model.WorkspaceBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -219,6 +229,11 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			try {
+				Files.deleteIfExists(savelocation.append(name + ApiBaselineSnapshot.FILE_EXTENSION).toPath());
+			} catch (IOException e) {
+				ApiPlugin.log(e);
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -243,16 +258,41 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		if (filename != null) {
 			File file = new File(filename);
 			if (file.exists()) {
-				try (FileInputStream inputStream = new FileInputStream(file)) {
-					baseline.restoreFrom(inputStream);
-				} catch (IOException e) {
-					ApiPlugin.log(e);
+				if (!restoreFromSnapshot(baseline, file)) {
+					try (FileInputStream inputStream = new FileInputStream(file)) {
+						baseline.restoreFrom(inputStream);
+					} catch (IOException e) {
+						ApiPlugin.log(e);
+					}
 				}
 				hasinfos.add(baseline.getName());
 			}
 		}
 	}
 
+	/**
+	 * Restores the given baseline from the snapshot written next to its
+	 * description, if there is one that is not older than the description.
+	 *
+	 * @return whether the baseline was restored
+	 */
+	private boolean restoreFromSnapshot(ApiBaseline baseline, File description) {
+		File snapshot = new File(description.getParentFile(), baseline.getName() + ApiBaselineSnapshot.FILE_EXTENSION);
+		if (!snapshot.isFile() || snapshot.lastModified() < description.lastModified()) {
+			return false;
+		}
+		try (InputStream inputStream = new FileInputStream(snapshot)) {
+			baseline.restoreFrom(inputStream);
+			return true;
+		} catch (IOException | CoreException e) {
+			// fall back to the description
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Unable to restore baseline snapshot " + snapshot + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return false;
+		}
+	}
+
 	public boolean isBaselineLoaded(IApiBaseline baseline) {
 		return hasinfos.contains(baseline.getName());
 	}
@@ -340,6 +380,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 				}
 				Path file = dir.resolve(id + BASELINE_FILE_EXTENSION);
 				writeBaselineDescription(baseline, file);
+				writeBaselineSnapshot(baseline, dir.resolve(id + ApiBaselineSnapshot.FILE_EXTENSION));
 				// need to save the api baseline state in order to be able
 				// to reload it later
 				handlecache.put(baseline.getName(), file.toAbsolutePath().toString());
@@ -359,6 +400,95 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		}
 	}
 
+	/**
+	 * Writes a binary snapshot of the {@link IApiBaseline} to the given file,
+	 * or deletes the file if the baseline cannot be captured in a snapshot.
+	 */
+	private void writeBaselineSnapshot(IApiBaseline baseline, Path file) {
+		long time = System.currentTimeMillis();
+		Map<String, ApiBaselineSnapshot.Entry> entries = new LinkedHashMap<>();
+		try {
+			// the manifests of unchanged components are taken from the previous snapshot
+			Map<String, ApiBaselineSnapshot.Entry> previous = readSnapshotEntries(file);
+			for (IApiComponent component : getPersistedComponents(baseline)) {
+				if (!(component instanceof BundleComponent bundle) || component instanceof ProjectComponent) {
+					// only plain bundles can be recreated from their manifest
+					Files.deleteIfExists(file);
+					return;
+				}
+				String location = component.getLocation();
+				ApiBaselineSnapshot.Entry entry = previous.get(location);
+				if (entry == null || !entry.isUpToDate()) {
+					Map<String, String> manifest = bundle.readManifest();
+					if (manifest == null) {
+						continue;
+					}
+					entry = ApiBaselineSnapshot.Entry.of(location, manifest);
+				}
+				entries.put(location, entry);
+			}
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(file)))) {
+				ApiBaselineSnapshot.write(out, baseline.getLocation(), new ArrayList<>(entries.values()));
+			}
+		} catch (IOException | CoreException e) {
+			// the description is still written, the snapshot is only an accelerator
+			ApiPlugin.log(e);
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e1) {
+				ApiPlugin.log(e1);
+			}
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to write a baseline snapshot : " + (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	/**
+	 * Returns the entries of the given snapshot file by component location, an
+	 * empty map if there is no readable snapshot.
+	 */
+	private static Map<String, ApiBaselineSnapshot.Entry> readSnapshotEntries(Path file) {
+		Map<String, ApiBaselineSnapshot.Entry> entries = new HashMap<>();
+		if (Files.isRegularFile(file)) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+				if (in.readInt() == ApiBaselineSnapshot.MAGIC) {
+					ApiBaselineSnapshot.readLocation(in);
+					for (ApiBaselineSnapshot.Entry entry : ApiBaselineSnapshot.readEntries(in)) {
+						entries.put(entry.location(), entry);
+					}
+				}
+			} catch (IOException e) {
+				// written from scratch
+				entries.clear();
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns all components of the given baseline that are persisted, all
+	 * versions of a bundle but no system components.
+	 */
+	private static Set<IApiComponent> getPersistedComponents(IApiBaseline baseline) {
+		Set<IApiComponent> persisted = new LinkedHashSet<>();
+		for (IApiComponent component : baseline.getApiComponents()) {
+			// if the baseline has multiple versions, persist all versions
+			Set<IApiComponent> multipleComponents = baseline.getAllApiComponents(component.getSymbolicName());
+			if (multipleComponents.isEmpty()) {
+				// no multiple version - add the current component
+				multipleComponents = Set.of(component);
+			}
+			for (IApiComponent iApiComponent : multipleComponents) {
+				if (!iApiComponent.isSystemComponent()) {
+					persisted.add(iApiComponent);
+				}
+			}
+		}
+		return persisted;
+	}
+
 	/**
 	 * Returns an XML description of the given baseline.
 	 *
@@ -414,6 +544,61 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	public IApiComponent[] readBaselineComponents(ApiBaseline baseline, InputStream stream) throws CoreException {
 		long start = System.currentTimeMillis();
+		IApiComponent[] restored;
+		try {
+			BufferedInputStream buffered = new BufferedInputStream(stream);
+			buffered.mark(Integer.BYTES);
+			byte[] header = buffered.readNBytes(Integer.BYTES);
+			if (header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == ApiBaselineSnapshot.MAGIC) {
+				restored = readSnapshotComponents(baseline, new DataInputStream(buffered));
+			} else {
+				buffered.reset();
+				restored = readDescriptionComponents(baseline, buffered);
+			}
+		} catch (IOException e) {
+			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
+		}
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return restored;
+	}
+
+	/**
+	 * Restores the components of a baseline from a binary snapshot. Components
+	 * whose bundle did not change since the snapshot was written are created
+	 * from the recorded manifest without accessing the bundle.
+	 */
+	private IApiComponent[] readSnapshotComponents(ApiBaseline baseline, DataInputStream in)
+			throws IOException, CoreException {
+		String baselineLocation = ApiBaselineSnapshot.readLocation(in);
+		if (!baselineLocation.isEmpty()) {
+			baseline.setLocation(baselineLocation);
+		}
+		List<ApiBaselineSnapshot.Entry> entries = ApiBaselineSnapshot.readEntries(in);
+		List<IApiComponent> components = new ArrayList<>(entries.size());
+		for (ApiBaselineSnapshot.Entry entry : entries) {
+			IApiComponent component;
+			if (entry.isUpToDate()) {
+				component = ApiModelFactory.newApiComponent(baseline, entry.location(), entry.manifest());
+			} else {
+				component = ApiModelFactory.newApiComponent(baseline, entry.location());
+			}
+			if (component != null) {
+				components.add(component);
+			}
+		}
+		IApiComponent[] restored = components.toArray(new IApiComponent[components.size()]);
+		// Avoid unstable bundle traversal order to simplify our life
+		Arrays.sort(restored, (o1, o2) -> o1.getName().compareTo(o2.getName()));
+		return restored;
+	}
+
+	/**
+	 * Restores the components of a baseline from its XML description.
+	 */
+	private IApiComponent[] readDescriptionComponents(ApiBaseline baseline, InputStream stream)
+			throws CoreException {
 		DocumentBuilder parser = getConfiguredParser();
 		IApiComponent[] restored = null;
 		try {
@@ -473,9 +658,6 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		} catch (IOException | SAXException e) {
 			throw new CoreException(Status.error("Error restoring API baseline", e)); //$NON-NLS-1$
 		}
-		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
-			System.out.println("Time to restore a persisted baseline : " + (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
-		}
 		return restored;
 	}
 
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+/**
+ * Binary snapshot of a persisted API baseline. Next to the location of each
+ * component it records the time stamp and size of the bundle and its complete
+ * manifest, so a baseline can be restored without opening any bundle archive
+ * as long as the bundles did not change.
+ * <p>
+ * The snapshot complements the XML <code>.profile</code> description of the
+ * baseline, which stays the authoritative format.
+ * </p>
+ */
+public final class ApiBaselineSnapshot {
+
+	/**
+	 * Constant representing the file extension for a baseline snapshot file.
+	 * Value is: <code>.snapshot</code>
+	 */
+	public static final String FILE_EXTENSION = ".snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Leading bytes of a snapshot, <code>APIB</code>
+	 */
+	public static final int MAGIC = 0x41504942;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * A component of a snapshot.
+	 *
+	 * @param location the file system location of the component
+	 * @param lastModified the time stamp of the location when the snapshot was
+	 *            written
+	 * @param length the size of the location when the snapshot was written
+	 * @param manifest the complete manifest headers of the component
+	 */
+	public record Entry(String location, long lastModified, long length, Map<String, String> manifest) {
+
+		public static Entry of(String location, Map<String, String> manifest) {
+			File file = getStampFile(location);
+			return new Entry(location, file.lastModified(), file.length(), manifest);
+		}
+
+		/**
+		 * @return whether the component location did not change since the
+		 *         snapshot was written
+		 */
+		public boolean isUpToDate() {
+			File file = getStampFile(location);
+			return file.lastModified() == lastModified && file.length() == length;
+		}
+
+		/**
+		 * The time stamp of a directory does not change with its content, so
+		 * the manifest is used for directory bundles.
+		 */
+		private static File getStampFile(String location) {
+			File file = new File(location);
+			return file.isDirectory() ? new File(file, JarFile.MANIFEST_NAME) : file;
+		}
+	}
+
+	private ApiBaselineSnapshot() {
+	}
+
+	/**
+	 * Writes a snapshot, including the leading {@link #MAGIC}.
+	 *
+	 * @param out the stream to write to
+	 * @param baselineLocation the location of the baseline or <code>null</code>
+	 * @param entries the components of the baseline
+	 */
+	public static void write(DataOutputStream out, String baselineLocation, List<Entry> entries) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeString(out, baselineLocation != null ? baselineLocation : ""); //$NON-NLS-1$
+		out.writeInt(entries.size());
+		for (Entry entry : entries) {
+			writeString(out, entry.location());
+			out.writeLong(entry.lastModified());
+			out.writeLong(entry.length());
+			out.writeInt(entry.manifest().size());
+			for (Map.Entry<String, String> header : entry.manifest().entrySet()) {
+				writeString(out, header.getKey());
+				writeString(out, header.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Reads the location of the baseline, the part following the leading
+	 * {@link #MAGIC} that the caller already consumed.
+	 *
+	 * @return the baseline location, empty if there is none
+	 * @throws IOException if the snapshot is of an unknown version or corrupt
+	 */
+	public static String readLocation(DataInputStream in) throws IOException {
+		if (in.readInt() != VERSION) {
+			throw new IOException("Unsupported API baseline snapshot version"); //$NON-NLS-1$
+		}
+		return readString(in);
+	}
+
+	/**
+	 * Reads the components of a snapshot, following its location.
+	 *
+	 * @throws IOException if the snapshot is corrupt
+	 */
+	public static List<Entry> readEntries(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		List<Entry> entries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			String location = readString(in);
+			long lastModified = in.readLong();
+			long length = in.readLong();
+			int headers = in.readInt();
+			Map<String, String> manifest = new HashMap<>(headers * 2);
+			for (int j = 0; j < headers; j++) {
+				manifest.put(readString(in), readString(in));
+			}
+			entries.add(new Entry(location, lastModified, length, manifest));
+		}
+		return entries;
+	}
+
+	// DataOutput#writeUTF is limited to 64k, which large Export-Package headers exceed
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			throw new IOException("Corrupt API baseline snapshot"); //$NON-NLS-1$
+		}
+		byte[] bytes = in.readNBytes(length);
+		if (bytes.length != length) {
+			throw new EOFException();
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2015 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,20 @@
 package org.eclipse.pde.api.tools.internal;
 
 import java.text.MessageFormat;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
@@ -95,6 +102,189 @@ public class ApiDescription implements IApiDescription {
 	 */
 	static NodeComparator fgComparator = new NodeComparator();
 
+	/**
+	 * Compact map of the children of a {@link ManifestNode}. Keys and nodes are
+	 * kept in two arrays sorted by the hash code of the key and looked up by
+	 * binary search, which takes a fraction of the memory of a hash map for the
+	 * few children most nodes have. Leaf nodes, the vast majority, share an
+	 * empty map and only allocate one when their first child is added.
+	 * <p>
+	 * Iteration order is by hash code, not insertion order.
+	 * </p>
+	 */
+	static final class NodeMap extends AbstractMap<IElementDescriptor, ManifestNode> {
+
+		private static final IElementDescriptor[] NO_KEYS = new IElementDescriptor[0];
+		private static final ManifestNode[] NO_NODES = new ManifestNode[0];
+
+		IElementDescriptor[] fKeys = NO_KEYS;
+		ManifestNode[] fNodes = NO_NODES;
+		int fSize;
+		int fModCount;
+
+		/**
+		 * Returns the index of the given key or <code>-(insertion point) - 1</code>
+		 * if not present
+		 */
+		private int indexOf(Object key) {
+			int hash = key.hashCode();
+			int low = 0;
+			int high = fSize - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int midHash = fKeys[mid].hashCode();
+				if (midHash < hash) {
+					low = mid + 1;
+				} else if (midHash > hash) {
+					high = mid - 1;
+				} else {
+					// scan the run of equal hash codes
+					for (int i = mid; i >= 0 && fKeys[i].hashCode() == hash; i--) {
+						if (fKeys[i].equals(key)) {
+							return i;
+						}
+					}
+					for (int i = mid + 1; i < fSize && fKeys[i].hashCode() == hash; i++) {
+						if (fKeys[i].equals(key)) {
+							return i;
+						}
+					}
+					return -(mid + 1) - 1;
+				}
+			}
+			return -low - 1;
+		}
+
+		@Override
+		public int size() {
+			return fSize;
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return fSize == 0;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key != null && indexOf(key) >= 0;
+		}
+
+		@Override
+		public ManifestNode get(Object key) {
+			if (key == null || fSize == 0) {
+				return null;
+			}
+			int index = indexOf(key);
+			return index >= 0 ? fNodes[index] : null;
+		}
+
+		@Override
+		public ManifestNode put(IElementDescriptor key, ManifestNode node) {
+			int index = indexOf(key);
+			if (index >= 0) {
+				ManifestNode old = fNodes[index];
+				fNodes[index] = node;
+				return old;
+			}
+			index = -index - 1;
+			if (fSize == fKeys.length) {
+				int capacity = fSize == 0 ? 1 : fSize + (fSize >> 1) + 1;
+				fKeys = Arrays.copyOf(fKeys, capacity);
+				fNodes = Arrays.copyOf(fNodes, capacity);
+			}
+			System.arraycopy(fKeys, index, fKeys, index + 1, fSize - index);
+			System.arraycopy(fNodes, index, fNodes, index + 1, fSize - index);
+			fKeys[index] = key;
+			fNodes[index] = node;
+			fSize++;
+			fModCount++;
+			return null;
+		}
+
+		@Override
+		public ManifestNode remove(Object key) {
+			if (key == null || fSize == 0) {
+				return null;
+			}
+			int index = indexOf(key);
+			if (index < 0) {
+				return null;
+			}
+			ManifestNode old = fNodes[index];
+			removeAt(index);
+			return old;
+		}
+
+		void removeAt(int index) {
+			int moved = fSize - index - 1;
+			System.arraycopy(fKeys, index + 1, fKeys, index, moved);
+			System.arraycopy(fNodes, index + 1, fNodes, index, moved);
+			fSize--;
+			fKeys[fSize] = null;
+			fNodes[fSize] = null;
+			fModCount++;
+		}
+
+		@Override
+		public void clear() {
+			fKeys = NO_KEYS;
+			fNodes = NO_NODES;
+			fSize = 0;
+			fModCount++;
+		}
+
+		@Override
+		public Set<Entry<IElementDescriptor, ManifestNode>> entrySet() {
+			return new AbstractSet<>() {
+				@Override
+				public int size() {
+					return fSize;
+				}
+
+				@Override
+				public Iterator<Entry<IElementDescriptor, ManifestNode>> iterator() {
+					return new Iterator<>() {
+						int next;
+						int last = -1;
+						int expectedModCount = fModCount;
+
+						@Override
+						public boolean hasNext() {
+							return next < fSize;
+						}
+
+						@Override
+						public Entry<IElementDescriptor, ManifestNode> next() {
+							if (fModCount != expectedModCount) {
+								throw new ConcurrentModificationException();
+							}
+							if (next >= fSize) {
+								throw new NoSuchElementException();
+							}
+							last = next++;
+							return new SimpleImmutableEntry<>(fKeys[last], fNodes[last]);
+						}
+
+						@Override
+						public void remove() {
+							if (last < 0) {
+								throw new IllegalStateException();
+							}
+							if (fModCount != expectedModCount) {
+								throw new ConcurrentModificationException();
+							}
+							removeAt(last);
+							next = last;
+							last = -1;
+							expectedModCount = fModCount;
+						}
+					};
+				}
+			};
+		}
+	}
+
 	/**
 	 * Represents a single node in the tree of mapped manifest items
 	 */
@@ -102,7 +292,7 @@ public class ApiDescription implements IApiDescription {
 		protected IElementDescriptor element = null;
 		protected int visibility, restrictions;
 		protected ManifestNode parent = null;
-		protected HashMap<IElementDescriptor, ManifestNode> children = new LinkedHashMap<>(1);
+		protected Map<IElementDescriptor, ManifestNode> children = Collections.emptyMap();
 
 		public ManifestNode(ManifestNode parent, IElementDescriptor element, int visibility, int restrictions) {
 			this.element = element;
@@ -111,6 +301,16 @@ public class ApiDescription implements IApiDescription {
 			this.parent = parent;
 		}
 
+		/**
+		 * Adds a child node, allocating the map of children for the first one
+		 */
+		void addChild(IElementDescriptor childElement, ManifestNode child) {
+			if (!(children instanceof NodeMap)) {
+				children = new NodeMap();
+			}
+			children.put(childElement, child);
+		}
+
 		@Override
 		public boolean equals(Object obj) {
 			if (obj instanceof ManifestNode) {
@@ -397,10 +597,12 @@ public class ApiDescription implements IApiDescription {
 			if (node == null) {
 				if (write || (isInsertOnResolve(current))) {
 					node = createNode(parentNode, current);
-					if (node != null) {
-						map.put(current, node);
-					} else {
+					if (node == null) {
 						return null;
+					} else if (parentNode != null) {
+						parentNode.addChild(current, node);
+					} else {
+						map.put(current, node);
 					}
 				} else {
 					if (ApiPlugin.DEBUG_API_DESCRIPTION) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,6 +131,7 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 				ApiPlugin.log(e.getStatus());
 				description = new ProjectApiDescription(project);
 			}
+			description.getTagScanCache().load(getTagScanCacheFile(project));
 			fDescriptions.put(project, description);
 		}
 		return description;
@@ -157,6 +158,10 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			if (file.exists()) {
 				file.delete();
 			}
+			file = getTagScanCacheFile(project);
+			if (file.exists()) {
+				file.delete();
+			}
 			file = API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).toFile();
 			if (file.exists() && file.isDirectory()) {
 				file.delete();
@@ -238,9 +243,24 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 					abort(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
 				}
 			}
+			try {
+				desc.getTagScanCache().save(getTagScanCacheFile(project));
+			} catch (IOException e) {
+				// only a cache, units are scanned again
+				getTagScanCacheFile(project).delete();
+				ApiPlugin.log(MessageFormat.format(ScannerMessages.ApiDescriptionManager_0, project.getElementName()), e);
+			}
 		}
 	}
 
+	/**
+	 * Returns the file the tag scan results of the given project are persisted
+	 * to, next to its API description.
+	 */
+	private static File getTagScanCacheFile(IJavaProject project) {
+		return API_DESCRIPTIONS_CONTAINER_PATH.append(project.getElementName()).append(IApiCoreConstants.TAG_SCAN_CACHE_NAME).toFile();
+	}
+
 	/**
 	 * Restores the API description from its saved file, if any and returns true
 	 * if successful.
@@ -262,7 +282,7 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 				if (IApiXmlConstants.API_DESCRIPTION_CURRENT_VERSION.equals(version)) {
 					description.fPackageTimeStamp = timestamp;
 					description.fManifestFile = project.getProject().getFile(JarFile.MANIFEST_NAME);
-					restoreChildren(description, root, null, description.fPackageMap);
+					restoreChildren(description, root, null);
 					return true;
 				}
 			} catch (IOException e) {
@@ -272,17 +292,17 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 		return false;
 	}
 
-	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
+	private void restoreChildren(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode) throws CoreException {
 		NodeList children = element.getChildNodes();
 		for (int i = 0; i < children.getLength(); i++) {
 			Node child = children.item(i);
 			if (child.getNodeType() == Node.ELEMENT_NODE) {
-				restoreNode(apiDesc, (Element) child, parentNode, childrenMap);
+				restoreNode(apiDesc, (Element) child, parentNode);
 			}
 		}
 	}
 
-	private void restoreNode(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode, Map<IElementDescriptor, ManifestNode> childrenMap) throws CoreException {
+	private void restoreNode(ProjectApiDescription apiDesc, Element element, ManifestNode parentNode) throws CoreException {
 		ManifestNode node = null;
 		IElementDescriptor elementDesc = null;
 		switch (element.getTagName()) {
@@ -363,8 +383,12 @@ public final class ApiDescriptionManager implements ISaveParticipant {
 			break;
 		}
 		if (node != null) {
-			childrenMap.put(elementDesc, node);
-			restoreChildren(apiDesc, element, node, node.children);
+			if (parentNode != null) {
+				parentNode.addChild(elementDesc, node);
+			} else {
+				apiDesc.fPackageMap.put(elementDesc, node);
+			}
+			restoreChildren(apiDesc, element, node);
 		} else {
 			abort(ScannerMessages.ApiDescriptionManager_4, null);
 		}
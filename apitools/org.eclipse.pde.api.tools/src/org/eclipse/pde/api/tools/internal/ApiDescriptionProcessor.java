@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.pde.api.tools.internal;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
@@ -27,6 +29,9 @@ import java.util.Stack;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
 import org.eclipse.core.filebuffers.ITextFileBufferManager;
@@ -75,8 +80,10 @@ import org.eclipse.pde.api.tools.internal.provisional.scanner.ScannerMessages;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
 import org.eclipse.pde.api.tools.internal.util.Util;
 import org.eclipse.text.edits.TextEdit;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Provides tools for scanning/loading/parsing component.xml files.
@@ -553,103 +560,190 @@ public class ApiDescriptionProcessor {
 	 * @param xml XML used to generate settings
 	 */
 	public static void annotateApiSettings(IJavaProject project, IApiDescription settings, String xml) throws CoreException {
-		Element root = null;
+		annotateApiSettings(project, settings, new InputSource(new StringReader(xml)));
+	}
+
+	/**
+	 * Parses the given xml document, and annotates the specified
+	 * {@link IApiDescription} like
+	 * {@link #annotateApiSettings(IJavaProject, IApiDescription, String)}. The
+	 * document is streamed, it is never held in memory as a whole.
+	 *
+	 * @param settings API settings to annotate
+	 * @param xml stream of the XML used to generate settings, not closed
+	 */
+	public static void annotateApiSettings(IJavaProject project, IApiDescription settings, InputStream xml) throws CoreException {
+		annotateApiSettings(project, settings, new InputSource(xml));
+	}
+
+	private static void annotateApiSettings(IJavaProject project, IApiDescription settings, InputSource source) throws CoreException {
 		try {
-			root = Util.parseDocument(xml);
-		} catch (CoreException ce) {
-			abort("Failed to parse API description xml file", ce); //$NON-NLS-1$
+			@SuppressWarnings("restriction")
+			SAXParser parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createSAXParserWithErrorOnDOCTYPE();
+			parser.parse(source, new ApiDescriptionHandler(project, settings));
+		} catch (SAXException e) {
+			if (e.getException() instanceof CoreException ce) {
+				throw ce;
+			}
+			abort("Failed to parse API description xml file", e); //$NON-NLS-1$
+		} catch (ParserConfigurationException | IOException e) {
+			abort("Failed to parse API description xml file", e); //$NON-NLS-1$
 		}
-		if (!root.getNodeName().equals(IApiXmlConstants.ELEMENT_COMPONENT)) {
-			abort(ScannerMessages.ComponentXMLScanner_0, null);
+	}
+
+	/**
+	 * Streams the elements of an API description xml file into an
+	 * {@link IApiDescription}. Types are children of packages, methods and
+	 * fields children of types.
+	 */
+	private static final class ApiDescriptionHandler extends DefaultHandler {
+
+		private final IJavaProject fProject;
+		private final IApiDescription fSettings;
+		private boolean fRoot = true;
+		private boolean fEarlierVersion;
+		private IPackageDescriptor fPackage;
+		private IReferenceTypeDescriptor fType;
+
+		ApiDescriptionHandler(IJavaProject project, IApiDescription settings) {
+			fProject = project;
+			fSettings = settings;
 		}
-		String version = root.getAttribute(IApiXmlConstants.ATTR_VERSION);
-		ApiDescription desc = (ApiDescription) settings;
-		desc.setEmbeddedVersion(version);
-		// TODO for now this compares to 1.2, since the change from 1.1 -> 1.2
-		// denotes the
-		// @noextend change, not 1.1 -> current version
-		boolean earlierversion = desc.compareEmbeddedVersionTo("1.2") == 1; //$NON-NLS-1$
-		NodeList packages = root.getElementsByTagName(IApiXmlConstants.ELEMENT_PACKAGE);
-		NodeList types = null;
-		IPackageDescriptor packdesc = null;
-		Element type = null;
-		for (int i = 0; i < packages.getLength(); i++) {
-			Element pkg = (Element) packages.item(i);
-			// package visibility comes from the MANIFEST.MF
-			String pkgName = pkg.getAttribute(IApiXmlConstants.ATTR_NAME);
-			packdesc = Factory.packageDescriptor(pkgName);
-			types = pkg.getElementsByTagName(IApiXmlConstants.ELEMENT_TYPE);
-			for (int j = 0; j < types.getLength(); j++) {
-				type = (Element) types.item(j);
-				String name = type.getAttribute(IApiXmlConstants.ATTR_NAME);
-				if (name.length() == 0) {
-					abort("Missing type name", null); //$NON-NLS-1$
+
+		@Override
+		public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+			try {
+				if (fRoot) {
+					fRoot = false;
+					if (!qName.equals(IApiXmlConstants.ELEMENT_COMPONENT)) {
+						abort(ScannerMessages.ComponentXMLScanner_0, null);
+					}
+					ApiDescription desc = (ApiDescription) fSettings;
+					desc.setEmbeddedVersion(getAttribute(attributes, IApiXmlConstants.ATTR_VERSION));
+					// TODO for now this compares to 1.2, since the change from
+					// 1.1 -> 1.2 denotes the @noextend change, not 1.1 ->
+					// current version
+					fEarlierVersion = desc.compareEmbeddedVersionTo("1.2") == 1; //$NON-NLS-1$
+					return;
+				}
+				switch (qName) {
+					case IApiXmlConstants.ELEMENT_PACKAGE -> {
+						// package visibility comes from the MANIFEST.MF
+						fPackage = Factory.packageDescriptor(getAttribute(attributes, IApiXmlConstants.ATTR_NAME));
+					}
+					case IApiXmlConstants.ELEMENT_TYPE -> {
+						if (fPackage == null) {
+							return;
+						}
+						String name = getAttribute(attributes, IApiXmlConstants.ATTR_NAME);
+						if (name.length() == 0) {
+							abort("Missing type name", null); //$NON-NLS-1$
+						}
+						fType = fPackage.getType(name);
+						annotateDescriptor(fProject, fSettings, fType, attributes, fEarlierVersion);
+					}
+					case IApiXmlConstants.ELEMENT_METHOD -> {
+						if (fType == null) {
+							return;
+						}
+						// member names and signatures repeat across types and
+						// components, share them between the descriptors
+						String name = getAttribute(attributes, IApiXmlConstants.ATTR_NAME).intern();
+						// old files might use '.' instead of '/'
+						String signature = getAttribute(attributes, IApiXmlConstants.ATTR_SIGNATURE).replace('.', '/').intern();
+						annotateDescriptor(fProject, fSettings, fType.getMethod(name, signature), attributes, fEarlierVersion);
+					}
+					case IApiXmlConstants.ELEMENT_FIELD -> {
+						if (fType == null) {
+							return;
+						}
+						String name = getAttribute(attributes, IApiXmlConstants.ATTR_NAME).intern();
+						annotateDescriptor(fProject, fSettings, fType.getField(name), attributes, fEarlierVersion);
+					}
+					default -> { /**/ }
 				}
-				IReferenceTypeDescriptor typedesc = packdesc.getType(name);
-				annotateDescriptor(project, settings, typedesc, type, earlierversion);
-				annotateMethodSettings(project, settings, typedesc, type, earlierversion);
-				annotateFieldSettings(project, settings, typedesc, type, earlierversion);
+			} catch (CoreException e) {
+				throw new SAXException(e);
 			}
 		}
+
+		@Override
+		public void endElement(String uri, String localName, String qName) throws SAXException {
+			switch (qName) {
+				case IApiXmlConstants.ELEMENT_PACKAGE -> fPackage = null;
+				case IApiXmlConstants.ELEMENT_TYPE -> fType = null;
+				default -> { /**/ }
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the given attribute, or an empty string if the
+	 * attribute is not present.
+	 */
+	private static String getAttribute(Attributes attributes, String name) {
+		String value = attributes.getValue(name);
+		return value == null ? Util.EMPTY_STRING : value;
 	}
 
 	/**
-	 * Annotates the backing {@link IApiDescription} from the given
-	 * {@link Element}, by adding the visibility and restriction attributes to
+	 * Annotates the backing {@link IApiDescription} from the given XML
+	 * attributes, by adding the visibility and restriction attributes to
 	 * the specified {@link IElementDescriptor}
 	 *
 	 * @param settings the settings to annotate
 	 * @param descriptor the current descriptor context
-	 * @param element the current element to annotate from
+	 * @param attributes the attributes of the current element to annotate from
 	 * @param earlierversion if the version read from XML is older than the
 	 *            current tooling version
 	 */
-	private static void annotateDescriptor(IJavaProject project, IApiDescription settings, IElementDescriptor descriptor, Element element, boolean earlierversion) {
-		int typeVis = getVisibility(element);
+	private static void annotateDescriptor(IJavaProject project, IApiDescription settings, IElementDescriptor descriptor, Attributes attributes, boolean earlierversion) {
+		int typeVis = getVisibility(attributes);
 		if (typeVis != -1) {
 			settings.setVisibility(descriptor, typeVis);
 		}
-		settings.setRestrictions(descriptor, getRestrictions(project, element, descriptor, earlierversion));
+		settings.setRestrictions(descriptor, getRestrictions(project, attributes, descriptor, earlierversion));
 	}
 
 	/**
 	 * Returns restriction settings described in the given element.
 	 *
 	 * @param project the {@link IJavaProject} context
-	 * @param element XML element
+	 * @param attributes XML attributes of the element
 	 * @param descriptor the {@link IElementDescriptor} to get the restrictions
 	 *            for
 	 * @param earlierversion if the version read from XML is older than the
 	 *            current tooling version
 	 * @return restriction settings
 	 */
-	private static int getRestrictions(final IJavaProject project, final Element element, final IElementDescriptor descriptor, boolean earlierversion) {
+	private static int getRestrictions(final IJavaProject project, final Attributes attributes, final IElementDescriptor descriptor, boolean earlierversion) {
 		int res = RestrictionModifiers.NO_RESTRICTIONS;
-		if (element.hasAttribute(IApiXmlConstants.ATTR_RESTRICTIONS)) {
-			res = Integer.parseInt(element.getAttribute(IApiXmlConstants.ATTR_RESTRICTIONS));
+		String restrictions = attributes.getValue(IApiXmlConstants.ATTR_RESTRICTIONS);
+		if (restrictions != null) {
+			res = Integer.parseInt(restrictions);
 		} else {
 			switch (descriptor.getElementType()) {
 				case IElementDescriptor.FIELD -> {
-					res = annotateRestriction(element, IApiXmlConstants.ATTR_REFERENCE, RestrictionModifiers.NO_REFERENCE, res);
+					res = annotateRestriction(attributes, IApiXmlConstants.ATTR_REFERENCE, RestrictionModifiers.NO_REFERENCE, res);
 				}
 				case IElementDescriptor.METHOD -> {
 					IMethodDescriptor method = (IMethodDescriptor) descriptor;
-					res = annotateRestriction(element, IApiXmlConstants.ATTR_REFERENCE, RestrictionModifiers.NO_REFERENCE, res);
+					res = annotateRestriction(attributes, IApiXmlConstants.ATTR_REFERENCE, RestrictionModifiers.NO_REFERENCE, res);
 					if (!method.isConstructor()) {
-						res = annotateRestriction(element, IApiXmlConstants.ATTR_OVERRIDE, RestrictionModifiers.NO_OVERRIDE, res);
+						res = annotateRestriction(attributes, IApiXmlConstants.ATTR_OVERRIDE, RestrictionModifiers.NO_OVERRIDE, res);
 					}
 				}
 				case IElementDescriptor.TYPE -> {
 					IReferenceTypeDescriptor rtype = (IReferenceTypeDescriptor) descriptor;
-					res = annotateRestriction(element, IApiXmlConstants.ATTR_IMPLEMENT, RestrictionModifiers.NO_IMPLEMENT, res);
+					res = annotateRestriction(attributes, IApiXmlConstants.ATTR_IMPLEMENT, RestrictionModifiers.NO_IMPLEMENT, res);
 					if (earlierversion && RestrictionModifiers.isImplementRestriction(res)) {
 						res |= RestrictionModifiers.NO_EXTEND;
 					}
-					res = annotateRestriction(element, IApiXmlConstants.ATTR_EXTEND, RestrictionModifiers.NO_EXTEND, res);
+					res = annotateRestriction(attributes, IApiXmlConstants.ATTR_EXTEND, RestrictionModifiers.NO_EXTEND, res);
 					if (!RestrictionModifiers.isExtendRestriction(res)) {
-						res = annotateRestriction(element, IApiXmlConstants.ATTR_SUBCLASS, RestrictionModifiers.NO_EXTEND, res);
+						res = annotateRestriction(attributes, IApiXmlConstants.ATTR_SUBCLASS, RestrictionModifiers.NO_EXTEND, res);
 					}
-					res = annotateRestriction(element, IApiXmlConstants.ATTR_INSTANTIATE, RestrictionModifiers.NO_INSTANTIATE, res);
+					res = annotateRestriction(attributes, IApiXmlConstants.ATTR_INSTANTIATE, RestrictionModifiers.NO_INSTANTIATE, res);
 					IType type = null;
 					if (project != null) {
 						try {
@@ -690,14 +784,14 @@ public class ApiDescriptionProcessor {
 	 * Tests if the given restriction exists for the given element and returns
 	 * an updated restrictions flag.
 	 *
-	 * @param element XML element
+	 * @param attributes XML attributes of the element
 	 * @param name attribute to test
 	 * @param flag bit mask for attribute
 	 * @param res flag to combine with
 	 * @return updated flags
 	 */
-	private static int annotateRestriction(Element element, String name, int flag, int res) {
-		String value = element.getAttribute(name);
+	private static int annotateRestriction(Attributes attributes, String name, int flag, int res) {
+		String value = getAttribute(attributes, name);
 		int lres = res;
 		if (value.length() > 0) {
 			if (!Boolean.parseBoolean(value)) {
@@ -710,11 +804,11 @@ public class ApiDescriptionProcessor {
 	/**
 	 * Returns visibility settings described in the given element or -1 if none.
 	 *
-	 * @param element XML element
+	 * @param attributes XML attributes of the element
 	 * @return visibility settings or -1 if none
 	 */
-	private static int getVisibility(Element element) {
-		String attribute = element.getAttribute(IApiXmlConstants.ATTR_VISIBILITY);
+	private static int getVisibility(Attributes attributes) {
+		String attribute = getAttribute(attributes, IApiXmlConstants.ATTR_VISIBILITY);
 		if (attribute != null && attribute.isEmpty()) {
 			return -1;
 		}
@@ -736,68 +830,4 @@ public class ApiDescriptionProcessor {
 			return -1;
 		}
 	}
-
-	/**
-	 * Annotates the supplied {@link IApiDescription} from all of the field
-	 * elements that are direct children of the specified {@link Element}.
-	 * {@link IFieldDescriptor}s are created as needed and added as children of
-	 * the specified {@link IReferenceTypeDescriptor}.
-	 *
-	 * @param settings the {@link IApiDescription} to add the new
-	 *            {@link IFieldDescriptor} to
-	 * @param typedesc the containing type descriptor for this field
-	 * @param type the parent {@link Element}
-	 * @param earlierversion if the version read from XML is older than the
-	 *            current tooling version
-	 */
-	private static void annotateFieldSettings(IJavaProject project, IApiDescription settings, IReferenceTypeDescriptor typedesc, Element type, boolean earlierversion) throws CoreException {
-		NodeList fields = type.getElementsByTagName(IApiXmlConstants.ELEMENT_FIELD);
-		Element field = null;
-		IFieldDescriptor fielddesc = null;
-		String name = null;
-		for (int i = 0; i < fields.getLength(); i++) {
-			field = (Element) fields.item(i);
-			name = field.getAttribute(IApiXmlConstants.ATTR_NAME);
-			if (name == null) {
-				abort(ScannerMessages.ComponentXMLScanner_1, null);
-			}
-			fielddesc = typedesc.getField(name);
-			annotateDescriptor(project, settings, fielddesc, field, earlierversion);
-		}
-	}
-
-	/**
-	 * Annotates the supplied {@link IApiDescription} from all of the method
-	 * elements that are direct children of the specified {@link Element}.
-	 * {@link IMethodDescriptor}s are created as needed and added as children of
-	 * the specified {@link IReferenceTypeDescriptor}.
-	 *
-	 * @param settings the {@link IApiDescription} to add the new
-	 *            {@link IMethodDescriptor} to
-	 * @param typedesc the containing type descriptor for this method
-	 * @param type the parent {@link Element}
-	 * @param earlierversion if the version read from XML is older than the
-	 *            current tooling version
-	 */
-	private static void annotateMethodSettings(IJavaProject project, IApiDescription settings, IReferenceTypeDescriptor typedesc, Element type, boolean earlierversion) throws CoreException {
-		NodeList methods = type.getElementsByTagName(IApiXmlConstants.ELEMENT_METHOD);
-		Element method = null;
-		IMethodDescriptor methoddesc = null;
-		String name, signature;
-		for (int i = 0; i < methods.getLength(); i++) {
-			method = (Element) methods.item(i);
-			name = method.getAttribute(IApiXmlConstants.ATTR_NAME);
-			if (name == null) {
-				abort(ScannerMessages.ComponentXMLScanner_2, null);
-			}
-			signature = method.getAttribute(IApiXmlConstants.ATTR_SIGNATURE);
-			if (signature == null) {
-				abort(ScannerMessages.ComponentXMLScanner_3, null);
-			}
-			// old files might use '.' instead of '/'
-			signature = signature.replace('.', '/');
-			methoddesc = typedesc.getMethod(name, signature);
-			annotateDescriptor(project, settings, methoddesc, method, earlierversion);
-		}
-	}
 }
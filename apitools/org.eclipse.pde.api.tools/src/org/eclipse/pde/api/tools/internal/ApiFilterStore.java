@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -76,19 +77,173 @@ import org.w3c.dom.Element;
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
 	/**
-	 * Map used to collect unused {@link IApiProblemFilter}s
+	 * Delay used to coalesce several modifications of the store into one write
+	 * of the .api_filters file
 	 */
-	private Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private static final long PERSIST_DELAY = 100;
+
+	/**
+	 * Map used to collect unused {@link IApiProblemFilter}s, written
+	 * concurrently while problems are filtered
+	 */
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
 
 	/**
 	 * The backing {@link IJavaProject}
 	 */
 	IJavaProject fProject = null;
 
-	boolean fNeedsSaving = false;
-	boolean fTriggeredChange = false;
+	volatile boolean fNeedsSaving = false;
+	volatile boolean fTriggeredChange = false;
 	Map<IResource, Map<String, Set<IApiProblemFilter>>> fFilterMap;
 
+	/**
+	 * Immutable index of {@link #fFilterMap} used to match problems without
+	 * locking, <code>null</code> when it has to be rebuilt
+	 */
+	private volatile FilterIndex fIndex;
+
+	/**
+	 * The filters to save after the store was disposed
+	 */
+	private Map<IResource, Map<String, Set<IApiProblemFilter>>> fDisposedFilters;
+
+	private final Job fPersistJob = new PersistJob();
+
+	/**
+	 * Index of filters by problem id, resource and type name. Only the few
+	 * filters found for a problem have to be compared to it.
+	 */
+	private static final class FilterIndex {
+
+		private final Map<Integer, Map<IResource, Map<String, IApiProblemFilter[]>>> fFilters;
+
+		FilterIndex(Map<IResource, Map<String, Set<IApiProblemFilter>>> filterMap) {
+			Map<Integer, Map<IResource, Map<String, List<IApiProblemFilter>>>> index = new HashMap<>();
+			for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> resourceEntry : filterMap.entrySet()) {
+				for (Set<IApiProblemFilter> filters : resourceEntry.getValue().values()) {
+					for (IApiProblemFilter filter : filters) {
+						IApiProblem problem = filter.getUnderlyingProblem();
+						String typeName = problem.getTypeName();
+						index.computeIfAbsent(problem.getId(), id -> new HashMap<>())
+								.computeIfAbsent(resourceEntry.getKey(), r -> new HashMap<>())
+								.computeIfAbsent(typeName == null ? GLOBAL : typeName, t -> new ArrayList<>(1))
+								.add(filter);
+					}
+				}
+			}
+			fFilters = new HashMap<>(index.size());
+			index.forEach((id, resources) -> {
+				Map<IResource, Map<String, IApiProblemFilter[]>> byResource = new HashMap<>(resources.size());
+				resources.forEach((resource, types) -> {
+					Map<String, IApiProblemFilter[]> byType = new HashMap<>(types.size());
+					types.forEach((type, filters) -> byType.put(type, filters.toArray(IApiProblemFilter[]::new)));
+					byResource.put(resource, byType);
+				});
+				fFilters.put(id, byResource);
+			});
+		}
+
+		/**
+		 * @return the filters that may match a problem with the given id on the
+		 *         given resource and type, never <code>null</code>
+		 */
+		IApiProblemFilter[] get(int id, IResource resource, String typeName) {
+			Map<IResource, Map<String, IApiProblemFilter[]>> byResource = fFilters.get(id);
+			if (byResource == null) {
+				return NO_FILTERS;
+			}
+			Map<String, IApiProblemFilter[]> byType = byResource.get(resource);
+			if (byType == null) {
+				return NO_FILTERS;
+			}
+			IApiProblemFilter[] filters = byType.get(typeName == null ? GLOBAL : typeName);
+			return filters == null ? NO_FILTERS : filters;
+		}
+	}
+
+	/**
+	 * Writes the .api_filters file. The filters are taken when the job runs, so
+	 * all modifications made until then are written at once.
+	 */
+	private final class PersistJob extends WorkspaceJob {
+
+		PersistJob() {
+			super(Util.EMPTY_STRING);
+			setSystem(true);
+			setPriority(Job.INTERACTIVE);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == ApiFilterStore.class;
+		}
+
+		@Override
+		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			Map<IResource, Map<String, Set<IApiProblemFilter>>> filters = takeFiltersToSave();
+			if (filters == null) {
+				return Status.OK_STATUS;
+			}
+			if (ApiPlugin.DEBUG_FILTER_STORE) {
+				System.out.println("persisting api filters for plugin project component [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			try {
+				SubMonitor localmonitor = SubMonitor.convert(monitor);
+				IProject project = fProject.getProject();
+				if (!project.isAccessible()) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("project [" + fProject.getElementName() + "] is not accessible, saving terminated"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					fNeedsSaving = true;
+					return Status.CANCEL_STATUS;
+				}
+				Document xml = getXmlDocument(filters);
+				IFile file = project.getFile(API_FILTERS_XML_PATH);
+				if (xml == null) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("no XML to persist for plugin project component [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					// no filters - delete the file if it exists
+					if (file.isAccessible()) {
+						IFolder folder = (IFolder) file.getParent();
+						file.delete(true, localmonitor);
+						if (folder.members().length == 0 && folder.isAccessible()) {
+							folder.delete(true, localmonitor);
+						}
+						fTriggeredChange = true;
+					}
+					return Status.OK_STATUS;
+				}
+				String lineDelimiter = getLineDelimiterPreference(file);
+				if (lineDelimiter == null) {
+					// Get line delimiter from existing file
+					ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
+					manager.connect(file.getFullPath(), LocationKind.IFILE, null);
+					ITextFileBuffer textFileBuffer = manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+					IDocument document = textFileBuffer.getDocument();
+					lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
+				}
+
+				if (file.getProject().isAccessible()) {
+					String lineSeparator = System.lineSeparator();
+					if (lineDelimiter != null && !lineDelimiter.equals(lineSeparator)) {
+						String content = Util.serializeDocument(xml).replaceAll(lineSeparator, lineDelimiter);
+						Files.writeString(file.getLocation().toPath(), content);
+					} else {
+						Util.writeDocumentToFile(xml, file.getLocation().toPath());
+					}
+					file.refreshLocal(IResource.DEPTH_ZERO, localmonitor);
+				}
+				fTriggeredChange = true;
+			} catch (CoreException | IOException ioe) {
+				fNeedsSaving = true;
+				ApiPlugin.log(ioe);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
 	/**
 	 * Constructor
 	 *
@@ -101,76 +256,67 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	/**
-	 * Saves the .api_filters file for the component
+	 * Saves the .api_filters file for the component. The file is written
+	 * asynchronously, modifications that happen shortly after each other are
+	 * written together.
 	 */
 	public void persistApiFilters() {
 		if (!fNeedsSaving) {
 			return;
 		}
-		final Map<IResource, Map<String, Set<IApiProblemFilter>>> filters = new LinkedHashMap<>(fFilterMap);
-		WorkspaceJob job = new WorkspaceJob(Util.EMPTY_STRING) {
-			@Override
-			public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
-				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("persisting api filters for plugin project component [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-				}
-				try {
-					SubMonitor localmonitor = SubMonitor.convert(monitor);
-					IProject project = fProject.getProject();
-					if (!project.isAccessible()) {
-						if (ApiPlugin.DEBUG_FILTER_STORE) {
-							System.out.println("project [" + fProject.getElementName() + "] is not accessible, saving terminated"); //$NON-NLS-1$ //$NON-NLS-2$
-						}
-						return Status.CANCEL_STATUS;
-					}
-					Document xml = getXmlDocument(filters);
-					IFile file = project.getFile(API_FILTERS_XML_PATH);
-					if (xml == null) {
-						if (ApiPlugin.DEBUG_FILTER_STORE) {
-							System.out.println("no XML to persist for plugin project component [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
-						}
-						// no filters - delete the file if it exists
-						if (file.isAccessible()) {
-							IFolder folder = (IFolder) file.getParent();
-							file.delete(true, localmonitor);
-							if (folder.members().length == 0 && folder.isAccessible()) {
-								folder.delete(true, localmonitor);
-							}
-							fTriggeredChange = true;
-						}
-						return Status.OK_STATUS;
-					}
-					String lineDelimiter = getLineDelimiterPreference(file);
-					if (lineDelimiter == null) {
-						// Get line delimiter from existing file
-						ITextFileBufferManager manager = FileBuffers.getTextFileBufferManager();
-						manager.connect(file.getFullPath(), LocationKind.IFILE, null);
-						ITextFileBuffer textFileBuffer = manager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
-						IDocument document = textFileBuffer.getDocument();
-						lineDelimiter = TextUtilities.getDefaultLineDelimiter(document);
-					}
+		fPersistJob.schedule(PERSIST_DELAY);
+	}
 
-					if (file.getProject().isAccessible()) {
-						String lineSeparator = System.lineSeparator();
-						if (lineDelimiter != null && !lineDelimiter.equals(lineSeparator)) {
-							String content = Util.serializeDocument(xml).replaceAll(lineSeparator, lineDelimiter);
-							Files.writeString(file.getLocation().toPath(), content);
-						} else {
-							Util.writeDocumentToFile(xml, file.getLocation().toPath());
-						}
-						file.refreshLocal(IResource.DEPTH_ZERO, localmonitor);
-					}
-					fTriggeredChange = true;
-					fNeedsSaving = false;
-				} catch (CoreException | IOException ioe) {
-					ApiPlugin.log(ioe);
+	/**
+	 * Returns a copy of the filters to write and resets the saving flag, or
+	 * <code>null</code> if there is nothing to save.
+	 */
+	synchronized Map<IResource, Map<String, Set<IApiProblemFilter>>> takeFiltersToSave() {
+		Map<IResource, Map<String, Set<IApiProblemFilter>>> filters = fDisposedFilters;
+		if (filters != null) {
+			fDisposedFilters = null;
+		} else if (fNeedsSaving && fFilterMap != null) {
+			filters = copyFilterMap();
+		} else {
+			return null;
+		}
+		fNeedsSaving = false;
+		return filters;
+	}
+
+	/**
+	 * @return a copy of the filter map that is not affected by later
+	 *         modifications of the store
+	 */
+	private synchronized Map<IResource, Map<String, Set<IApiProblemFilter>>> copyFilterMap() {
+		Map<IResource, Map<String, Set<IApiProblemFilter>>> copy = new LinkedHashMap<>(fFilterMap.size());
+		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+			Map<String, Set<IApiProblemFilter>> types = new LinkedHashMap<>(entry.getValue().size());
+			for (Entry<String, Set<IApiProblemFilter>> typeEntry : entry.getValue().entrySet()) {
+				types.put(typeEntry.getKey(), new LinkedHashSet<>(typeEntry.getValue()));
+			}
+			copy.put(entry.getKey(), types);
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the index of the current filters, building it if the filters
+	 * changed since it was last built.
+	 */
+	private FilterIndex getIndex() {
+		FilterIndex index = fIndex;
+		if (index == null) {
+			synchronized (this) {
+				initializeApiFilters();
+				index = fIndex;
+				if (index == null) {
+					index = new FilterIndex(fFilterMap);
+					fIndex = index;
 				}
-				return Status.OK_STATUS;
 			}
-		};
-		job.setSystem(true);
-		job.setPriority(Job.INTERACTIVE);
-		job.schedule();
+		}
+		return index;
 	}
 
 	@Override
@@ -208,6 +354,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fIndex = null;
 		persistApiFilters();
 	}
 
@@ -241,8 +388,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
@@ -254,8 +400,8 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
+		IApiProblemFilter[] filters = getIndex().get(problem.getId(), resource, problem.getTypeName());
+		if (filters.length == 0) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
 				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
@@ -281,12 +427,14 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// if the store is about to be disposed and has pending changes save
 		// them asynchronously
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
+		synchronized (this) {
+			if (fNeedsSaving && fFilterMap != null) {
+				fDisposedFilters = copyFilterMap();
+			}
+		}
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
-			fUnusedFilters = null;
-		}
+		fUnusedFilters = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 	}
 
@@ -346,6 +494,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -471,6 +620,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			System.out.println("initializing api filter map for project [" + fProject.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		fFilterMap = new LinkedHashMap<>(5);
+		fIndex = null;
 		IFile filterFile = fProject.getProject().getFile(API_FILTERS_XML_PATH);
 		if (!filterFile.exists()) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -522,6 +672,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fIndex = null;
 	}
 
 	/**
@@ -554,30 +705,32 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = new ConcurrentHashMap<>();
 		Map<String, Set<IApiProblemFilter>> types = null;
 		Set<IApiProblemFilter> values = null;
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
 			IResource resource = filterEntry.getKey();
 			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
+			values = ConcurrentHashMap.newKeySet();
+			unusedFilters.put(resource, values);
 			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
 				values.addAll(entry.getValue());
 			}
 		}
+		fUnusedFilters = unusedFilters;
 	}
 
 	/**
 	 * records that the following filter has been used
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			Set<IApiProblemFilter> unused = unusedFilters.get(resource);
 			if (unused != null) {
 				unused.remove(filter);
 				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
+					unusedFilters.remove(resource, unused);
 				}
 			}
 		}
@@ -595,12 +748,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -610,17 +764,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = entry.getValue();
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -706,9 +860,12 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
 					System.out.println("processed REMOVED delta"); //$NON-NLS-1$
 				}
-				if (fFilterMap != null) {
-					fFilterMap.clear();
-					needsbuild = fProject.getProject().isAccessible();
+				synchronized (this) {
+					if (fFilterMap != null) {
+						fFilterMap.clear();
+						fIndex = null;
+						needsbuild = fProject.getProject().isAccessible();
+					}
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
 				if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -744,5 +901,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fIndex = null;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2011 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,12 @@ public interface IApiCoreConstants {
 	 * <code>.api_description</code>
 	 */
 	public static final String API_DESCRIPTION_XML_NAME = ".api_description"; //$NON-NLS-1$
+	/**
+	 * Constant representing the name of the file caching the tag scan results
+	 * of a project, stored next to its API description. Value is
+	 * <code>.tag_scans</code>
+	 */
+	public static final String TAG_SCAN_CACHE_NAME = ".tag_scans"; //$NON-NLS-1$
 	/**
 	 * Constant representing the name of API description XML file. Value is
 	 * <code>.api_description</code>
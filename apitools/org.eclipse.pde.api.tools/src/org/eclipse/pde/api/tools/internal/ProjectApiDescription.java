@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,11 @@ public class ProjectApiDescription extends ApiDescription {
 	 */
 	private volatile boolean fInSynch;
 
+	/**
+	 * Tag scan results of the compilation units of the project
+	 */
+	private final TagScanCache fTagScanCache;
+
 	/**
 	 * A node for a package.
 	 */
@@ -234,7 +239,7 @@ public class ProjectApiDescription extends ApiDescription {
 									restrictions = RestrictionModifiers.NO_RESTRICTIONS;
 									fTimeStamp = resource.getModificationStamp();
 									try {
-										TagScanner.newScanner().scan(unit, ProjectApiDescription.this, getApiTypeContainer((IPackageFragmentRoot) fType.getPackageFragment().getParent()), null);
+										TagScanner.newScanner().scan(unit, ProjectApiDescription.this, getApiTypeContainer((IPackageFragmentRoot) fType.getPackageFragment().getParent()), fTagScanCache, null);
 									} catch (CoreException e) {
 										ApiPlugin.log(e.getStatus());
 									}
@@ -266,6 +271,7 @@ public class ProjectApiDescription extends ApiDescription {
 								}
 								// element has been removed
 								modified();
+								fTagScanCache.remove(unit.getPath().toString());
 								parent.children.remove(element);
 								return null;
 							}
@@ -332,6 +338,7 @@ public class ProjectApiDescription extends ApiDescription {
 	public ProjectApiDescription(IJavaProject project) {
 		super(project.getElementName());
 		fProject = project;
+		fTagScanCache = new TagScanCache(project);
 	}
 
 	@Override
@@ -691,6 +698,17 @@ public class ProjectApiDescription extends ApiDescription {
 		// we want to flush the packages cache to "reload" all packages using
 		// the new package fragment roots
 		fPackageTimeStamp = -1L;
+		// method signatures of tags may resolve differently now
+		fTagScanCache.clear();
+	}
+
+	/**
+	 * Returns the tag scan results of the compilation units of the project.
+	 *
+	 * @return tag scan cache
+	 */
+	TagScanCache getTagScanCache() {
+		return fTagScanCache;
 	}
 
 	@Override
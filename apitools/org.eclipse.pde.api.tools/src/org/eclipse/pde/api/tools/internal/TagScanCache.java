@@ -0,0 +1,283 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * Remembers the restrictions the
+ * {@link org.eclipse.pde.api.tools.internal.provisional.scanner.TagScanner}
+ * found in the compilation units of a project, keyed by the path and content
+ * hash of each unit. A unit whose content did not change is not parsed again,
+ * its restrictions are replayed into the API description instead.
+ * <p>
+ * The cache is persisted next to the API description of the project together
+ * with a hash of the compiler options used to parse the units of the project,
+ * entries are dropped once the options of the project change.
+ * </p>
+ */
+public final class TagScanCache {
+
+	private static final int VERSION = 1;
+
+	/**
+	 * A restriction set by the tag scanner.
+	 *
+	 * @param element the annotated element
+	 * @param restrictions the restrictions set on the element
+	 */
+	public record Restriction(IElementDescriptor element, int restrictions) {
+	}
+
+	private record Entry(long hash, List<Restriction> restrictions) {
+	}
+
+	private final IJavaProject fProject;
+
+	private final Map<String, Entry> fEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Hash of the compiler options the cached entries were computed with, or
+	 * <code>0</code> if not known yet
+	 */
+	private volatile int fOptionsHash;
+
+	private volatile boolean fModified;
+
+	/**
+	 * Constructs an empty cache for the given project.
+	 *
+	 * @param project the project whose units are scanned
+	 */
+	public TagScanCache(IJavaProject project) {
+		fProject = project;
+	}
+
+	/**
+	 * Returns the compiler options to parse the units of the project with,
+	 * javadoc support enabled. The options are read from the project on every
+	 * call. If they changed since the cached entries were recorded, for example
+	 * to another source level, the entries are dropped.
+	 *
+	 * @return compiler options
+	 */
+	public Map<String, String> getCompilerOptions() {
+		Map<String, String> options = new HashMap<>(fProject.getOptions(true));
+		options.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		int hash = options.hashCode();
+		if (fOptionsHash != hash) {
+			synchronized (fEntries) {
+				if (fOptionsHash != hash) {
+					// results parsed with other options
+					fEntries.clear();
+					fOptionsHash = hash;
+					fModified = true;
+				}
+			}
+		}
+		return options;
+	}
+
+	/**
+	 * Returns the restrictions recorded for the given unit if its content did
+	 * not change since.
+	 *
+	 * @param path the workspace path of the unit
+	 * @param hash the content hash of the unit, see {@link #hash(char[])}
+	 * @return the recorded restrictions or <code>null</code> if the unit has to
+	 *         be scanned
+	 */
+	public List<Restriction> get(String path, long hash) {
+		getCompilerOptions();
+		Entry entry = fEntries.get(path);
+		if (entry != null && entry.hash() == hash) {
+			return entry.restrictions();
+		}
+		return null;
+	}
+
+	/**
+	 * Records the restrictions found in the given unit.
+	 *
+	 * @param path the workspace path of the unit
+	 * @param hash the content hash of the unit, see {@link #hash(char[])}
+	 * @param restrictions the restrictions set by the scanner, in the order
+	 *            they were set
+	 */
+	public void put(String path, long hash, List<Restriction> restrictions) {
+		fEntries.put(path, new Entry(hash, List.copyOf(restrictions)));
+		fModified = true;
+	}
+
+	/**
+	 * Forgets the restrictions of the given unit.
+	 *
+	 * @param path the workspace path of the unit
+	 */
+	public void remove(String path) {
+		if (fEntries.remove(path) != null) {
+			fModified = true;
+		}
+	}
+
+	/**
+	 * Forgets all units, for example after the classpath changed and method
+	 * signatures may resolve differently.
+	 */
+	public void clear() {
+		fEntries.clear();
+		fModified = true;
+	}
+
+	/**
+	 * Returns a hash of the given unit content.
+	 *
+	 * @param contents the characters of the unit
+	 * @return content hash
+	 */
+	public static long hash(char[] contents) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(contents)));
+			return ByteBuffer.wrap(digest.digest()).getLong();
+		} catch (NoSuchAlgorithmException e) {
+			// every Java platform provides SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Writes the cache to the given file if it changed since it was loaded or
+	 * last saved.
+	 *
+	 * @param file the file to write
+	 * @throws IOException if the file could not be written
+	 */
+	void save(File file) throws IOException {
+		if (!fModified) {
+			return;
+		}
+		fModified = false;
+		file.getParentFile().mkdirs();
+		Map<String, Entry> entries = Map.copyOf(fEntries);
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(VERSION);
+			out.writeInt(fOptionsHash);
+			out.writeInt(entries.size());
+			for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().hash());
+				List<Restriction> restrictions = entry.getValue().restrictions();
+				out.writeInt(restrictions.size());
+				for (Restriction restriction : restrictions) {
+					writeElement(out, restriction.element());
+					out.writeInt(restriction.restrictions());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Restores the cache from the given file, if any. A corrupt file is
+	 * ignored.
+	 *
+	 * @param file the file to read
+	 */
+	void load(File file) {
+		if (!file.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int optionsHash = in.readInt();
+			int count = in.readInt();
+			Map<String, Entry> entries = new HashMap<>(count * 2);
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				long hash = in.readLong();
+				int size = in.readInt();
+				List<Restriction> restrictions = new ArrayList<>(size);
+				for (int j = 0; j < size; j++) {
+					restrictions.add(new Restriction(readElement(in), in.readInt()));
+				}
+				entries.put(path, new Entry(hash, List.copyOf(restrictions)));
+			}
+			fEntries.putAll(entries);
+			fOptionsHash = optionsHash;
+		} catch (IOException e) {
+			// corrupt or truncated, units are scanned again
+			if (ApiPlugin.DEBUG_API_DESCRIPTION) {
+				System.out.println("Ignoring tag scan cache " + file + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+	}
+
+	private static void writeElement(DataOutputStream out, IElementDescriptor element) throws IOException {
+		out.writeByte(element.getElementType());
+		switch (element.getElementType()) {
+			case IElementDescriptor.TYPE -> out.writeUTF(((IReferenceTypeDescriptor) element).getQualifiedName());
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) element;
+				out.writeUTF(method.getEnclosingType().getQualifiedName());
+				out.writeUTF(method.getName());
+				out.writeUTF(method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) element;
+				out.writeUTF(field.getEnclosingType().getQualifiedName());
+				out.writeUTF(field.getName());
+			}
+			default -> throw new IOException("Unexpected element: " + element); //$NON-NLS-1$
+		}
+	}
+
+	private static IElementDescriptor readElement(DataInputStream in) throws IOException {
+		int type = in.readByte();
+		return switch (type)
+			{
+			case IElementDescriptor.TYPE -> Factory.typeDescriptor(in.readUTF());
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(in.readUTF(), in.readUTF(), in.readUTF());
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(in.readUTF(), in.readUTF());
+			default -> throw new IOException("Unexpected element type: " + type); //$NON-NLS-1$
+			};
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -360,31 +360,45 @@ public class Reference implements IReference {
 	}
 
 	public void resolve() throws CoreException {
+		if (!this.fStatus || fResolved != null) {
+			return;
+		}
+		IApiComponent sourceComponent = getMember().getApiComponent();
+		if (sourceComponent != null) {
+			resolve(sourceComponent.getBaseline().resolvePackage(sourceComponent, Signatures.getPackageName(getReferencedTypeName())));
+		}
+	}
+
+	/**
+	 * Resolves this reference against the given components, which provide the
+	 * referenced package to the component of the referencing member.
+	 *
+	 * @param components the components providing the referenced package
+	 * @throws CoreException if the referenced type cannot be read
+	 */
+	void resolve(IApiComponent[] components) throws CoreException {
 		if (!this.fStatus) {
 			return;
 		}
 		if (fResolved == null) {
-			IApiComponent sourceComponent = getMember().getApiComponent();
-			if (sourceComponent != null) {
-				IApiTypeRoot result = Util.getClassFile(sourceComponent.getBaseline().resolvePackage(sourceComponent, Signatures.getPackageName(getReferencedTypeName())), getReferencedTypeName());
-				if (result != null) {
-					IApiType type = result.getStructure();
-					if (type == null) {
-						// cannot resolve a type that is in a bad classfile
-						return;
+			IApiTypeRoot result = Util.getClassFile(components, getReferencedTypeName());
+			if (result != null) {
+				IApiType type = result.getStructure();
+				if (type == null) {
+					// cannot resolve a type that is in a bad classfile
+					return;
+				}
+				switch (getReferenceType()) {
+					case IReference.T_TYPE_REFERENCE -> {
+						fResolved = type;
 					}
-					switch (getReferenceType()) {
-						case IReference.T_TYPE_REFERENCE -> {
-							fResolved = type;
-						}
-						case IReference.T_FIELD_REFERENCE -> {
-							resolveField(type, getReferencedMemberName());
-						}
-						case IReference.T_METHOD_REFERENCE -> {
-							resolveVirtualMethod(type, getReferencedMemberName(), getReferencedSignature());
-						}
-						default -> { /**/ }
+					case IReference.T_FIELD_REFERENCE -> {
+						resolveField(type, getReferencedMemberName());
+					}
+					case IReference.T_METHOD_REFERENCE -> {
+						resolveVirtualMethod(type, getReferencedMemberName(), getReferencedSignature());
 					}
+					default -> { /**/ }
 				}
 			}
 		}
@@ -672,6 +686,14 @@ public class Reference implements IReference {
 		this.fStatus = value;
 	}
 
+	/**
+	 * @return whether this reference is to be resolved, see
+	 *         {@link #setResolveStatus(boolean)}
+	 */
+	boolean getResolveStatus() {
+		return this.fStatus;
+	}
+
 	/**
 	 * Returns the string representation for the given reference kind or
 	 * <code>UKNOWN_KIND</code> if the kind cannot be determined.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -58,6 +62,17 @@ public class ReferenceAnalyzer {
 	 */
 	private static final IApiProblemDetector[] NO_PROBLEM_DETECTORS = new IApiProblemDetector[0];
 
+	/**
+	 * Statistics of running one problem detector.
+	 *
+	 * @param detector the name of the problem detector
+	 * @param references the number of references the detector retained
+	 * @param problems the number of problems the detector created
+	 * @param nanos the time spent creating problems in nanoseconds
+	 */
+	public record DetectorStatistics(String detector, int references, int problems, long nanos) {
+	}
+
 	/**
 	 * Visits each class file, extracting references.
 	 */
@@ -110,6 +125,7 @@ public class ReferenceAnalyzer {
 									break;
 								}
 								if (detector.considerReference(ref, fMonitor)) {
+									fRetainedCounts.get(detector)[0]++;
 									if (!added) {
 										fReferences.add(ref);
 										added = true;
@@ -148,6 +164,16 @@ public class ReferenceAnalyzer {
 	 */
 	IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * Number of references retained by each problem detector
+	 */
+	final Map<IApiProblemDetector, int[]> fRetainedCounts = new IdentityHashMap<>();
+
+	/**
+	 * Statistics of the problem detectors of the last analysis
+	 */
+	private volatile List<DetectorStatistics> fStatistics = Collections.emptyList();
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -160,6 +186,7 @@ public class ReferenceAnalyzer {
 	void indexProblemDetectors(IApiProblemDetector[] detectors) {
 		fIndexedDetectors = new IApiProblemDetector[32][];
 		for (IApiProblemDetector detector : detectors) {
+			fRetainedCounts.put(detector, new int[1]);
 			int kinds = detector.getReferenceKinds();
 			fAllReferenceKinds |= kinds;
 			int mask = 0x1;
@@ -244,13 +271,26 @@ public class ReferenceAnalyzer {
 			}
 			// 3. create problems
 			List<IApiProblem> allProblems = new LinkedList<>();
+			List<DetectorStatistics> statistics = new ArrayList<>(detectors.length);
 			localMonitor.subTask(BuilderMessages.ReferenceAnalyzer_analyzing_api_checking_use);
 			SubMonitor loopMonitor = localMonitor.split(1).setWorkRemaining(detectors.length);
 			for (IApiProblemDetector detector : detectors) {
 				if (monitor.isCanceled()) {
 					break;
 				}
-				allProblems.addAll(detector.createProblems(loopMonitor.split(1)));
+				long start = System.nanoTime();
+				List<IApiProblem> problems = detector.createProblems(loopMonitor.split(1));
+				long nanos = System.nanoTime() - start;
+				allProblems.addAll(problems);
+				int[] retained = fRetainedCounts.get(detector);
+				statistics.add(new DetectorStatistics(detector.getClass().getSimpleName(), retained != null ? retained[0] : 0, problems.size(), nanos));
+			}
+			fStatistics = Collections.unmodifiableList(statistics);
+			if (ApiPlugin.DEBUG_REFERENCE_ANALYZER) {
+				for (DetectorStatistics detector : statistics) {
+					System.out.println("Reference Analyzer: " + detector.detector() + " retained " + detector.references() + " references, created " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							+ detector.problems() + " problems in " + (detector.nanos() / 1000000) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 			}
 			IApiProblem[] array = allProblems.toArray(new IApiProblem[allProblems.size()]);
 			return array;
@@ -259,10 +299,22 @@ public class ReferenceAnalyzer {
 		} finally {
 			// clean up
 			fIndexedDetectors = null;
+			fRetainedCounts.clear();
 			fReferences.clear();
 		}
 	}
 
+	/**
+	 * Returns the statistics of the problem detectors run by the last call to
+	 * {@link #analyze(IApiComponent, IApiTypeContainer, IProgressMonitor)}, in
+	 * the order the detectors were run.
+	 *
+	 * @return detector statistics, empty if nothing was analyzed yet
+	 */
+	public List<DetectorStatistics> getDetectorStatistics() {
+		return fStatistics;
+	}
+
 	/**
 	 * Returns the collection of problem detectors for the given reference kind
 	 */
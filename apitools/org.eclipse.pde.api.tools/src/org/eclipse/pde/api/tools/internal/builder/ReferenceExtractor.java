@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
-import java.util.SortedSet;
 import java.util.Stack;
-import java.util.TreeSet;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Status;
@@ -50,7 +48,6 @@ import org.objectweb.asm.Type;
 import org.objectweb.asm.TypePath;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
-import org.objectweb.asm.tree.ClassNode;
 
 /**
  * Extracts references from a class file
@@ -109,12 +106,10 @@ public class ReferenceExtractor extends ClassVisitor {
 		 * @param name the name of the type
 		 */
 		protected void processType(String name) {
-			Type type = ReferenceExtractor.this.resolveType(Type.getObjectType(name).getDescriptor());
-			if (type != null) {
-				String tname = type.getClassName();
+			String tname = ReferenceExtractor.this.getClassName(Type.getObjectType(name));
+			if (tname != null) {
 				if (tname.equals("E") || tname.equals("T")) { //$NON-NLS-1$//$NON-NLS-2$
-					type = Type.getObjectType("java.lang.Object"); //$NON-NLS-1$
-					tname = type.getClassName();
+					tname = "java.lang.Object"; //$NON-NLS-1$
 				}
 				if (ReferenceExtractor.this.consider(tname) && this.kind != -1) {
 					if (this.name != null && this.signature != null) {
@@ -245,9 +240,13 @@ public class ReferenceExtractor extends ClassVisitor {
 		public ClassFileMethodVisitor(MethodVisitor mv, String name, int argumentcount) {
 			super(Util.LATEST_OPCODES_ASM, mv);
 			this.argumentcount = argumentcount;
-			this.linePositionTracker = new LinePositionTracker();
+			// methods are visited one after the other, so they share the
+			// tracking state of the extractor
+			this.linePositionTracker = ReferenceExtractor.this.linePositionTracker;
+			this.linePositionTracker.reset();
 			this.lastLineNumber = -1;
-			this.labelsToLocalMarkers = new HashMap<>();
+			this.labelsToLocalMarkers = ReferenceExtractor.this.labelsToLocalMarkers;
+			this.labelsToLocalMarkers.clear();
 			this.methodName = name;
 		}
 
@@ -257,7 +256,8 @@ public class ReferenceExtractor extends ClassVisitor {
 			this.argumentcount = 0;
 			ReferenceExtractor.this.exitMember();
 			this.linePositionTracker.computeLineNumbers();
-			this.labelsToLocalMarkers = null;
+			this.linePositionTracker.reset();
+			this.labelsToLocalMarkers.clear();
 		}
 
 		@Override
@@ -325,7 +325,7 @@ public class ReferenceExtractor extends ClassVisitor {
 				case Opcodes.INVOKESPECIAL -> {
 					kind = ("<init>".equals(name) ? IReference.REF_CONSTRUCTORMETHOD : IReference.REF_SPECIALMETHOD); //$NON-NLS-1$
 					if (kind == IReference.REF_CONSTRUCTORMETHOD) {
-						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(declaringType.getClassName())) { //$NON-NLS-1$
+						if (!implicitConstructor && this.methodName.equals("<init>") && !fSuperStack.isEmpty() && (fSuperStack.peek()).equals(getClassName(declaringType))) { //$NON-NLS-1$
 							implicitConstructor = true;
 							kind = IReference.REF_SUPER_CONSTRUCTORMETHOD;
 						} else {
@@ -670,24 +670,22 @@ public class ReferenceExtractor extends ClassVisitor {
 	}
 
 	static class LinePositionTracker {
-		List<Object> labelsAndLocations;
-		SortedSet<LineInfo> lineInfos;
-		List<LabelInfo> catchLabelInfos;
-		HashMap<Label, Integer> lineMap;
-
-		public LinePositionTracker() {
-			this.labelsAndLocations = new ArrayList<>();
-			this.lineInfos = new TreeSet<>();
-			this.catchLabelInfos = new ArrayList<>();
-			this.lineMap = new HashMap<>();
-		}
+		final List<Object> labelsAndLocations = new ArrayList<>();
+		final List<LabelInfo> catchLabelInfos = new ArrayList<>();
+		final HashMap<Label, Integer> lineMap = new HashMap<>();
+		/**
+		 * The lowest line number of the method or <code>-1</code>
+		 */
+		int firstLine = -1;
 
 		void addLocation(Reference location) {
 			this.labelsAndLocations.add(location);
 		}
 
 		void addLineInfo(int line, Label label) {
-			this.lineInfos.add(new LineInfo(line, label));
+			if (this.firstLine == -1 || line < this.firstLine) {
+				this.firstLine = line;
+			}
 			this.lineMap.put(label, Integer.valueOf(line));
 		}
 
@@ -699,58 +697,54 @@ public class ReferenceExtractor extends ClassVisitor {
 			this.labelsAndLocations.add(label);
 		}
 
+		/**
+		 * Forgets the labels and locations of the previous method
+		 */
+		void reset() {
+			this.labelsAndLocations.clear();
+			this.catchLabelInfos.clear();
+			this.lineMap.clear();
+			this.firstLine = -1;
+		}
+
 		public void computeLineNumbers() {
 
-			if (this.lineInfos.isEmpty() || this.labelsAndLocations.isEmpty()) {
+			if (this.firstLine == -1 || this.labelsAndLocations.isEmpty()) {
 				// nothing to do
 				return;
 			}
-			Iterator<LineInfo> lineInfosIterator = this.lineInfos.iterator();
-			LineInfo firstLineInfo = lineInfosIterator.next();
-			int currentLineNumber = firstLineInfo.line;
+			int currentLineNumber = this.firstLine;
 
-			List<LabelInfo> remainingCatchLabelInfos = new ArrayList<>();
+			List<LabelInfo> remainingCatchLabelInfos = null;
 			for (LabelInfo catchLabelInfo : this.catchLabelInfos) {
 				Integer lineValue = this.lineMap.get(catchLabelInfo.label);
 				if (lineValue != null) {
 					catchLabelInfo.location.setLineNumber(lineValue.intValue());
 				} else {
+					if (remainingCatchLabelInfos == null) {
+						remainingCatchLabelInfos = new ArrayList<>();
+					}
 					remainingCatchLabelInfos.add(catchLabelInfo);
 				}
 			}
 			// Iterate over List of Labels and SourceLocations.
-			List<Object> computedEntries = new ArrayList<>();
 			for (Object current : this.labelsAndLocations) {
 				if (current instanceof Label label) {
-					// label
-					Integer lineValue = this.lineMap.get(current);
+					Integer lineValue = this.lineMap.get(label);
 					if (lineValue != null) {
-						computedEntries.add(new LineInfo(lineValue.intValue(), label));
-					} else {
-						computedEntries.add(current);
-					}
-				} else {
-					// location
-					computedEntries.add(current);
-				}
-			}
-			List<LabelInfo> remaingEntriesTemp;
-			for (Object current : computedEntries) {
-				if (current instanceof Label) {
-					// try to set the line number for remaining catch labels
-					if (remainingCatchLabelInfos != null) {
-						remaingEntriesTemp = new ArrayList<>();
-						loop: for (LabelInfo catchLabelInfo : remainingCatchLabelInfos) {
-							if (!current.equals(catchLabelInfo.label)) {
-								remaingEntriesTemp.add(catchLabelInfo);
-								continue loop;
+						currentLineNumber = lineValue.intValue();
+					} else if (remainingCatchLabelInfos != null) {
+						// try to set the line number for remaining catch labels
+						Iterator<LabelInfo> iterator = remainingCatchLabelInfos.iterator();
+						while (iterator.hasNext()) {
+							LabelInfo catchLabelInfo = iterator.next();
+							if (label.equals(catchLabelInfo.label)) {
+								catchLabelInfo.location.setLineNumber(currentLineNumber);
+								iterator.remove();
 							}
-							catchLabelInfo.location.setLineNumber(currentLineNumber);
 						}
-						if (remaingEntriesTemp.isEmpty()) {
+						if (remainingCatchLabelInfos.isEmpty()) {
 							remainingCatchLabelInfos = null;
-						} else {
-							remainingCatchLabelInfos = remaingEntriesTemp;
 						}
 					}
 				} else if (current instanceof Reference ref) {
@@ -759,8 +753,6 @@ public class ReferenceExtractor extends ClassVisitor {
 					} else {
 						currentLineNumber = ref.getLineNumber();
 					}
-				} else if (current instanceof LineInfo lineInfo) {
-					currentLineNumber = lineInfo.line;
 				}
 			}
 		}
@@ -783,41 +775,6 @@ public class ReferenceExtractor extends ClassVisitor {
 		}
 	}
 
-	static class LineInfo implements Comparable<Object> {
-		int line;
-		Label label;
-
-		LineInfo(int line, Label label) {
-			this.line = line;
-			this.label = label;
-		}
-
-		@Override
-		public int compareTo(Object o) {
-			return this.line - ((LineInfo) o).line;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (obj instanceof LineInfo lineInfo2) {
-				return this.line == lineInfo2.line && this.label.equals(lineInfo2.label);
-			}
-			return super.equals(obj);
-		}
-
-		@Override
-		public int hashCode() {
-			return this.line + (this.label != null ? this.label.hashCode() : 0);
-		}
-
-		@Override
-		public String toString() {
-			StringBuilder buffer = new StringBuilder();
-			buffer.append('(').append(this.line).append(',').append(this.label).append(')');
-			return String.valueOf(buffer);
-		}
-	}
-
 	static class LocalLineNumberMarker {
 		int lineNumber;
 		int varIndex;
@@ -841,6 +798,49 @@ public class ReferenceExtractor extends ClassVisitor {
 		}
 	}
 
+	/**
+	 * Per-thread table of the dot separated names of the types referenced from
+	 * class files. All references to a type share one name and looking up a
+	 * name that was seen before does not allocate.
+	 */
+	static final class TypeNames {
+
+		/**
+		 * The table is cleared when it grows beyond this size, so a long
+		 * running thread does not keep the names of all types it ever saw
+		 */
+		private static final int MAX_NAMES = 8192;
+
+		private static final ThreadLocal<TypeNames> fgTables = ThreadLocal.withInitial(TypeNames::new);
+
+		private final HashMap<String, String> fNames = new HashMap<>();
+
+		/**
+		 * @return the table of the current thread
+		 */
+		static TypeNames get() {
+			return fgTables.get();
+		}
+
+		/**
+		 * Returns the given internal name with '/' replaced by '.'
+		 *
+		 * @param internalName internal name of a type
+		 * @return the dot separated name
+		 */
+		String toClassName(String internalName) {
+			String name = fNames.get(internalName);
+			if (name == null) {
+				if (fNames.size() >= MAX_NAMES) {
+					fNames.clear();
+				}
+				name = internalName.replace('/', '.');
+				fNames.put(internalName, name);
+			}
+			return name;
+		}
+	}
+
 	/**
 	 * The list we collect references in. Entries in the list are of the type
 	 * {@link org.eclipse.pde.api.tools.internal.provisional.builder.IReference}
@@ -926,6 +926,21 @@ public class ReferenceExtractor extends ClassVisitor {
 	 */
 	private final ClassFileFieldVisitor fieldvisitor = new ClassFileFieldVisitor();
 
+	/**
+	 * Line tracking state shared by the method visitors of this extractor
+	 */
+	final LinePositionTracker linePositionTracker = new LinePositionTracker();
+
+	/**
+	 * Local variable markers shared by the method visitors of this extractor
+	 */
+	final HashMap<Label, List<LocalLineNumberMarker>> labelsToLocalMarkers = new HashMap<>();
+
+	/**
+	 * Names of the referenced types
+	 */
+	private final TypeNames fTypeNames = TypeNames.get();
+
 	/**
 	 * Constructor
 	 *
@@ -935,7 +950,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	 *            {@link ReferenceModifiers}
 	 */
 	public ReferenceExtractor(IApiType type, Set<Reference> collector, int referenceKinds) {
-		super(Util.LATEST_OPCODES_ASM, new ClassNode());
+		super(Util.LATEST_OPCODES_ASM);
 		fType = type;
 		this.collector = collector;
 		fReferenceKinds = referenceKinds;
@@ -947,7 +962,7 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * Constructor
 	 */
 	protected ReferenceExtractor(IApiType type, Set<Reference> collector, int referenceKinds, FieldTracker tracker) {
-		super(Util.LATEST_OPCODES_ASM, new ClassNode());
+		super(Util.LATEST_OPCODES_ASM);
 		fType = type;
 		this.collector = collector;
 		fReferenceKinds = referenceKinds;
@@ -1018,12 +1033,22 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * The returned name has been modified to be '.' separated
 	 */
 	protected String processName(String name) {
-		String newname = name;
-		Type type = Type.getObjectType(name);
-		if (type != null && type.getSort() == Type.OBJECT) {
-			newname = type.getInternalName();
+		return fTypeNames.toClassName(name);
+	}
+
+	/**
+	 * Returns the dot separated name of the given object type or of the
+	 * element type of the given array type.
+	 *
+	 * @param type a type
+	 * @return the name of the type or <code>null</code> for primitive types
+	 */
+	String getClassName(Type type) {
+		Type rtype = type.getSort() == Type.ARRAY ? type.getElementType() : type;
+		if (rtype.getSort() == Type.OBJECT) {
+			return fTypeNames.toClassName(rtype.getInternalName());
 		}
-		return newname.replace('/', '.');
+		return null;
 	}
 
 	/**
@@ -1036,9 +1061,13 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addTypeReference(Type type, int kind) {
-		Type rtype = this.resolveType(type.getDescriptor());
-		if (rtype != null) {
-			return addReference(Reference.typeReference(getMember(), rtype.getClassName(), kind));
+		if ((kind & fReferenceKinds) == 0) {
+			// not collected, don't bother creating the reference
+			return null;
+		}
+		String name = getClassName(type);
+		if (name != null) {
+			return addReference(Reference.typeReference(getMember(), name, kind));
 		}
 		return null;
 	}
@@ -1053,9 +1082,12 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addFieldReference(Type declaringType, String name, int kind) {
-		Type rtype = this.resolveType(declaringType.getDescriptor());
-		if (rtype != null) {
-			return addReference(Reference.fieldReference(getMember(), rtype.getClassName(), name, kind));
+		if ((kind & fReferenceKinds) == 0) {
+			return null;
+		}
+		String typeName = getClassName(declaringType);
+		if (typeName != null) {
+			return addReference(Reference.fieldReference(getMember(), typeName, name, kind));
 		}
 		return null;
 	}
@@ -1073,9 +1105,12 @@ public class ReferenceExtractor extends ClassVisitor {
 	 * @return reference added, or <code>null</code> if none
 	 */
 	protected Reference addMethodReference(Type declaringType, String name, String signature, int kind, int flags) {
-		Type rtype = this.resolveType(declaringType.getDescriptor());
-		if (rtype != null) {
-			return this.addReference(Reference.methodReference(getMember(), rtype.getClassName(), name, signature, kind, flags));
+		if ((kind & fReferenceKinds) == 0) {
+			return null;
+		}
+		String typeName = getClassName(declaringType);
+		if (typeName != null) {
+			return this.addReference(Reference.methodReference(getMember(), typeName, name, signature, kind, flags));
 		}
 		return null;
 	}
@@ -1128,28 +1163,6 @@ public class ReferenceExtractor extends ClassVisitor {
 		return result;
 	}
 
-	/**
-	 * Resolves the type from the string description. This method takes only
-	 * type descriptions as a parameter, all else will throw an exception from
-	 * the ASM framework If the description is an array, the underlying type of
-	 * the array is returned.
-	 *
-	 * @return the {@link Type} of the description or <code>null</code>
-	 */
-	protected Type resolveType(String desc) {
-		Type type = Type.getType(desc);
-		if (type.getSort() == Type.OBJECT) {
-			return type;
-		}
-		if (type.getSort() == Type.ARRAY) {
-			type = type.getElementType();
-			if (type.getSort() == Type.OBJECT) {
-				return type;
-			}
-		}
-		return null;
-	}
-
 	@Override
 	public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
 		this.fVersion = version;
@@ -1170,14 +1183,14 @@ public class ReferenceExtractor extends ClassVisitor {
 				for (String interfaceName : interfaces) {
 					supertype = Type.getObjectType(interfaceName);
 					this.addTypeReference(supertype, IReference.REF_EXTENDS);
-					this.fSuperStack.add(supertype.getClassName());
+					this.fSuperStack.add(getClassName(supertype));
 				}
 			} else {
 				Type supertype = null;
 				if (superName != null) {
 					supertype = Type.getObjectType(superName);
 					this.addTypeReference(supertype, IReference.REF_EXTENDS);
-					this.fSuperStack.add(supertype.getClassName());
+					this.fSuperStack.add(getClassName(supertype));
 				}
 				for (String interfaceName : interfaces) {
 					supertype = Type.getObjectType(interfaceName);
@@ -1356,9 +1369,10 @@ public class ReferenceExtractor extends ClassVisitor {
 					}
 				}
 			}
-			MethodVisitor mv = super.visitMethod(access, name, desc, signature, exceptions);
-			if (mv != null && ((access & (Opcodes.ACC_NATIVE | Opcodes.ACC_ABSTRACT)) == 0)) {
-				return new ClassFileMethodVisitor(mv, name, argumentcount);
+			if ((access & (Opcodes.ACC_NATIVE | Opcodes.ACC_ABSTRACT)) == 0) {
+				// no delegate, the instructions are only inspected and never
+				// kept in a tree
+				return new ClassFileMethodVisitor(null, name, argumentcount);
 			}
 		}
 		return null;
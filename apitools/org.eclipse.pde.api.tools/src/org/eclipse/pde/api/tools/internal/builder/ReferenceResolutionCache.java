@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.pde.api.tools.internal.model.BundleComponent;
+import org.eclipse.pde.api.tools.internal.model.ProjectComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+
+/**
+ * Remembers how references to types and members of components outside of the
+ * workspace were resolved, so later builds do not walk the same type
+ * hierarchies of target bundles and system libraries again.
+ * <p>
+ * Resolutions are kept per baseline and keyed by the components providing the
+ * referenced package, the referenced type and the referenced member. They are
+ * discarded when their baseline is disposed or closed, which happens whenever
+ * the target platform or the API baseline changes. The resolved members hold on
+ * to the types of the baseline, so only the {@link #MAX_RESOLUTIONS} most
+ * recently used resolutions of a baseline are kept.
+ * </p>
+ */
+public final class ReferenceResolutionCache {
+
+	/**
+	 * Maximum number of resolutions kept per baseline
+	 */
+	static final int MAX_RESOLUTIONS = 16384;
+
+	/**
+	 * Baselines are equal by name, but a new baseline of the same name must
+	 * not see the members of a disposed one
+	 */
+	private static final Map<IApiBaseline, Map<String, IApiMember>> fResolutions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+	private static final AtomicLong fHits = new AtomicLong();
+	private static final AtomicLong fMisses = new AtomicLong();
+	private static final AtomicLong fUncacheable = new AtomicLong();
+
+	private ReferenceResolutionCache() { // static use only
+	}
+
+	/**
+	 * Creates the key of a reference resolved against the given components,
+	 * or returns <code>null</code> if the resolution must not be cached
+	 * because one of the components is part of the workspace.
+	 *
+	 * @param components the components providing the referenced package
+	 * @param signature the signature key of the reference, not including the
+	 *            referencing component
+	 * @return cache key or <code>null</code>
+	 */
+	static String createKey(IApiComponent[] components, String signature) {
+		if (components == null || components.length == 0) {
+			fUncacheable.incrementAndGet();
+			return null;
+		}
+		StringBuilder buffer = new StringBuilder();
+		for (IApiComponent component : components) {
+			if (component == null || component instanceof ProjectComponent || (component instanceof BundleComponent bundle && bundle.isWorkspaceBinary())) {
+				fUncacheable.incrementAndGet();
+				return null;
+			}
+			buffer.append(component.getSymbolicName()).append('_').append(component.getVersion()).append(';');
+		}
+		buffer.append(signature);
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the cached resolution for the given key.
+	 *
+	 * @param baseline the baseline the reference is resolved in
+	 * @param key see {@link #createKey(IApiComponent[], String)}
+	 * @return the resolved member or <code>null</code>
+	 */
+	static IApiMember get(IApiBaseline baseline, String key) {
+		Map<String, IApiMember> resolutions = fResolutions.get(baseline);
+		IApiMember member = resolutions != null ? resolutions.get(key) : null;
+		if (member != null) {
+			fHits.incrementAndGet();
+		} else {
+			fMisses.incrementAndGet();
+		}
+		return member;
+	}
+
+	/**
+	 * Remembers a resolution.
+	 *
+	 * @param baseline the baseline the reference was resolved in
+	 * @param key see {@link #createKey(IApiComponent[], String)}
+	 * @param member the resolved member
+	 */
+	static void put(IApiBaseline baseline, String key, IApiMember member) {
+		if (baseline.isDisposed()) {
+			return;
+		}
+		fResolutions.computeIfAbsent(baseline, b -> createResolutions()).put(key, member);
+	}
+
+	private static Map<String, IApiMember> createResolutions() {
+		return Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, IApiMember> eldest) {
+				return size() > MAX_RESOLUTIONS;
+			}
+		});
+	}
+
+	/**
+	 * Discards the resolutions of the given baseline.
+	 *
+	 * @param baseline the baseline that changed
+	 */
+	public static void clear(IApiBaseline baseline) {
+		fResolutions.remove(baseline);
+	}
+
+	/**
+	 * Returns a description of the cache statistics for debug tracing.
+	 *
+	 * @return cache statistics
+	 */
+	static String getStatistics() {
+		int size = 0;
+		synchronized (fResolutions) {
+			for (Map<String, IApiMember> resolutions : fResolutions.values()) {
+				size += resolutions.size();
+			}
+		}
+		return "resolution cache: " + fHits.get() + " hits, " + fMisses.get() + " misses, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ fUncacheable.get() + " workspace references, " + size + " entries in " + fResolutions.size() + " baselines"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,11 @@ import java.util.Map;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiMember;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
 
 /**
  * Utility class used to resolve {@link IReference}s
@@ -77,6 +81,9 @@ public final class ReferenceResolver {
 		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER) {
 			System.out.println("Reference resolver: resolved unique references in " + (end - start) + "ms"); //$NON-NLS-1$//$NON-NLS-2$
 		}
+		if (ApiPlugin.DEBUG_REFERENCE_RESOLVER || ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("Reference resolver: " + ReferenceResolutionCache.getStatistics()); //$NON-NLS-1$
+		}
 		// resolve method overrides
 		start = System.currentTimeMillis();
 		for (Reference reference : methodDecls) {
@@ -95,11 +102,33 @@ public final class ReferenceResolver {
 	 * @throws CoreException if something bad happens
 	 */
 	private static void resolveReferenceSets(Map<String, List<IReference>> map) throws CoreException {
-		IReference ref = null;
+		Reference ref = null;
 		for (List<IReference> refs : map.values()) {
-			ref = refs.get(0);
-			((Reference) ref).resolve();
-			IApiMember resolved = ref.getResolvedReference();
+			ref = (Reference) refs.get(0);
+			IApiComponent sourceComponent = ref.getMember().getApiComponent();
+			IApiBaseline baseline = sourceComponent != null ? sourceComponent.getBaseline() : null;
+			IApiComponent[] components = null;
+			String key = null;
+			if (baseline != null && ref.getResolveStatus()) {
+				components = baseline.resolvePackage(sourceComponent, Signatures.getPackageName(ref.getReferencedTypeName()));
+				key = ReferenceResolutionCache.createKey(components, createMemberKey(ref));
+			}
+			IApiMember resolved = key != null ? ReferenceResolutionCache.get(baseline, key) : null;
+			if (resolved instanceof IApiMethod method) {
+				// corrects the referenced type of default methods, as resolving does
+				ref.setResolvedMethod(method);
+			} else if (resolved == null) {
+				if (components != null) {
+					// do not look up the providers of the package again
+					ref.resolve(components);
+				} else {
+					ref.resolve();
+				}
+				resolved = ref.getResolvedReference();
+				if (resolved != null && key != null) {
+					ReferenceResolutionCache.put(baseline, key, resolved);
+				}
+			}
 			if (resolved != null) {
 				for (IReference ref2 : refs) {
 					((Reference) ref2).setResolution(resolved);
@@ -120,9 +149,22 @@ public final class ReferenceResolver {
 	 * @return a string key for the given reference.
 	 */
 	private static String createSignatureKey(IReference reference) {
+		return reference.getMember().getApiComponent().getSymbolicName() + "#" + createMemberKey(reference); //$NON-NLS-1$
+	}
+
+	/**
+	 * Creates a string key for the type or member referenced by the given
+	 * reference, independent of the referencing component.
+	 *
+	 * <pre>
+	 * [type_name](#[member_name]#[member_signature])
+	 * </pre>
+	 *
+	 * @param reference reference
+	 * @return a string key for the referenced type or member
+	 */
+	private static String createMemberKey(IReference reference) {
 		StringBuilder buffer = new StringBuilder();
-		buffer.append(reference.getMember().getApiComponent().getSymbolicName());
-		buffer.append("#"); //$NON-NLS-1$
 		buffer.append(reference.getReferencedTypeName());
 		if (reference.getReferenceType() == IReference.T_FIELD_REFERENCE) {
 			buffer.append("#"); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -179,6 +179,7 @@ public abstract class AbstractApiTypeContainer extends ApiElement implements IAp
 		List<IApiTypeContainer> typeContainers = fApiTypeContainers;
 		if (typeContainers == null) {
 			synchronized (this) {
+				typeContainers = fApiTypeContainers;
 				if (typeContainers == null) {
 					typeContainers = createApiTypeContainers();
 					fApiTypeContainers = typeContainers;
@@ -188,6 +189,30 @@ public abstract class AbstractApiTypeContainer extends ApiElement implements IAp
 		return typeContainers.toArray(new IApiTypeContainer[typeContainers.size()]);
 	}
 
+	/**
+	 * Returns whether the {@link IApiTypeContainer}s of this container have
+	 * been created.
+	 *
+	 * @return whether the {@link IApiTypeContainer}s have been created
+	 */
+	protected boolean hasApiTypeContainers() {
+		return fApiTypeContainers != null;
+	}
+
+	/**
+	 * Closes and forgets the {@link IApiTypeContainer}s of this container. They
+	 * are created again when next requested.
+	 *
+	 * @throws CoreException if a container could not be closed
+	 */
+	protected synchronized void releaseApiTypeContainers() throws CoreException {
+		try {
+			close();
+		} finally {
+			fApiTypeContainers = null;
+		}
+	}
+
 	/**
 	 * Returns the {@link IApiTypeContainer}s in this container. Creates the
 	 * containers if they are not yet created.
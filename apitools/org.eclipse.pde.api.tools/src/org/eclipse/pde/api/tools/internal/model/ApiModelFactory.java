@@ -18,6 +18,7 @@ import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -94,6 +95,28 @@ public class ApiModelFactory {
 		return null;
 	}
 
+	/**
+	 * Creates and returns a new API component for this baseline at the
+	 * specified location, using the given manifest instead of reading it from
+	 * the location, or <code>null</code> if the manifest does not describe a
+	 * valid API component. The component is not added to the baseline.
+	 *
+	 * @param baseline the baseline the component belongs to
+	 * @param location the file system location of the component
+	 * @param manifest the complete manifest headers of the component
+	 * @return API component or <code>null</code> if the manifest does not
+	 *         describe a valid API component
+	 * @exception CoreException if unable to create the component
+	 */
+	public static IApiComponent newApiComponent(IApiBaseline baseline, String location, Map<String, String> manifest)
+			throws CoreException {
+		BundleComponent component = new BundleComponent(baseline, location, getBundleID(), manifest);
+		if (component.isValidBundle()) {
+			return component;
+		}
+		return null;
+	}
+
 	/**
 	 * Creates and returns a new API component for this baseline based on the
 	 * given model or <code>null</code> if the given model cannot be resolved or
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.pde.api.tools.internal.model;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
@@ -60,14 +61,17 @@ import org.eclipse.pde.api.tools.internal.CompositeApiDescription;
 import org.eclipse.pde.api.tools.internal.FilterStore;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.RequiredComponentDescription;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
 import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore;
 import org.eclipse.pde.api.tools.internal.provisional.IRequiredComponentDescription;
 import org.eclipse.pde.api.tools.internal.provisional.ProfileModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
@@ -110,9 +114,10 @@ public class BundleComponent extends Component {
 			Constants.BUNDLE_VERSION };
 
 	/**
-	 * Whether there is an underlying .api_description file
+	 * Whether there is an underlying .api_description file, <code>null</code>
+	 * if not known yet
 	 */
-	private volatile boolean fHasApiDescription;
+	private volatile Boolean fHasApiDescription;
 
 	/**
 	 * Root location of component in the file system
@@ -178,6 +183,24 @@ public class BundleComponent extends Component {
 				&& !new File(location).isFile();
 	}
 
+	/**
+	 * Constructs a new API component from the specified location in the file
+	 * system in the given baseline, using an already known manifest instead of
+	 * reading it from the location. The bundle at the location is only accessed
+	 * once its contents are requested.
+	 *
+	 * @param baseline owning API baseline
+	 * @param location directory or jar file
+	 * @param manifest the complete manifest headers of the bundle
+	 * @exception CoreException if unable to create a component from the
+	 *                specified location
+	 */
+	public BundleComponent(IApiBaseline baseline, String location, long bundleid, Map<String, String> manifest)
+			throws CoreException {
+		this(baseline, location, bundleid);
+		fManifest = new Hashtable<>(manifest);
+	}
+
 	@Override
 	public void dispose() {
 		if (isDisposed()) {
@@ -194,6 +217,18 @@ public class BundleComponent extends Component {
 		}
 	}
 
+	/**
+	 * Facets of a bundle component that are loaded on demand and can be
+	 * released separately, see {@link BundleComponent#getFacets()}. The size of
+	 * a facet that is not loaded is <code>-1</code>.
+	 *
+	 * @param manifestHeaders the number of retained manifest headers
+	 * @param descriptionElements the number of elements in the API description
+	 * @param typeContainers the number of type containers
+	 */
+	public record Facets(int manifestHeaders, int descriptionElements, int typeContainers) {
+	}
+
 	/**
 	 * Returns this bundle's manifest as a dictionary or <code>null</code> if no
 	 * manifest was found.
@@ -209,11 +244,68 @@ public class BundleComponent extends Component {
 		synchronized (this) {
 			if (fManifest == null) {
 				fManifest = manifest;
+				if (manifest != null && fBundleDescription != null) {
+					// re-read after it was released
+					doManifestCompaction();
+				}
 			}
 			return fManifest;
 		}
 	}
 
+	/**
+	 * Releases the manifest of this bundle. It is read again from the bundle
+	 * location when next needed.
+	 */
+	public synchronized void releaseManifest() {
+		fManifest = null;
+	}
+
+	/**
+	 * Releases the API description of this bundle. It is created again from
+	 * the bundle location when next needed.
+	 */
+	@Override
+	public void releaseApiDescription() {
+		super.releaseApiDescription();
+	}
+
+	/**
+	 * Closes and releases the type containers of this bundle. They are created
+	 * again when next needed.
+	 *
+	 * @throws CoreException if a container could not be closed
+	 */
+	@Override
+	public void releaseApiTypeContainers() throws CoreException {
+		super.releaseApiTypeContainers();
+	}
+
+	/**
+	 * Returns the sizes of the facets of this bundle that are currently
+	 * loaded, without loading any of them.
+	 *
+	 * @return the loaded facets
+	 * @throws CoreException if the loaded API description cannot be visited
+	 */
+	public Facets getFacets() throws CoreException {
+		Map<String, String> manifest = fManifest;
+		int elements = -1;
+		if (isApiDescriptionInitialized()) {
+			int[] count = new int[1];
+			getApiDescription().accept(new ApiDescriptionVisitor() {
+				@Override
+				public boolean visitElement(IElementDescriptor element, IApiAnnotations description) {
+					count[0]++;
+					return true;
+				}
+			}, null);
+			elements = count[0];
+		}
+		int containers = hasApiTypeContainers() ? getApiTypeContainers().length : -1;
+		return new Facets(manifest != null ? manifest.size() : -1, elements, containers);
+	}
+
 	private static Map<String, String> loadManifest(File bundleLocation, boolean isWorkspaceBinary)
 			throws CoreException {
 		try {
@@ -236,6 +328,18 @@ public class BundleComponent extends Component {
 		}
 	}
 
+	/**
+	 * Reads the complete manifest of this bundle from its location. Unlike
+	 * {@link #getManifest()}, which only retains a few headers once the
+	 * component is initialized, all headers are returned.
+	 *
+	 * @return manifest dictionary or <code>null</code> if no manifest was found
+	 * @exception CoreException if the manifest cannot be read
+	 */
+	public Map<String, String> readManifest() throws CoreException {
+		return loadManifest(new File(fLocation), isWorkspaceBinary());
+	}
+
 	/**
 	 * Reduce the manifest to only contain required headers after
 	 * {@link BundleDescription} creation.
@@ -415,8 +519,7 @@ public class BundleComponent extends Component {
 		IApiDescription apiDesc = new ApiDescription(getSymbolicName());
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
-		try {
-			String xml = loadApiDescription(new File(fLocation));
+		try (InputStream xml = openApiDescription(new File(fLocation))) {
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
@@ -814,43 +917,63 @@ public class BundleComponent extends Component {
 	 * @throws IOException if unable to parse
 	 */
 	protected static String loadApiDescription(File bundleLocation) throws IOException {
-		ZipFile jarFile = null;
-		InputStream stream = null;
-		String contents;
-		try {
-			String fileName = bundleLocation.getName();
-			String extension = IPath.fromOSString(fileName).getFileExtension();
-			if (extension != null && extension.equals("jar") && bundleLocation.isFile()) { //$NON-NLS-1$
-				// TODO: remove this if(FIXED_API_DESCRIPTIONS) branch after switching to 4.32
-				// baseline (assuming it will have proper SWT API descriptions, see
-				// https://github.com/eclipse-pde/eclipse.pde/pull/1191)
-				String bundleAndVersion = fileName.substring(0, fileName.length() - ".jar".length()).replace('_', '-'); //$NON-NLS-1$
-				if (FIXED_API_DESCRIPTIONS.contains(bundleAndVersion)) {
-					stream = loadFixedBundleApiDescription(bundleAndVersion);
-				} else {
-					jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ);
-					ZipEntry manifestEntry = jarFile.getEntry(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
-					if (manifestEntry != null) {
-						// new file is present
-						stream = jarFile.getInputStream(manifestEntry);
-					}
-				}
-			} else {
-				File file = new File(bundleLocation, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
-				if (file.exists()) {
-					// use new file
-					stream = new FileInputStream(file);
-				}
-			}
+		try (InputStream stream = openApiDescription(bundleLocation)) {
 			if (stream == null) {
 				return null;
 			}
-			char[] charArray = Util.getInputStreamAsCharArray(stream, StandardCharsets.UTF_8);
-			contents = new String(charArray);
-		} finally {
-			closingZipFileAndStream(stream, jarFile);
+			return new String(Util.getInputStreamAsCharArray(stream, StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Opens a bundle's .api_description XML. The file may be in a jar or in a
+	 * directory at the specified location. Closing the returned stream also
+	 * closes the jar.
+	 *
+	 * @param bundleLocation root location of the bundle
+	 * @return stream of the API description XML or <code>null</code> if none
+	 * @throws IOException if unable to open
+	 */
+	private static InputStream openApiDescription(File bundleLocation) throws IOException {
+		String fileName = bundleLocation.getName();
+		String extension = IPath.fromOSString(fileName).getFileExtension();
+		if (extension != null && extension.equals("jar") && bundleLocation.isFile()) { //$NON-NLS-1$
+			// TODO: remove this if(FIXED_API_DESCRIPTIONS) branch after switching to 4.32
+			// baseline (assuming it will have proper SWT API descriptions, see
+			// https://github.com/eclipse-pde/eclipse.pde/pull/1191)
+			String bundleAndVersion = fileName.substring(0, fileName.length() - ".jar".length()).replace('_', '-'); //$NON-NLS-1$
+			if (FIXED_API_DESCRIPTIONS.contains(bundleAndVersion)) {
+				return loadFixedBundleApiDescription(bundleAndVersion);
+			}
+			ZipFile jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ);
+			try {
+				ZipEntry manifestEntry = jarFile.getEntry(IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+				if (manifestEntry == null) {
+					jarFile.close();
+					return null;
+				}
+				// new file is present
+				return new FilterInputStream(jarFile.getInputStream(manifestEntry)) {
+					@Override
+					public void close() throws IOException {
+						try {
+							super.close();
+						} finally {
+							jarFile.close();
+						}
+					}
+				};
+			} catch (IOException | RuntimeException e) {
+				jarFile.close();
+				throw e;
+			}
+		}
+		File file = new File(bundleLocation, IApiCoreConstants.API_DESCRIPTION_XML_NAME);
+		if (file.exists()) {
+			// use new file
+			return new FileInputStream(file);
 		}
-		return contents;
+		return null;
 	}
 
 	/**
@@ -1048,18 +1171,32 @@ public class BundleComponent extends Component {
 	 *            description file
 	 */
 	protected void setHasApiDescription(boolean hasApiDescription) {
-		fHasApiDescription = hasApiDescription;
+		fHasApiDescription = Boolean.valueOf(hasApiDescription);
 	}
 
 	@Override
 	public boolean hasApiDescription() {
-		// ensure initialized
-		try {
-			getApiDescription();
-		} catch (CoreException e) {
-			ApiPlugin.log("Failed to create API description for " + getName(), e); //$NON-NLS-1$
+		Boolean hasApiDescription = fHasApiDescription;
+		if (hasApiDescription != null) {
+			return hasApiDescription.booleanValue();
+		}
+		if (isBinary()) {
+			// only look for the file, the description is created once used
+			try (InputStream xml = openApiDescription(new File(fLocation))) {
+				setHasApiDescription(xml != null);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to open API description for " + getName(), e); //$NON-NLS-1$
+				setHasApiDescription(false);
+			}
+		} else {
+			// ensure initialized
+			try {
+				getApiDescription();
+			} catch (CoreException e) {
+				ApiPlugin.log("Failed to create API description for " + getName(), e); //$NON-NLS-1$
+			}
 		}
-		return fHasApiDescription;
+		return Boolean.TRUE.equals(fHasApiDescription);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -103,9 +103,19 @@ public abstract class Component extends AbstractApiTypeContainer implements IApi
 			return fApiDescription;
 		}
 		synchronized (this) {
-			fApiDescription = createApiDescription();
+			if (fApiDescription == null) {
+				fApiDescription = createApiDescription();
+			}
+			return fApiDescription;
 		}
-		return fApiDescription;
+	}
+
+	/**
+	 * Forgets the API description of this component. It is created again when
+	 * next requested.
+	 */
+	protected synchronized void releaseApiDescription() {
+		fApiDescription = null;
 	}
 
 	/**
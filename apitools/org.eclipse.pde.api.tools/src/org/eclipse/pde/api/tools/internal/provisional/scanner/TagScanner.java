@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaCore;
@@ -47,6 +47,8 @@ import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.pde.api.tools.internal.CompilationUnit;
 import org.eclipse.pde.api.tools.internal.JavadocTagManager;
+import org.eclipse.pde.api.tools.internal.TagScanCache;
+import org.eclipse.pde.api.tools.internal.TagScanCache.Restriction;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
 import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
@@ -93,6 +95,18 @@ public class TagScanner {
 		 */
 		private IApiTypeContainer fContainer = null;
 
+		/**
+		 * Restrictions set on the description in the order they were set, or
+		 * <code>null</code> if they are not recorded.
+		 */
+		private List<Restriction> fRecorded = null;
+
+		/**
+		 * Whether the signature of an annotated method could not be resolved
+		 * against the class file container.
+		 */
+		boolean fUnresolved = false;
+
 		/**
 		 * Constructor
 		 *
@@ -105,6 +119,26 @@ public class TagScanner {
 			fContainer = container;
 		}
 
+		/**
+		 * Constructor
+		 *
+		 * @param description API description to annotate
+		 * @param container class file container or <code>null</code>, used to
+		 *            resolve method signatures
+		 * @param recorded list to add the restrictions set on the description to
+		 */
+		Visitor(IApiDescription description, IApiTypeContainer container, List<Restriction> recorded) {
+			this(description, container);
+			fRecorded = recorded;
+		}
+
+		private void setRestrictions(IElementDescriptor element, int restrictions) {
+			fDescription.setRestrictions(element, restrictions);
+			if (fRecorded != null) {
+				fRecorded.add(new Restriction(element, restrictions));
+			}
+		}
+
 		/**
 		 * A type has been entered - update the type being visited.
 		 *
@@ -142,7 +176,7 @@ public class TagScanner {
 							int restrictions = annots != null ? annots.getRestrictions() : RestrictionModifiers.NO_RESTRICTIONS;
 							if (JavadocTagManager.ANNOTATION_NOREFERENCE.equals(name)) {
 								restrictions |= RestrictionModifiers.NO_REFERENCE;
-								fDescription.setRestrictions(fType, restrictions);
+								setRestrictions(fType, restrictions);
 							}
 							break;
 						}
@@ -190,7 +224,7 @@ public class TagScanner {
 				}
 			}
 			if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
-				fDescription.setRestrictions(fType, restrictions);
+				setRestrictions(fType, restrictions);
 			}
 		}
 
@@ -208,7 +242,7 @@ public class TagScanner {
 			if (!Flags.isFinal(flags) && JavadocTagManager.ANNOTATION_NOREFERENCE.equals(name)) {
 				for (VariableDeclarationFragment fragment : fields) {
 					IElementDescriptor descriptor = fType.getField(fragment.getName().getFullyQualifiedName());
-					fDescription.setRestrictions(descriptor, RestrictionModifiers.NO_REFERENCE);
+					setRestrictions(descriptor, RestrictionModifiers.NO_REFERENCE);
 				}
 			}
 		}
@@ -233,6 +267,7 @@ public class TagScanner {
 				try {
 					descriptor = Factory.resolveMethod(fContainer, descriptor);
 				} catch (CoreException e) {
+					fUnresolved = true;
 					if (ApiPlugin.DEBUG_TAG_SCANNER) {
 						System.err.println(e.getLocalizedMessage());
 					}
@@ -259,7 +294,7 @@ public class TagScanner {
 					}
 				}
 				if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
-					fDescription.setRestrictions(descriptor, restrictions);
+					setRestrictions(descriptor, restrictions);
 				}
 			}
 		}
@@ -336,7 +371,7 @@ public class TagScanner {
 					}
 				}
 				if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
-					fDescription.setRestrictions(fType, restrictions);
+					setRestrictions(fType, restrictions);
 				}
 			}
 		}
@@ -372,7 +407,7 @@ public class TagScanner {
 
 				}
 				if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
-					fDescription.setRestrictions(fType, restrictions);
+					setRestrictions(fType, restrictions);
 				}
 			}
 		}
@@ -420,7 +455,7 @@ public class TagScanner {
 					}
 					if (JavadocTagManager.TAG_NOREFERENCE.equals(tagname)) {
 						restrictions |= RestrictionModifiers.NO_REFERENCE;
-						fDescription.setRestrictions(fType, restrictions);
+						setRestrictions(fType, restrictions);
 					}
 				}
 			}
@@ -455,7 +490,7 @@ public class TagScanner {
 					}
 					if (JavadocTagManager.TAG_NOREFERENCE.equals(tagname)) {
 						restrictions |= RestrictionModifiers.NO_REFERENCE;
-						fDescription.setRestrictions(fType, restrictions);
+						setRestrictions(fType, restrictions);
 					}
 				}
 			}
@@ -510,6 +545,7 @@ public class TagScanner {
 					try {
 						descriptor = Factory.resolveMethod(fContainer, descriptor);
 					} catch (CoreException e) {
+						fUnresolved = true;
 						if (ApiPlugin.DEBUG_TAG_SCANNER) {
 							System.err.println(e.getLocalizedMessage());
 						}
@@ -544,7 +580,7 @@ public class TagScanner {
 						}
 					}
 					if (restrictions != RestrictionModifiers.NO_RESTRICTIONS) {
-						fDescription.setRestrictions(descriptor, restrictions);
+						setRestrictions(descriptor, restrictions);
 					}
 				}
 			}
@@ -579,7 +615,7 @@ public class TagScanner {
 					if (!Flags.isFinal(flags) && JavadocTagManager.TAG_NOREFERENCE.equals(tagname)) {
 						for (VariableDeclarationFragment fragment : fields) {
 							IElementDescriptor descriptor = fType.getField(fragment.getName().getFullyQualifiedName());
-							fDescription.setRestrictions(descriptor, RestrictionModifiers.NO_REFERENCE);
+							setRestrictions(descriptor, RestrictionModifiers.NO_REFERENCE);
 						}
 					}
 				}
@@ -638,6 +674,47 @@ public class TagScanner {
 		scan(new CompilationUnit(unit), description, container, unit.getJavaProject().getOptions(true), monitor);
 	}
 
+	/**
+	 * Scans the specified {@link ICompilationUnit} for contributed API Javadoc
+	 * tags, reusing the result of a previous scan of the same content from the
+	 * given cache. Units are parsed with the compiler options held by the
+	 * cache.
+	 *
+	 * @param unit the compilation unit source
+	 * @param description the API description to annotate with any new tag rules
+	 *            found
+	 * @param container optional class file container used to resolve method
+	 *            signatures, see
+	 *            {@link #scan(ICompilationUnit, IApiDescription, IApiTypeContainer, IProgressMonitor)}
+	 * @param cache the results of previous scans of the project of the unit
+	 * @param monitor
+	 *
+	 * @throws CoreException if problems were encountered while scanning tags,
+	 *             the description may still be modified
+	 */
+	public void scan(ICompilationUnit unit, IApiDescription description, IApiTypeContainer container, TagScanCache cache, IProgressMonitor monitor) throws CoreException {
+		CompilationUnit source = new CompilationUnit(unit);
+		char[] contents = readContents(source);
+		String path = unit.getPath().toString();
+		long hash = TagScanCache.hash(contents);
+		List<Restriction> cached = cache.get(path, hash);
+		if (cached != null) {
+			for (Restriction restriction : cached) {
+				description.setRestrictions(restriction.element(), restriction.restrictions());
+			}
+			return;
+		}
+		List<Restriction> recorded = new ArrayList<>();
+		Visitor visitor = new Visitor(description, container, recorded);
+		parse(contents, cache.getCompilerOptions(), monitor).accept(visitor);
+		if (visitor.fUnresolved) {
+			// the class file may not be built yet, scan the unit again next time
+			cache.remove(path);
+		} else {
+			cache.put(path, hash, recorded);
+		}
+	}
+
 	/**
 	 * Scans the specified source {@linkplain CompilationUnit} for contributed
 	 * API javadoc tags. Tags on methods will have unresolved signatures.
@@ -658,10 +735,21 @@ public class TagScanner {
 	 *             the description may still be modified
 	 */
 	public void scan(CompilationUnit source, IApiDescription description, IApiTypeContainer container, Map<String, String> options, IProgressMonitor monitor) throws CoreException {
-		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
-		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		Map<String, String> loptions = options;
+		if (loptions == null) {
+			loptions = JavaCore.getOptions();
+		}
+		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
+		Visitor visitor = new Visitor(description, container);
+		parse(readContents(source), loptions, monitor).accept(visitor);
+	}
+
+	/**
+	 * Reads the contents of the given source.
+	 */
+	private char[] readContents(CompilationUnit source) throws CoreException {
 		try (InputStream inputStream = source.getInputStream()) {
-			parser.setSource(Util.getInputStreamAsCharArray(inputStream, source.getEncoding()));
+			return Util.getInputStreamAsCharArray(inputStream, source.getEncoding());
 		} catch (FileNotFoundException e) {
 			throw new CoreException(Status.error(MessageFormat.format("Compilation unit source not found: {0}", source.getName()), e)); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -670,15 +758,17 @@ public class TagScanner {
 			}
 			throw new CoreException(Status.error(MessageFormat.format("Error reading compilation unit: {0}", source.getName()), e)); //$NON-NLS-1$
 		}
-		localmonitor.split(1);
-		Map<String, String> loptions = options;
-		if (loptions == null) {
-			loptions = JavaCore.getOptions();
-		}
-		loptions.put(JavaCore.COMPILER_DOC_COMMENT_SUPPORT, JavaCore.ENABLED);
-		parser.setCompilerOptions(loptions);
-		org.eclipse.jdt.core.dom.CompilationUnit cunit = (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(localmonitor.split(1));
-		Visitor visitor = new Visitor(description, container);
-		cunit.accept(visitor);
+	}
+
+	/**
+	 * Parses the given contents. The parser resets its configuration after
+	 * every AST, so only the prepared compiler options can be shared between
+	 * units.
+	 */
+	private org.eclipse.jdt.core.dom.CompilationUnit parse(char[] contents, Map<String, String> options, IProgressMonitor monitor) {
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(contents);
+		parser.setCompilerOptions(options);
+		return (org.eclipse.jdt.core.dom.CompilationUnit) parser.createAST(monitor);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -48,23 +49,26 @@ public class ConsumerReportConvertor extends UseReportConverter {
 
 	/**
 	 * Use scan visitor that collects a list of the bundles (as
-	 * {@link IComponentDescriptor}s) that consume api references.
+	 * {@link IComponentDescriptor}s) that consume api references, together
+	 * with the bundles they reference.
 	 */
 	static class ListConsumersVisitor extends UseScanVisitor {
 		/**
-		 * Set of {@link IComponentDescriptor}s representing the consumers of
-		 * references
+		 * Map of {@link IComponentDescriptor}s representing the consumers of
+		 * references to the producers they reference
 		 */
-		Set<IComponentDescriptor> consumers = new HashSet<>();
+		Map<IComponentDescriptor, Set<IComponentDescriptor>> consumers = new HashMap<>();
+		private IComponentDescriptor producer;
 
 		@Override
 		public boolean visitComponent(IComponentDescriptor target) {
+			producer = target;
 			return true;
 		}
 
 		@Override
 		public boolean visitReferencingComponent(IComponentDescriptor component) {
-			consumers.add(component);
+			consumers.computeIfAbsent(component, c -> new HashSet<>()).add(producer);
 			return false;
 		}
 
@@ -88,6 +92,7 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		Consumer consumer;
 		Map<String, Producer> producers = new HashMap<>();
 		private final IComponentDescriptor consumerDescriptor;
+		private final Set<IComponentDescriptor> producerDescriptors;
 		private Producer currentProducer;
 		private Type2 currenttype = null;
 		private Member currentmember = null;
@@ -103,9 +108,12 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		 *
 		 * @param consumerDescriptor the bundle that we are collecting
 		 *            information on
+		 * @param producerDescriptors the bundles referenced by the consumer,
+		 *            the references to other bundles are not visited
 		 */
-		public ConsumerReportVisitor(IComponentDescriptor consumerDescriptor) {
+		public ConsumerReportVisitor(IComponentDescriptor consumerDescriptor, Set<IComponentDescriptor> producerDescriptors) {
 			this.consumerDescriptor = consumerDescriptor;
+			this.producerDescriptors = producerDescriptors;
 			consumer = new Consumer();
 			consumer.name = composeName(consumerDescriptor.getId(), consumerDescriptor.getVersion());
 		}
@@ -134,7 +142,7 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		public boolean visitComponent(IComponentDescriptor target) {
 			currentProducer = new Producer();
 			currentProducer.name = composeName(target.getId(), target.getVersion());
-			return true;
+			return producerDescriptors.contains(target);
 		}
 
 		@Override
@@ -159,6 +167,9 @@ public class ConsumerReportConvertor extends UseReportConverter {
 					ApiPlugin.log(e);
 				}
 			}
+			// only the counts of the producer are needed for the consumer page
+			this.currentProducer.types.clear();
+			this.keys.clear();
 		}
 
 		@Override
@@ -416,14 +427,21 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		ListConsumersVisitor listVisitor = new ListConsumersVisitor();
 		UseScanParser lparser = new UseScanParser();
 		lparser.parse(getXmlLocation(), subMon.split(5), listVisitor);
-		List<Consumer> consumerReports = new ArrayList<>();
-
-		ConsumerReportVisitor visitor = null;
-		for (IComponentDescriptor consumer : listVisitor.consumers) {
-			visitor = new ConsumerReportVisitor(consumer);
-			lparser.parse(getXmlLocation(), null, visitor);
-			if (visitor.consumer.counts.getTotalRefCount() > 0) {
-				consumerReports.add(visitor.consumer);
+		List<Consumer> consumerReports = Collections.synchronizedList(new ArrayList<>());
+
+		// each consumer needs its own pass over the scan, run the passes
+		// concurrently
+		SubMonitor loopMon = subMon.split(15).setWorkRemaining(listVisitor.consumers.size());
+		try (ParallelReportWriter writer = new ParallelReportWriter("Consumer Report Writer", getWriterThreadCount())) { //$NON-NLS-1$
+			for (Entry<IComponentDescriptor, Set<IComponentDescriptor>> entry : listVisitor.consumers.entrySet()) {
+				loopMon.split(1);
+				ConsumerReportVisitor visitor = new ConsumerReportVisitor(entry.getKey(), entry.getValue());
+				writer.submit(() -> {
+					new UseScanParser().parse(getXmlLocation(), null, visitor);
+					if (visitor.consumer.counts.getTotalRefCount() > 0) {
+						consumerReports.add(visitor.consumer);
+					}
+				});
 			}
 		}
 		return consumerReports;
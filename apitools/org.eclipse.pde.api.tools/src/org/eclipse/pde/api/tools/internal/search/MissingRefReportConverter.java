@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 IBM Corporation and others.
+ * Copyright (c) 2011, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,9 @@ public class MissingRefReportConverter extends UseReportConverter {
 				writeIndexFileForComponent(currentreport);
 			} catch (Exception e) {
 				ApiPlugin.log(e);
+			} finally {
+				// keep only the counts for the index page
+				currentreport.apiProblems.clear();
 			}
 		}
 
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Writes the HTML pages of use report components on a few threads while the
+ * use scan is parsed further. Submitting blocks while all threads are busy, so
+ * that at most as many parsed components as threads wait for their pages to
+ * be written and the memory held by a conversion stays bounded. With a single
+ * thread the pages are written by the submitting thread.
+ *
+ * @since 1.3.400
+ */
+final class ParallelReportWriter implements AutoCloseable {
+
+	/**
+	 * Writes the pages of one component
+	 */
+	interface PageTask {
+		void write() throws Exception;
+	}
+
+	/**
+	 * Default number of components whose pages are written at the same time
+	 */
+	static final int THREAD_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	/**
+	 * Executor of the tasks or <code>null</code> to run them on the
+	 * submitting thread
+	 */
+	private final ExecutorService executor;
+	private final Semaphore permits;
+	private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+	ParallelReportWriter(String name, int threadCount) {
+		permits = new Semaphore(threadCount);
+		if (threadCount > 1) {
+			executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			});
+		} else {
+			executor = null;
+		}
+	}
+
+	/**
+	 * Schedules the given task, waiting for a thread to become available.
+	 * The first exception thrown by a task is rethrown by {@link #close()}.
+	 */
+	void submit(PageTask task) throws InterruptedException {
+		permits.acquire();
+		Runnable runnable = () -> {
+			try {
+				task.write();
+			} catch (Exception e) {
+				failure.compareAndSet(null, e);
+			} finally {
+				permits.release();
+			}
+		};
+		if (executor == null) {
+			runnable.run();
+			return;
+		}
+		try {
+			executor.execute(runnable);
+		} catch (RejectedExecutionException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits for all submitted tasks to be done
+	 *
+	 * @throws Exception the first exception thrown by a task
+	 */
+	@Override
+	public void close() throws Exception {
+		if (executor != null) {
+			executor.shutdown();
+			while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+				// pages of large components may take a while
+			}
+		}
+		Exception e = failure.get();
+		if (e != null) {
+			throw e;
+		}
+	}
+}
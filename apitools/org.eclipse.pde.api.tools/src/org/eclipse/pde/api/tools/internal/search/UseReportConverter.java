@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -90,6 +91,11 @@ public class UseReportConverter extends HTMLConvertor {
 		Member currentmember = null;
 		Map<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		List<Type> referees = new ArrayList<>();
+		/**
+		 * Writes the pages of completed components, <code>null</code> to
+		 * write them while visiting
+		 */
+		ParallelReportWriter writer = null;
 
 		/**
 		 * Returns if the reference should be reported or not
@@ -133,28 +139,49 @@ public class UseReportConverter extends HTMLConvertor {
 
 		@Override
 		public void endVisitComponent(IComponentDescriptor target) {
+			try {
+				if (this.currentreport.counts.getTotalRefCount() > 0) {
+					// hand the children over to the page - keep the report
+					// object with its counts to write a sorted index page
+					Report page = new Report();
+					page.name = this.currentreport.name;
+					page.children = this.currentreport.children;
+					page.counts = this.currentreport.counts;
+					this.currentreport.children = new TreeMap<>(compare);
+					List<Type> pageReferees = new ArrayList<>(this.referees);
+					if (this.writer != null) {
+						this.writer.submit(() -> writeComponentPages(target, page, pageReferees));
+					} else {
+						writeComponentPages(target, page, pageReferees);
+					}
+				} else {
+					this.reports.remove(this.currentreport);
+				}
+			} catch (InterruptedException e) {
+				// the page is not written, do not link it from the index
+				this.reports.remove(this.currentreport);
+				Thread.currentThread().interrupt();
+			} finally {
+				this.keys.clear();
+				this.referees.clear();
+			}
+		}
+
+		void writeComponentPages(IComponentDescriptor target, Report page, List<Type> pageReferees) {
 			try {
 				long start = 0;
 				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
 					System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
 					start = System.currentTimeMillis();
 				}
-				if (this.currentreport.counts.getTotalRefCount() > 0) {
-					writeReferencedMemberPage(this.currentreport, this.referees);
-				} else {
-					this.reports.remove(this.currentreport);
-				}
+				writeReferencedMemberPage(page, pageReferees);
 				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
 					System.out.println("done in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
 				}
 			} catch (Exception e) {
 				ApiPlugin.log(e);
 			} finally {
-				// clear any children as we have written them out - keep the
-				// report object to write a sorted index page
-				this.currentreport.children.clear();
-				this.keys.clear();
-				this.referees.clear();
+				page.children.clear();
 			}
 		}
 
@@ -708,10 +735,24 @@ public class UseReportConverter extends HTMLConvertor {
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
 		UseScanParser lparser = new UseScanParser();
 		Visitor convertor = new Visitor();
-		lparser.parse(getXmlLocation(), monitor, convertor);
+		// write the pages of each component while the next ones are parsed
+		try (ParallelReportWriter writer = new ParallelReportWriter("Use Report Writer", getWriterThreadCount())) { //$NON-NLS-1$
+			convertor.writer = writer;
+			lparser.parse(getXmlLocation(), monitor, convertor);
+		}
 		return convertor.reports;
 	}
 
+	/**
+	 * Returns the number of threads writing the pages of the report, with a
+	 * single thread the pages are written while the use scan is parsed
+	 *
+	 * @return the number of threads writing pages, at least 1
+	 */
+	protected int getWriterThreadCount() {
+		return ParallelReportWriter.THREAD_COUNT;
+	}
+
 	/**
 	 * Returns the handle to the default parser, caches the handle once it has
 	 * been created
@@ -1013,46 +1054,45 @@ public class UseReportConverter extends HTMLConvertor {
 	 * Writes the page that displays all of the members used in a type
 	 */
 	void writeTypePage(Map<IMemberDescriptor, Member> map, Type type, Path typefile, String typename) throws Exception {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(HTML_HEADER);
-		buffer.append(OPEN_HTML).append(OPEN_HEAD).append(CONTENT_TYPE_META);
-		buffer.append(REF_STYLE);
-		buffer.append(REF_SCRIPT);
-		buffer.append(OPEN_TITLE).append(getTypeTitle(typename)).append(CLOSE_TITLE);
-		buffer.append(CLOSE_HEAD);
-		buffer.append(OPEN_BODY);
-		buffer.append(OPEN_H3).append(getTypeTitle(typename)).append(CLOSE_H3);
-		buffer.append(getTypeCountSummary(typename, type.counts, map.size()));
-		buffer.append(OPEN_H4).append(getTypeDetailsHeader()).append(CLOSE_H4);
-		buffer.append(OPEN_P).append(getTypeDetails()).append(CLOSE_P);
-		buffer.append("<div align=\"left\" class=\"main\">"); //$NON-NLS-1$
-		buffer.append("<table border=\"1\" width=\"80%\">\n"); //$NON-NLS-1$
-		buffer.append(OPEN_TR);
-		buffer.append("<td bgcolor=\"").append(REFERENCES_TABLE_HEADER_COLOUR).append("\">").append(OPEN_B) //$NON-NLS-1$ //$NON-NLS-2$
-				.append(SearchMessages.UseReportConverter_member).append("</b></td>\n"); //$NON-NLS-1$
-		buffer.append(CLOSE_TR);
-		for (Entry<IMemberDescriptor, Member> entry : map.entrySet()) {
-			IElementDescriptor desc = entry.getKey();
+		// stream the page, the references of a type can be numerous
+		Files.createDirectories(typefile.getParent());
+		try (Writer buffer = Files.newBufferedWriter(typefile)) {
+			buffer.append(HTML_HEADER);
+			buffer.append(OPEN_HTML).append(OPEN_HEAD).append(CONTENT_TYPE_META);
+			buffer.append(REF_STYLE);
+			buffer.append(REF_SCRIPT);
+			buffer.append(OPEN_TITLE).append(getTypeTitle(typename)).append(CLOSE_TITLE);
+			buffer.append(CLOSE_HEAD);
+			buffer.append(OPEN_BODY);
+			buffer.append(OPEN_H3).append(getTypeTitle(typename)).append(CLOSE_H3);
+			buffer.append(getTypeCountSummary(typename, type.counts, map.size()));
+			buffer.append(OPEN_H4).append(getTypeDetailsHeader()).append(CLOSE_H4);
+			buffer.append(OPEN_P).append(getTypeDetails()).append(CLOSE_P);
+			buffer.append("<div align=\"left\" class=\"main\">"); //$NON-NLS-1$
+			buffer.append("<table border=\"1\" width=\"80%\">\n"); //$NON-NLS-1$
 			buffer.append(OPEN_TR);
-			buffer.append("<td align=\"left\">\n"); //$NON-NLS-1$
-			buffer.append(OPEN_B);
-			buffer.append("<a href=\"javascript:void(0)\" class=\"typeslnk\" onclick=\"expand(this)\" title=\""); //$NON-NLS-1$
-			buffer.append(getDisplayName(desc, true, true)).append("\">\n"); //$NON-NLS-1$
-			buffer.append("<span>[+] </span>").append(getDisplayName(desc, true, false)).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
-			buffer.append(CLOSE_A).append(CLOSE_B);
-			buffer.append("<div colspan=\"6\" class=\"types\">\n"); //$NON-NLS-1$
-			buffer.append(getReferencesTable(entry.getValue())).append("\n"); //$NON-NLS-1$
-			buffer.append(CLOSE_DIV);
+			buffer.append("<td bgcolor=\"").append(REFERENCES_TABLE_HEADER_COLOUR).append("\">").append(OPEN_B) //$NON-NLS-1$ //$NON-NLS-2$
+					.append(SearchMessages.UseReportConverter_member).append("</b></td>\n"); //$NON-NLS-1$
 			buffer.append(CLOSE_TR);
-		}
-		buffer.append(CLOSE_TABLE);
-		buffer.append(CLOSE_DIV);
-		buffer.append(OPEN_P).append("<a href=\"index.html\">") //$NON-NLS-1$
-				.append(SearchMessages.UseReportConverter_back_to_bundle_index).append(CLOSE_A).append(CLOSE_P);
-		buffer.append(W3C_FOOTER);
-
-		try {
-			Files.writeString(typefile, buffer);
+			for (Entry<IMemberDescriptor, Member> entry : map.entrySet()) {
+				IElementDescriptor desc = entry.getKey();
+				buffer.append(OPEN_TR);
+				buffer.append("<td align=\"left\">\n"); //$NON-NLS-1$
+				buffer.append(OPEN_B);
+				buffer.append("<a href=\"javascript:void(0)\" class=\"typeslnk\" onclick=\"expand(this)\" title=\""); //$NON-NLS-1$
+				buffer.append(getDisplayName(desc, true, true)).append("\">\n"); //$NON-NLS-1$
+				buffer.append("<span>[+] </span>").append(getDisplayName(desc, true, false)).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+				buffer.append(CLOSE_A).append(CLOSE_B);
+				buffer.append("<div colspan=\"6\" class=\"types\">\n"); //$NON-NLS-1$
+				buffer.append(getReferencesTable(entry.getValue())).append("\n"); //$NON-NLS-1$
+				buffer.append(CLOSE_DIV);
+				buffer.append(CLOSE_TR);
+			}
+			buffer.append(CLOSE_TABLE);
+			buffer.append(CLOSE_DIV);
+			buffer.append(OPEN_P).append("<a href=\"index.html\">") //$NON-NLS-1$
+					.append(SearchMessages.UseReportConverter_back_to_bundle_index).append(CLOSE_A).append(CLOSE_P);
+			buffer.append(W3C_FOOTER);
 		} catch (IOException ioe) {
 			throw new Exception(NLS.bind(SearchMessages.ioexception_writing_html_file, typefile.toAbsolutePath()));
 		}
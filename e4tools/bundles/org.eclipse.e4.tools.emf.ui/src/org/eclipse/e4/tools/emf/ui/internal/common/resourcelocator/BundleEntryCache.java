@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A persistent cache of the entry names of bundle jars that match a contribution
+ * collector's file pattern. Jars are identified by their location and time stamp,
+ * so only jars added to or changed in the target since the last scan are opened
+ * again. Jars are read through their central directory, their content is never
+ * inflated.
+ */
+class BundleEntryCache {
+
+	private static final int VERSION = 1;
+
+	private record Snapshot(long timestamp, List<String> names) {
+	}
+
+	private final File fFile;
+	private final Predicate<String> fFilter;
+	private final Map<String, Snapshot> fSnapshots = new ConcurrentHashMap<>();
+	private volatile boolean fDirty;
+
+	/**
+	 * @param file
+	 *            the file the cache is persisted to, may be <code>null</code>
+	 *            to not persist the cache
+	 * @param filter
+	 *            selects the entry names to remember
+	 */
+	BundleEntryCache(File file, Predicate<String> filter) {
+		fFile = file;
+		fFilter = filter;
+		load();
+	}
+
+	/**
+	 * Returns the names of the entries of the given jar that are accepted by the
+	 * filter of this cache.
+	 */
+	List<String> getEntryNames(File jar) throws IOException {
+		final String location = jar.getAbsolutePath();
+		final long timestamp = jar.lastModified();
+		final Snapshot snapshot = fSnapshots.get(location);
+		if (snapshot != null && snapshot.timestamp() == timestamp) {
+			return snapshot.names();
+		}
+		final List<String> names = new ArrayList<>();
+		try (ZipFile zip = new ZipFile(jar)) {
+			for (final Enumeration<? extends ZipEntry> entries = zip.entries(); entries.hasMoreElements();) {
+				final ZipEntry entry = entries.nextElement();
+				if (!entry.isDirectory() && fFilter.test(entry.getName())) {
+					names.add(entry.getName());
+				}
+			}
+		}
+		fSnapshots.put(location, new Snapshot(timestamp, List.copyOf(names)));
+		fDirty = true;
+		return names;
+	}
+
+	/**
+	 * Forgets the jars that are not part of the given set of locations anymore.
+	 */
+	void retain(Collection<String> locations) {
+		if (fSnapshots.keySet().retainAll(locations)) {
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Writes the cache to disk if it changed since it was loaded or last saved.
+	 */
+	void save() {
+		if (fFile == null || !fDirty) {
+			return;
+		}
+		fDirty = false;
+		fFile.getParentFile().mkdirs();
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile)))) {
+			out.writeInt(VERSION);
+			final Map<String, Snapshot> snapshots = Map.copyOf(fSnapshots);
+			out.writeInt(snapshots.size());
+			for (final Map.Entry<String, Snapshot> entry : snapshots.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().timestamp());
+				out.writeInt(entry.getValue().names().size());
+				for (final String name : entry.getValue().names()) {
+					out.writeUTF(name);
+				}
+			}
+		} catch (final IOException e) {
+			// the cache is rebuilt on the next scan
+			fFile.delete();
+		}
+	}
+
+	private void load() {
+		if (fFile == null || !fFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			final int jars = in.readInt();
+			for (int i = 0; i < jars; i++) {
+				final String location = in.readUTF();
+				final long timestamp = in.readLong();
+				final int count = in.readInt();
+				final List<String> names = new ArrayList<>(count);
+				for (int j = 0; j < count; j++) {
+					names.add(in.readUTF());
+				}
+				fSnapshots.put(location, new Snapshot(timestamp, List.copyOf(names)));
+			}
+		} catch (final IOException e) {
+			// corrupt or truncated, start over
+			fSnapshots.clear();
+		}
+	}
+}
@@ -23,18 +23,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
@@ -42,10 +43,10 @@ import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -73,6 +74,8 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -87,13 +90,16 @@ import org.w3c.dom.NodeList;
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	// filled concurrently by the indexing job while the dialog may already be filtering
+	Queue<Entry> cacheEntry = new ConcurrentLinkedQueue<>();
+	Set<String> cacheBundleId = ConcurrentHashMap.newKeySet();
+	Set<String> cachePackage = ConcurrentHashMap.newKeySet();
+	Set<String> cacheLocation = ConcurrentHashMap.newKeySet();
 	private Pattern patternFile;
 	protected String cacheName;
-	protected boolean stopFiltering;
+	protected volatile boolean stopFiltering;
+	private volatile EntryIndex entryIndex;
+	private BundleEntryCache bundleEntryCache;
 
 	static class Entry {
 		String name;
@@ -104,6 +110,52 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		String pakage;
 	}
 
+	/**
+	 * The entries of a completely loaded cache, sorted by name for prefix lookups.
+	 */
+	static class EntryIndex {
+		private final Entry[] entries;
+		private final String[] names;
+
+		EntryIndex(Collection<Entry> all) {
+			entries = all.toArray(new Entry[0]);
+			Arrays.sort(entries, Comparator.comparing(e -> e.name.toLowerCase(Locale.ROOT)));
+			names = new String[entries.length];
+			for (int i = 0; i < entries.length; i++) {
+				names[i] = entries[i].name.toLowerCase(Locale.ROOT);
+			}
+		}
+
+		/**
+		 * Returns the entries that may match the given name pattern. For patterns
+		 * without wildcards, the entries whose name starts with the pattern come
+		 * first, followed by the ones containing it. Other patterns select all
+		 * entries.
+		 */
+		List<Entry> find(String namePattern) {
+			if (namePattern == null || namePattern.isEmpty() || namePattern.indexOf('*') >= 0
+					|| namePattern.indexOf('?') >= 0) {
+				return Arrays.asList(entries);
+			}
+			final String query = namePattern.toLowerCase(Locale.ROOT);
+			int from = Arrays.binarySearch(names, query);
+			if (from < 0) {
+				from = -from - 1;
+			}
+			int to = from;
+			final List<Entry> result = new ArrayList<>();
+			while (to < names.length && names[to].startsWith(query)) {
+				result.add(entries[to++]);
+			}
+			for (int i = 0; i < names.length; i++) {
+				if ((i < from || i >= to) && names[i].contains(query)) {
+					result.add(entries[i]);
+				}
+			}
+			return result;
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private TargetPlatformContributionCollector() {
 	}
@@ -130,8 +182,20 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				int found = 0;
 				boolean more = false;
 
+				// while the index is being built, search the entries collected so far
+				final EntryIndex index = entryIndex;
+				final Iterable<Entry> candidates = index != null ? index.find(filter.namePattern) : cacheEntry;
+				List<String> projectNames = null;
+				if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE) && filter.project != null) {
+					projectNames = new ArrayList<>();
+					for (final IProject project : filter.project.getWorkspace().getRoot().getProjects()) {
+						projectNames.add(project.getName());
+					}
+				}
+				String lastLocation = null;
+
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				for (final Entry e : candidates) {
 					if (stopFiltering) {
 						break;
 					}
@@ -141,8 +205,11 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							stopFiltering = true;
 							break;
 						}
-						monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
-								+ " " + e.installLocation); //$NON-NLS-1$
+						if (!e.installLocation.equals(lastLocation)) {
+							lastLocation = e.installLocation;
+							monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
+									+ " " + e.installLocation); //$NON-NLS-1$
+						}
 					}
 
 					if (E.notEmpty(filter.getBundles())) {
@@ -172,23 +239,17 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							continue;
 						}
 					}
-					if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE)) {
-						if (filter.project != null) {
-							final IWorkspace workspace = filter.project.getWorkspace();
-							boolean fnd = false;
-							for (final IProject project : workspace.getRoot().getProjects()) {
-								// String path =
-								// project.getLocationURI().getPath();
-								final String path = project.getName();
-								if (e.installLocation.contains(path)) {
-									fnd = true;
-									break;
-								}
-							}
-							if (!fnd) {
-								continue;
+					if (projectNames != null) {
+						boolean fnd = false;
+						for (final String path : projectNames) {
+							if (e.installLocation.contains(path)) {
+								fnd = true;
+								break;
 							}
 						}
+						if (!fnd) {
+							continue;
+						}
 					}
 
 					final Matcher m = patternName.matcher(e.name);
@@ -224,6 +285,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
+				entryIndex = null;
 				cacheEntry.clear();
 				cacheBundleId.clear();
 				cachePackage.clear();
@@ -286,6 +348,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
+			entryIndex = null;
 			cacheEntry.clear();
 			cacheBundleId.clear();
 			cachePackage.clear();
@@ -300,6 +363,8 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					final IProject[] projects = PDECore.getWorkspace().getRoot().getProjects();
 					final IPluginModelBase[] models = TargetPlatformHelper.getPDEState().getTargetModels();
 					final int total = projects.length + models.length;
+					final BundleEntryCache entryCache = getBundleEntryCache();
+					final List<String> jars = new ArrayList<>();
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
 
@@ -328,48 +393,38 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
 						try {
 							final String installLocation = pluginModelBase.getInstallLocation();
 							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
+								final File jar = new File(installLocation);
+								jars.add(jar.getAbsolutePath());
+								for (final String name2 : entryCache.getEntryNames(jar)) {
+									final Matcher m = patternFile.matcher(name2);
+									if (m.matches()) {
+										final Entry e = new Entry();
+										e.installLocation = installLocation;
+										cacheLocation.add(installLocation);
+										e.name = m.group(2);
+										e.path = m.group(1);
+										if (e.path != null) {
+											e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+											if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+												e.pakage = e.pakage.substring(1);
 											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
+											if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+												e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
 											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
+										} else {
+											e.pakage = ""; //$NON-NLS-1$
 										}
+										cachePackage.add(e.pakage);
+
+										e.bundleSymName = pluginBase.getId();
+										if (e.path == null) {
+											e.path = ""; //$NON-NLS-1$
+										}
+										cacheEntry.add(e);
+										cacheBundleId.add(pluginBase.getId());
 									}
 								}
 							} else {
@@ -379,14 +434,17 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 									visit(monitor, bundle, installLocation, new File(installLocation));
 								}
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
 						} catch (final IOException e) {
 							// TODO Auto-generated catch block
 							e.printStackTrace();
 						}
 					}
+					if (!monitor.isCanceled()) {
+						// forget removed jars only after a complete scan of the target
+						entryCache.retain(jars);
+						entryIndex = new EntryIndex(cacheEntry);
+					}
+					entryCache.save();
 					monitor.done();
 					if (monitor.isCanceled()) {
 						if (providerStatusCallback != null) {
@@ -476,6 +534,19 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		}
 	}
 
+	private synchronized BundleEntryCache getBundleEntryCache() {
+		if (bundleEntryCache == null) {
+			File file = null;
+			final Bundle bundle = FrameworkUtil.getBundle(TargetPlatformContributionCollector.class);
+			if (bundle != null) {
+				file = Platform.getStateLocation(bundle).append(getClass().getSimpleName() + ".index").toFile(); //$NON-NLS-1$
+			}
+			bundleEntryCache = new BundleEntryCache(file,
+					name -> !shouldIgnore(name) && patternFile.matcher(name).matches());
+		}
+		return bundleEntryCache;
+	}
+
 	// @Refactor
 	static public String getBundle(File file) {
 		if (file.isDirectory() == false) {
@@ -576,7 +647,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 * A cache of the output directories for install locations (if install
 	 * location has a classpath file with appropriate output entries)
 	 */
-	static private HashMap<String, List<String>> outputDirectories = new HashMap<>();
+	static private Map<String, List<String>> outputDirectories = new ConcurrentHashMap<>();
 
 	// Returns the Eclipse output directories for an install location. The
 	// directories are relative to the install location.
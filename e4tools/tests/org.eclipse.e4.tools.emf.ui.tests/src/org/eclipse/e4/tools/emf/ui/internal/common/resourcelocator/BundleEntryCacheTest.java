@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BundleEntryCacheTest {
+
+	private static final Predicate<String> CLASSES = name -> name.endsWith(".class"); //$NON-NLS-1$
+	private static final long TIMESTAMP = 1_700_000_000_000L;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File jar;
+	private File cacheFile;
+
+	@Before
+	public void setUp() throws IOException {
+		jar = new File(folder.getRoot(), "bundle.jar"); //$NON-NLS-1$
+		cacheFile = new File(folder.getRoot(), "cache/entries"); //$NON-NLS-1$
+		writeJar(TIMESTAMP, "a/A.class", "a/B.class", "icons/a.png"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testEntryNames() throws IOException {
+		final BundleEntryCache cache = new BundleEntryCache(null, CLASSES);
+		assertEquals(List.of("a/A.class", "a/B.class"), cache.getEntryNames(jar)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testChangedJarRead() throws IOException {
+		final BundleEntryCache cache = new BundleEntryCache(null, CLASSES);
+		cache.getEntryNames(jar);
+
+		// the jar is not opened again while its time stamp is unchanged
+		writeJar(TIMESTAMP, "a/A.class"); //$NON-NLS-1$
+		assertEquals(List.of("a/A.class", "a/B.class"), cache.getEntryNames(jar)); //$NON-NLS-1$ //$NON-NLS-2$
+
+		writeJar(TIMESTAMP + 1000, "a/A.class", "c/C.class"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(List.of("a/A.class", "c/C.class"), cache.getEntryNames(jar)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testPersisted() throws IOException {
+		final BundleEntryCache cache = new BundleEntryCache(cacheFile, CLASSES);
+		cache.getEntryNames(jar);
+		cache.save();
+		assertTrue(cacheFile.isFile());
+
+		writeJar(TIMESTAMP, "a/A.class"); //$NON-NLS-1$
+		assertEquals(List.of("a/A.class", "a/B.class"), //$NON-NLS-1$ //$NON-NLS-2$
+				new BundleEntryCache(cacheFile, CLASSES).getEntryNames(jar));
+
+		writeJar(TIMESTAMP + 1000, "a/A.class"); //$NON-NLS-1$
+		assertEquals(List.of("a/A.class"), new BundleEntryCache(cacheFile, CLASSES).getEntryNames(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testRemovedJarForgotten() throws IOException {
+		final BundleEntryCache cache = new BundleEntryCache(cacheFile, CLASSES);
+		cache.getEntryNames(jar);
+		cache.retain(Set.of(new File(folder.getRoot(), "other.jar").getAbsolutePath())); //$NON-NLS-1$
+		cache.save();
+
+		writeJar(TIMESTAMP, "a/A.class"); //$NON-NLS-1$
+		assertEquals(List.of("a/A.class"), new BundleEntryCache(cacheFile, CLASSES).getEntryNames(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCorruptCacheIgnored() throws IOException {
+		cacheFile.getParentFile().mkdirs();
+		try (FileOutputStream out = new FileOutputStream(cacheFile)) {
+			out.write(new byte[] { 0, 0, 0, 1, 0, 0, 0, 5 });
+		}
+		assertEquals(List.of("a/A.class", "a/B.class"), //$NON-NLS-1$ //$NON-NLS-2$
+				new BundleEntryCache(cacheFile, CLASSES).getEntryNames(jar));
+	}
+
+	private void writeJar(long timestamp, String... names) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+			for (final String name : names) {
+				out.putNextEntry(new ZipEntry(name));
+				out.write(1);
+				out.closeEntry();
+			}
+		}
+		assertTrue(jar.setLastModified(timestamp));
+	}
+}
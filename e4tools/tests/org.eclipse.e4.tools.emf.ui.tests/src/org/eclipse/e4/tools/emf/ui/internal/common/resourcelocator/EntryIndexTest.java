@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.EntryIndex;
+import org.eclipse.pde.internal.core.util.PatternConstructor;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the contributions found through the {@link EntryIndex} are the
+ * ones found by matching the name pattern against every entry.
+ */
+@SuppressWarnings("restriction")
+public class EntryIndexTest {
+
+	private static final String[] NAMES = { "Activator", "ActionBar", "MyAction", "action", "Bundle", "TestActions", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+			"Zeta", "ZActivator", "activator" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private final List<Entry> entries = new ArrayList<>();
+	private EntryIndex index;
+
+	@Before
+	public void setUp() {
+		for (final String name : NAMES) {
+			final Entry entry = new Entry();
+			entry.name = name;
+			entries.add(entry);
+		}
+		index = new EntryIndex(entries);
+	}
+
+	@Test
+	public void testSameContributions() {
+		for (final String pattern : new String[] { "Act", "act", "ACTION", "ion", "Bar", "Zeta", "xyz", "*Act*", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+				"A?tion", "*", "" }) { //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals(pattern, match(pattern, entries), match(pattern, index.find(pattern)));
+		}
+	}
+
+	@Test
+	public void testPrefixMatchesFirst() {
+		final List<String> found = new ArrayList<>();
+		for (final Entry entry : index.find("act")) { //$NON-NLS-1$
+			found.add(entry.name);
+		}
+		assertEquals(Set.of("action", "ActionBar", "Activator", "activator"), new HashSet<>(found.subList(0, 4))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertEquals(Set.of("MyAction", "TestActions", "ZActivator"), new HashSet<>(found.subList(4, found.size()))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	@Test
+	public void testWildcardsSelectAll() {
+		assertEquals(entries.size(), index.find("*Act*").size()); //$NON-NLS-1$
+		assertEquals(entries.size(), index.find("A?tion").size()); //$NON-NLS-1$
+		assertEquals(entries.size(), index.find(null).size());
+	}
+
+	private static Set<Entry> match(String namePattern, Iterable<Entry> candidates) {
+		final Pattern pattern = PatternConstructor.createPattern(namePattern, false);
+		final Set<Entry> result = new HashSet<>();
+		for (final Entry entry : candidates) {
+			if (pattern.matcher(entry.name).find()) {
+				result.add(entry);
+			}
+		}
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,15 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -25,8 +30,10 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.osgi.service.resolver.BundleDelta;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -36,9 +43,32 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	private static final int MAX_CACHED_STATES = 4;
+
+	/**
+	 * Resolver states of previous validations, keyed by their platform properties.
+	 * Validating a similar set of bundles against the same platform properties only
+	 * adds and removes the bundles that differ and resolves the state incrementally.
+	 * The states are discarded when the PDE state is replaced and the copies of
+	 * removed or updated bundles when it is resolved, so that they do not keep
+	 * superseded bundle descriptions and their states alive.
+	 */
+	private static final Map<List<Dictionary<String, String>>, ValidationState> STATES = new LinkedHashMap<>(MAX_CACHED_STATES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<List<Dictionary<String, String>>, ValidationState> eldest) {
+			return size() > MAX_CACHED_STATES;
+		}
+	};
+
+	private static Listener fListener;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -56,28 +86,142 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
-		for (IPluginModelBase fModel : fModels) {
-			BundleDescription bundle = fModel.getBundleDescription();
-			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+		synchronized (STATES) {
+			addListener();
+			ValidationState state = STATES.computeIfAbsent(List.of(fProperties), p -> new ValidationState(fProperties));
+			State resolved = state.update(fModels, subMonitor);
+			// the cached state is updated by later validations, so the results of this
+			// one are taken while it is still locked
+			fResolverErrors = computeResolverErrors(resolved);
+			fHasErrors = computeHasErrors(resolved);
+			fState = FACTORY.createState(resolved);
+		}
+	}
+
+	/**
+	 * Discards the resolver states of previous validations and stops listening to
+	 * changes of the PDE state.
+	 */
+	static void shutdown() {
+		synchronized (STATES) {
+			STATES.clear();
+			if (fListener != null) {
+				PDECore.getDefault().getModelManager().removeStateDeltaListener(fListener);
+				fListener = null;
+			}
+		}
+	}
+
+	private static void addListener() {
+		if (fListener == null) {
+			fListener = new Listener();
+			PDECore.getDefault().getModelManager().addStateDeltaListener(fListener);
+		}
+	}
+
+	private static class Listener implements IStateDeltaListener {
+
+		@Override
+		public void stateResolved(StateDelta delta) {
+			synchronized (STATES) {
+				if (delta == null) {
+					STATES.clear();
+					return;
+				}
+				for (BundleDelta bundleDelta : delta.getChanges(BundleDelta.REMOVED | BundleDelta.UPDATED, false)) {
+					for (ValidationState state : STATES.values()) {
+						state.remove(bundleDelta.getBundle());
+					}
+				}
+			}
+		}
+
+		@Override
+		public void stateChanged(State newState) {
+			synchronized (STATES) {
+				STATES.clear();
+			}
+		}
+	}
+
+	/**
+	 * A resolver state containing copies of the bundles of the last validation done
+	 * against its platform properties.
+	 */
+	private static class ValidationState {
+
+		private final State fState;
+		// the copies in the state, keyed by the bundle description they were created from
+		private final Map<BundleDescription, BundleDescription> fCopies = new IdentityHashMap<>();
+		private boolean fChanged;
+
+		ValidationState(Dictionary<String, String>[] properties) {
+			fState = FACTORY.createState(true);
+			fState.setPlatformProperties(properties);
+		}
+
+		State update(Set<IPluginModelBase> models, SubMonitor monitor) {
+			Set<BundleDescription> bundles = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (IPluginModelBase model : models) {
+				BundleDescription bundle = model.getBundleDescription();
+				if (bundle != null) {
+					bundles.add(bundle);
+				}
+			}
+			int changes = fChanged ? 1 : 0;
+			fChanged = false;
+			for (Iterator<Entry<BundleDescription, BundleDescription>> iterator = fCopies.entrySet().iterator(); iterator.hasNext();) {
+				Entry<BundleDescription, BundleDescription> entry = iterator.next();
+				if (!bundles.contains(entry.getKey())) {
+					fState.removeBundle(entry.getValue());
+					iterator.remove();
+					changes++;
+				}
+			}
+			for (BundleDescription bundle : bundles) {
+				if (!fCopies.containsKey(bundle)) {
+					BundleDescription copy = FACTORY.createBundleDescription(bundle);
+					if (fState.addBundle(copy)) {
+						fCopies.put(bundle, copy);
+						changes++;
+					}
+				}
+				monitor.split(1);
+			}
+			if (changes > 0 || !fState.isResolved()) {
+				// when most bundles changed a full resolve is cheaper than an incremental one
+				fState.resolve(fCopies.size() > 2 * changes);
+			}
+			monitor.split(1);
+			return fState;
+		}
+
+		/**
+		 * Removes the copy of the given bundle, it is no longer part of the PDE
+		 * state.
+		 */
+		void remove(BundleDescription bundle) {
+			BundleDescription copy = fCopies.remove(bundle);
+			if (copy != null) {
+				fState.removeBundle(copy);
+				fChanged = true;
 			}
-			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
-		subMonitor.split(1);
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,18 +236,29 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
+	/**
+	 * Returns a copy of the bundles validated by this operation. The copy is owned by
+	 * this operation but not resolved, use {@link #getResolverErrors()} and
+	 * {@link #hasErrors()} for the resolution results.
+	 *
+	 * @return the validated bundles
+	 */
 	public State getState() {
 		return fState;
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
+		return fHasErrors;
+	}
+
+	private static boolean computeHasErrors(State state) {
+		if (state.getHighestBundleId() > -1) {
+			BundleDescription[] bundles = state.getBundles();
 			for (BundleDescription bundle : bundles) {
 				if (!bundle.isResolved()) {
 					return true;
 				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+					BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 					if (dups.length > 1) {
 						// more than one singleton
 						return true;
@@ -17,7 +17,6 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -58,6 +57,7 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.build.WorkspaceBuildModel;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.CoreUtility;
 
 public class ClasspathHelper {
 
@@ -86,15 +86,8 @@ public class ClasspathHelper {
 	}
 
 	public static String writeDevEntries(String fileName, Properties properties) throws CoreException {
-		File file = new File(fileName);
-		if (!file.exists()) {
-			File directory = file.getParentFile();
-			if (directory != null && (!directory.exists() || directory.isFile())) {
-				directory.mkdirs();
-			}
-		}
-		try (FileOutputStream stream = new FileOutputStream(fileName)) {
-			properties.store(stream, ""); //$NON-NLS-1$
+		try {
+			CoreUtility.storeIfChanged(new File(fileName), properties, ""); //$NON-NLS-1$
 			return new URL("file:" + fileName).toString(); //$NON-NLS-1$
 		} catch (IOException e) {
 			PDECore.logException(e);
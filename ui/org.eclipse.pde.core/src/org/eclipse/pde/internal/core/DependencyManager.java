@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,9 @@ import java.util.Set;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -142,6 +145,32 @@ public class DependencyManager {
 		return getDependencies(plugins, getImplicitDependencies(), TargetPlatformHelper.getState(), options);
 	}
 
+	/**
+	 * Returns a {@link Set} of bundle descriptions for all required
+	 * dependencies of the given {@link IPluginModelBase}s like
+	 * {@link #getDependencies(Collection, Options...)}, checking the given
+	 * monitor for cancellation while computing the closure.
+	 *
+	 * @param plugins
+	 *            selected the group of {@link IPluginModelBase}s to compute
+	 *            dependencies for.
+	 * @param monitor
+	 *            the monitor to check for cancellation
+	 * @param options
+	 *            the specified {@link Options} for computing the closure
+	 * @return a set of bundle descriptions
+	 * @throws OperationCanceledException
+	 *             if the monitor is canceled
+	 */
+	public static Set<BundleDescription> getDependencies(Collection<IPluginModelBase> plugins,
+			IProgressMonitor monitor, Options... options) {
+		List<BundleDescription> bundles = mergeBundleDescriptions(plugins, getImplicitDependencies(),
+				TargetPlatformHelper.getState());
+		Set<BundleDescription> closure = findRequirementsClosure(bundles, monitor, options);
+		plugins.forEach(p -> closure.remove(p.getBundleDescription()));
+		return closure;
+	}
+
 	/**
 	 * Returns a {@link Set} of bundle descriptions of the given
 	 * {@link IPluginModelBase}s and all of their required dependencies.
@@ -161,6 +190,11 @@ public class DependencyManager {
 	 */
 	public static Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles,
 			Options... options) {
+		return findRequirementsClosure(bundles, new NullProgressMonitor(), options);
+	}
+
+	private static Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles,
+			IProgressMonitor monitor, Options... options) {
 
 		Set<Options> optionSet = Set.of(options);
 		boolean includeOptional = optionSet.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES);
@@ -170,6 +204,13 @@ public class DependencyManager {
 			throw new AssertionError("Cannot combine INCLUDE_ALL_FRAGMENTS and INCLUDE_NON_TEST_FRAGMENTS"); //$NON-NLS-1$
 		}
 
+		// bundles of the PDE state are composed from the remembered closures
+		// of each bundle
+		Set<BundleDescription> cached = RequirementsClosureCache.findRequirementsClosure(bundles, optionSet, monitor);
+		if (cached != null) {
+			return cached;
+		}
+
 		Set<BundleDescription> closure = new HashSet<>(bundles.size() * 4 / 3 + 1);
 		Queue<BundleDescription> pending = new ArrayDeque<>(bundles.size());
 
@@ -180,6 +221,9 @@ public class DependencyManager {
 
 		// perform exhaustive iterative bfs for required wires
 		while (!pending.isEmpty()) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
 			BundleDescription bundle = pending.remove();
 
 			BundleWiring wiring = bundle.getWiring();
@@ -222,11 +266,11 @@ public class DependencyManager {
 		}
 	}
 
-	private static boolean isOptional(BundleRequirement requirement) {
+	static boolean isOptional(BundleRequirement requirement) {
 		return Constants.RESOLUTION_OPTIONAL.equals(requirement.getDirectives().get(Constants.RESOLUTION_DIRECTIVE));
 	}
 
-	private static boolean isTestWorkspaceProject(Resource f) {
+	static boolean isTestWorkspaceProject(Resource f) {
 		// Be defensive when declaring a fragment as 'test'-fragment
 		IPluginModelBase pluginModel = PluginRegistry.findModel(f);
 		if (pluginModel != null) {
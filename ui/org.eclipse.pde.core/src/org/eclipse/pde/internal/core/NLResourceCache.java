@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.URIUtil;
+
+/**
+ * Shared cache of the localization files of plug-ins and features, used by
+ * {@link NLResourceHelper}. Files are read straight from the bundle folder or
+ * jar instead of through a class loader, and each file is loaded once no
+ * matter how many models ask for it.
+ * <p>
+ * Entries are keyed by bundle location and file path, the path containing
+ * the localization base name and the locale suffix. Missing files are
+ * remembered as well, as most locale specific candidates do not exist. The
+ * cache is bounded, drops entries of workspace files when they change and
+ * reloads entries whose file has a different time stamp on disk.
+ * </p>
+ */
+public final class NLResourceCache implements IResourceChangeListener {
+
+	/**
+	 * Maximum number of cached files, found or missing
+	 */
+	private static final int MAX_ENTRIES = 4096;
+
+	private record Key(String location, String path) {
+	}
+
+	/**
+	 * A cached file; the bundle is <code>null</code> if the file does not
+	 * exist. <code>source</code> is the local file the entry was read from or
+	 * <code>null</code> for remote locations.
+	 */
+	private record Entry(PropertyResourceBundle bundle, File source, long timeStamp) {
+	}
+
+	private final Map<Key, Entry> fEntries = new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Returns the properties file with the given path relative to the given
+	 * bundle location.
+	 *
+	 * @param location the bundle folder or jar; a folder URL ends with a slash
+	 * @param path the path of the properties file within the bundle
+	 * @return the properties or <code>null</code> if the file does not exist
+	 */
+	public PropertyResourceBundle getBundle(URL location, String path) {
+		Key key = new Key(location.toExternalForm(), path);
+		Entry entry;
+		synchronized (fEntries) {
+			entry = fEntries.get(key);
+		}
+		if (entry != null && (entry.source() == null || entry.source().lastModified() == entry.timeStamp())) {
+			return entry.bundle();
+		}
+		entry = load(location, path);
+		synchronized (fEntries) {
+			fEntries.put(key, entry);
+		}
+		return entry.bundle();
+	}
+
+	private static Entry load(URL location, String path) {
+		File root = toFile(location);
+		try {
+			if (root == null) {
+				URL url = location.toExternalForm().endsWith("/") ? new URL(location, path) : new URL("jar:" + location.toExternalForm() + "!/" + path); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				try (InputStream stream = url.openStream()) {
+					return new Entry(new PropertyResourceBundle(stream), null, 0);
+				} catch (FileNotFoundException e) {
+					return new Entry(null, null, 0);
+				}
+			}
+			if (root.isDirectory()) {
+				File file = new File(root, path);
+				long timeStamp = file.lastModified();
+				if (!file.isFile()) {
+					return new Entry(null, file, timeStamp);
+				}
+				try (InputStream stream = Files.newInputStream(file.toPath())) {
+					return new Entry(new PropertyResourceBundle(stream), file, timeStamp);
+				}
+			}
+			long timeStamp = root.lastModified();
+			if (!root.isFile()) {
+				return new Entry(null, root, timeStamp);
+			}
+			try (ZipFile zip = new ZipFile(root)) {
+				ZipEntry zipEntry = zip.getEntry(path);
+				if (zipEntry == null) {
+					return new Entry(null, root, timeStamp);
+				}
+				try (InputStream stream = zip.getInputStream(zipEntry)) {
+					return new Entry(new PropertyResourceBundle(stream), root, timeStamp);
+				}
+			}
+		} catch (IOException e) {
+			PDECore.logException(e);
+			return new Entry(null, root, root != null ? root.lastModified() : 0);
+		}
+	}
+
+	/**
+	 * @return the local file of the given location or <code>null</code>
+	 */
+	private static File toFile(URL location) {
+		if (!"file".equalsIgnoreCase(location.getProtocol())) { //$NON-NLS-1$
+			return null;
+		}
+		try {
+			return URIUtil.toFile(URIUtil.toURI(location));
+		} catch (URISyntaxException e) {
+			return new File(location.getPath());
+		}
+	}
+
+	/**
+	 * Drops the entries read from the given local files.
+	 *
+	 * @param files the changed files
+	 */
+	private void invalidate(Iterable<File> files) {
+		synchronized (fEntries) {
+			for (File file : files) {
+				fEntries.values().removeIf(entry -> file.equals(entry.source()));
+			}
+		}
+	}
+
+	/**
+	 * Drops all entries.
+	 */
+	public void clear() {
+		synchronized (fEntries) {
+			fEntries.clear();
+		}
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		List<File> changed = new ArrayList<>();
+		try {
+			delta.accept(child -> {
+				IResource resource = child.getResource();
+				if (resource instanceof IFile file) {
+					String extension = file.getFileExtension();
+					if ("properties".equals(extension) || "jar".equals(extension)) { //$NON-NLS-1$ //$NON-NLS-2$
+						IPath location = file.getLocation();
+						if (location != null) {
+							changed.add(location.toFile());
+						}
+					}
+					return false;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			PDECore.log(e);
+		}
+		if (!changed.isEmpty()) {
+			invalidate(changed);
+		}
+	}
+}
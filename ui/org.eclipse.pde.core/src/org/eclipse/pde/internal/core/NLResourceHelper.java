@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
 import java.util.StringTokenizer;
@@ -31,22 +28,18 @@ public class NLResourceHelper {
 	private String fNLFileBasePath;
 
 	public NLResourceHelper(String name, URL[] locations) {
-		try (URLClassLoader resourceLoader = new URLClassLoader(locations, null)) {
-			try (InputStream stream = getResourceStream(resourceLoader, name);) {
-				if (stream != null) {
-					bundle = new PropertyResourceBundle(stream);
-				}
-			}
-		} catch (IOException e) {
-			PDECore.logException(e);
-		}
+		bundle = findBundle(PDECore.getDefault().getNLResourceCache(), name, locations);
 	}
 
 	public void dispose() {
 		bundle = null;
 	}
 
-	private InputStream getResourceStream(URLClassLoader resourceLoader, String name) {
+	/**
+	 * Looks up the most specific properties file for the current locale, in
+	 * the order a class loader over the given locations would.
+	 */
+	private PropertyResourceBundle findBundle(NLResourceCache cache, String name, URL[] locations) {
 		StringTokenizer tokenizer = new StringTokenizer(Platform.getNL(), "_"); //$NON-NLS-1$
 		String language = tokenizer.nextToken();
 		String country = (tokenizer.hasMoreTokens() ? tokenizer.nextToken() : ""); //$NON-NLS-1$
@@ -59,16 +52,17 @@ public class NLResourceHelper {
 
 		String[] suffices = new String[] {suffix1, suffix2, suffix3, suffix4};
 
-		InputStream stream = null;
 		for (String suffix : suffices) {
 			String candidateFileName = name + suffix;
-			stream = resourceLoader.getResourceAsStream(candidateFileName + ".properties"); //$NON-NLS-1$
-			if (stream != null) {
-				fNLFileBasePath = candidateFileName;
-				break;
+			for (URL location : locations) {
+				PropertyResourceBundle candidate = cache.getBundle(location, candidateFileName + ".properties"); //$NON-NLS-1$
+				if (candidate != null) {
+					fNLFileBasePath = candidateFileName;
+					return candidate;
+				}
 			}
 		}
-		return stream;
+		return null;
 	}
 
 	public String getResourceString(String value) {
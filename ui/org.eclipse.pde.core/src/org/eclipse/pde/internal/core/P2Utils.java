@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -79,6 +80,7 @@ import org.eclipse.pde.internal.core.ifeature.IFeatureImport;
 import org.eclipse.pde.internal.core.ifeature.IFeatureInfo;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.plugin.PluginBase;
+import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.osgi.framework.Constants;
 
 /**
@@ -341,8 +343,8 @@ public class P2Utils {
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt);
+			saveConfiguration(manipulator, sources, srcBundlesTxt);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -359,6 +361,23 @@ public class P2Utils {
 		}
 	}
 
+	/**
+	 * Saves the bundles to the given file, only touching the file if the
+	 * bundles changed since the last launch. Like
+	 * {@link SimpleConfiguratorManipulator#saveConfiguration(BundleInfo[], File, URI)}
+	 * the file is deleted if there are no bundles.
+	 */
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] bundles, File file)
+			throws IOException {
+		if (bundles.length == 0) {
+			Files.deleteIfExists(file.toPath());
+			return;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		manipulator.saveConfiguration(bundles, out, null);
+		CoreUtility.writeIfChanged(file, out.toByteArray());
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
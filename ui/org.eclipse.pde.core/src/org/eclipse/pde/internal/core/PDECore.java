@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.Hashtable;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.ISaveContext;
 import org.eclipse.core.resources.ISaveParticipant;
 import org.eclipse.core.resources.IWorkspace;
@@ -47,6 +48,7 @@ import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginReferenceIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
 import org.osgi.framework.BundleContext;
@@ -81,11 +83,13 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_MODEL = false;
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
+	public static boolean DEBUG_EXPORT = false;
 	private static final String DEBUG_FLAG = PLUGIN_ID + "/debug"; //$NON-NLS-1$
 	private static final String CLASSPATH_DEBUG = PLUGIN_ID + "/classpath"; //$NON-NLS-1$
 	private static final String MODEL_DEBUG = PLUGIN_ID + "/model"; //$NON-NLS-1$
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
+	private static final String EXPORT_DEBUG = PLUGIN_ID + "/export"; //$NON-NLS-1$
 
 	// Shared instance
 	private static PDECore inst;
@@ -176,6 +180,8 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SchemaRegistry fSchemaRegistry;
 
 	private SourceLocationManager fSourceLocationManager;
+	private NLResourceCache fNLResourceCache;
+	private PluginReferenceIndex fPluginReferenceIndex;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
@@ -302,6 +308,21 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fJavadocLocationManager;
 	}
 
+	public synchronized NLResourceCache getNLResourceCache() {
+		if (fNLResourceCache == null) {
+			fNLResourceCache = new NLResourceCache();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fNLResourceCache, IResourceChangeEvent.POST_CHANGE);
+		}
+		return fNLResourceCache;
+	}
+
+	public synchronized PluginReferenceIndex getPluginReferenceIndex() {
+		if (fPluginReferenceIndex == null) {
+			fPluginReferenceIndex = new PluginReferenceIndex(getModelManager(), getFeatureModelManager());
+		}
+		return fPluginReferenceIndex;
+	}
+
 	public synchronized TracingOptionsManager getTracingOptionsManager() {
 		if (fTracingOptionsManager == null) {
 			fTracingOptionsManager = new TracingOptionsManager();
@@ -399,6 +420,17 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fNLResourceCache != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(fNLResourceCache);
+			fNLResourceCache.clear();
+			fNLResourceCache = null;
+		}
+		if (fPluginReferenceIndex != null) {
+			fPluginReferenceIndex.dispose();
+			fPluginReferenceIndex = null;
+		}
+		RequirementsClosureCache.shutdown();
+		BundleValidationOperation.shutdown();
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
@@ -452,6 +484,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_MODEL = DEBUG && options.getBooleanOption(MODEL_DEBUG, false);
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
+		DEBUG_EXPORT = DEBUG && options.getBooleanOption(EXPORT_DEBUG, false);
 	}
 
 	/**
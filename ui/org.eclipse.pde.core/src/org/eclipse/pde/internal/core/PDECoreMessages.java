@@ -298,6 +298,10 @@ public class PDECoreMessages extends NLS {
 
 	public static String FeatureExportOperation_publishingMetadata;
 
+	public static String FeatureExportOperation_phaseTimings;
+
+	public static String FeatureExportOperation_phaseTiming;
+
 	public static String FeatureExportOperation_runningBuildScript;
 
 	public static String FeatureExportOperation_runningPackagerScript;
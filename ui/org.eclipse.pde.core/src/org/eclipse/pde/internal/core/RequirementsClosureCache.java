@@ -0,0 +1,434 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.internal.core.DependencyManager.Options;
+import org.osgi.framework.wiring.BundleRevision;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
+
+/**
+ * Remembers the requirements closure of each bundle of the PDE state, so that
+ * {@link DependencyManager#findRequirementsClosure(Collection, Options...)}
+ * composes the closure of several bundles from the closures of each of them
+ * instead of walking the wires again.
+ * <p>
+ * The closures are computed for the strongly connected components of the
+ * wiring graph and stored as bit sets of bundle ids, one map per combination
+ * of {@link Options}. A requirement a fragment contributes to its host is an
+ * edge of the fragment, so that it is only followed if the fragment is part
+ * of the closure. When the state is resolved, the closures containing a
+ * bundle of the {@link StateDelta} are discarded, all closures are discarded
+ * when the target platform changes.
+ * </p>
+ */
+final class RequirementsClosureCache {
+
+	private static final int OPTIONAL = 1;
+	private static final int ALL_FRAGMENTS = 2;
+	private static final int NON_TEST_FRAGMENTS = 4;
+
+	/**
+	 * The state the closures were computed in
+	 */
+	private static State fState;
+
+	/**
+	 * Incremented whenever closures are discarded, closures computed
+	 * concurrently are not stored if it changed meanwhile
+	 */
+	private static int fGeneration;
+
+	/**
+	 * Closures of the bundles by combination of options
+	 */
+	private static final Map<Integer, Map<BundleDescription, BitSet>> fClosures = new ConcurrentHashMap<>();
+
+	/**
+	 * Whether a fragment was a test fragment when the closures including
+	 * non-test fragments were computed. These depend on the class path of
+	 * workspace projects and not on the state.
+	 */
+	private static final Map<BundleDescription, Boolean> fTestFragments = new ConcurrentHashMap<>();
+
+	private static Listener fListener;
+
+	private RequirementsClosureCache() { // static use only
+	}
+
+	/**
+	 * Returns the requirements closure of the given bundles.
+	 *
+	 * @param bundles
+	 *            the bundles to compute the closure for
+	 * @param options
+	 *            the options of the closure
+	 * @param monitor
+	 *            the monitor to check for cancellation
+	 * @return the closure or <code>null</code> if the bundles are not part
+	 *         of the current PDE state
+	 * @throws OperationCanceledException
+	 *             if the monitor is canceled
+	 */
+	static Set<BundleDescription> findRequirementsClosure(Collection<BundleDescription> bundles, Set<Options> options,
+			IProgressMonitor monitor) {
+		State state = getState(bundles);
+		if (state == null) {
+			return null;
+		}
+		int variant = getVariant(options);
+		int generation;
+		Map<BundleDescription, BitSet> closures;
+		synchronized (RequirementsClosureCache.class) {
+			addListener();
+			if (state != fState) {
+				discardAll();
+				fState = state;
+			}
+			if ((variant & NON_TEST_FRAGMENTS) != 0 && haveTestFragmentsChanged()) {
+				fGeneration++;
+				fClosures.remove(variant);
+				fTestFragments.clear();
+			}
+			generation = fGeneration;
+			closures = fClosures.computeIfAbsent(variant, v -> new ConcurrentHashMap<>());
+		}
+
+		Map<BundleDescription, BitSet> computed = new IdentityHashMap<>();
+		BitSet result = new BitSet();
+		for (BundleDescription bundle : bundles) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			if (isIncluded(bundle)) {
+				result.or(getClosure(bundle, variant, closures, computed, monitor));
+			}
+		}
+		if (!computed.isEmpty()) {
+			synchronized (RequirementsClosureCache.class) {
+				if (generation == fGeneration) {
+					closures.putAll(computed);
+				}
+			}
+		}
+
+		Set<BundleDescription> closure = new HashSet<>(result.cardinality() * 4 / 3 + 1);
+		for (int id = result.nextSetBit(0); id >= 0; id = result.nextSetBit(id + 1)) {
+			BundleDescription bundle = state.getBundle(id);
+			if (bundle == null) {
+				// the state changed while computing the closure
+				return null;
+			}
+			closure.add(bundle);
+		}
+		return closure;
+	}
+
+	/**
+	 * Discards all closures and stops listening to state changes.
+	 */
+	static void shutdown() {
+		synchronized (RequirementsClosureCache.class) {
+			discardAll();
+			fState = null;
+			if (fListener != null) {
+				PDECore.getDefault().getModelManager().removeStateDeltaListener(fListener);
+				fListener = null;
+			}
+		}
+	}
+
+	/**
+	 * @return the PDE state if it contains all given bundles and their ids fit
+	 *         into a bit set, otherwise <code>null</code>
+	 */
+	private static State getState(Collection<BundleDescription> bundles) {
+		PluginModelManager manager = PDECore.getDefault().getModelManager();
+		if (!manager.isInitialized()) {
+			return null;
+		}
+		State state = manager.getState().getState();
+		for (BundleDescription bundle : bundles) {
+			if (bundle != null && (bundle.getContainingState() != state || !hasIndex(bundle))) {
+				return null;
+			}
+		}
+		return state;
+	}
+
+	private static int getVariant(Set<Options> options) {
+		int variant = 0;
+		if (options.contains(Options.INCLUDE_OPTIONAL_DEPENDENCIES)) {
+			variant |= OPTIONAL;
+		}
+		if (options.contains(Options.INCLUDE_ALL_FRAGMENTS)) {
+			variant |= ALL_FRAGMENTS;
+		}
+		if (options.contains(Options.INCLUDE_NON_TEST_FRAGMENTS)) {
+			variant |= NON_TEST_FRAGMENTS;
+		}
+		return variant;
+	}
+
+	private static boolean haveTestFragmentsChanged() {
+		for (Map.Entry<BundleDescription, Boolean> entry : fTestFragments.entrySet()) {
+			if (DependencyManager.isTestWorkspaceProject(entry.getKey()) != entry.getValue().booleanValue()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the closure of the given bundle with Tarjan's algorithm, the
+	 * closure of each strongly connected component is the union of its
+	 * members and the closures of the components it has edges to.
+	 */
+	private static BitSet getClosure(BundleDescription root, int variant, Map<BundleDescription, BitSet> closures,
+			Map<BundleDescription, BitSet> computed, IProgressMonitor monitor) {
+		BitSet known = getKnownClosure(root, closures, computed);
+		if (known != null) {
+			return known;
+		}
+		Map<BundleDescription, Node> nodes = new IdentityHashMap<>();
+		Deque<Node> stack = new ArrayDeque<>();
+		Deque<Node> path = new ArrayDeque<>();
+		path.push(visit(root, variant, nodes, stack));
+		while (!path.isEmpty()) {
+			if (monitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			Node node = path.peek();
+			if (node.next < node.successors.size()) {
+				BundleDescription successor = node.successors.get(node.next++);
+				if (getKnownClosure(successor, closures, computed) != null) {
+					continue;
+				}
+				Node successorNode = nodes.get(successor);
+				if (successorNode == null) {
+					path.push(visit(successor, variant, nodes, stack));
+				} else if (successorNode.onStack) {
+					node.lowLink = Math.min(node.lowLink, successorNode.index);
+				}
+				continue;
+			}
+			path.pop();
+			if (!path.isEmpty()) {
+				Node parent = path.peek();
+				parent.lowLink = Math.min(parent.lowLink, node.lowLink);
+			}
+			if (node.lowLink == node.index) {
+				// node is the root of a strongly connected component
+				List<Node> component = new ArrayList<>();
+				Node member;
+				do {
+					member = stack.pop();
+					member.onStack = false;
+					component.add(member);
+				} while (member != node);
+				BitSet closure = new BitSet();
+				for (Node componentNode : component) {
+					closure.set((int) componentNode.bundle.getBundleId());
+				}
+				for (Node componentNode : component) {
+					for (BundleDescription successor : componentNode.successors) {
+						BitSet successorClosure = getKnownClosure(successor, closures, computed);
+						if (successorClosure != null) {
+							closure.or(successorClosure);
+						}
+					}
+				}
+				for (Node componentNode : component) {
+					computed.put(componentNode.bundle, closure);
+				}
+			}
+		}
+		return computed.get(root);
+	}
+
+	private static BitSet getKnownClosure(BundleDescription bundle, Map<BundleDescription, BitSet> closures,
+			Map<BundleDescription, BitSet> computed) {
+		BitSet closure = computed.get(bundle);
+		return closure != null ? closure : closures.get(bundle);
+	}
+
+	private static Node visit(BundleDescription bundle, int variant, Map<BundleDescription, Node> nodes,
+			Deque<Node> stack) {
+		Node node = new Node(bundle, nodes.size(), getSuccessors(bundle, variant));
+		nodes.put(bundle, node);
+		stack.push(node);
+		return node;
+	}
+
+	private static final class Node {
+		final BundleDescription bundle;
+		final int index;
+		final List<BundleDescription> successors;
+		int lowLink;
+		int next;
+		boolean onStack = true;
+
+		Node(BundleDescription bundle, int index, List<BundleDescription> successors) {
+			this.bundle = bundle;
+			this.index = index;
+			this.lowLink = index;
+			this.successors = successors;
+		}
+	}
+
+	/**
+	 * Returns the bundles the given bundle adds to a closure: its fragments
+	 * if requested, the providers of its own requirements and, for a
+	 * fragment, the providers of the requirements it contributes to its
+	 * hosts.
+	 */
+	private static List<BundleDescription> getSuccessors(BundleDescription bundle, int variant) {
+		BundleWiring wiring = bundle.getWiring();
+		if (wiring == null || !wiring.isInUse()) {
+			return List.of();
+		}
+		List<BundleDescription> successors = new ArrayList<>();
+		if ((variant & (ALL_FRAGMENTS | NON_TEST_FRAGMENTS)) != 0) {
+			for (BundleDescription fragment : bundle.getFragments()) {
+				if ((variant & ALL_FRAGMENTS) != 0 || !isTestFragment(fragment)) {
+					addSuccessor(fragment, successors);
+				}
+			}
+		}
+		addProviders(wiring, bundle, variant, successors);
+		HostSpecification host = bundle.getHost();
+		if (host != null && host.getHosts() != null) {
+			for (BundleDescription hostBundle : host.getHosts()) {
+				BundleWiring hostWiring = hostBundle.getWiring();
+				if (hostWiring != null && hostWiring.isInUse()) {
+					addProviders(hostWiring, bundle, variant, successors);
+				}
+			}
+		}
+		return successors;
+	}
+
+	private static void addProviders(BundleWiring wiring, BundleDescription declaringBundle, int variant,
+			List<BundleDescription> successors) {
+		for (BundleWire wire : wiring.getRequiredWires(null)) {
+			if (wire.getRequirement().getRevision() != declaringBundle) {
+				continue;
+			}
+			BundleRevision provider = wire.getCapability().getRevision();
+			// Use revision of required capability to support the case if
+			// fragments contribute new packages to their host's API.
+			if (provider instanceof BundleDescription requiredBundle
+					&& ((variant & OPTIONAL) != 0 || !DependencyManager.isOptional(wire.getRequirement()))) {
+				addSuccessor(requiredBundle, successors);
+			}
+		}
+	}
+
+	private static void addSuccessor(BundleDescription bundle, List<BundleDescription> successors) {
+		if (isIncluded(bundle)) {
+			successors.add(bundle);
+		}
+	}
+
+	private static boolean isIncluded(BundleDescription bundle) {
+		return bundle != null && bundle.isResolved() && !bundle.isRemovalPending();
+	}
+
+	private static boolean hasIndex(BundleDescription bundle) {
+		long id = bundle.getBundleId();
+		return id >= 0 && id <= Integer.MAX_VALUE;
+	}
+
+	private static boolean isTestFragment(BundleDescription fragment) {
+		boolean test = DependencyManager.isTestWorkspaceProject(fragment);
+		fTestFragments.put(fragment, Boolean.valueOf(test));
+		return test;
+	}
+
+	private static void discardAll() {
+		fGeneration++;
+		fClosures.clear();
+		fTestFragments.clear();
+	}
+
+	/**
+	 * Discards the closures that contain a bundle whose resolution changed.
+	 */
+	private static void discard(StateDelta delta) {
+		synchronized (RequirementsClosureCache.class) {
+			if (delta == null || delta.getState() != fState) {
+				discardAll();
+				return;
+			}
+			BitSet changed = new BitSet();
+			for (BundleDelta bundleDelta : delta.getChanges()) {
+				BundleDescription bundle = bundleDelta.getBundle();
+				if (!hasIndex(bundle)) {
+					discardAll();
+					return;
+				}
+				changed.set((int) bundle.getBundleId());
+			}
+			if (changed.isEmpty()) {
+				return;
+			}
+			fGeneration++;
+			for (Map<BundleDescription, BitSet> closures : fClosures.values()) {
+				closures.values().removeIf(changed::intersects);
+			}
+		}
+	}
+
+	private static void addListener() {
+		if (fListener == null) {
+			fListener = new Listener();
+			PDECore.getDefault().getModelManager().addStateDeltaListener(fListener);
+		}
+	}
+
+	private static class Listener implements IStateDeltaListener {
+
+		@Override
+		public void stateResolved(StateDelta delta) {
+			discard(delta);
+		}
+
+		@Override
+		public void stateChanged(State newState) {
+			synchronized (RequirementsClosureCache.class) {
+				discardAll();
+				fState = newState;
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2022 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -22,8 +22,10 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
@@ -65,6 +67,31 @@ public class SourceLocationManager implements ICoreConstants {
 	 */
 	private BundleManifestSourceLocationManager fBundleManifestLocator = null;
 
+	private static final int MAX_CACHED_SOURCE_PATHS = 2048;
+
+	private record SourcePathKey(String id, String version, String installLocation, IPath path) {
+	}
+
+	/**
+	 * Source paths found for plug-in libraries, the source of a library is
+	 * looked up each time the class path of a project or the source
+	 * containers of a launch are computed. Only found paths are cached, as a
+	 * source locator may provide the source later on.
+	 */
+	private final Map<SourcePathKey, IPath> fSourcePathCache = new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SourcePathKey, IPath> eldest) {
+			return size() > MAX_CACHED_SOURCE_PATHS;
+		}
+	};
+
+	/**
+	 * User specified source locations the cached source paths were found with
+	 */
+	private String fCachedUserLocations;
+
 	/**
 	 * Searches source locations for one that provides source for the given pluginBase.
 	 * Will search user specified locations, then bundle manifest specified locations, then
@@ -81,6 +108,46 @@ public class SourceLocationManager implements ICoreConstants {
 		if (pluginBase.getId() == null || pluginBase.getVersion() == null) {
 			return null;
 		}
+		IPluginModelBase model = pluginBase.getPluginModel();
+		SourcePathKey key = new SourcePathKey(pluginBase.getId(), pluginBase.getVersion(),
+				model != null ? model.getInstallLocation() : null, sourceLibraryPath);
+		IPath cached = getCachedSourcePath(key);
+		if (cached != null) {
+			return cached;
+		}
+		IPath result = searchSourcePath(pluginBase, sourceLibraryPath);
+		if (result != null) {
+			synchronized (fSourcePathCache) {
+				fSourcePathCache.put(key, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the cached source path if it still exists and the user specified
+	 *         source locations have not changed since it was found, otherwise
+	 *         <code>null</code>
+	 */
+	@SuppressWarnings("deprecation")
+	private IPath getCachedSourcePath(SourcePathKey key) {
+		String userLocations = PDECore.getDefault().getPreferencesManager().getString(P_SOURCE_LOCATIONS);
+		synchronized (fSourcePathCache) {
+			if (!userLocations.equals(fCachedUserLocations)) {
+				fSourcePathCache.clear();
+				fCachedUserLocations = userLocations;
+				return null;
+			}
+			IPath path = fSourcePathCache.get(key);
+			if (path != null && !path.toFile().exists()) {
+				fSourcePathCache.remove(key);
+				return null;
+			}
+			return path;
+		}
+	}
+
+	private IPath searchSourcePath(IPluginBase pluginBase, IPath sourceLibraryPath) {
 		IPath relativePath = getRelativePath(pluginBase, sourceLibraryPath);
 		IPath result = searchUserSpecifiedLocations(relativePath);
 		if (result == null) {
@@ -202,6 +269,9 @@ public class SourceLocationManager implements ICoreConstants {
 	public void reset() {
 		fExtensionLocations = null;
 		fBundleManifestLocator = null;
+		synchronized (fSourcePathCache) {
+			fSourcePathCache.clear();
+		}
 	}
 
 	/**
@@ -46,6 +46,7 @@ public abstract class FeatureBasedExportOperation extends FeatureExportOperation
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
+		resetPhaseTimings();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, "Exporting...", 33); //$NON-NLS-1$
 		try {
 			createDestination();
@@ -64,7 +65,7 @@ public abstract class FeatureBasedExportOperation extends FeatureExportOperation
 			if (subMonitor.isCanceled()) {
 				return Status.CANCEL_STATUS;
 			}
-			return status;
+			return getExportStatus(status);
 		} catch (IOException e) {
 			return Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e);
 		} catch (CoreException e) {
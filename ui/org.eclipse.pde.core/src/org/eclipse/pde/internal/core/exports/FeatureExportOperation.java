@@ -53,6 +53,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
@@ -126,6 +127,7 @@ public class FeatureExportOperation extends Job {
 	private static final String[] GENERIC_CONFIG = new String[] {"*", "*", "*", ""}; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 	protected FeatureExportInfo fInfo;
 	private boolean isPreviewFeatureEnabled;
+	private final Map<String, Long> fPhaseTimings = new LinkedHashMap<>();
 
 	public FeatureExportOperation(FeatureExportInfo info, String name) {
 		super(name);
@@ -141,6 +143,7 @@ public class FeatureExportOperation extends Job {
 
 	@Override
 	protected IStatus run(IProgressMonitor monitor) {
+		resetPhaseTimings();
 		try {
 			createDestination();
 			String[][] configurations = fInfo.targets;
@@ -178,7 +181,7 @@ public class FeatureExportOperation extends Job {
 					}
 				}
 			}
-			return status;
+			return getExportStatus(status);
 		} catch (InvocationTargetException | CoreException e) {
 			return Status.error(PDECoreMessages.FeatureBasedExportOperation_ProblemDuringExport, e.getCause() != null ? e.getCause() : e);
 		} catch (IOException e) {
@@ -304,10 +307,12 @@ public class FeatureExportOperation extends Job {
 		int subTaskLength = 6 + (configs.length * 4) + (publishingP2Metadata() ? 2 : 0);
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.FeatureExportJob_taskName, subTaskLength);
 
+		long start = System.currentTimeMillis();
 		HashMap<String, String> properties = createAntBuildProperties(configs);
 		BuildScriptGenerator generator = new BuildScriptGenerator();
 		setupGenerator(generator, featureID, version, configs, featureLocation);
 		generator.generate();
+		start = recordPhase(PDECoreMessages.FeatureExportJob_taskName, start);
 		subMonitor.split(1);
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningBuildScript);
 		// compile the classes
@@ -316,10 +321,12 @@ public class FeatureExportOperation extends Job {
 		if (fInfo.exportSource && !fInfo.exportSourceBundle) {
 			runScript(getBuildScriptName(featureLocation), new String[] {"build.sources"}, properties, subMonitor.split(1)); //$NON-NLS-1$
 		}
+		start = recordPhase(PDECoreMessages.FeatureExportOperation_runningBuildScript, start);
 
 		if (publishingP2Metadata()) {
 			subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_publishingMetadata);
 			runScript(getAssembleP2ScriptName(featureID, featureLocation), new String[] {"main"}, properties, subMonitor.split(2)); //$NON-NLS-1$
+			start = recordPhase(PDECoreMessages.FeatureExportOperation_publishingMetadata, start);
 
 			//metadata implies groups if we aren't exporting products
 			if (groupedConfigurations()) {
@@ -334,16 +341,64 @@ public class FeatureExportOperation extends Job {
 			runScript(getAssemblyScriptName(featureID, config[0], config[1], config[2], featureLocation), new String[] {"main"}, //$NON-NLS-1$
 					properties, subMonitor.split(2));
 		}
+		start = recordPhase(PDECoreMessages.FeatureExportOperation_runningAssemblyScript, start);
 
 		subMonitor.setTaskName(PDECoreMessages.FeatureExportOperation_runningPackagerScript);
 		for (String[] config : configs) {
 			setArchiveLocation(properties, config[0], config[1], config[2]);
 			runScript(getPackagerScriptName(featureID, config[0], config[1], config[2], featureLocation), null, properties, subMonitor.split(2));
 		}
+		recordPhase(PDECoreMessages.FeatureExportOperation_runningPackagerScript, start);
 		properties.put("destination.temp.folder", fBuildTempLocation + "/pde.logs"); //$NON-NLS-1$ //$NON-NLS-2$
 		runScript(getBuildScriptName(featureLocation), new String[] {"gather.logs"}, properties, subMonitor.split(2)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Forgets the phase timings of an earlier run of this operation, to be called when a run starts.
+	 */
+	protected void resetPhaseTimings() {
+		fPhaseTimings.clear();
+	}
+
+	/**
+	 * Adds the time elapsed since <code>start</code> to the timing of the given export phase.
+	 *
+	 * @param phase the name of the phase
+	 * @param start the time the phase started
+	 * @return the current time, to be used as start of the next phase
+	 */
+	private long recordPhase(String phase, long start) {
+		long now = System.currentTimeMillis();
+		fPhaseTimings.merge(phase, now - start, Long::sum);
+		return now;
+	}
+
+	/**
+	 * Returns the given export result with the time spent in each export phase attached as
+	 * children. The severity of the returned status is the severity of <code>status</code>.
+	 *
+	 * @param status the result of the export
+	 * @return a status containing the phase timings, or <code>status</code> if nothing was timed
+	 */
+	protected IStatus getExportStatus(IStatus status) {
+		if (fPhaseTimings.isEmpty() || status.matches(IStatus.CANCEL)) {
+			return status;
+		}
+		MultiStatus result;
+		if (status.isOK()) {
+			result = new MultiStatus(PDECore.PLUGIN_ID, status.getCode(), PDECoreMessages.FeatureExportOperation_phaseTimings);
+		} else {
+			result = new MultiStatus(PDECore.PLUGIN_ID, status.getCode(), status.getMessage());
+			result.add(status);
+		}
+		fPhaseTimings.forEach((phase, time) -> result.add(new Status(IStatus.OK, PDECore.PLUGIN_ID,
+				NLS.bind(PDECoreMessages.FeatureExportOperation_phaseTiming, phase, Long.toString(time)))));
+		if (PDECore.DEBUG_EXPORT) {
+			fPhaseTimings.forEach((phase, time) -> System.out.println(phase + ": " + time + "ms")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return result;
+	}
+
 	protected boolean groupedConfigurations() {
 		//feature export with p2 metadata results in a grouped repo
 		return publishingP2Metadata();
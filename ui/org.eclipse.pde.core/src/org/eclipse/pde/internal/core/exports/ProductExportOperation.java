@@ -119,6 +119,7 @@ public class ProductExportOperation extends FeatureExportOperation {
 
 		cleanupBuildRepo();
 		errorMessage = null;
+		resetPhaseTimings();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 9);
 
 		try {
@@ -149,11 +150,11 @@ public class ProductExportOperation extends FeatureExportOperation {
 		}
 
 		if (hasAntErrors()) {
-			return Status.warning(NLS.bind(PDECoreMessages.FeatureExportOperation_CompilationErrors, fInfo.destinationDirectory));
+			return getExportStatus(Status.warning(NLS.bind(PDECoreMessages.FeatureExportOperation_CompilationErrors, fInfo.destinationDirectory)));
 		}
 
 		errorMessage = null;
-		return Status.OK_STATUS;
+		return getExportStatus(Status.OK_STATUS);
 	}
 
 	@Override
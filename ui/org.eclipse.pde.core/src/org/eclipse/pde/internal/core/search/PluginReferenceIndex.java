@@ -0,0 +1,388 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.FeatureModelManager;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
+
+/**
+ * Reverse index of the references between plug-ins and features, answering
+ * which models declare or refer to a given plug-in, package or extension
+ * point without walking every model.
+ * <p>
+ * The index covers the same plug-in models as
+ * {@link PluginModelManager#getAllModels()} and the models of the
+ * {@link FeatureModelManager}. It is built on first use and then kept up to
+ * date from the model deltas. Names are compared ignoring case, so the
+ * returned models are candidates that callers still match against their
+ * actual search pattern.
+ * </p>
+ */
+public final class PluginReferenceIndex implements IPluginModelListener, IFeatureModelListener {
+
+	/**
+	 * The kinds of names a plug-in model is indexed by
+	 */
+	public enum Kind {
+		/** the id of the plug-in or fragment itself */
+		PLUGIN,
+		/** the required plug-ins and the host of a fragment */
+		REQUIRED_PLUGIN,
+		/** the imported packages */
+		IMPORTED_PACKAGE,
+		/** the full ids of the declared extension points */
+		EXTENSION_POINT,
+		/** the extension points extended by the plug-in */
+		EXTENSION,
+	}
+
+	private record Key(Kind kind, String name) {
+	}
+
+	/**
+	 * The id a plug-in model was indexed with and its keys
+	 */
+	private record Indexed(String id, List<Key> keys) {
+	}
+
+	private final PluginModelManager fPluginManager;
+	private final FeatureModelManager fFeatureManager;
+
+	private final Map<Key, Set<IPluginModelBase>> fPlugins = new HashMap<>();
+	private final Map<IPluginModelBase, Indexed> fPluginKeys = new IdentityHashMap<>();
+	private final Map<String, List<IPluginModelBase>> fModelsById = new HashMap<>();
+
+	private final Map<String, Set<IFeatureModel>> fFeatures = new HashMap<>();
+	private final Map<IFeatureModel, List<String>> fFeatureKeys = new IdentityHashMap<>();
+
+	private boolean fBuilt;
+	/**
+	 * Counts the deltas received before the index is built, to detect deltas
+	 * that arrive while the models are collected for the initial build
+	 */
+	private int fPendingDeltas;
+
+	public PluginReferenceIndex(PluginModelManager pluginManager, FeatureModelManager featureManager) {
+		fPluginManager = pluginManager;
+		fFeatureManager = featureManager;
+		fPluginManager.addPluginModelListener(this);
+		fFeatureManager.addFeatureModelListener(this);
+	}
+
+	public void dispose() {
+		fPluginManager.removePluginModelListener(this);
+		fFeatureManager.removeFeatureModelListener(this);
+		synchronized (this) {
+			clear();
+			fBuilt = false;
+		}
+	}
+
+	/**
+	 * Returns the plug-in models indexed by the given name, ignoring case.
+	 *
+	 * @param kind the kind of name
+	 * @param name the name
+	 * @return the models, never <code>null</code>
+	 */
+	public Set<IPluginModelBase> getPluginModels(Kind kind, String name) {
+		ensureBuilt();
+		synchronized (this) {
+			Set<IPluginModelBase> models = fPlugins.get(new Key(kind, fold(name)));
+			return models == null ? Collections.emptySet() : Set.copyOf(models);
+		}
+	}
+
+	/**
+	 * Returns the feature models that include the plug-in with the given id,
+	 * ignoring case.
+	 *
+	 * @param pluginId the id of the plug-in
+	 * @return the including features, never <code>null</code>
+	 */
+	public Set<IFeatureModel> getIncludingFeatures(String pluginId) {
+		ensureBuilt();
+		synchronized (this) {
+			Set<IFeatureModel> models = fFeatures.get(fold(pluginId));
+			return models == null ? Collections.emptySet() : Set.copyOf(models);
+		}
+	}
+
+	/**
+	 * @return whether the given model is covered by this index; models that
+	 *         are not can not be ruled out by a lookup
+	 */
+	public boolean isIndexed(IPluginModelBase model) {
+		ensureBuilt();
+		synchronized (this) {
+			return fPluginKeys.containsKey(model);
+		}
+	}
+
+	/**
+	 * @return whether the given model is covered by this index; models that
+	 *         are not can not be ruled out by a lookup
+	 */
+	public boolean isIndexed(IFeatureModel model) {
+		ensureBuilt();
+		synchronized (this) {
+			return fFeatureKeys.containsKey(model);
+		}
+	}
+
+	private void ensureBuilt() {
+		while (true) {
+			int pending;
+			synchronized (this) {
+				if (fBuilt) {
+					return;
+				}
+				pending = fPendingDeltas;
+			}
+			// collect outside of the lock, the managers notify their
+			// listeners while holding their own locks
+			Map<IPluginModelBase, List<Key>> plugins = new IdentityHashMap<>();
+			for (IPluginModelBase model : fPluginManager.getAllModels()) {
+				plugins.put(model, computeKeys(model));
+			}
+			Map<IFeatureModel, List<String>> features = new IdentityHashMap<>();
+			for (IFeatureModel model : fFeatureManager.getModels()) {
+				features.put(model, computeKeys(model));
+			}
+			synchronized (this) {
+				if (fBuilt) {
+					return;
+				}
+				if (pending == fPendingDeltas) {
+					clear();
+					plugins.forEach(this::addPlugin);
+					features.forEach(this::addFeature);
+					fBuilt = true;
+					return;
+				}
+			}
+		}
+	}
+
+	private void clear() {
+		fPlugins.clear();
+		fPluginKeys.clear();
+		fModelsById.clear();
+		fFeatures.clear();
+		fFeatureKeys.clear();
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		synchronized (this) {
+			if (!fBuilt) {
+				fPendingDeltas++;
+				return;
+			}
+		}
+		List<ModelEntry> entries = new ArrayList<>();
+		Collections.addAll(entries, delta.getRemovedEntries());
+		Collections.addAll(entries, delta.getChangedEntries());
+		Collections.addAll(entries, delta.getAddedEntries());
+		Map<String, Map<IPluginModelBase, List<Key>>> updates = new HashMap<>();
+		for (ModelEntry entry : entries) {
+			Map<IPluginModelBase, List<Key>> models = new IdentityHashMap<>();
+			// the same selection as PluginModelManager.getAllModels()
+			IPluginModelBase[] candidates = entry.hasWorkspaceModels() ? entry.getWorkspaceModels() : entry.getExternalModels();
+			for (IPluginModelBase model : candidates) {
+				models.put(model, computeKeys(model));
+			}
+			updates.put(entry.getId(), models);
+		}
+		synchronized (this) {
+			if (!fBuilt) {
+				return;
+			}
+			updates.forEach((id, models) -> {
+				List<IPluginModelBase> previous = fModelsById.get(id);
+				if (previous != null) {
+					List.copyOf(previous).forEach(this::removePlugin);
+				}
+				models.forEach(this::addPlugin);
+			});
+		}
+	}
+
+	@Override
+	public void modelsChanged(IFeatureModelDelta delta) {
+		synchronized (this) {
+			if (!fBuilt) {
+				fPendingDeltas++;
+				return;
+			}
+		}
+		Map<IFeatureModel, List<String>> updates = new IdentityHashMap<>();
+		for (IFeatureModel model : delta.getChanged()) {
+			updates.put(model, computeKeys(model));
+		}
+		for (IFeatureModel model : delta.getAdded()) {
+			updates.put(model, computeKeys(model));
+		}
+		synchronized (this) {
+			if (!fBuilt) {
+				return;
+			}
+			for (IFeatureModel model : delta.getRemoved()) {
+				removeFeature(model);
+			}
+			updates.forEach((model, keys) -> {
+				removeFeature(model);
+				addFeature(model, keys);
+			});
+		}
+	}
+
+	private void addPlugin(IPluginModelBase model, List<Key> keys) {
+		removePlugin(model);
+		IPluginBase pluginBase = model.getPluginBase();
+		String id = pluginBase != null ? pluginBase.getId() : null;
+		fPluginKeys.put(model, new Indexed(id, keys));
+		for (Key key : keys) {
+			fPlugins.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(model);
+		}
+		if (id != null) {
+			fModelsById.computeIfAbsent(id, i -> new ArrayList<>(1)).add(model);
+		}
+	}
+
+	private void removePlugin(IPluginModelBase model) {
+		Indexed indexed = fPluginKeys.remove(model);
+		if (indexed == null) {
+			return;
+		}
+		for (Key key : indexed.keys()) {
+			Set<IPluginModelBase> models = fPlugins.get(key);
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				fPlugins.remove(key);
+			}
+		}
+		if (indexed.id() != null) {
+			List<IPluginModelBase> models = fModelsById.get(indexed.id());
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				fModelsById.remove(indexed.id());
+			}
+		}
+	}
+
+	private void addFeature(IFeatureModel model, List<String> keys) {
+		fFeatureKeys.put(model, keys);
+		for (String key : keys) {
+			fFeatures.computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(model);
+		}
+	}
+
+	private void removeFeature(IFeatureModel model) {
+		List<String> keys = fFeatureKeys.remove(model);
+		if (keys == null) {
+			return;
+		}
+		for (String key : keys) {
+			Set<IFeatureModel> models = fFeatures.get(key);
+			if (models != null && models.remove(model) && models.isEmpty()) {
+				fFeatures.remove(key);
+			}
+		}
+	}
+
+	private static List<Key> computeKeys(IPluginModelBase model) {
+		List<Key> keys = new ArrayList<>();
+		IPluginBase pluginBase = model.getPluginBase();
+		if (pluginBase == null) {
+			return keys;
+		}
+		addKey(keys, Kind.PLUGIN, pluginBase.getId());
+		if (pluginBase instanceof IFragment fragment) {
+			addKey(keys, Kind.REQUIRED_PLUGIN, fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			addKey(keys, Kind.REQUIRED_PLUGIN, pluginImport.getId());
+		}
+		BundleDescription description = model.getBundleDescription();
+		if (description != null) {
+			for (ImportPackageSpecification importPackage : description.getImportPackages()) {
+				addKey(keys, Kind.IMPORTED_PACKAGE, importPackage.getName());
+			}
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			addKey(keys, Kind.EXTENSION_POINT, extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			addKey(keys, Kind.EXTENSION, extension.getPoint());
+		}
+		return keys;
+	}
+
+	private static void addKey(List<Key> keys, Kind kind, String name) {
+		if (name != null) {
+			Key key = new Key(kind, fold(name));
+			if (!keys.contains(key)) {
+				keys.add(key);
+			}
+		}
+	}
+
+	private static List<String> computeKeys(IFeatureModel model) {
+		List<String> keys = new ArrayList<>();
+		IFeature feature = model.getFeature();
+		if (feature == null) {
+			return keys;
+		}
+		for (IFeaturePlugin plugin : feature.getPlugins()) {
+			String id = plugin.getId();
+			if (id != null && !keys.contains(fold(id))) {
+				keys.add(fold(id));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Folds the case of the given name the way a case insensitive
+	 * {@link java.util.regex.Pattern} compares characters.
+	 */
+	private static String fold(String name) {
+		StringBuilder folded = new StringBuilder(name.length());
+		name.codePoints().map(c -> Character.toLowerCase(Character.toUpperCase(c))).forEach(folded::appendCodePoint);
+		return folded.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,10 @@
 package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +31,7 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -46,6 +50,18 @@ public class PluginSearchOperation {
 	public void execute(IProgressMonitor monitor) {
 		IPluginModelBase[] plugins = fInput.getSearchScope().getMatchingModels();
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
+		String searchString = fInput.getSearchString();
+		if (searchString.indexOf('*') == -1 && searchString.indexOf('?') == -1) {
+			// without wildcards only the models the index knows to mention
+			// the name can match
+			PluginReferenceIndex index = PDECore.getDefault().getPluginReferenceIndex();
+			Set<IPluginModelBase> candidates = findCandidates(index, searchString);
+			plugins = Arrays.stream(plugins).filter(m -> candidates.contains(m) || !index.isIndexed(m))
+					.toArray(IPluginModelBase[]::new);
+			Set<IFeatureModel> featureCandidates = index.getIncludingFeatures(searchString);
+			features = Arrays.stream(features).filter(m -> featureCandidates.contains(m) || !index.isIndexed(m))
+					.toArray(IFeatureModel[]::new);
+		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
 		for (IPluginModelBase candidate : plugins) {
@@ -59,6 +75,33 @@ public class PluginSearchOperation {
 		}
 	}
 
+	private Set<IPluginModelBase> findCandidates(PluginReferenceIndex index, String name) {
+		Set<IPluginModelBase> candidates = new HashSet<>();
+		int searchLimit = fInput.getSearchLimit();
+		switch (fInput.getSearchElement()) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					candidates.addAll(index.getPluginModels(PluginReferenceIndex.Kind.PLUGIN, name));
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					candidates.addAll(index.getPluginModels(PluginReferenceIndex.Kind.REQUIRED_PLUGIN, name));
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				candidates.addAll(index.getPluginModels(PluginReferenceIndex.Kind.PLUGIN, name));
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (searchLimit != PluginSearchInput.LIMIT_REFERENCES) {
+					candidates.addAll(index.getPluginModels(PluginReferenceIndex.Kind.EXTENSION_POINT, name));
+				}
+				if (searchLimit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					candidates.addAll(index.getPluginModels(PluginReferenceIndex.Kind.EXTENSION, name));
+				}
+				break;
+		}
+		return candidates;
+	}
+
 	private void visit(IPluginModelBase model) {
 		ArrayList<IIdentifiable> matches = findMatch(model);
 		for (int i = 0; i < matches.size(); i++) {
@@ -21,6 +21,10 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -147,6 +151,67 @@ public class CoreUtility {
 		}
 	}
 
+	/**
+	 * Writes the given content to a file, unless the file already exists with exactly
+	 * the same content.  Leaving an unchanged file untouched avoids needless I/O and
+	 * keeps its modification time stable.
+	 *
+	 * @param file the file to write, missing parent directories are created
+	 * @param content the new content of the file
+	 * @return whether the file was written
+	 * @throws IOException if the file could not be read or written
+	 */
+	public static boolean writeIfChanged(File file, byte[] content) throws IOException {
+		Path path = file.toPath();
+		if (Files.isRegularFile(path) && Files.size(path) == content.length
+				&& Arrays.equals(Files.readAllBytes(path), content)) {
+			return false;
+		}
+		File directory = file.getParentFile();
+		if (directory != null && (!directory.exists() || directory.isFile())) {
+			directory.mkdirs();
+		}
+		Files.write(path, content);
+		return true;
+	}
+
+	/**
+	 * Stores the given properties to a file, unless the file already contains the same
+	 * entries.  The comment lines written by {@link Properties#store(java.io.OutputStream, String)},
+	 * including the time stamp, are not considered when comparing.
+	 *
+	 * @param file the file to write, missing parent directories are created
+	 * @param properties the properties to store
+	 * @param comment the comment to write at the start of the file, may be <code>null</code>
+	 * @return whether the file was written
+	 * @throws IOException if the file could not be read or written
+	 */
+	public static boolean storeIfChanged(File file, Properties properties, String comment) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		properties.store(out, comment);
+		byte[] content = out.toByteArray();
+		if (file.isFile()) {
+			byte[] existing = Files.readAllBytes(file.toPath());
+			if (Arrays.equals(existing, skipComments(existing), existing.length, content, skipComments(content), content.length)) {
+				return false;
+			}
+		}
+		return writeIfChanged(file, content);
+	}
+
+	private static int skipComments(byte[] content) {
+		int offset = 0;
+		while (offset < content.length && content[offset] == '#') {
+			while (offset < content.length && content[offset] != '\n' && content[offset] != '\r') {
+				offset++;
+			}
+			while (offset < content.length && (content[offset] == '\n' || content[offset] == '\r')) {
+				offset++;
+			}
+		}
+		return offset;
+	}
+
 	public static boolean jarContainsResource(File file, String resource, boolean directory) {
 		try (ZipFile jarFile = new ZipFile(file, ZipFile.OPEN_READ);) {
 			ZipEntry resourceEntry = jarFile.getEntry(resource);
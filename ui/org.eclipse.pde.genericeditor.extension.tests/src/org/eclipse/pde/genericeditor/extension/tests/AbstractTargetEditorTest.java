@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2024 Red Hat Inc. and others
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,8 +19,10 @@ import static org.junit.Assert.fail;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.stream.Collectors;
 
@@ -32,6 +34,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.text.ITextOperationTarget;
@@ -83,9 +86,10 @@ public abstract class AbstractTargetEditorTest {
 		}
 	}
 
-	protected String getLocationForSite(String name) {
-		return FrameworkUtil.getBundle(this.getClass()).getEntry("testing-files/testing-sites/" + name + "/")
-				.toString();
+	protected String getLocationForSite(String name) throws IOException {
+		URL entry = FrameworkUtil.getBundle(this.getClass()).getEntry("testing-files/testing-sites/" + name + "/");
+		// use the site as a local file:// p2 repository
+		return new File(FileLocator.toFileURL(entry).getPath()).toPath().toUri().toString();
 	}
 
 	@After
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.genericeditor.extension.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.internal.genericeditor.target.extension.model.RepositoryCache;
+import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RepositoryCacheTests extends AbstractTargetEditorTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final RepositoryCache cache = RepositoryCache.getDefault();
+
+	@Test
+	public void testFetchUnits() throws Exception {
+		String repo = getLocationForSite("MultipleUnitsConfirmSorting");
+		cache.flush();
+
+		List<UnitNode> units = cache.fetchP2UnitsFromRepo(repo, true);
+		assertEquals(List.of("org.eclipse.fake.1", "org.eclipse.fake.2", "org.eclipse.fake.3", "org.eclipse.fake.4",
+				"org.eclipse.fake.5", "org.eclipse.fake.6", "org.eclipse.fake.7"),
+				units.stream().map(UnitNode::getId).toList());
+		assertTrue(cache.isUpToDate(repo));
+
+		UnitNode unit = cache.getUnit(repo, "org.eclipse.fake.6");
+		assertNotNull(unit);
+		assertEquals("1.10.0", unit.getVersion());
+		assertEquals(2, unit.getAvailableVersions().size());
+		assertTrue(unit.getAvailableVersions().containsAll(List.of("1.9.0", "1.10.0")));
+		assertNull(cache.getUnit(repo, "org.eclipse.fake"));
+
+		assertEquals(7, cache.getUnitsByPrefix(repo, "org.eclipse.fake.").size());
+		assertEquals(1, cache.getUnitsByPrefix(repo, "org.eclipse.fake.7").size());
+		assertTrue(cache.getUnitsByPrefix(repo, "org.eclipse.other").isEmpty());
+	}
+
+	@Test
+	public void testSnapshot() throws Exception {
+		String repo = getLocationForSite("MultipleUnitsConfirmSorting");
+		cache.fetchP2UnitsFromRepo(repo, true);
+		cache.flush();
+		assertFalse(cache.isUpToDate(repo));
+
+		// the snapshot written by the last fetch is used right away
+		List<UnitNode> units = cache.getUnits(repo);
+		assertNotNull(units);
+		assertEquals(7, units.size());
+		assertEquals("2.0.0", cache.getUnit(repo, "org.eclipse.fake.1").getVersion());
+
+		// while the repository is fetched again
+		cache.fetchP2UnitsFromRepo(repo, false);
+		assertTrue(cache.isUpToDate(repo));
+	}
+
+	/**
+	 * Tests that the units of a repository that cannot be reached anymore are
+	 * kept
+	 */
+	@Test
+	public void testUnreachableRepository() throws Exception {
+		Path site = folder.newFolder("site").toPath();
+		copy(Path.of(URI.create(getLocationForSite("MultipleUnitsConfirmSorting"))), site);
+		String repo = site.toUri().toString();
+		assertEquals(7, cache.fetchP2UnitsFromRepo(repo, true).size());
+
+		delete(site);
+		assertEquals(7, cache.fetchP2UnitsFromRepo(repo, true).size());
+		cache.flush();
+		assertEquals(7, cache.fetchP2UnitsFromRepo(repo, true).size());
+		assertNotNull(cache.getUnit(repo, "org.eclipse.fake.1"));
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		try (Stream<Path> files = Files.walk(source)) {
+			for (Path file : files.toList()) {
+				Path copy = target.resolve(source.relativize(file).toString());
+				if (Files.isDirectory(file)) {
+					Files.createDirectories(copy);
+				} else {
+					Files.copy(file, copy);
+				}
+			}
+		}
+	}
+
+	private static void delete(Path folder) throws IOException {
+		try (Stream<Path> files = Files.walk(folder)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+	}
+}
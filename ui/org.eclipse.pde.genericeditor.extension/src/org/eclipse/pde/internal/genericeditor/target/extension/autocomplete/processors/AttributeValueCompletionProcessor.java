@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -88,7 +88,10 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 					return getErrorCompletion();
 				}
 				RepositoryCache cache = RepositoryCache.getDefault();
-				List<UnitNode> units = cache.fetchP2UnitsFromRepo(repoLocation, false);
+				List<UnitNode> units = cache.getUnits(repoLocation);
+				if (units == null) {
+					return getLoadingCompletion();
+				}
 				return convertToProposals(units);
 			}
 
@@ -104,15 +107,12 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 					return getErrorCompletion();
 				}
 				RepositoryCache cache = RepositoryCache.getDefault();
-				List<UnitNode> repositoryUnits = cache.fetchP2UnitsFromRepo(repoLocation, false);
-				List<String> versions = null;
-				for (UnitNode unit : repositoryUnits) {
-					if (unit.getId().equals(node.getId())) {
-						versions = unit.getAvailableVersions();
-					}
+				if (cache.getUnits(repoLocation) == null) {
+					return getLoadingCompletion();
 				}
-				if (versions != null)
-					return convertToVersionProposals(versions);
+				UnitNode unit = cache.getUnit(repoLocation, node.getId());
+				if (unit != null)
+					return convertToVersionProposals(unit.getAvailableVersions());
 
 			}
 
@@ -141,7 +141,9 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 	}
 
 	private ICompletionProposal[] convertToProposals(List<UnitNode> units) {
-		Collections.sort(units, (node1, node2) -> String.CASE_INSENSITIVE_ORDER.compare(node1.getId(), node2.getId()));
+		// units are already sorted case-insensitively by id. All of them are
+		// matched as the search term may match anywhere in the id and its
+		// segments (Bug 531918), which a prefix lookup in the index cannot find
 		List<ICompletionProposal> result = new ArrayList<>();
 		for (UnitNode unit : units) {
 			StyledString displayString = TargetDefinitionContentAssist.getFilteredStyledString(unit.getId(),
@@ -154,6 +156,12 @@ public class AttributeValueCompletionProcessor extends DelegateProcessor {
 		return result.toArray(new ICompletionProposal[result.size()]);
 	}
 
+	private ICompletionProposal[] getLoadingCompletion() {
+		String replacementString = Messages.AttributeValueCompletionProcessor_RepositoryLoading;
+		return new ICompletionProposal[] {
+				new CompletionProposal("", offset, 0, 0, null, replacementString, null, null) }; //$NON-NLS-1$
+	}
+
 	private ICompletionProposal[] getErrorCompletion() {
 
 		String replacementString = Messages.AttributeValueCompletionProcessor_RepositoryRequired;
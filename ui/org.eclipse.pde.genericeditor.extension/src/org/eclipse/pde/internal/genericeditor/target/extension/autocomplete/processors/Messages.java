@@ -5,6 +5,7 @@ import org.eclipse.osgi.util.NLS;
 public class Messages extends NLS {
 	private static final String BUNDLE_NAME = "org.eclipse.pde.internal.genericeditor.target.extension.autocomplete.processors.messages"; //$NON-NLS-1$
 	public static String AttributeValueCompletionProcessor_RepositoryRequired;
+	public static String AttributeValueCompletionProcessor_RepositoryLoading;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
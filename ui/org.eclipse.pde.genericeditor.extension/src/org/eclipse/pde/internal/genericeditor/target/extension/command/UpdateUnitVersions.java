@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Red Hat Inc. and others
+ * Copyright (c) 2018, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.genericeditor.target.extension.command;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -90,7 +91,8 @@ public class UpdateUnitVersions extends AbstractHandler {
 					List<String> versions = null;
 					for (UnitNode unit : repositoryUnits) {
 						if (unit.getId().equals(unitNode.getId())) {
-							versions = unit.getAvailableVersions();
+							// sorted as a copy, the units are shared by all editors
+							versions = new ArrayList<>(unit.getAvailableVersions());
 							break;
 						}
 					}
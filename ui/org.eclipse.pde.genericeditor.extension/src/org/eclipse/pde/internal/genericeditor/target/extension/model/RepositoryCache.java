@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,10 +15,17 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.genericeditor.target.extension.p2.Messages;
 import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
 
 /**
@@ -26,14 +33,42 @@ import org.eclipse.pde.internal.genericeditor.target.extension.p2.P2Fetcher;
  * to minimize IO round trips and have instant completion for IUs and their
  * versions.
  *
- * There will be only one cache shared between editors. In the future a function
- * will be added for the user to be able to flush this cache.
+ * There will be only one cache shared between editors. The units of a
+ * repository are kept in a {@link RepositoryIndex}, at most
+ * {@value #MAX_REPOSITORIES} repositories are held in memory. Each fetched
+ * index is also written as snapshot to disk, so that completion can use it
+ * right away in a later session while the repository is fetched again in the
+ * background.
  */
 public class RepositoryCache {
 
-	private static RepositoryCache instance;
+	/**
+	 * Maximum number of repositories held in memory, the least recently used
+	 * ones are evicted first
+	 */
+	private static final int MAX_REPOSITORIES = 16;
+
+	/**
+	 * Time completion waits for a repository that is neither in memory nor
+	 * available as snapshot
+	 */
+	private static final long FETCH_WAIT_MILLIS = 1000;
 
-	Map<String, List<UnitNode>> cache = new HashMap<>();
+	private static final RepositoryCache instance = new RepositoryCache();
+
+	/**
+	 * Indexes by repository URL, guarded by itself
+	 */
+	private final Map<String, RepositoryIndex> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RepositoryIndex> eldest) {
+			return size() > MAX_REPOSITORIES;
+		}
+	};
+
+	private final Map<String, CompletableFuture<RepositoryIndex>> pendingFetches = new ConcurrentHashMap<>();
 
 	private RepositoryCache() {
 		//avoid instantiation
@@ -44,28 +79,57 @@ public class RepositoryCache {
 	 */
 
 	public static RepositoryCache getDefault() {
-		if (instance == null) {
-			instance = new RepositoryCache();
-		}
 		return instance;
 	}
 
 	/**
-	 * Fetches information and caches it.
+	 * Fetches information and caches it. Waits for the repository to be
+	 * fetched if it is not cached yet or only a snapshot of an earlier session
+	 * is available.
 	 *
 	 * @param repo
 	 *            repository URL
 	 * @param flush
 	 *            whether a flush is needed
-	 * @return list of IUs available in the 'repo' repository. Never
-	 *         <code>null</code>.
+	 * @return unmodifiable list of IUs available in the 'repo' repository,
+	 *         sorted case-insensitively by id. Never <code>null</code>.
 	 */
 	public List<UnitNode> fetchP2UnitsFromRepo(String repo, boolean flush) {
-		if ((flush) || (cache.get(repo) == null)) {
-			List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
-			cache.put(repo, units);
-		}
-		return cache.get(repo);
+		return getFetchedIndex(repo, flush).getUnits();
+	}
+
+	/**
+	 * Returns the IUs of a repository for completion without waiting for the
+	 * repository to be fetched. If only a snapshot of an earlier session is
+	 * available, the snapshot is returned and the repository is fetched again
+	 * in the background. If nothing is known about the repository, it is
+	 * fetched in the background and waited for a short time only.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @return unmodifiable list of IUs available in the 'repo' repository,
+	 *         sorted case-insensitively by id, or <code>null</code> if the
+	 *         repository is still being fetched
+	 */
+	public List<UnitNode> getUnits(String repo) {
+		RepositoryIndex index = getAvailableIndex(repo);
+		return index != null ? index.getUnits() : null;
+	}
+
+	/**
+	 * Looks up an IU for completion without waiting for the repository to be
+	 * fetched, see {@link #getUnits(String)}.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @param id
+	 *            id of the IU
+	 * @return the IU or <code>null</code> if the repository does not contain
+	 *         it or is still being fetched
+	 */
+	public UnitNode getUnit(String repo, String id) {
+		RepositoryIndex index = getAvailableIndex(repo);
+		return index != null ? index.getUnit(id) : null;
 	}
 
 	/**
@@ -86,14 +150,7 @@ public class RepositoryCache {
 	 * @return A list of IUs whose id starts with 'prefix'
 	 */
 	public List<UnitNode> getUnitsByPrefix(String repo, String prefix) {
-		List<UnitNode> allUnits = fetchP2UnitsFromRepo(repo, false);
-		List<UnitNode> result = new ArrayList<>();
-		for (UnitNode unit : allUnits) {
-			if (unit.getId().startsWith(prefix)) {
-				result.add(unit);
-			}
-		}
-		return result;
+		return getFetchedIndex(repo, false).getUnitsByPrefix(prefix);
 	}
 
 	/**
@@ -130,16 +187,134 @@ public class RepositoryCache {
 	 *
 	 * @param repo
 	 *            repository URL
-	 * @return whether the cache is up to date for this repo
+	 * @return whether the repository was fetched in this session and is still
+	 *         cached
 	 */
 	public boolean isUpToDate(String repo) {
-		return cache.get(repo) != null;
+		synchronized (cache) {
+			RepositoryIndex index = cache.get(repo);
+			return index != null && !index.isSnapshot();
+		}
 	}
 
 	/**
 	 * Used to flush cache in case P2 repo information is considered stale.
+	 * Snapshots on disk are kept and used by completion until the
+	 * repositories are fetched again.
 	 */
 	public void flush() {
-		cache.clear();
+		synchronized (cache) {
+			cache.clear();
+		}
+	}
+
+	private RepositoryIndex getFetchedIndex(String repo, boolean flush) {
+		if (!flush) {
+			synchronized (cache) {
+				RepositoryIndex index = cache.get(repo);
+				if (index != null && !index.isSnapshot()) {
+					return index;
+				}
+			}
+		}
+		return fetch(repo, false).join();
+	}
+
+	private RepositoryIndex getAvailableIndex(String repo) {
+		RepositoryIndex index;
+		synchronized (cache) {
+			index = cache.get(repo);
+		}
+		if (index == null) {
+			index = RepositoryIndex.read(repo);
+			if (index != null) {
+				synchronized (cache) {
+					RepositoryIndex current = cache.putIfAbsent(repo, index);
+					if (current != null) {
+						index = current;
+					}
+				}
+			}
+		}
+		if (index != null) {
+			if (index.isSnapshot()) {
+				fetch(repo, true);
+			}
+			return index;
+		}
+		try {
+			return fetch(repo, true).get(FETCH_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException | ExecutionException e) {
+			return null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	/**
+	 * Fetches the repository unless it is already being fetched.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @param async
+	 *            whether to fetch in a job or in the calling thread
+	 * @return the index of the repository once fetched
+	 */
+	private CompletableFuture<RepositoryIndex> fetch(String repo, boolean async) {
+		CompletableFuture<RepositoryIndex> future = new CompletableFuture<>();
+		CompletableFuture<RepositoryIndex> pending = pendingFetches.putIfAbsent(repo, future);
+		if (pending != null) {
+			return pending;
+		}
+		if (async) {
+			Job.create(Messages.UpdateJob_P2DataFetch + repo, monitor -> load(repo, future)).schedule();
+		} else {
+			load(repo, future);
+		}
+		return future;
+	}
+
+	private void load(String repo, CompletableFuture<RepositoryIndex> future) {
+		RepositoryIndex index;
+		try {
+			List<UnitNode> units = P2Fetcher.fetchAvailableUnits(repo);
+			index = units.isEmpty() ? getPreviousIndex(repo) : null;
+			if (index == null) {
+				index = new RepositoryIndex(units, false);
+				// written before the index is handed out, as its units are not copied
+				index.write(repo);
+			}
+		} catch (RuntimeException e) {
+			pendingFetches.remove(repo, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+		synchronized (cache) {
+			cache.put(repo, index);
+		}
+		pendingFetches.remove(repo, future);
+		future.complete(index);
+	}
+
+	/**
+	 * A repository that cannot be reached, for example when working offline,
+	 * yields no units. The units known from an earlier fetch or snapshot are
+	 * kept in that case instead of being replaced by an empty index.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @return the index with the units previously known of the repository or
+	 *         <code>null</code> if none are known
+	 */
+	private RepositoryIndex getPreviousIndex(String repo) {
+		RepositoryIndex index;
+		synchronized (cache) {
+			index = cache.get(repo);
+		}
+		if (index == null) {
+			index = RepositoryIndex.read(repo);
+		}
+		return index != null && !index.getUnits().isEmpty() ? index : null;
 	}
 }
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.genericeditor.target.extension.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.FrameworkUtil;
+
+/**
+ * Immutable index of the units available in one p2 repository. Units are kept
+ * in an array sorted by id, so that a unit or all units with an id prefix are
+ * found by binary search, and in a list sorted case-insensitively as used for
+ * proposals.
+ *
+ * An index can be written to and read from a snapshot in the state location of
+ * this plug-in, so that units are available before the repository is fetched
+ * again in a new session.
+ */
+final class RepositoryIndex {
+
+	private static final int VERSION = 1;
+
+	private static final String SNAPSHOT_FOLDER = "repositoryIndex"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of snapshots kept on disk, the least recently used ones
+	 * are deleted first
+	 */
+	private static final int MAX_SNAPSHOTS = 32;
+
+	private static final Comparator<UnitNode> BY_ID = Comparator.comparing(UnitNode::getId);
+
+	private final UnitNode[] unitsById;
+	private final List<UnitNode> units;
+	private final boolean snapshot;
+
+	RepositoryIndex(List<UnitNode> units, boolean snapshot) {
+		this.unitsById = units.toArray(UnitNode[]::new);
+		Arrays.sort(unitsById, BY_ID);
+		UnitNode[] sorted = unitsById.clone();
+		Arrays.sort(sorted, (node1, node2) -> String.CASE_INSENSITIVE_ORDER.compare(node1.getId(), node2.getId()));
+		this.units = List.of(sorted);
+		this.snapshot = snapshot;
+	}
+
+	/**
+	 * @return whether this index was read from a snapshot of an earlier fetch
+	 */
+	boolean isSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * @return unmodifiable list of all units sorted case-insensitively by id
+	 */
+	List<UnitNode> getUnits() {
+		return units;
+	}
+
+	/**
+	 * @param id
+	 *            id of a unit
+	 * @return the unit with the given id or <code>null</code>
+	 */
+	UnitNode getUnit(String id) {
+		int index = lowerBound(id);
+		if (index < unitsById.length && unitsById[index].getId().equals(id)) {
+			return unitsById[index];
+		}
+		return null;
+	}
+
+	/**
+	 * @param prefix
+	 *            prefix of unit ids
+	 * @return units whose id starts with the given prefix, sorted by id
+	 */
+	List<UnitNode> getUnitsByPrefix(String prefix) {
+		List<UnitNode> result = new ArrayList<>();
+		for (int i = lowerBound(prefix); i < unitsById.length && unitsById[i].getId().startsWith(prefix); i++) {
+			result.add(unitsById[i]);
+		}
+		return result;
+	}
+
+	private int lowerBound(String id) {
+		int low = 0;
+		int high = unitsById.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (unitsById[mid].getId().compareTo(id) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Reads the snapshot of the given repository.
+	 *
+	 * @param repo
+	 *            repository URL
+	 * @return the index or <code>null</code> if there is no snapshot of the
+	 *         repository
+	 */
+	static RepositoryIndex read(String repo) {
+		File file = getSnapshotFile(repo);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != VERSION || !in.readUTF().equals(repo)) {
+				return null;
+			}
+			int count = in.readInt();
+			List<UnitNode> units = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				UnitNode unit = new UnitNode();
+				unit.setId(in.readUTF());
+				unit.setVersion(in.readBoolean() ? in.readUTF() : null);
+				int versions = in.readInt();
+				for (int j = 0; j < versions; j++) {
+					unit.getAvailableVersions().add(in.readUTF());
+				}
+				units.add(unit);
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return new RepositoryIndex(units, true);
+		} catch (IOException e) {
+			// broken snapshot, the repository is fetched again
+			return null;
+		}
+	}
+
+	/**
+	 * Writes this index as snapshot of the given repository, replacing an
+	 * earlier snapshot. Empty indexes, as created for unreachable
+	 * repositories, are not written.
+	 *
+	 * @param repo
+	 *            repository URL
+	 */
+	void write(String repo) {
+		File file = getSnapshotFile(repo);
+		if (file == null || unitsById.length == 0) {
+			return;
+		}
+		try {
+			Path folder = Files.createDirectories(file.getParentFile().toPath());
+			Path temp = Files.createTempFile(folder, file.getName(), null);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeUTF(repo);
+				out.writeInt(unitsById.length);
+				for (UnitNode unit : unitsById) {
+					out.writeUTF(unit.getId());
+					out.writeBoolean(unit.getVersion() != null);
+					if (unit.getVersion() != null) {
+						out.writeUTF(unit.getVersion());
+					}
+					List<String> versions = unit.getAvailableVersions().stream().filter(v -> v != null).toList();
+					out.writeInt(versions.size());
+					for (String version : versions) {
+						out.writeUTF(version);
+					}
+				}
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			deleteOldSnapshots(file.getParentFile());
+		} catch (IOException e) {
+			ILog.of(RepositoryIndex.class).error("Unable to write index of repository " + repo, e); //$NON-NLS-1$
+		}
+	}
+
+	private static void deleteOldSnapshots(File folder) {
+		File[] snapshots = folder.listFiles();
+		if (snapshots == null || snapshots.length <= MAX_SNAPSHOTS) {
+			return;
+		}
+		Arrays.sort(snapshots, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i = MAX_SNAPSHOTS; i < snapshots.length; i++) {
+			snapshots[i].delete();
+		}
+	}
+
+	private static File getSnapshotFile(String repo) {
+		File folder;
+		try {
+			folder = Platform.getStateLocation(FrameworkUtil.getBundle(RepositoryIndex.class)).append(SNAPSHOT_FOLDER)
+					.toFile();
+		} catch (IllegalStateException e) {
+			// no instance location, snapshots are not used
+			return null;
+		}
+		String name;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			name = HexFormat.of().formatHex(digest.digest(repo.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			name = Integer.toHexString(repo.hashCode());
+		}
+		return new File(folder, name + ".idx"); //$NON-NLS-1$
+	}
+}
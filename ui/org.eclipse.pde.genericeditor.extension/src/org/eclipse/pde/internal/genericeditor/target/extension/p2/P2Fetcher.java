@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,16 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.core.IProvisioningAgentProvider;
 import org.eclipse.equinox.p2.core.ProvisionException;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.Version;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
@@ -71,19 +74,27 @@ public class P2Fetcher {
 			IMetadataRepositoryManager manager = (IMetadataRepositoryManager) agent
 					.getService(IMetadataRepositoryManager.SERVICE_NAME);
 			IMetadataRepository repository = manager.loadRepository(uri, null);
-			result = repository.query(QueryUtil.createLatestIUQuery(), null);
-
+			// query all units at once and group them by id instead of querying
+			// the versions of each unit separately
+			result = repository.query(QueryUtil.createIUAnyQuery(), null);
+			Map<String, UnitNode> unitsById = new HashMap<>();
+			Map<String, Version> latestVersions = new HashMap<>();
 			Iterator<IInstallableUnit> iterator = result.iterator();
 			while (iterator.hasNext()) {
 				IInstallableUnit unit = iterator.next();
-				UnitNode modelUnit = new UnitNode();
-				modelUnit.setId(unit.getId());
-				modelUnit.setVersion(unit.getVersion().getOriginal());
-				IQueryResult<IInstallableUnit> versions = repository.query(QueryUtil.createIUQuery(unit.getId()), null);
-				for (IInstallableUnit version : versions) {
-					modelUnit.getAvailableVersions().add(version.getVersion().getOriginal());
+				UnitNode modelUnit = unitsById.computeIfAbsent(unit.getId(), id -> {
+					UnitNode node = new UnitNode();
+					node.setId(id);
+					units.add(node);
+					return node;
+				});
+				Version version = unit.getVersion();
+				modelUnit.getAvailableVersions().add(version.getOriginal());
+				Version latest = latestVersions.get(unit.getId());
+				if (latest == null || version.compareTo(latest) > 0) {
+					latestVersions.put(unit.getId(), version);
+					modelUnit.setVersion(version.getOriginal());
 				}
-				units.add(modelUnit);
 			}
 
 			return units;
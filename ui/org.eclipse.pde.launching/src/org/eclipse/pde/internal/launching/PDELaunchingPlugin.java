@@ -27,6 +27,7 @@ import org.eclipse.debug.core.ILaunchConfigurationListener;
 import org.eclipse.pde.internal.core.PDEPreferencesManager;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationListener;
 import org.eclipse.pde.internal.launching.launcher.LaunchListener;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.OSGiFrameworkManager;
 import org.osgi.framework.Bundle;
@@ -139,6 +140,7 @@ public class PDELaunchingPlugin extends Plugin implements IPDEConstants {
 			fDebugPluginUtil.removeListener();
 		}
 		LauncherUtils.shutdown();
+		LaunchPreparationCache.shutdown();
 		super.stop(context);
 	}
 
@@ -15,7 +15,6 @@ package org.eclipse.pde.internal.launching.launcher;
 
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -44,6 +43,7 @@ import org.eclipse.pde.internal.core.P2Utils;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
+import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.launching.IPDELauncherConstants;
 
@@ -500,9 +500,8 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
-		try (FileOutputStream stream = new FileOutputStream(file)) {
-			properties.store(stream, "Configuration File"); //$NON-NLS-1$
-			stream.flush();
+		try {
+			CoreUtility.storeIfChanged(file, properties, "Configuration File"); //$NON-NLS-1$
 		} catch (IOException e) {
 			PDECore.logException(e);
 		}
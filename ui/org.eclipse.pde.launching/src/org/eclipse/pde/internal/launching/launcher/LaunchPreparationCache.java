@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.IFeatureModelDelta;
+import org.eclipse.pde.internal.core.IFeatureModelListener;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.IStateDeltaListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.ifeature.IFeature;
+
+/**
+ * Remembers the bundles computed by
+ * {@link BundleLauncherHelper#getMergedBundleMap(ILaunchConfiguration, boolean, Map)}
+ * for the most recently launched configurations, so relaunching an unchanged
+ * configuration does not compute the bundle map again.
+ * <p>
+ * Entries are keyed by the attributes of the launch configuration and the time
+ * stamp of the PDE state. The cache is cleared whenever plug-in or feature
+ * models change or the target platform is reloaded.
+ * </p>
+ */
+public final class LaunchPreparationCache {
+
+	private static final int MAX_ENTRIES = 8;
+
+	private record Key(Map<String, Object> attributes, boolean osgi, boolean features, long stateStamp) {
+	}
+
+	private record Entry(Map<IPluginModelBase, String> bundles, Map<IFeature, Boolean> features) {
+	}
+
+	private static final Map<Key, Entry> fEntries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private static Listener fListener;
+
+	private LaunchPreparationCache() { // static use only
+	}
+
+	/**
+	 * Returns the bundles to launch for the given configuration, reusing the result of
+	 * a previous launch of an identical configuration if the models did not change since.
+	 *
+	 * @param configuration the launch configuration
+	 * @param osgi whether the configuration is an OSGi framework launch
+	 * @param features map filled with the features to install in a generated profile, may be <code>null</code>
+	 * @return a new, modifiable map of plug-in model to start level information
+	 * @throws CoreException if the launch configuration attributes cannot be read
+	 * @see BundleLauncherHelper#getMergedBundleMap(ILaunchConfiguration, boolean, Map)
+	 */
+	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		Key key = new Key(configuration.getAttributes(), osgi, features != null, TargetPlatformHelper.getState().getTimeStamp());
+		Entry entry;
+		synchronized (fEntries) {
+			addListener();
+			entry = fEntries.get(key);
+		}
+		if (entry == null) {
+			Map<IFeature, Boolean> computedFeatures = features != null ? new LinkedHashMap<>() : null;
+			Map<IPluginModelBase, String> bundles = BundleLauncherHelper.getMergedBundleMap(configuration, osgi, computedFeatures);
+			// the launch order of the bundles is significant, so keep insertion ordered copies
+			entry = new Entry(new LinkedHashMap<>(bundles), computedFeatures != null ? new LinkedHashMap<>(computedFeatures) : null);
+			synchronized (fEntries) {
+				fEntries.put(key, entry);
+			}
+			if (features != null) {
+				features.putAll(computedFeatures);
+			}
+			return bundles;
+		}
+		if (features != null) {
+			features.putAll(entry.features());
+		}
+		return new LinkedHashMap<>(entry.bundles());
+	}
+
+	/**
+	 * Discards all cached launch data.
+	 */
+	public static void clear() {
+		synchronized (fEntries) {
+			fEntries.clear();
+		}
+	}
+
+	/**
+	 * Clears the cache and stops listening to model changes.
+	 */
+	public static void shutdown() {
+		synchronized (fEntries) {
+			fEntries.clear();
+			if (fListener != null) {
+				PDECore.getDefault().getModelManager().removePluginModelListener(fListener);
+				PDECore.getDefault().getModelManager().removeStateDeltaListener(fListener);
+				PDECore.getDefault().getFeatureModelManager().removeFeatureModelListener(fListener);
+				fListener = null;
+			}
+		}
+	}
+
+	private static void addListener() {
+		if (fListener == null) {
+			fListener = new Listener();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fListener);
+			PDECore.getDefault().getModelManager().addStateDeltaListener(fListener);
+			PDECore.getDefault().getFeatureModelManager().addFeatureModelListener(fListener);
+		}
+	}
+
+	private static class Listener implements IPluginModelListener, IFeatureModelListener, IStateDeltaListener {
+
+		@Override
+		public void modelsChanged(PluginModelDelta delta) {
+			clear();
+		}
+
+		@Override
+		public void modelsChanged(IFeatureModelDelta delta) {
+			clear();
+		}
+
+		@Override
+		public void stateResolved(StateDelta delta) {
+			clear();
+		}
+
+		@Override
+		public void stateChanged(State newState) {
+			clear();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2023 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -20,9 +20,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.Hashtable;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -41,6 +45,13 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class LaunchValidationOperation implements IWorkspaceRunnable {
 
+	/**
+	 * The platform properties contributed by an execution environment, keyed by the
+	 * environment id and the location and time stamp of the system bundle providing
+	 * its .profile file. Shared by all launches.
+	 */
+	private static final Map<String, Optional<Dictionary<String, String>>> fEnvironmentProperties = new ConcurrentHashMap<>();
+
 	private BundleValidationOperation fOperation;
 	public final ILaunchConfiguration fLaunchConfiguration;
 	protected final Set<IPluginModelBase> fModels;
@@ -62,19 +73,39 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 		Dictionary<String, String> environmentProperties = TargetPlatformHelper.getTargetEnvironment();
 		// Only add the highest EE of the supplied VM, to match the runtime's behavior
 		for (int i = envs.length - 1; i > 0; i--) {
-			IExecutionEnvironment env = envs[i];
+			Optional<Dictionary<String, String>> envProperties = getEnvironmentProperties(envs[i]);
+			if (envProperties.isPresent()) {
+				for (Enumeration<String> keys = envProperties.get().keys(); keys.hasMoreElements();) {
+					String key = keys.nextElement();
+					environmentProperties.put(key, envProperties.get().get(key));
+				}
+				break;
+			}
+		}
+		return new Dictionary[] {environmentProperties};
+	}
+
+	private Optional<Dictionary<String, String>> getEnvironmentProperties(IExecutionEnvironment env) {
+		IPluginModelBase model = PluginRegistry.findModel("system.bundle"); //$NON-NLS-1$
+		String key = env.getId();
+		if (model != null) {
+			File location = new File(model.getInstallLocation());
+			key += '|' + location.getAbsolutePath() + '|' + location.lastModified();
+		}
+		return fEnvironmentProperties.computeIfAbsent(key, k -> {
 			// add java profiles for those EE's that have a .profile file in the current system bundle
-			Properties profileProps = getJavaProfileProperties(env.getId());
+			Properties profileProps = model != null ? getJavaProfileProperties(model, env.getId()) : null;
 			if (profileProps == null) {
 				// Java10 onwards, we take profile via this method
 				profileProps = env.getProfileProperties();
 			}
-			if (profileProps != null) {
-				TargetPlatformHelper.addEnvironmentProperties(environmentProperties, env, profileProps);
-				break;
+			if (profileProps == null) {
+				return Optional.empty();
 			}
-		}
-		return new Dictionary[] {environmentProperties};
+			Dictionary<String, String> properties = new Hashtable<>();
+			TargetPlatformHelper.addEnvironmentProperties(properties, env, profileProps);
+			return Optional.of(properties);
+		});
 	}
 
 	protected IExecutionEnvironment[] getMatchingEnvironments() throws CoreException {
@@ -88,11 +119,7 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 				.toArray(IExecutionEnvironment[]::new);
 	}
 
-	private Properties getJavaProfileProperties(String ee) {
-		IPluginModelBase model = PluginRegistry.findModel("system.bundle"); //$NON-NLS-1$
-		if (model == null) {
-			return null;
-		}
+	private static Properties getJavaProfileProperties(IPluginModelBase model, String ee) {
 		File location = new File(model.getInstallLocation());
 		String filename = ee.replace('/', '_') + ".profile"; //$NON-NLS-1$
 		try {
@@ -132,7 +159,7 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.getState().getBundles().length == 0;
 	}
 
 	protected State getState() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,14 +21,18 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Adapters;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.SafeRunner;
@@ -56,6 +60,7 @@ import org.eclipse.pde.core.IBundleClasspathResolver;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.IPluginModelListener;
 import org.eclipse.pde.internal.core.PDEClasspathContainer;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
@@ -68,6 +73,68 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 	 */
 	private final Map<String, List<ISourceContainer>> fSourceContainerMap = new LinkedHashMap<>();
 
+	/**
+	 * Source containers dropped from {@link #fSourceContainerMap} when the
+	 * models changed, disposed once no lookup that may still search them is in
+	 * flight
+	 */
+	private final List<ISourceContainer> fStaleSourceContainers = new ArrayList<>();
+
+	/**
+	 * Number of source lookups currently running
+	 */
+	private int fLookupsInFlight;
+
+	private static final int MAX_CACHED_ELEMENTS = 4096;
+
+	private static final int MAX_CACHED_CLASS_LOADERS = 1024;
+
+	/**
+	 * Key of a source element lookup in the source containers of a bundle
+	 */
+	record SourceElementKey(String location, String id, String typeName, boolean checkFragments) {
+	}
+
+	/**
+	 * Cache of found source elements, including unsuccessful lookups, so that
+	 * stepping through frames of the same types does not search the source
+	 * containers again. Unsuccessful lookups are dropped on workspace changes,
+	 * as the source may have been added to a project in the meantime.
+	 */
+	private final Map<SourceElementKey, Optional<Object>> fSourceElementCache = new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SourceElementKey, Optional<Object>> eldest) {
+			return size() > MAX_CACHED_ELEMENTS;
+		}
+	};
+
+	/**
+	 * Class path entries of the bundle class loaders in the debugged runtime,
+	 * by unique id of the class loader object, so that the entries are read
+	 * over JDI once per bundle and not once per stack frame
+	 */
+	private final Map<Long, List<PDESourceLookupQuery.BundleClasspathEntry>> fClassLoaderEntries = new LinkedHashMap<>(64, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, List<PDESourceLookupQuery.BundleClasspathEntry>> eldest) {
+			return size() > MAX_CACHED_CLASS_LOADERS;
+		}
+	};
+
+	/**
+	 * Clears the caches that depend on the plug-in models when these change,
+	 * e.g. when the target platform is reloaded
+	 */
+	private IPluginModelListener fModelListener;
+
+	/**
+	 * Drops the cached lookups that workspace changes may have outdated
+	 */
+	private IResourceChangeListener fResourceListener;
+
 	private ISourceContainer[] fJreSourceContainers;
 
 	private static Set<String> fFilteredTypes;
@@ -97,7 +164,17 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 	@Override
 	public Object getSourceElement(Object element) {
 		PDESourceLookupQuery query = new PDESourceLookupQuery(this, element);
-		SafeRunner.run(query);
+		synchronized (fSourceContainerMap) {
+			fLookupsInFlight++;
+		}
+		try {
+			SafeRunner.run(query);
+		} finally {
+			synchronized (fSourceContainerMap) {
+				fLookupsInFlight--;
+				disposeStaleSourceContainers();
+			}
+		}
 		Object result = query.getResult();
 		return result != null ? result : super.getSourceElement(element);
 	}
@@ -116,7 +193,11 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 
 	List<ISourceContainer> getSourceContainers(String location, String id) throws CoreException {
 
-		List<ISourceContainer> containers = fSourceContainerMap.get(location);
+		List<ISourceContainer> containers;
+		synchronized (fSourceContainerMap) {
+			addModelListener();
+			containers = fSourceContainerMap.get(location);
+		}
 		if (containers != null) {
 			return containers;
 		}
@@ -152,7 +233,9 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 				ISourceContainer container = getArchiveSourceContainer(location);
 				if (container != null) {
 					containers = List.of(container);
-					fSourceContainerMap.put(location, containers);
+					synchronized (fSourceContainerMap) {
+						fSourceContainerMap.put(location, containers);
+					}
 					return containers;
 				}
 			}
@@ -174,10 +257,107 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 
 		IRuntimeClasspathEntry[] entries = result.toArray(IRuntimeClasspathEntry[]::new);
 		containers = List.of(JavaRuntime.getSourceContainers(entries));
-		fSourceContainerMap.put(location, containers);
+		synchronized (fSourceContainerMap) {
+			fSourceContainerMap.put(location, containers);
+		}
 		return containers;
 	}
 
+	/**
+	 * @return the cached result of the given lookup, an empty optional if the
+	 *         source element was not found, or <code>null</code> if the lookup
+	 *         is not cached
+	 */
+	Optional<Object> getCachedSourceElement(SourceElementKey key) {
+		synchronized (fSourceContainerMap) {
+			return fSourceElementCache.get(key);
+		}
+	}
+
+	/**
+	 * Caches the result of the given lookup, <code>null</code> if the source
+	 * element was not found
+	 */
+	void cacheSourceElement(SourceElementKey key, Object element) {
+		synchronized (fSourceContainerMap) {
+			addModelListener();
+			addResourceListener();
+			fSourceElementCache.put(key, Optional.ofNullable(element));
+		}
+	}
+
+	/**
+	 * @return the cached class path entries of the class loader object with
+	 *         the given unique id or <code>null</code>
+	 */
+	List<PDESourceLookupQuery.BundleClasspathEntry> getClassLoaderEntries(long classLoaderId) {
+		synchronized (fSourceContainerMap) {
+			return fClassLoaderEntries.get(classLoaderId);
+		}
+	}
+
+	void cacheClassLoaderEntries(long classLoaderId, List<PDESourceLookupQuery.BundleClasspathEntry> entries) {
+		synchronized (fSourceContainerMap) {
+			fClassLoaderEntries.put(classLoaderId, entries);
+		}
+	}
+
+	/**
+	 * Drops the source containers and lookup results computed from the
+	 * current plug-in models. The class path entries of the debugged runtime
+	 * do not depend on the models and are kept.
+	 */
+	private void clearModelCaches() {
+		synchronized (fSourceContainerMap) {
+			fSourceContainerMap.values().forEach(fStaleSourceContainers::addAll);
+			fSourceContainerMap.clear();
+			fSourceElementCache.clear();
+			disposeStaleSourceContainers();
+		}
+	}
+
+	/**
+	 * Disposes the dropped source containers unless a running lookup may
+	 * still search them. Must be called holding the lock of the caches.
+	 */
+	private void disposeStaleSourceContainers() {
+		if (fLookupsInFlight == 0 && !fStaleSourceContainers.isEmpty()) {
+			fStaleSourceContainers.forEach(ISourceContainer::dispose);
+			fStaleSourceContainers.clear();
+		}
+	}
+
+	/**
+	 * Drops the unsuccessful lookups and the found workspace files and
+	 * compilation units that no longer exist. The source containers of
+	 * projects look up their files anew, so that they need not be recomputed.
+	 */
+	private void clearWorkspaceCaches() {
+		synchronized (fSourceContainerMap) {
+			fSourceElementCache.values().removeIf(element -> element.isEmpty() || isDeleted(element.get()));
+		}
+	}
+
+	private static boolean isDeleted(Object element) {
+		IResource resource = element instanceof IJavaElement javaElement ? javaElement.getResource()
+				: Adapters.adapt(element, IResource.class);
+		return resource != null && !resource.exists();
+	}
+
+	private void addResourceListener() {
+		if (fResourceListener == null) {
+			fResourceListener = event -> clearWorkspaceCaches();
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(fResourceListener, IResourceChangeEvent.POST_CHANGE);
+		}
+	}
+
+	private void addModelListener() {
+		if (fModelListener == null) {
+			fModelListener = delta -> clearModelCaches();
+			PDECore.getDefault().getModelManager().addPluginModelListener(fModelListener);
+		}
+	}
+
 	ISourceContainer[] getJreSourceContainers() throws CoreException {
 		if (fJreSourceContainers != null)
 			return fJreSourceContainers;
@@ -257,8 +437,22 @@ public class PDESourceLookupDirector extends AbstractSourceLookupDirector {
 
 	@Override
 	public synchronized void dispose() {
-		fSourceContainerMap.values().stream().flatMap(List::stream).forEach(ISourceContainer::dispose);
-		fSourceContainerMap.clear();
+		synchronized (fSourceContainerMap) {
+			if (fModelListener != null) {
+				PDECore.getDefault().getModelManager().removePluginModelListener(fModelListener);
+				fModelListener = null;
+			}
+			if (fResourceListener != null) {
+				ResourcesPlugin.getWorkspace().removeResourceChangeListener(fResourceListener);
+				fResourceListener = null;
+			}
+			fSourceContainerMap.values().stream().flatMap(List::stream).forEach(ISourceContainer::dispose);
+			fSourceContainerMap.clear();
+			fStaleSourceContainers.forEach(ISourceContainer::dispose);
+			fStaleSourceContainers.clear();
+			fSourceElementCache.clear();
+			fClassLoaderEntries.clear();
+		}
 		super.dispose();
 	}
 
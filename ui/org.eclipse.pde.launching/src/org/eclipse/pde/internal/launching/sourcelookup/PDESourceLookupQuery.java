@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2015 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@
 package org.eclipse.pde.internal.launching.sourcelookup;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ISafeRunnable;
@@ -37,6 +39,7 @@ import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector.SourceElementKey;
 
 import com.sun.jdi.VMDisconnectedException;
 
@@ -66,6 +69,15 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 	private static final String STARTUP_CLASSLOADER = "org.eclipse.equinox.launcher.Main$StartupClassLoader"; //$NON-NLS-1$
 	private static final String OSGI_FRAMEWORK_PLUGIN = "org.eclipse.osgi"; //$NON-NLS-1$
 
+	/**
+	 * A class path entry of a bundle class loader in the debugged runtime
+	 *
+	 * @param location location of the bundle jar / class file folder
+	 * @param id symbolic name of the bundle or fragment
+	 */
+	record BundleClasspathEntry(String location, String id) {
+	}
+
 	private final Object fElement;
 	private Object fResult;
 	private final PDESourceLookupDirector fDirector;
@@ -189,13 +201,38 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 	 * @return source element
 	 */
 	protected Object findSourceElement(IJavaObject object, String typeName) throws CoreException {
-		IJavaObject manager = getObject(object, "manager", false); //$NON-NLS-1$
-		if (manager != null) {
-			// search manager's class path for location
-			Object result = searchClasspathEntries(manager, typeName);
+		for (BundleClasspathEntry entry : getClasspathEntries(object)) {
+			Object result = getSourceElement(entry.location(), entry.id(), typeName, false);
 			if (result != null) {
 				return result;
 			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the class path entries of a bundle class loader, those of the
+	 * bundle followed by those of its fragments. The entries are read from
+	 * the debugged runtime once per class loader and cached in the director,
+	 * as reading them takes several round trips to the VM for each frame.
+	 * This is used for 3.5 and greater.
+	 *
+	 * @param object Bundle class loader object
+	 * @return class path entries
+	 */
+	private List<BundleClasspathEntry> getClasspathEntries(IJavaObject object) throws CoreException {
+		long id = object.getUniqueId();
+		if (id != -1) {
+			List<BundleClasspathEntry> entries = fDirector.getClassLoaderEntries(id);
+			if (entries != null) {
+				return entries;
+			}
+		}
+		List<BundleClasspathEntry> entries = new ArrayList<>();
+		IJavaObject manager = getObject(object, "manager", false); //$NON-NLS-1$
+		if (manager != null) {
+			// search manager's class path for location
+			addClasspathEntries(manager, entries);
 			// then check its fragments
 			IJavaObject frgArray = getObject(manager, "fragments", false); //$NON-NLS-1$
 			if (frgArray instanceof IJavaArray) {
@@ -204,27 +241,25 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 					IJavaObject fragment = (IJavaObject) fragments.getValue(i);
 					if (!fragment.isNull()) {
 						// search fragment class path
-						result = searchClasspathEntries(fragment, typeName);
-						if (result != null) {
-							return result;
-						}
+						addClasspathEntries(fragment, entries);
 					}
-
 				}
 			}
 		}
-		return null;
+		entries = List.copyOf(entries);
+		if (id != -1) {
+			fDirector.cacheClassLoaderEntries(id, entries);
+		}
+		return entries;
 	}
 
 	/**
-	 * Search a bundle's class path entries for source for the type of given name.
-	 * This is used for 3.5 and greater.
+	 * Collects the locations of a bundle's class path entries.
 	 *
 	 * @param entriesOwner the java object providing the classpath entries
-	 * @param typeName qualified name of source
-	 * @return source object or <code>null</code>
+	 * @param result the list to add the entries to
 	 */
-	private Object searchClasspathEntries(IJavaObject entriesOwner, String typeName) throws CoreException {
+	private void addClasspathEntries(IJavaObject entriesOwner, List<BundleClasspathEntry> result) throws CoreException {
 		IJavaObject cpeArray = getObject(entriesOwner, "entries", false); //$NON-NLS-1$
 		if (cpeArray instanceof IJavaArray) {
 			IJavaArray entries = (IJavaArray) cpeArray;
@@ -237,16 +272,12 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 						if (fileName != null && !fileName.isNull()) {
 							String location = fileName.getValueString();
 							String symbolicName = getValue(baseData, "symbolicName"); //$NON-NLS-1$
-							Object el = getSourceElement(location, symbolicName, typeName, false);
-							if (el != null) {
-								return el;
-							}
+							result.add(new BundleClasspathEntry(location, symbolicName));
 						}
 					}
 				}
 			}
 		}
-		return null;
 	}
 
 	private IJavaObject getObject(IJavaObject object, String field, boolean superfield) throws DebugException {
@@ -292,23 +323,33 @@ public class PDESourceLookupQuery implements ISafeRunnable {
 	 */
 	private Object getSourceElement(String location, String id, String typeName, boolean checkFragments) throws CoreException {
 		if (location != null && id != null) {
-			Object result = findSourceElement(getSourceContainers(location, id), typeName);
-			if (result != null)
-				return result;
+			SourceElementKey key = new SourceElementKey(location, id, typeName, checkFragments);
+			Optional<Object> cached = fDirector.getCachedSourceElement(key);
+			if (cached != null) {
+				return cached.orElse(null);
+			}
+			Object result = searchSourceElement(location, id, typeName, checkFragments);
+			fDirector.cacheSourceElement(key, result);
+			return result;
+		}
+		return null;
+	}
 
-			// don't give up yet, search fragments attached to this host
-			if (checkFragments) {
-				State state = TargetPlatformHelper.getState();
-				BundleDescription desc = state.getBundle(id, null);
-				if (desc != null) {
-					BundleDescription[] fragments = desc.getFragments();
-					for (BundleDescription fragment : fragments) {
-						location = fragment.getLocation();
-						id = fragment.getSymbolicName();
-						result = findSourceElement(getSourceContainers(location, id), typeName);
-						if (result != null)
-							return result;
-					}
+	private Object searchSourceElement(String location, String id, String typeName, boolean checkFragments) throws CoreException {
+		Object result = findSourceElement(getSourceContainers(location, id), typeName);
+		if (result != null)
+			return result;
+
+		// don't give up yet, search fragments attached to this host
+		if (checkFragments) {
+			State state = TargetPlatformHelper.getState();
+			BundleDescription desc = state.getBundle(id, null);
+			if (desc != null) {
+				BundleDescription[] fragments = desc.getFragments();
+				for (BundleDescription fragment : fragments) {
+					result = findSourceElement(getSourceContainers(fragment.getLocation(), fragment.getSymbolicName()), typeName);
+					if (result != null)
+						return result;
 				}
 			}
 		}
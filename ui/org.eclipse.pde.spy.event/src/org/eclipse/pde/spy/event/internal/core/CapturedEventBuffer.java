@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * Bounded, lock-free buffer between the threads publishing events and the UI
+ * thread rendering them. Any number of threads may offer events, a single
+ * thread drains them. When the buffer is full new events are dropped and
+ * counted instead of blocking the publisher.
+ */
+public class CapturedEventBuffer {
+
+	private final AtomicReferenceArray<CapturedEvent> slots;
+
+	private final int mask;
+
+	/** Sequence of the next slot to write, only advanced by producers. */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** Sequence of the next slot to read, only advanced by the consumer. */
+	private final AtomicLong head = new AtomicLong();
+
+	private final AtomicLong captured = new AtomicLong();
+
+	private final AtomicLong dropped = new AtomicLong();
+
+	/**
+	 * @param capacity
+	 *            the minimal number of events the buffer holds, rounded up to
+	 *            the next power of two
+	 */
+	public CapturedEventBuffer(int capacity) {
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+		slots = new AtomicReferenceArray<>(size);
+		mask = size - 1;
+	}
+
+	/**
+	 * Adds the event to the buffer unless it is full.
+	 *
+	 * @return <code>false</code> if the event was dropped
+	 */
+	public boolean offer(CapturedEvent event) {
+		captured.incrementAndGet();
+		long sequence;
+		do {
+			sequence = tail.get();
+			if (sequence - head.get() > mask) {
+				dropped.incrementAndGet();
+				return false;
+			}
+		} while (!tail.compareAndSet(sequence, sequence + 1));
+		slots.lazySet((int) sequence & mask, event);
+		return true;
+	}
+
+	/**
+	 * Moves at most <code>max</code> buffered events to the given list, in the
+	 * order they were offered. Must only be called by one thread at a time.
+	 *
+	 * @return the number of events moved
+	 */
+	public int drainTo(List<CapturedEvent> target, int max) {
+		long sequence = head.get();
+		int count = 0;
+		while (count < max) {
+			int index = (int) sequence & mask;
+			CapturedEvent event = slots.get(index);
+			if (event == null) {
+				// either empty or a producer reserved the slot but did not
+				// publish the event yet
+				break;
+			}
+			slots.lazySet(index, null);
+			target.add(event);
+			sequence++;
+			count++;
+		}
+		head.lazySet(sequence);
+		return count;
+	}
+
+	/**
+	 * Discards the buffered events and resets the counters.
+	 */
+	public void clear() {
+		drainTo(new ArrayList<>(), Integer.MAX_VALUE);
+		captured.set(0);
+		dropped.set(0);
+	}
+
+	/**
+	 * @return the number of events offered since the last {@link #clear()}
+	 */
+	public long getCapturedCount() {
+		return captured.get();
+	}
+
+	/**
+	 * @return the number of events dropped because the buffer was full since
+	 *         the last {@link #clear()}
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -23,34 +24,32 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
-	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
-	}
+	private static final int BUFFER_CAPACITY = 4096;
 
 	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
 			UIEventPublisher.class.getName().hashCode());
 
-	private Collection<CapturedEventFilter> filters;
+	private final CapturedEventBuffer buffer = new CapturedEventBuffer(BUFFER_CAPACITY);
 
-	private final IEventBroker eventBroker;
+	/** Filters that can be evaluated before the publisher is known. */
+	private volatile List<CapturedEventFilter> eventFilters = List.of();
 
-	private NewEventListener listener;
+	/** Filters on the publisher, evaluated after walking the stack. */
+	private volatile List<CapturedEventFilter> publisherFilters = List.of();
 
-	private CapturedEventFilterMatcher eventFilterMatcher;
+	private final IEventBroker eventBroker;
 
-	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
-			return;
-		}
+	private final CapturedEventFilterMatcher eventFilterMatcher = new CapturedEventFilterMatcher();
 
+	private final EventHandler eventHandler = event -> {
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -60,8 +59,13 @@ public class EventMonitor {
 			}
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+		// walking the stack is the expensive part, skip it for filtered events
+		if (!matches(capturedEvent, eventFilters)) {
+			return;
+		}
+		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (matches(capturedEvent, publisherFilters)) {
+			buffer.offer(capturedEvent);
 		}
 	};
 
@@ -70,7 +74,20 @@ public class EventMonitor {
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		List<CapturedEventFilter> eventFilters = new ArrayList<>();
+		List<CapturedEventFilter> publisherFilters = new ArrayList<>();
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				if (ItemToFilter.Publisher.equals(filter.getItemToFilter())) {
+					publisherFilters.add(filter);
+				} else {
+					eventFilters.add(filter);
+				}
+			}
+		}
+		this.eventFilters = List.copyOf(eventFilters);
+		this.publisherFilters = List.copyOf(publisherFilters);
+		buffer.clear();
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -78,17 +95,36 @@ public class EventMonitor {
 		eventBroker.unsubscribe(eventHandler);
 	}
 
-	public void setNewEventListener(NewEventListener listener) {
-		this.listener = listener;
+	/**
+	 * Moves at most <code>max</code> captured events to the given list. Must be
+	 * called from a single thread, usually the UI thread.
+	 *
+	 * @return the number of events moved
+	 */
+	public int drainEvents(List<CapturedEvent> target, int max) {
+		return buffer.drainTo(target, max);
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	/**
+	 * @return the number of events that passed the filters since capturing was
+	 *         started
+	 */
+	public long getCapturedCount() {
+		return buffer.getCapturedCount();
+	}
+
+	/**
+	 * @return the number of captured events dropped because they were published
+	 *         faster than they could be displayed
+	 */
+	public long getDroppedCount() {
+		return buffer.getDroppedCount();
+	}
+
+	private boolean matches(CapturedEvent event, List<CapturedEventFilter> filters) {
+		for (CapturedEventFilter filter : filters) {
+			if (!eventFilterMatcher.matches(event, filter)) {
+				return false;
 			}
 		}
 		return true;
@@ -108,11 +144,4 @@ public class EventMonitor {
 		}
 		return ""; //$NON-NLS-1$
 	}
-
-	private CapturedEventFilterMatcher getEventFilterMatcher() {
-		if (eventFilterMatcher == null) {
-			eventFilterMatcher = new CapturedEventFilterMatcher();
-		}
-		return eventFilterMatcher;
-	}
 }
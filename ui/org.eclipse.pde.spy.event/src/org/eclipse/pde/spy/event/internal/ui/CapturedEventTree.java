@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,10 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -57,6 +61,9 @@ import org.eclipse.swt.widgets.TreeItem;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class CapturedEventTree extends TreeViewer {
+	/** The number of events kept in the tree, the oldest ones are removed first. */
+	public static final int MAX_EVENTS = 10000;
+
 	private ICapturedEventTreeListener listener;
 
 	private final WritableList<CapturedEvent> capturedEvents;
@@ -350,7 +357,31 @@ public class CapturedEventTree extends TreeViewer {
 	}
 
 	public void addEvent(CapturedEvent event) {
-		capturedEvents.add(event);
+		addEvents(List.of(event));
+	}
+
+	/**
+	 * Appends the events to the tree with a single redraw, removing the oldest
+	 * events when the tree would hold more than {@link #MAX_EVENTS}.
+	 */
+	public void addEvents(List<CapturedEvent> events) {
+		if (events.isEmpty()) {
+			return;
+		}
+		getTree().setRedraw(false);
+		try {
+			int overflow = capturedEvents.size() + events.size() - MAX_EVENTS;
+			if (overflow > 0) {
+				int removed = Math.min(overflow, capturedEvents.size());
+				Set<CapturedEvent> oldest = Collections.newSetFromMap(new IdentityHashMap<>(removed));
+				oldest.addAll(capturedEvents.subList(0, removed));
+				capturedEvents.removeAll(oldest);
+				events = events.subList(overflow - removed, events.size());
+			}
+			capturedEvents.addAll(events);
+		} finally {
+			getTree().setRedraw(true);
+		}
 	}
 
 	public void setListener(ICapturedEventTreeListener listener) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,9 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
@@ -34,12 +36,19 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 
-public class EventSpyPart implements EventMonitor.NewEventListener {
+public class EventSpyPart {
+
+	/** Delay between two transfers of captured events to the tree, in ms. */
+	private static final int REFRESH_RATE = 200;
+
+	/** Maximum number of events added to the tree per refresh. */
+	private static final int REFRESH_BATCH_SIZE = 2000;
 
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
@@ -53,6 +62,12 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private Label eventCountLabel;
+
+	private final Runnable refreshTask = this::refreshCapturedEvents;
+
+	private boolean capturing;
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -95,6 +110,11 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	@PreDestroy
 	private void saveDialogMemento() {
+		if (eventMonitor != null) {
+			eventMonitor.stop();
+			capturing = false;
+		}
+
 		SpyPartMemento memento = null;
 		String baseTopic = capturedEventFilters.getBaseTopic();
 		Collection<CapturedEventFilter> filters = capturedEventFilters.getFilters();
@@ -141,6 +161,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		eventCountLabel = new Label(actionBar, SWT.NONE);
+		eventCountLabel.setLayoutData(new RowData(250, SWT.DEFAULT));
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -168,22 +191,45 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		capturedEventTree.removeAll();
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
-			eventMonitor.setNewEventListener(this);
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		capturing = true;
+		updateEventCount();
+		outer.getDisplay().timerExec(REFRESH_RATE, refreshTask);
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
 	public void stopCaptureEvents() {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
+			capturing = false;
+			// show what has been captured until now
+			refreshCapturedEvents();
 		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
-	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	/**
+	 * Transfers the events captured since the last run to the tree. Events are
+	 * published on arbitrary threads at arbitrary rates, so the tree is only
+	 * updated in batches at a fixed rate.
+	 */
+	private void refreshCapturedEvents() {
+		if (outer.isDisposed() || capturedEventTree.getControl().isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> events = new ArrayList<>();
+		eventMonitor.drainEvents(events, REFRESH_BATCH_SIZE);
+		capturedEventTree.addEvents(events);
+		updateEventCount();
+		if (capturing) {
+			outer.getDisplay().timerExec(REFRESH_RATE, refreshTask);
+		}
+	}
+
+	private void updateEventCount() {
+		eventCountLabel.setText(String.format(Messages.EventSpyPart_EventCount, eventMonitor.getCapturedCount(),
+				eventMonitor.getDroppedCount()));
 	}
 
 	@SuppressWarnings("restriction")
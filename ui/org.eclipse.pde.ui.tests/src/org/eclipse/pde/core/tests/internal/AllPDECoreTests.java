@@ -6,7 +6,12 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	BundleValidationOperationTest.class, //
 	DependencyManagerTest.class, //
+	NLResourceCacheTest.class, //
+	P2UtilsTest.class, //
+	SourceLocationManagerTest.class, //
+	PluginReferenceIndexTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
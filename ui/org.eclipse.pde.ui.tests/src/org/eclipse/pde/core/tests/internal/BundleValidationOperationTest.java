@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Dictionary;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that validations reusing the resolver states of previous ones have the
+ * results of a validation of their own bundles only
+ */
+public class BundleValidationOperationTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static IPluginModelBase requiring;
+	private static IPluginModelBase required;
+	private static IPluginModelBase filtered;
+
+	@BeforeClass
+	public static void setUpProjects() throws Exception {
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+		IProject requiredProject = ProjectUtils.createPluginProject("validation.required", "1.0.0");
+		IProject requiringProject = ProjectUtils.createPluginProject("validation.requiring", "validation.requiring",
+				"1.0.0", (d, s) -> d.setRequiredBundles(new IRequiredBundleDescription[] {
+						s.newRequiredBundle("validation.required", null, false, false) }));
+		IProject filteredProject = ProjectUtils.createPluginProject("validation.filtered", "validation.filtered",
+				"1.0.0", (d, s) -> d.setHeader(ICoreConstants.PLATFORM_FILTER, "(osgi.os=validation.os)"));
+		required = PluginRegistry.findModel(requiredProject);
+		requiring = PluginRegistry.findModel(requiringProject);
+		filtered = PluginRegistry.findModel(filteredProject);
+	}
+
+	@Test
+	public void testIncrementalAddRemove() throws Exception {
+		BundleValidationOperation operation = validate(Set.of(requiring));
+		assertThat(operation.hasErrors()).isTrue();
+		assertThat(getErrorBundles(operation)).containsExactly("validation.requiring");
+
+		operation = validate(Set.of(requiring, required));
+		assertThat(operation.hasErrors()).isFalse();
+		assertThat(operation.getResolverErrors()).isEmpty();
+		assertThat(getBundles(operation)).containsExactlyInAnyOrder("validation.requiring", "validation.required");
+
+		operation = validate(Set.of(requiring));
+		assertThat(operation.hasErrors()).isTrue();
+		assertThat(getBundles(operation)).containsExactly("validation.requiring");
+
+		operation = validate(Set.of(required));
+		assertThat(operation.hasErrors()).isFalse();
+		assertThat(getBundles(operation)).containsExactly("validation.required");
+	}
+
+	@Test
+	public void testPlatformProperties() throws Exception {
+		Dictionary<String, String> matching = TargetPlatformHelper.getTargetEnvironment();
+		matching.put(ICoreConstants.OSGI_OS, "validation.os");
+		Dictionary<String, String> other = TargetPlatformHelper.getTargetEnvironment();
+		other.put(ICoreConstants.OSGI_OS, "other.os");
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(validate(Set.of(filtered), matching).hasErrors()).isFalse();
+			assertThat(validate(Set.of(filtered), other).hasErrors()).isTrue();
+		}
+	}
+
+	/**
+	 * Tests that the results of a validation are not changed by a later one
+	 * updating the same resolver state
+	 */
+	@Test
+	public void testResultsIsolated() throws Exception {
+		BundleValidationOperation first = validate(Set.of(requiring));
+		BundleValidationOperation second = validate(Set.of(requiring, required));
+
+		assertThat(first.hasErrors()).isTrue();
+		assertThat(getErrorBundles(first)).containsExactly("validation.requiring");
+		assertThat(getBundles(first)).containsExactly("validation.requiring");
+		assertThat(second.hasErrors()).isFalse();
+		assertThat(second.getResolverErrors()).isEmpty();
+		assertThat(getBundles(second)).containsExactlyInAnyOrder("validation.requiring", "validation.required");
+	}
+
+	private static BundleValidationOperation validate(Set<IPluginModelBase> models) throws Exception {
+		return validate(models, TargetPlatformHelper.getTargetEnvironment());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static BundleValidationOperation validate(Set<IPluginModelBase> models,
+			Dictionary<String, String> properties) throws Exception {
+		BundleValidationOperation operation = new BundleValidationOperation(models, new Dictionary[] { properties });
+		operation.run(null);
+		return operation;
+	}
+
+	private static String[] getBundles(BundleValidationOperation operation) {
+		return Arrays.stream(operation.getState().getBundles()).map(BundleDescription::getSymbolicName)
+				.toArray(String[]::new);
+	}
+
+	private static String[] getErrorBundles(BundleValidationOperation operation) {
+		return operation.getResolverErrors().keySet().stream().map(b -> ((BundleDescription) b).getSymbolicName())
+				.toArray(String[]::new);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.pde.core.tests.internal;
 
 import static java.util.Map.entry;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.pde.internal.core.DependencyManager.findRequirementsClosure;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_ALL_FRAGMENTS;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_NON_TEST_FRAGMENTS;
@@ -41,14 +42,18 @@ import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.VersionRange;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.internal.core.ClasspathComputer;
+import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.PluginModelManager;
 import org.eclipse.pde.ui.tests.launcher.AbstractLaunchTest;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
@@ -99,6 +104,27 @@ public class DependencyManagerTest {
 		assertThat(closure).isEqualTo(Set.of(bundleA, bundle));
 	}
 
+	@Test
+	public void testGetDependencies_canceled() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack" + version("1.0.0"))),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a" + bundleVersion("1.0.0", "1.1.0"))));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		IPluginModelBase model = AbstractLaunchTest.findTargetModel("bundle.requireBundle", "1.0.0");
+
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		assertThat(DependencyManager.getDependencies(List.of(model), monitor)).isEqualTo(Set.of(bundleA));
+
+		monitor.setCanceled(true);
+		assertThatThrownBy(() -> DependencyManager.getDependencies(List.of(model), monitor))
+				.isInstanceOf(OperationCanceledException.class);
+	}
+
 	@Test
 	public void testFindRequirementsClosure_requireBundle2() throws Exception {
 
@@ -340,6 +366,117 @@ public class DependencyManagerTest {
 		assertThat(optionalClosure).isEqualTo(Set.of(bundleOptional, bundleA1, bundleA2, bundleProvider));
 	}
 
+	@Test
+	public void testFindRequirementsClosure_cycle() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a,bundle.c")),
+
+				bundle("bundle.c", "1.0.0"),
+
+				bundle("bundle.d", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.c")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		BundleDescription bundleD = bundleDescription("bundle.d", "1.0.0");
+
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleA, bundleB, bundleC));
+		assertThat(findRequirementsClosure(Set.of(bundleA))).isEqualTo(Set.of(bundleA, bundleB, bundleC));
+		assertThat(findRequirementsClosure(Set.of(bundleD))).isEqualTo(Set.of(bundleC, bundleD));
+		// composed from the remembered closures of each bundle
+		assertThat(findRequirementsClosure(Set.of(bundleA, bundleD)))
+				.isEqualTo(Set.of(bundleA, bundleB, bundleC, bundleD));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_targetChanged() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleB = bundleDescription("bundle.b", "1.0.0");
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleA, bundleB));
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.c", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.c")));
+
+		bundleB = bundleDescription("bundle.b", "1.0.0");
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		assertThat(findRequirementsClosure(Set.of(bundleB))).isEqualTo(Set.of(bundleB, bundleC));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_workspaceBundleChanged() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.c", "1.0.0"),
+
+				bundle("bundle.d", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.c")));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription bundleC = bundleDescription("bundle.c", "1.0.0");
+		BundleDescription bundleD = bundleDescription("bundle.d", "1.0.0");
+		BundleDescription bundleW = createRequiringProject("bundle.w", "bundle.a");
+		BundleDescription bundleV = createRequiringProject("bundle.v", "bundle.w");
+
+		assertThat(findRequirementsClosure(Set.of(bundleW))).isEqualTo(Set.of(bundleA, bundleW));
+		assertThat(findRequirementsClosure(Set.of(bundleV))).isEqualTo(Set.of(bundleA, bundleV, bundleW));
+		assertThat(findRequirementsClosure(Set.of(bundleD))).isEqualTo(Set.of(bundleC, bundleD));
+
+		// changes the requirements of the existing project
+		bundleW = createRequiringProject("bundle.w", "bundle.c");
+		bundleV = PluginRegistry.findModel("bundle.v").getBundleDescription();
+
+		assertThat(findRequirementsClosure(Set.of(bundleW))).isEqualTo(Set.of(bundleC, bundleW));
+		assertThat(findRequirementsClosure(Set.of(bundleV))).isEqualTo(Set.of(bundleC, bundleV, bundleW));
+		// the closures of unaffected bundles stay valid
+		assertThat(findRequirementsClosure(Set.of(bundleD))).isEqualTo(Set.of(bundleC, bundleD));
+		assertThat(findRequirementsClosure(Set.of(bundleA))).isEqualTo(Set.of(bundleA));
+		assertThat(findRequirementsClosure(Set.of(bundleV, bundleD)))
+				.isEqualTo(Set.of(bundleC, bundleD, bundleV, bundleW));
+	}
+
+	@Test
+	public void testFindRequirementsClosure_testFragmentChanged() throws Exception {
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack" + version("1.0.0"))));
+
+		BundleDescription bundleA = bundleDescription("bundle.a", "1.0.0");
+		BundleDescription fragment = createFragmentProject("bundle.a.fragment", "bundle.a", false);
+		IProject project = PluginRegistry.findModel(fragment).getUnderlyingResource().getProject();
+
+		Set<BundleDescription> bundles = Set.of(bundleA);
+		assertThat(findRequirementsClosure(bundles, INCLUDE_NON_TEST_FRAGMENTS)).isEqualTo(Set.of(bundleA, fragment));
+
+		// only the class path changes, the state is not resolved again
+		setTestAttribute(project, true);
+		assertThat(findRequirementsClosure(bundles, INCLUDE_NON_TEST_FRAGMENTS)).isEqualTo(Set.of(bundleA));
+		assertThat(findRequirementsClosure(bundles, INCLUDE_ALL_FRAGMENTS)).isEqualTo(Set.of(bundleA, fragment));
+
+		setTestAttribute(project, false);
+		assertThat(findRequirementsClosure(bundles, INCLUDE_NON_TEST_FRAGMENTS)).isEqualTo(Set.of(bundleA, fragment));
+	}
+
 	// --- utility methods ---
 
 	@SafeVarargs
@@ -360,12 +497,28 @@ public class DependencyManagerTest {
 		IProject project = ProjectUtils.createPluginProject(projectName, projectName, "1.0.0", (d, s) -> {
 			d.setHost(s.newHost(hostName, VersionRange.emptyRange));
 		});
-		IPluginModelBase model = PluginRegistry.findModel(project);
-		if (setTestAttribute) { // set test attribute in classpath
-			IClasspathEntry[] classpath = ClasspathComputer.getClasspath(project, model, null, false, true);
-			var cpEntries = Arrays.stream(classpath).map(e -> ClasspathComputer.updateTestAttribute(true, e));
-			JavaCore.create(project).setRawClasspath(cpEntries.toArray(IClasspathEntry[]::new), null);
+		if (setTestAttribute) {
+			setTestAttribute(project, true);
 		}
-		return model.getBundleDescription();
+		return PluginRegistry.findModel(project).getBundleDescription();
+	}
+
+	private static void setTestAttribute(IProject project, boolean test) throws CoreException {
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		IClasspathEntry[] classpath = ClasspathComputer.getClasspath(project, model, null, false, true);
+		var cpEntries = Arrays.stream(classpath).map(e -> ClasspathComputer.updateTestAttribute(test, e));
+		JavaCore.create(project).setRawClasspath(cpEntries.toArray(IClasspathEntry[]::new), null);
+	}
+
+	/**
+	 * Creates a plug-in project requiring the given bundle, or changes the
+	 * requirements of an existing one
+	 */
+	private static BundleDescription createRequiringProject(String name, String requiredBundle)
+			throws CoreException {
+		IProject project = ProjectUtils.createPluginProject(name, name, "1.0.0",
+				(d, s) -> d.setRequiredBundles(new IRequiredBundleDescription[] {
+						s.newRequiredBundle(requiredBundle, null, false, false) }));
+		return PluginRegistry.findModel(project).getBundleDescription();
 	}
 }
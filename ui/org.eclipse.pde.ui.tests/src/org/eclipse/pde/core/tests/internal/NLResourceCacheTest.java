@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.PropertyResourceBundle;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.pde.internal.core.NLResourceCache;
+import org.eclipse.pde.internal.core.NLResourceHelper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class NLResourceCacheTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testFolderBundle() throws IOException {
+		Path root = folder.newFolder("bundle").toPath();
+		Path file = Files.writeString(root.resolve("plugin.properties"), "name=Folder Bundle\n");
+		URL location = root.toUri().toURL();
+
+		NLResourceCache cache = new NLResourceCache();
+		PropertyResourceBundle bundle = cache.getBundle(location, "plugin.properties");
+		assertThat(bundle.getString("name")).isEqualTo("Folder Bundle");
+		assertThat(cache.getBundle(location, "plugin.properties")).isSameAs(bundle);
+		assertThat(cache.getBundle(location, "plugin_de.properties")).isNull();
+
+		Files.writeString(file, "name=Changed Bundle\n");
+		Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+		assertThat(cache.getBundle(location, "plugin.properties").getString("name")).isEqualTo("Changed Bundle");
+	}
+
+	@Test
+	public void testJarBundle() throws IOException {
+		Path jar = folder.getRoot().toPath().resolve("bundle.jar");
+		try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(jar))) {
+			zip.putNextEntry(new ZipEntry("OSGI-INF/l10n/bundle.properties"));
+			zip.write("name=Jar Bundle\n".getBytes(StandardCharsets.ISO_8859_1));
+			zip.closeEntry();
+		}
+		URL location = jar.toUri().toURL();
+
+		NLResourceCache cache = new NLResourceCache();
+		assertThat(cache.getBundle(location, "OSGI-INF/l10n/bundle.properties").getString("name")).isEqualTo("Jar Bundle");
+		assertThat(cache.getBundle(location, "plugin.properties")).isNull();
+	}
+
+	@Test
+	public void testHelperSearchesAllLocations() throws IOException {
+		Path host = folder.newFolder("host").toPath();
+		Path fragment = folder.newFolder("fragment").toPath();
+		Files.writeString(fragment.resolve("plugin.properties"), "name=From Fragment\n");
+
+		NLResourceHelper helper = new NLResourceHelper("plugin",
+				new URL[] { host.toUri().toURL(), fragment.toUri().toURL() });
+		assertThat(helper.getResourceString("%name")).isEqualTo("From Fragment");
+		assertThat(helper.getResourceString("%missing Default")).isEqualTo("Default");
+		assertThat(helper.getNLFileBasePath()).startsWith("plugin");
+	}
+}
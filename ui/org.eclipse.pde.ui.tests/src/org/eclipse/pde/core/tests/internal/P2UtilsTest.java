@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import org.eclipse.equinox.simpleconfigurator.manipulator.SimpleConfiguratorManipulator;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.P2Utils;
+import org.eclipse.pde.internal.core.plugin.PluginBase;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the bundles.info and source.info written for a launch match the
+ * bundles of the launch
+ */
+public class P2UtilsTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+	private File bundlesTxt;
+	private File sourceTxt;
+	private IPluginModelBase bundle;
+	private IPluginModelBase source;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = folder.newFolder("configuration");
+		bundlesTxt = new File(directory, SimpleConfiguratorManipulator.BUNDLES_INFO_PATH);
+		sourceTxt = new File(directory, SimpleConfiguratorManipulator.SOURCE_INFO_PATH);
+		bundle = mockModel("org.example.bundle", null);
+		source = mockModel("org.example.bundle.source", "org.example.bundle;version=\"1.0.0\"");
+	}
+
+	@Test
+	public void testUnchangedLaunch() throws IOException {
+		URL url = write(Map.of(bundle, "default:default", source, "default:default"));
+		assertThat(url).isNotNull();
+		assertThat(bundlesTxt).isFile();
+		assertThat(sourceTxt).isFile();
+
+		FileTime written = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(bundlesTxt.toPath(), written);
+		Files.setLastModifiedTime(sourceTxt.toPath(), written);
+		write(Map.of(bundle, "default:default", source, "default:default"));
+		assertThat(Files.getLastModifiedTime(bundlesTxt.toPath())).isEqualTo(written);
+		assertThat(Files.getLastModifiedTime(sourceTxt.toPath())).isEqualTo(written);
+
+		write(Map.of(bundle, "5:true", source, "default:default"));
+		assertThat(Files.getLastModifiedTime(bundlesTxt.toPath())).isNotEqualTo(written);
+		assertThat(Files.getLastModifiedTime(sourceTxt.toPath())).isEqualTo(written);
+	}
+
+	/**
+	 * Tests that the files of a previous launch are deleted once a launch has
+	 * no bundles or no source bundles
+	 */
+	@Test
+	public void testNoBundlesAfterLaunch() {
+		assertThat(write(Map.of(bundle, "default:default", source, "default:default"))).isNotNull();
+		assertThat(bundlesTxt).isFile();
+		assertThat(sourceTxt).isFile();
+
+		assertThat(write(Map.of(source, "default:default"))).isNull();
+		assertThat(bundlesTxt).doesNotExist();
+		assertThat(sourceTxt).isFile();
+
+		assertThat(write(Map.of(bundle, "default:default"))).isNotNull();
+		assertThat(bundlesTxt).isFile();
+		assertThat(sourceTxt).doesNotExist();
+	}
+
+	private URL write(Map<IPluginModelBase, String> bundles) {
+		return P2Utils.writeBundlesTxt(bundles, 4, false, directory, null);
+	}
+
+	private IPluginModelBase mockModel(String id, String sourceEntry) throws IOException {
+		PluginBase base = mock(PluginBase.class);
+		when(base.getId()).thenReturn(id);
+		when(base.getVersion()).thenReturn("1.0.0");
+		when(base.getBundleSourceEntry()).thenReturn(sourceEntry);
+		IPluginModelBase model = mock(IPluginModelBase.class);
+		when(model.getPluginBase()).thenReturn(base);
+		when(model.getInstallLocation()).thenReturn(folder.newFile(id + "_1.0.0.jar").getAbsolutePath());
+		return model;
+	}
+}
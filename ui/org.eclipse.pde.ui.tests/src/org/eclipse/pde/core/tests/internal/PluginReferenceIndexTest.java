@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static java.util.Map.entry;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.pde.ui.tests.util.TargetPlatformUtil.bundle;
+import static org.osgi.framework.Constants.EXPORT_PACKAGE;
+import static org.osgi.framework.Constants.FRAGMENT_HOST;
+import static org.osgi.framework.Constants.IMPORT_PACKAGE;
+import static org.osgi.framework.Constants.REQUIRE_BUNDLE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.core.IIdentifiable;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.target.NameVersionDescriptor;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelManager;
+import org.eclipse.pde.internal.core.search.PluginReferenceIndex;
+import org.eclipse.pde.internal.core.search.PluginReferenceIndex.Kind;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.eclipse.pde.ui.tests.launcher.AbstractLaunchTest;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class PluginReferenceIndexTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+	private Path tpJarDirectory;
+
+	@Before
+	public void setupBefore() throws IOException {
+		tpJarDirectory = folder.newFolder("TPJarDirectory").toPath();
+		// ensure PluginModelManager is initialized
+		PluginModelManager.getInstance().getState();
+	}
+
+	@Test
+	public void testReferences() throws Exception {
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0", //
+						entry(EXPORT_PACKAGE, "bundle.a.pack")),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")),
+
+				bundle("bundle.importPackage", "1.0.0", //
+						entry(IMPORT_PACKAGE, "bundle.a.pack")),
+
+				bundle("bundle.fragment", "1.0.0", //
+						entry(FRAGMENT_HOST, "bundle.a")));
+
+		IPluginModelBase bundleA = model("bundle.a");
+		IPluginModelBase requireBundle = model("bundle.requireBundle");
+		IPluginModelBase importPackage = model("bundle.importPackage");
+		IPluginModelBase fragment = model("bundle.fragment");
+
+		PluginReferenceIndex index = PDECore.getDefault().getPluginReferenceIndex();
+		assertThat(index.getPluginModels(Kind.PLUGIN, "bundle.a")).containsExactly(bundleA);
+		assertThat(index.getPluginModels(Kind.PLUGIN, "BUNDLE.A")).containsExactly(bundleA);
+		assertThat(index.getPluginModels(Kind.REQUIRED_PLUGIN, "bundle.a"))
+				.containsExactlyInAnyOrder(requireBundle, fragment);
+		assertThat(index.getPluginModels(Kind.IMPORTED_PACKAGE, "bundle.a.pack")).containsExactly(importPackage);
+		assertThat(index.getPluginModels(Kind.REQUIRED_PLUGIN, "bundle.unknown")).isEmpty();
+		assertThat(index.isIndexed(bundleA)).isTrue();
+	}
+
+	@Test
+	public void testTargetChange() throws Exception {
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")));
+
+		PluginReferenceIndex index = PDECore.getDefault().getPluginReferenceIndex();
+		assertThat(index.getPluginModels(Kind.REQUIRED_PLUGIN, "bundle.a")).hasSize(1);
+
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.b", "1.0.0"),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.b")));
+
+		IPluginModelBase requireBundle = model("bundle.requireBundle");
+		assertThat(index.getPluginModels(Kind.REQUIRED_PLUGIN, "bundle.a")).isEmpty();
+		assertThat(index.getPluginModels(Kind.REQUIRED_PLUGIN, "bundle.b")).containsExactly(requireBundle);
+	}
+
+	@Test
+	public void testSearchOperation() throws Exception {
+		setTargetPlatform( //
+				bundle("bundle.a", "1.0.0"),
+
+				bundle("bundle.requireBundle", "1.0.0", //
+						entry(REQUIRE_BUNDLE, "bundle.a")),
+
+				bundle("bundle.other", "1.0.0"));
+
+		assertThat(search("bundle.a", PluginSearchInput.LIMIT_ALL)).containsExactlyInAnyOrder( //
+				model("bundle.a").getPluginBase(), //
+				model("bundle.requireBundle").getPluginBase().getImports()[0]);
+		assertThat(search("bundle.a", PluginSearchInput.LIMIT_REFERENCES)).containsExactly( //
+				model("bundle.requireBundle").getPluginBase().getImports()[0]);
+		// patterns with wildcards are not looked up in the index
+		assertThat(search("bundle.*", PluginSearchInput.LIMIT_DECLARATIONS)).hasSize(3);
+	}
+
+	private static List<IIdentifiable> search(String name, int limit) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchString(name);
+		input.setSearchElement(PluginSearchInput.ELEMENT_PLUGIN);
+		input.setSearchLimit(limit);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ENABLED, null));
+		List<IIdentifiable> matches = new ArrayList<>();
+		new PluginSearchOperation(input, match -> matches.add((IIdentifiable) match))
+				.execute(new NullProgressMonitor());
+		return matches;
+	}
+
+	private void setTargetPlatform(Map.Entry<NameVersionDescriptor, Map<String, String>>... pluginDescriptions)
+			throws Exception {
+		TargetPlatformUtil.setDummyBundlesAsTarget(Map.ofEntries(pluginDescriptions), List.of(), tpJarDirectory);
+	}
+
+	private static IPluginModelBase model(String id) {
+		return AbstractLaunchTest.findTargetModel(id, "1.0.0");
+	}
+}
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.SourceLocationManager;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the source paths cached by the {@link SourceLocationManager} are
+ * the ones a new search finds
+ */
+@SuppressWarnings("deprecation")
+public class SourceLocationManagerTest {
+
+	private static final IPath SOURCE_LIBRARY = IPath.fromOSString("src.zip");
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final IPluginBase plugin = mockPlugin("org.example.source", "1.0.0");
+
+	@After
+	public void tearDown() {
+		PDECore.getDefault().getPreferencesManager().setToDefault(ICoreConstants.P_SOURCE_LOCATIONS);
+	}
+
+	@Test
+	public void testFoundPath() throws IOException {
+		Path location = folder.newFolder("location").toPath();
+		setUserLocations(location);
+		Path source = createSource(location);
+
+		SourceLocationManager manager = new SourceLocationManager();
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(source));
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(source));
+		assertThat(manager.findSourcePath(mockPlugin("org.example.source", "2.0.0"), SOURCE_LIBRARY)).isNull();
+	}
+
+	@Test
+	public void testMissingPathNotCached() throws IOException {
+		Path location = folder.newFolder("location").toPath();
+		setUserLocations(location);
+
+		SourceLocationManager manager = new SourceLocationManager();
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isNull();
+		Path source = createSource(location);
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(source));
+	}
+
+	@Test
+	public void testDeletedPathNotReturned() throws IOException {
+		Path first = folder.newFolder("first").toPath();
+		Path second = folder.newFolder("second").toPath();
+		setUserLocations(first, second);
+		Path firstSource = createSource(first);
+		Path secondSource = createSource(second);
+
+		SourceLocationManager manager = new SourceLocationManager();
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(firstSource));
+		Files.delete(firstSource);
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(secondSource));
+	}
+
+	@Test
+	public void testUserLocationsChanged() throws IOException {
+		Path first = folder.newFolder("first").toPath();
+		Path second = folder.newFolder("second").toPath();
+		setUserLocations(first);
+		Path firstSource = createSource(first);
+		Path secondSource = createSource(second);
+
+		SourceLocationManager manager = new SourceLocationManager();
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(firstSource));
+		setUserLocations(second, first);
+		assertThat(manager.findSourcePath(plugin, SOURCE_LIBRARY)).isEqualTo(path(secondSource));
+	}
+
+	private static IPluginBase mockPlugin(String id, String version) {
+		IPluginBase plugin = mock(IPluginBase.class);
+		when(plugin.getId()).thenReturn(id);
+		when(plugin.getVersion()).thenReturn(version);
+		return plugin;
+	}
+
+	private static void setUserLocations(Path... locations) {
+		String value = Arrays.stream(locations).map(Path::toString).collect(Collectors.joining(";")); //$NON-NLS-1$
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.P_SOURCE_LOCATIONS, value);
+	}
+
+	private static IPath path(Path path) {
+		return IPath.fromOSString(path.toString());
+	}
+
+	private Path createSource(Path location) throws IOException {
+		Path pluginFolder = Files.createDirectories(location.resolve(plugin.getId() + "_" + plugin.getVersion())); //$NON-NLS-1$
+		return Files.write(pluginFolder.resolve(SOURCE_LIBRARY.toString()), new byte[] { 1 });
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.launching.launcher.LaunchValidationOperation;
+import org.eclipse.pde.internal.ui.launcher.AbstractPluginBlock;
+import org.eclipse.pde.ui.launcher.AbstractLauncherTab;
+import org.eclipse.pde.ui.tests.runtime.TestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the plug-ins required by the checked ones are added in the
+ * background by an {@link AbstractPluginBlock}
+ */
+public class AbstractPluginBlockTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static IPluginModelBase requiring;
+	private static IPluginModelBase required;
+
+	private Shell shell;
+	private TestBlock block;
+
+	/**
+	 * Tab without controls of its own
+	 */
+	static class TestTab extends AbstractLauncherTab {
+		@Override
+		public void createControl(Composite parent) {
+		}
+
+		@Override
+		public String getName() {
+			return "Test";
+		}
+
+		@Override
+		public void initializeFrom(ILaunchConfiguration configuration) {
+		}
+
+		@Override
+		public void performApply(ILaunchConfigurationWorkingCopy configuration) {
+		}
+
+		@Override
+		public void setDefaults(ILaunchConfigurationWorkingCopy configuration) {
+		}
+
+		@Override
+		public void validateTab() {
+		}
+	}
+
+	/**
+	 * Block counting the updates of its counter
+	 */
+	static class TestBlock extends AbstractPluginBlock {
+		int counterUpdates;
+
+		TestBlock() {
+			super(new TestTab());
+		}
+
+		void check(IPluginModelBase... models) {
+			Map<IPluginModelBase, String> selected = new HashMap<>();
+			for (IPluginModelBase model : models) {
+				selected.put(model, "default:default");
+			}
+			initializePluginsState(selected);
+		}
+
+		void addRequired() {
+			addRequiredPlugins();
+		}
+
+		boolean isChecked(IPluginModelBase model) {
+			return fPluginTreeViewer.isCheckedLeafElement(model);
+		}
+
+		int getCheckedCount() {
+			return fNumExternalChecked + fNumWorkspaceChecked;
+		}
+
+		@Override
+		protected void updateCounter() {
+			counterUpdates++;
+			super.updateCounter();
+		}
+
+		@Override
+		protected void savePluginState(ILaunchConfigurationWorkingCopy config) {
+		}
+
+		@Override
+		protected LaunchValidationOperation createValidationOperation() {
+			return null;
+		}
+	}
+
+	@BeforeClass
+	public static void setUpProjects() throws Exception {
+		IProject requiredProject = ProjectUtils.createPluginProject("block.required", "1.0.0");
+		IProject requiringProject = ProjectUtils.createPluginProject("block.requiring", "block.requiring", "1.0.0",
+				(d, s) -> d.setRequiredBundles(new IRequiredBundleDescription[] {
+						s.newRequiredBundle("block.required", null, false, false) }));
+		TestUtils.waitForJobs("AbstractPluginBlockTest", 100, 10000);
+		required = PluginRegistry.findModel(requiredProject);
+		requiring = PluginRegistry.findModel(requiringProject);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		shell = new Shell(Display.getDefault());
+		Composite composite = new Composite(shell, 0);
+		composite.setLayout(new GridLayout(7, false));
+		block = new TestBlock();
+		block.createControl(composite, 7, 10);
+		block.initializeFrom(createConfig("first"), true);
+	}
+
+	@After
+	public void tearDown() {
+		block.dispose();
+		shell.dispose();
+	}
+
+	@Test
+	public void testAddRequired() throws Exception {
+		block.check(requiring);
+		assertFalse(block.isChecked(required));
+
+		block.addRequired();
+		// the dependencies are computed in the background
+		assertFalse(block.isChecked(required));
+		waitFor(() -> block.isChecked(required));
+		assertTrue(block.isChecked(requiring));
+		assertTrue(block.isChecked(required));
+		assertEquals(2, block.getCheckedCount());
+	}
+
+	@Test
+	public void testCounterUpdatedWithoutAdded() throws Exception {
+		block.check(requiring, required);
+		int updates = block.counterUpdates;
+
+		block.addRequired();
+		waitFor(() -> block.counterUpdates > updates);
+		assertTrue(block.counterUpdates > updates);
+		assertEquals(2, block.getCheckedCount());
+	}
+
+	/**
+	 * Tests that the plug-ins required by the previous configuration are not
+	 * checked once the block is initialized from another one
+	 */
+	@Test
+	public void testCanceledByInitialize() throws Exception {
+		block.check(requiring);
+		block.addRequired();
+		block.initializeFrom(createConfig("second"), true);
+		block.check(requiring);
+
+		TestUtils.waitForJobs("AbstractPluginBlockTest", 100, 10000);
+		TestUtils.processUIEvents();
+		assertFalse(block.isChecked(required));
+		assertEquals(1, block.getCheckedCount());
+	}
+
+	@Test
+	public void testCanceledByDispose() throws Exception {
+		block.check(requiring);
+		block.addRequired();
+		block.dispose();
+
+		TestUtils.waitForJobs("AbstractPluginBlockTest", 100, 10000);
+		TestUtils.processUIEvents();
+		assertFalse(block.isChecked(required));
+	}
+
+	private static ILaunchConfiguration createConfig(String name) throws Exception {
+		return DebugPlugin.getDefault().getLaunchManager()
+				.getLaunchConfigurationType("org.eclipse.pde.ui.RuntimeWorkbench").newInstance(null, name);
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws Exception {
+		long end = System.currentTimeMillis() + 10000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < end) {
+			TestUtils.processUIEvents(10);
+		}
+	}
+}
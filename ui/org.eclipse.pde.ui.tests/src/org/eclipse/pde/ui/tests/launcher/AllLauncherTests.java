@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 EclipseSource Corporation and others.
+ * Copyright (c) 2009, 2026 EclipseSource Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,12 +23,16 @@ import org.junit.runners.Suite.SuiteClasses;
  */
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	AbstractPluginBlockTest.class, //
 	FeatureBasedLaunchTest.class, //
 	PluginBasedLaunchTest.class, //
 	LaunchConfigurationHelperTestCase.class, //
 	LaunchConfigurationMigrationTest.class, //
 	ProductEditorLaunchingTest.class, //
 	ValidationDialogTest.class, //
+	TestShardsTest.class, //
+	TestShardMultiplexerTest.class, //
+	PDESourceLookupDirectorTest.class, //
 })
 public class AllLauncherTests {
 
@@ -14,15 +14,28 @@
 package org.eclipse.pde.ui.tests.launcher;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Properties;
+
+import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Tests LaunchConfigurationHelper convenience methods
  * @since 3.5
  */
 public class LaunchConfigurationHelperTestCase {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testgetStartData() {
 		assertEquals(LaunchConfigurationHelper.getStartData("", false), "");
@@ -41,4 +54,23 @@ public class LaunchConfigurationHelperTestCase {
 		assertEquals(LaunchConfigurationHelper.getStartData("default", true), "@start");
 	}
 
+	@Test
+	public void testSaveSkipsUnchangedFile() throws Exception {
+		File configIni = new File(folder.getRoot(), "configuration/config.ini");
+		Properties properties = new Properties();
+		properties.setProperty("osgi.bundles.defaultStartLevel", "4");
+		properties.setProperty("osgi.framework", "org.eclipse.osgi");
+		LaunchConfigurationHelper.save(configIni, properties);
+		assertTrue(configIni.isFile());
+
+		FileTime written = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(configIni.toPath(), written);
+		LaunchConfigurationHelper.save(configIni, properties);
+		assertEquals(written, Files.getLastModifiedTime(configIni.toPath()));
+
+		properties.setProperty("osgi.bundles.defaultStartLevel", "5");
+		assertTrue(CoreUtility.storeIfChanged(configIni, properties, "Configuration File"));
+		assertFalse(CoreUtility.storeIfChanged(configIni, properties, "Configuration File"));
+	}
+
 }
@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaClassType;
+import org.eclipse.jdt.debug.core.IJavaFieldVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
+import org.eclipse.pde.internal.launching.sourcelookup.PDESourceLookupDirector;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that the source elements found by the {@link PDESourceLookupDirector}
+ * for types loaded by bundle class loaders of the debugged runtime do not
+ * outlive the workspace and plug-in model changes they depend on
+ */
+public class PDESourceLookupDirectorTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+	@Rule
+	public final TestRule deleteCreatedTestProjectsAfter = ProjectUtils.DELETE_CREATED_WORKSPACE_PROJECTS_AFTER;
+
+	private static final String PLUGIN_ID = "source.lookup";
+	private static final String EQUINOX_CLASS_LOADER = "org.eclipse.osgi.internal.loader.EquinoxClassLoader";
+
+	private PDESourceLookupDirector fDirector;
+	private IProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fDirector = new PDESourceLookupDirector();
+		fProject = ProjectUtils.createPluginProject(PLUGIN_ID, (IExecutionEnvironment) null).getProject();
+	}
+
+	@After
+	public void tearDown() {
+		fDirector.dispose();
+	}
+
+	@Test
+	public void testLookup() throws Exception {
+		createSource("b/B.java");
+		IJavaReferenceType type = bundleType("b.B");
+
+		Object found = fDirector.getSourceElement(type);
+		assertNotNull(found);
+		// the second lookup is answered from the cache
+		assertSame(found, fDirector.getSourceElement(type));
+		assertNull(fDirector.getSourceElement(bundleType("b.Missing")));
+	}
+
+	/**
+	 * Tests that source added to the workspace is found once it exists and
+	 * that found source is dropped once deleted
+	 */
+	@Test
+	public void testWorkspaceChange() throws Exception {
+		IJavaReferenceType type = bundleType("c.C");
+		assertNull(fDirector.getSourceElement(type));
+
+		IFile file = createSource("c/C.java");
+		assertNotNull("a miss must not be kept across workspace changes", fDirector.getSourceElement(type));
+
+		file.delete(true, null);
+		assertNull(fDirector.getSourceElement(type));
+	}
+
+	/**
+	 * Tests that the source is no longer found in a project that is no longer
+	 * a plug-in, although the source file still exists
+	 */
+	@Test
+	public void testModelChange() throws Exception {
+		createSource("b/B.java");
+		IJavaReferenceType type = bundleType("b.B");
+		assertNotNull(fDirector.getSourceElement(type));
+
+		fProject.getFile("META-INF/MANIFEST.MF").delete(true, null);
+		assertNull(fDirector.getSourceElement(type));
+	}
+
+	@Test
+	public void testDispose() throws Exception {
+		IJavaReferenceType type = bundleType("c.C");
+		assertNull(fDirector.getSourceElement(type));
+		fDirector.dispose();
+
+		// the disposed director no longer listens to workspace changes, so the
+		// source is found only if the cached miss was dropped on dispose
+		createSource("c/C.java");
+		assertNotNull(fDirector.getSourceElement(type));
+	}
+
+	private IFile createSource(String path) throws CoreException {
+		IFile file = fProject.getFolder(ProjectUtils.SRC_FOLDER).getFile(path);
+		if (file.getParent() instanceof IFolder folder && !folder.exists()) {
+			folder.create(true, true, null);
+		}
+		file.create(new ByteArrayInputStream(new byte[0]), true, null);
+		return file;
+	}
+
+	/**
+	 * Mocks a type of the source lookup project, loaded by a bundle class
+	 * loader of the debugged runtime
+	 */
+	private IJavaReferenceType bundleType(String typeName) throws DebugException {
+		IJavaObject data = mock(IJavaObject.class);
+		setField(data, "fileName", stringValue(fProject.getLocation().toOSString()));
+		setField(data, "symbolicName", stringValue(PLUGIN_ID));
+		IJavaObject entry = mock(IJavaObject.class);
+		setField(entry, "data", data);
+		IJavaArray entries = mock(IJavaArray.class);
+		when(entries.getLength()).thenReturn(1);
+		when(entries.getValue(0)).thenReturn(entry);
+		IJavaObject manager = mock(IJavaObject.class);
+		setField(manager, "entries", entries);
+
+		IJavaClassType classLoaderType = mock(IJavaClassType.class);
+		when(classLoaderType.getName()).thenReturn(EQUINOX_CLASS_LOADER);
+		IJavaObject classLoader = mock(IJavaObject.class);
+		when(classLoader.getJavaType()).thenReturn(classLoaderType);
+		when(classLoader.getUniqueId()).thenReturn(-1L);
+		setField(classLoader, "manager", manager);
+
+		IJavaReferenceType type = mock(IJavaReferenceType.class);
+		when(type.getName()).thenReturn(typeName);
+		when(type.getSourcePaths(null)).thenReturn(new String[] { typeName.replace('.', '/') + ".java" });
+		when(type.getClassLoaderObject()).thenReturn(classLoader);
+		return type;
+	}
+
+	private static IJavaObject stringValue(String value) throws DebugException {
+		IJavaObject object = mock(IJavaObject.class);
+		when(object.getValueString()).thenReturn(value);
+		return object;
+	}
+
+	private static void setField(IJavaObject object, String name, IValue value) throws DebugException {
+		IJavaFieldVariable variable = mock(IJavaFieldVariable.class);
+		when(variable.getValue()).thenReturn(value);
+		when(object.getField(name, false)).thenReturn(variable);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2021, 2022 Hannes Wellmann and others.
+ *  Copyright (c) 2021, 2026 Hannes Wellmann and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -58,6 +58,7 @@ import org.eclipse.pde.internal.core.DependencyManager;
 import org.eclipse.pde.internal.core.ICoreConstants;
 import org.eclipse.pde.internal.launching.IPDEConstants;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
 import org.eclipse.pde.launching.EclipseApplicationLaunchConfiguration;
 import org.eclipse.pde.launching.IPDELauncherConstants;
 import org.eclipse.pde.ui.tests.util.ProjectUtils;
@@ -809,6 +810,49 @@ public class PluginBasedLaunchTest extends AbstractLaunchTest {
 		assertGetMergedBundleMap(workspacePlugins, targetPlatformBundles, launchConfigSetup, expectedBundles);
 	}
 
+	// --- test cases for LaunchPreparationCache ----
+
+	@Test
+	public void testLaunchPreparationCache_launchConfigurationChanged() throws Exception {
+		setUpWorkspace(Map.of(), ofEntries( //
+				bundle("plugin.x", "1.0.0"), //
+				bundle("plugin.y", "1.0.0")));
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("cached-launch");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_TARGET_BUNDLES, Set.of("plugin.x"));
+
+		Map<IPluginModelBase, String> expected = Map.of(findTargetModel("plugin.x", "1.0.0"), "default:default");
+		Map<IPluginModelBase, String> bundleMap = LaunchPreparationCache.getMergedBundleMap(wc, false, null);
+		assertPluginMapsEquals(null, expected, bundleMap);
+
+		// the returned map is a copy that can be modified by the launch delegate
+		bundleMap.clear();
+		assertPluginMapsEquals(null, expected, LaunchPreparationCache.getMergedBundleMap(wc, false, null));
+
+		wc.setAttribute(IPDELauncherConstants.SELECTED_TARGET_BUNDLES, Set.of("plugin.x", "plugin.y"));
+		assertPluginMapsEquals(null, Map.of( //
+				findTargetModel("plugin.x", "1.0.0"), "default:default", //
+				findTargetModel("plugin.y", "1.0.0"), "default:default"),
+				LaunchPreparationCache.getMergedBundleMap(wc, false, null));
+	}
+
+	@Test
+	public void testLaunchPreparationCache_targetPlatformChanged() throws Exception {
+		setUpWorkspace(Map.of(), ofEntries(bundle("plugin.x", "1.0.0")));
+
+		ILaunchConfigurationWorkingCopy wc = createPluginLaunchConfig("cached-launch");
+		wc.setAttribute(IPDELauncherConstants.SELECTED_TARGET_BUNDLES, Set.of("plugin.x"));
+
+		assertPluginMapsEquals(null, Map.of(findTargetModel("plugin.x", "1.0.0"), "default:default"),
+				LaunchPreparationCache.getMergedBundleMap(wc, false, null));
+
+		// same launch configuration attributes, but a different target
+		TargetPlatformUtil.setDummyBundlesAsTarget(ofEntries(bundle("plugin.x", "2.0.0")), List.of(),
+				folder.newFolder("OtherTPJarDirectory").toPath());
+		assertPluginMapsEquals(null, Map.of(findTargetModel("plugin.x", "2.0.0"), "default:default"),
+				LaunchPreparationCache.getMergedBundleMap(wc, false, null));
+	}
+
 	// --- miscellaneous cases ---
 
 	@Test
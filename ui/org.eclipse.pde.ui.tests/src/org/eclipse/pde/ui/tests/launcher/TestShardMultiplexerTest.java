@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.pde.unittest.junit.launcher.TestShardMultiplexer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests merging the remote test runner messages of two shards. The test
+ * plays the JUnit view, which the multiplexer connects to, and the remote
+ * test runners of the shards, which connect to the multiplexer.
+ */
+public class TestShardMultiplexerTest {
+
+	private static final int TIMEOUT = 10000;
+
+	/**
+	 * End of a connection, as seen by the remote test runner or the view
+	 */
+	private static class Connection implements AutoCloseable {
+		final Socket socket;
+		final BufferedReader reader;
+		final PrintWriter writer;
+
+		Connection(Socket socket) throws IOException {
+			this.socket = socket;
+			socket.setSoTimeout(TIMEOUT);
+			reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+			writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+		}
+
+		void send(String... lines) {
+			for (String line : lines) {
+				writer.println(line);
+			}
+		}
+
+		void expect(String... lines) throws IOException {
+			for (String line : lines) {
+				assertEquals(line, reader.readLine());
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			socket.close();
+		}
+	}
+
+	private ServerSocket viewServer;
+	private Connection view;
+	private Connection shard0;
+	private Connection shard1;
+
+	@Before
+	public void setUp() throws IOException {
+		viewServer = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+		viewServer.setSoTimeout(TIMEOUT);
+		int[] shardPorts = new int[] { freePort(), freePort() };
+		new TestShardMultiplexer(viewServer.getLocalPort(), shardPorts).start();
+		view = new Connection(viewServer.accept());
+		shard0 = new Connection(new Socket(InetAddress.getLoopbackAddress(), shardPorts[0]));
+		shard1 = new Connection(new Socket(InetAddress.getLoopbackAddress(), shardPorts[1]));
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		for (AutoCloseable connection : new AutoCloseable[] { shard0, shard1, view }) {
+			try {
+				if (connection != null) {
+					connection.close();
+				}
+			} catch (Exception e) {
+				// already closed
+			}
+		}
+		viewServer.close();
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			return socket.getLocalPort();
+		}
+	}
+
+	/**
+	 * Tests that the view gets one test run start with the tests of all
+	 * shards, and one test run end once all shards are done
+	 */
+	@Test
+	public void testRunStartAndEnd() throws IOException {
+		shard0.send("%TESTC  2 v2");
+		shard0.send("%TESTS  1,test1(a.ATest)");
+		// nothing is forwarded before all shards started their run
+		shard1.send("%TESTC  3 v2");
+		view.expect("%TESTC  5 v2", "%TESTS  2,test1(a.ATest)");
+
+		shard0.send("%RUNTIME100");
+		shard1.send("%TESTS  1,test1(b.BTest)");
+		view.expect("%TESTS  3,test1(b.BTest)");
+		shard1.send("%RUNTIME200");
+		String end = view.reader.readLine();
+		assertTrue(end, end.startsWith("%RUNTIME"));
+		assertNull("the run must end once", view.reader.readLine());
+	}
+
+	/**
+	 * Tests that the test identifiers of both shards are unique in the view,
+	 * including the parents of test tree entries and escaped fields
+	 */
+	@Test
+	public void testRemapIds() throws IOException {
+		startRun();
+		shard0.send("%TSTTREE1,a.ATest,true,1,false,-1,a.ATest,,");
+		shard0.send("%TSTTREE2,test1(a.ATest),false,1,false,1,test1,,");
+		view.expect("%TSTTREE2,a.ATest,true,1,false,-1,a.ATest,,", "%TSTTREE4,test1(a.ATest),false,1,false,2,test1,,");
+		shard1.send("%TSTTREE1,b.BTest,true,1,false,-1,b.BTest,,");
+		shard1.send("%TSTTREE2,test\\,1(b.BTest),false,1,false,1,test\\,1,,");
+		view.expect("%TSTTREE3,b.BTest,true,1,false,-1,b.BTest,,",
+				"%TSTTREE5,test\\,1(b.BTest),false,1,false,3,test\\,1,,");
+		shard1.send("%TESTS  2,test\\,1(b.BTest)", "%TESTE  2,test\\,1(b.BTest)");
+		view.expect("%TESTS  5,test\\,1(b.BTest)", "%TESTE  5,test\\,1(b.BTest)");
+		// identifiers that are not numbers are prefixed with the shard
+		shard0.send("%TESTS  id,test1(a.ATest)");
+		view.expect("%TESTS  0.id,test1(a.ATest)");
+	}
+
+	/**
+	 * Tests that a failure and its trace are forwarded in one piece, even
+	 * while the other shard reports
+	 */
+	@Test
+	public void testFailureForwardedWithTrace() throws IOException {
+		startRun();
+		shard0.send("%TESTS  2,test1(a.ATest)");
+		view.expect("%TESTS  4,test1(a.ATest)");
+		shard0.send("%FAILED 2,test1(a.ATest)", "%TRACES ", "java.lang.AssertionError: expected");
+		shard1.send("%TESTS  2,test1(b.BTest)");
+		view.expect("%TESTS  5,test1(b.BTest)");
+		shard0.send("\tat a.ATest.test1(ATest.java:10)", "%TRACEE ", "%TESTE  2,test1(a.ATest)");
+		view.expect("%FAILED 4,test1(a.ATest)", "%TRACES ", "java.lang.AssertionError: expected",
+				"\tat a.ATest.test1(ATest.java:10)", "%TRACEE ", "%TESTE  4,test1(a.ATest)");
+	}
+
+	/**
+	 * Tests that a stop request of the view reaches all shards
+	 */
+	@Test
+	public void testStop() throws IOException {
+		startRun();
+		// both shards are connected once their messages are forwarded
+		shard0.send("%TESTS  1,test1(a.ATest)");
+		view.expect("%TESTS  2,test1(a.ATest)");
+		shard1.send("%TESTS  1,test1(b.BTest)");
+		view.expect("%TESTS  3,test1(b.BTest)");
+		view.send(">STOP   ");
+		shard0.expect(">STOP   ");
+		shard1.expect(">STOP   ");
+	}
+
+	private void startRun() throws IOException {
+		shard0.send("%TESTC  1 v2");
+		shard1.send("%TESTC  1 v2");
+		view.expect("%TESTC  2 v2");
+	}
+}
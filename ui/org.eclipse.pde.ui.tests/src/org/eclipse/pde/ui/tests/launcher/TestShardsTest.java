@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.pde.unittest.junit.launcher.TestShards;
+import org.junit.Test;
+
+public class TestShardsTest {
+
+	@Test
+	public void testPartitionLongestFirst() {
+		List<IType[]> shards = TestShards.partition(types("A", "B", "C", "D"), 2,
+				Map.of("A", 100L, "B", 60L, "C", 50L, "D", 10L));
+		assertShards(shards, List.of("A", "D"), List.of("B", "C"));
+	}
+
+	@Test
+	public void testPartitionUnknownDurationIsMedian() {
+		// C counts as long as A, the median of the recorded durations
+		List<IType[]> shards = TestShards.partition(types("A", "B", "C"), 2, Map.of("A", 100L, "B", 10L));
+		assertShards(shards, List.of("A", "B"), List.of("C"));
+	}
+
+	@Test
+	public void testPartitionWithoutDurations() {
+		List<IType[]> shards = TestShards.partition(types("D", "C", "B", "A", "E"), 2, Map.of());
+		assertShards(shards, List.of("A", "C", "E"), List.of("B", "D"));
+	}
+
+	@Test
+	public void testPartitionMoreShardsThanClasses() {
+		List<IType[]> shards = TestShards.partition(types("A", "B"), 4, Map.of("A", 5L));
+		assertShards(shards, List.of("A"), List.of("B"));
+	}
+
+	private static IType[] types(String... names) {
+		IType[] types = new IType[names.length];
+		for (int i = 0; i < names.length; i++) {
+			types[i] = mock(IType.class);
+			when(types[i].getFullyQualifiedName()).thenReturn(names[i]);
+		}
+		return types;
+	}
+
+	@SafeVarargs
+	private static void assertShards(List<IType[]> shards, List<String>... expected) {
+		List<List<String>> actual = shards.stream()
+				.map(shard -> Arrays.stream(shard).map(IType::getFullyQualifiedName).toList()).toList();
+		assertEquals(List.of(expected), actual);
+	}
+}
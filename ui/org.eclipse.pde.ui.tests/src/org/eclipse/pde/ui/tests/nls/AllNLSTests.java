@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,7 +22,7 @@ import org.junit.runners.Suite.SuiteClasses;
  * @since 3.4
  */
 @RunWith(Suite.class)
-@SuiteClasses({ StringHelperTestCase.class })
+@SuiteClasses({ StringHelperTestCase.class, GetNonExternalizedStringsOperationTest.class })
 public class AllNLSTests {
 
 }
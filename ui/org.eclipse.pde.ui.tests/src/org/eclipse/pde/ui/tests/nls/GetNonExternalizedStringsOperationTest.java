@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.nls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.pde.internal.ui.nls.GetNonExternalizedStringsOperation;
+import org.eclipse.pde.internal.ui.nls.ModelChange;
+import org.eclipse.pde.internal.ui.nls.ModelChangeElement;
+import org.eclipse.pde.internal.ui.nls.ModelChangeTable;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Tests that scanning projects for non-externalized strings on several
+ * threads finds the same strings in the same order as a serial scan
+ */
+public class GetNonExternalizedStringsOperationTest {
+
+	private static final int PROJECT_COUNT = 6;
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	private static final List<IProject> projects = new ArrayList<>();
+
+	static class Operation extends GetNonExternalizedStringsOperation {
+		Operation(ISelection selection, boolean externalizeSelectedPluginsOnly, int threadCount) {
+			super(selection, externalizeSelectedPluginsOnly, threadCount);
+		}
+
+		@Override
+		protected ModelChangeTable getChangeTable() {
+			return super.getChangeTable();
+		}
+	}
+
+	@BeforeClass
+	public static void setUpProjects() throws Exception {
+		// created in an order that differs from the selection
+		for (int i = PROJECT_COUNT - 1; i >= 0; i--) {
+			int index = i;
+			projects.add(0, ProjectUtils.createPluginProject("nls.scan." + i, "nls.scan." + i, "1.0.0", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					(description, service) -> {
+						description.setBundleName("Name " + index); //$NON-NLS-1$
+						description.setBundleVendor("Vendor " + index); //$NON-NLS-1$
+					}));
+		}
+	}
+
+	@Test
+	public void testSelectedProjects() throws Exception {
+		List<IProject> selected = new ArrayList<>(projects);
+		// a selection order that is not the order of the names
+		selected.add(selected.remove(0));
+		selected.add(selected.remove(2));
+		assertSameAsSerialScan(new StructuredSelection(selected), true);
+	}
+
+	@Test
+	public void testWorkspaceProjects() throws Exception {
+		assertSameAsSerialScan(new StructuredSelection(projects.get(1)), false);
+	}
+
+	private static void assertSameAsSerialScan(ISelection selection, boolean selectedOnly) throws Exception {
+		Operation serial = new Operation(selection, selectedOnly, 1);
+		serial.run(new NullProgressMonitor());
+		List<String> expected = describe(serial.getChangeTable());
+		assertEquals(PROJECT_COUNT, serial.getChangeTable().getAllModelChanges().size());
+
+		for (int i = 0; i < 3; i++) {
+			Operation parallel = new Operation(selection, selectedOnly, 4);
+			parallel.run(new NullProgressMonitor());
+			assertFalse(parallel.wasCanceled());
+			assertEquals(expected, describe(parallel.getChangeTable()));
+		}
+	}
+
+	private static List<String> describe(ModelChangeTable table) {
+		List<String> result = new ArrayList<>();
+		for (ModelChange change : table.getAllModelChanges()) {
+			result.add(change.getParentModel().getPluginBase().getId() + " preselected: " + change.wasPreSelected()); //$NON-NLS-1$
+			for (IFile file : change.getChangeFiles()) {
+				for (Object element : change.getChangesInFile(file)) {
+					ModelChangeElement changeElement = (ModelChangeElement) element;
+					result.add(file.getFullPath() + " " + changeElement.getValue() + " at " + changeElement.getOffset()); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+		return result;
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.views.imagebrowser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex;
+import org.eclipse.pde.internal.ui.views.imagebrowser.repositories.ImageIndex.Entry;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ImageIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Before
+	public void setUp() throws IOException {
+		// start without the indexes of earlier runs
+		File[] indexes = ImageIndex.getIndexFile(folder.newFile("any.jar")).getParentFile().listFiles(); //$NON-NLS-1$
+		if (indexes != null) {
+			for (File index : indexes) {
+				index.delete();
+			}
+		}
+	}
+
+	@Test
+	public void testReadWrite() throws IOException {
+		File jar = newJar("images.jar"); //$NON-NLS-1$
+		byte[] thumbnail = new byte[] { 1, 2, 3 };
+		ImageIndex.write(jar, List.of(new Entry("icons/a.png", 16, 16, thumbnail), //$NON-NLS-1$
+				new Entry("icons/large.png", -1, -1, null))); //$NON-NLS-1$
+
+		List<Entry> entries = ImageIndex.read(jar);
+		assertNotNull(entries);
+		assertEquals(2, entries.size());
+		assertEquals("icons/a.png", entries.get(0).path()); //$NON-NLS-1$
+		assertEquals(16, entries.get(0).width());
+		assertArrayEquals(thumbnail, entries.get(0).thumbnail());
+		assertEquals("icons/large.png", entries.get(1).path()); //$NON-NLS-1$
+		assertNull(entries.get(1).thumbnail());
+
+		assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+		assertNull("the index of a changed jar must not be used", ImageIndex.read(jar)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIndexesDeleted() throws IOException {
+		File[] jars = new File[ImageIndex.MAX_INDEXES];
+		long hourAgo = System.currentTimeMillis() - 3600000;
+		for (int i = 0; i < jars.length; i++) {
+			jars[i] = newJar(i + ".jar"); //$NON-NLS-1$
+			ImageIndex.write(jars[i], List.of());
+			assertTrue(ImageIndex.getIndexFile(jars[i]).setLastModified(hourAgo));
+		}
+		File unused = ImageIndex.getIndexFile(jars[0]);
+		assertTrue(unused.setLastModified(hourAgo - 1000));
+		// reading an index makes it the most recently used one
+		File used = ImageIndex.getIndexFile(jars[1]);
+		assertTrue(used.setLastModified(hourAgo - 2000));
+		assertNotNull(ImageIndex.read(jars[1]));
+
+		File jar = newJar("new.jar"); //$NON-NLS-1$
+		ImageIndex.write(jar, List.of());
+		assertTrue(ImageIndex.getIndexFile(jar).isFile());
+		assertTrue(used.isFile());
+		assertFalse("the least recently used index must be deleted", unused.exists()); //$NON-NLS-1$
+		assertEquals(ImageIndex.MAX_INDEXES, used.getParentFile().listFiles().length);
+	}
+
+	private File newJar(String name) throws IOException {
+		File jar = folder.newFile(name);
+		Files.write(jar.toPath(), name.getBytes());
+		return jar;
+	}
+}
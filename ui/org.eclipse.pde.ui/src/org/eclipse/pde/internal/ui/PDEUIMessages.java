@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 IBM Corporation and others.
+ * Copyright (c) 2014, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2453,6 +2453,7 @@ public class PDEUIMessages extends NLS {
 	public static String PluginConfigurationSection_tablePluginTitle;
 
 	public static String AbstractPluginBlock_counter;
+	public static String AbstractPluginBlock_addRequiredJob;
 
 	public static String AbstractRepository_ErrorLoadingImageFromJar;
 
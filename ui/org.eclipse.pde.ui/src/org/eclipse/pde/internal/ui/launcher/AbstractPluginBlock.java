@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,9 +36,12 @@ import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.jdt.core.IJavaProject;
@@ -151,6 +154,12 @@ public abstract class AbstractPluginBlock {
 
 	private PluginStatusDialog fDialog;
 
+	/**
+	 * Background computation of the plug-ins required by the checked ones or
+	 * <code>null</code>
+	 */
+	private Job fAddRequiredJob;
+
 	class PluginModelNameBuffer {
 		private final Set<String> nameSet;
 
@@ -195,7 +204,8 @@ public abstract class AbstractPluginBlock {
 
 		@Override
 		public String getColumnText(Object obj, int index) {
-			boolean isChecked = fPluginTreeViewer.getChecked(obj);
+			// the cached check state avoids looking up the tree item of each label
+			boolean isChecked = fPluginTreeViewer.isCheckedLeafElement(obj);
 			switch (index) {
 				case 0 :
 					return super.getColumnText(obj, index);
@@ -839,6 +849,8 @@ public abstract class AbstractPluginBlock {
 	 * @param enableTable whether to set the input on the table
 	 */
 	public void initializeFrom(ILaunchConfiguration config, boolean enableTable) throws CoreException {
+		// the plug-ins required by the previous configuration must not be checked
+		cancelAddRequiredJob();
 		fLaunchConfig = config;
 		initializeButtonsFrom(config);
 		levelColumnCache = new HashMap<>();
@@ -865,7 +877,8 @@ public abstract class AbstractPluginBlock {
 
 	/**
 	 * Looks at the currently checked plugins and finds any plug-ins required by them.  The required plug-ins are
-	 * then also checked in the tree
+	 * then also checked in the tree.  The dependencies are computed in a background job that is canceled if
+	 * the block is disposed or the computation is started again.
 	 */
 	protected void addRequiredPlugins() {
 		Object[] checked = fPluginTreeViewer.getCheckedLeafElements();
@@ -875,15 +888,73 @@ public abstract class AbstractPluginBlock {
 		DependencyManager.Options[] options = fIncludeOptionalButton.getSelection()
 				? new Options[] { Options.INCLUDE_NON_TEST_FRAGMENTS, Options.INCLUDE_OPTIONAL_DEPENDENCIES }
 				: new Options[] { Options.INCLUDE_NON_TEST_FRAGMENTS };
-		Set<BundleDescription> additionalBundles = DependencyManager.getDependencies(toCheck, options);
 
-		additionalBundles.stream().map(Resource.class::cast).map(PluginRegistry::findModel).filter(Objects::nonNull)
-				.forEach(toCheck::add);
+		cancelAddRequiredJob();
+		Tree tree = fPluginTreeViewer.getTree();
+		fAddRequiredJob = new Job(PDEUIMessages.AbstractPluginBlock_addRequiredJob) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				Set<BundleDescription> additionalBundles;
+				try {
+					additionalBundles = DependencyManager.getDependencies(toCheck, monitor, options);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				}
+				List<IPluginModelBase> required = additionalBundles.stream().map(Resource.class::cast)
+						.map(PluginRegistry::findModel).filter(Objects::nonNull).toList();
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				if (!tree.isDisposed()) {
+					tree.getDisplay().asyncExec(() -> {
+						// results of a canceled or replaced computation are dropped
+						if (fAddRequiredJob == this && !tree.isDisposed()) {
+							fAddRequiredJob = null;
+							checkRequiredPlugins(required);
+						}
+					});
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		fAddRequiredJob.schedule();
+	}
 
-		checked = toCheck.toArray();
-		setCheckedElements(checked);
+	private void cancelAddRequiredJob() {
+		if (fAddRequiredJob != null) {
+			fAddRequiredJob.cancel();
+			fAddRequiredJob = null;
+		}
+	}
 
+	/**
+	 * Checks the given required plug-ins. Only the plug-ins that are not
+	 * checked yet are changed, so that the check state of the groups and the
+	 * start level columns are updated for these and not for the whole tree.
+	 * The counter and the dialog are updated even if none is added, as
+	 * subclasses may have checked plug-ins before the computation.
+	 *
+	 * @param required plug-ins to check
+	 */
+	private void checkRequiredPlugins(List<IPluginModelBase> required) {
+		List<IPluginModelBase> added = required.stream().filter(model -> !fPluginTreeViewer.isCheckedLeafElement(model))
+				.toList();
+		Tree tree = fPluginTreeViewer.getTree();
+		tree.setRedraw(false);
+		try {
+			for (IPluginModelBase model : added) {
+				setChecked(model, true);
+			}
+			if (fFilterButton.getSelection()) {
+				// show the newly checked plug-ins
+				handleFilterButton();
+			}
+		} finally {
+			tree.setRedraw(true);
+		}
 		countSelectedModels();
+		updateCounter();
+		fTab.updateLaunchConfigurationDialog();
 	}
 
 	protected IPluginModelBase findPlugin(String id) {
@@ -980,6 +1051,7 @@ public abstract class AbstractPluginBlock {
 	}
 
 	public void dispose() {
+		cancelAddRequiredJob();
 		PDEPlugin.getDefault().getLabelProvider().disconnect(this);
 		fIsDisposed = true;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2022 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -430,8 +430,8 @@ public class FeatureBlock {
 		}
 
 		private void handleAddRequired() {
-			if (fTree.getCheckedElements() != null && fTree.getCheckedElements().length > 0) {
-				Object[] features = fTree.getCheckedElements();
+			Object[] features = fTree.getCheckedLeafElements();
+			if (features.length > 0) {
 				Set<String> requiredFeatureIDs = new HashSet<>();
 				for (Object feature : features) {
 					if (feature instanceof FeatureLaunchModel) {
@@ -444,7 +444,8 @@ public class FeatureBlock {
 				fTree.removeFilter(fSelectedOnlyFilter);
 				for (String featureId : requiredFeatureIDs) {
 					Object featureModel = fFeatureModels.get(featureId);
-					if (featureModel != null) {
+					// only update the features that change, each change updates the parent state
+					if (featureModel != null && !fTree.isCheckedLeafElement(featureModel)) {
 						fTree.setChecked(featureModel, true);
 					}
 				}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2022 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -172,7 +172,7 @@ public class PluginBlock extends AbstractPluginBlock {
 				if (base == null) {
 					base = PluginRegistry.findModel(requiredId);
 					if (base != null) {
-						fPluginTreeViewer.setChecked(base, true);
+						setChecked(base, true);
 					}
 				}
 			});
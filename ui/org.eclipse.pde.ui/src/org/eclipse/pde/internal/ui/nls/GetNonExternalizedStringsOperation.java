@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,12 +18,21 @@ package org.eclipse.pde.internal.ui.nls;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.jface.viewers.ISelection;
@@ -48,7 +57,6 @@ import org.eclipse.pde.internal.core.ibundle.IManifestHeader;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
-import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
 import org.eclipse.pde.internal.core.text.IDocumentElementNode;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionNode;
@@ -59,17 +67,73 @@ import org.eclipse.pde.internal.ui.util.PDEModelUtility;
 
 public class GetNonExternalizedStringsOperation implements IRunnableWithProgress {
 
+	/**
+	 * Maximum number of projects scanned at the same time. The scans read
+	 * files through file buffers, so more threads than that mostly wait.
+	 */
+	private static final int MAX_THREADS = 4;
+
 	private final ISelection fSelection;
 	private ArrayList<Object> fSelectedModels;
 	private ModelChangeTable fModelChangeTable;
-	private boolean fCanceled;
+	private volatile boolean fCanceled;
 
 	//Azure: To indicate that only selected plug-ins under <code>fSelection</code> are to be externalized.
 	private final boolean fExternalizeSelectedPluginsOnly;
 
+	private final int fThreadCount;
+
+	/**
+	 * A non-externalized string found by a model scan, added to the change
+	 * table once the scan is done
+	 */
+	private record FoundString(IPluginModelBase model, IFile file, Object change) {
+	}
+
+	/**
+	 * The translatable content and attributes of a schema element
+	 */
+	private record TranslatableElement(boolean content, Set<String> attributes) {
+
+		static TranslatableElement of(ISchemaElement element) {
+			Set<String> attributes = new HashSet<>();
+			for (ISchemaAttribute attribute : element.getAttributes()) {
+				if (attribute.isTranslatable())
+					attributes.add(attribute.getName());
+			}
+			return new TranslatableElement(element.hasTranslatableContent(), attributes);
+		}
+	}
+
+	/**
+	 * Schema lookups shared by the concurrent model scans. The schema
+	 * registry is not thread safe, so all lookups go through this cache.
+	 */
+	private static final class SchemaCache {
+		private final Map<String, Optional<ISchema>> fSchemas = new HashMap<>();
+		private final Map<ISchema, Map<String, Optional<TranslatableElement>>> fElements = new HashMap<>();
+
+		synchronized ISchema getSchema(String point) {
+			return fSchemas.computeIfAbsent(point, p -> Optional.ofNullable(PDECore.getDefault().getSchemaRegistry().getSchema(p))).orElse(null);
+		}
+
+		synchronized TranslatableElement getElement(ISchema schema, String name) {
+			return fElements.computeIfAbsent(schema, s -> new HashMap<>()).computeIfAbsent(name, n -> Optional.ofNullable(schema.findElement(n)).map(TranslatableElement::of)).orElse(null);
+		}
+	}
+
 	public GetNonExternalizedStringsOperation(ISelection selection, boolean externalizeSelectedPluginsOnly) {
+		this(selection, externalizeSelectedPluginsOnly, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * @param threadCount the maximum number of projects scanned at the same
+	 *                    time
+	 */
+	protected GetNonExternalizedStringsOperation(ISelection selection, boolean externalizeSelectedPluginsOnly, int threadCount) {
 		fSelection = selection;
 		fExternalizeSelectedPluginsOnly = externalizeSelectedPluginsOnly;
+		fThreadCount = Math.max(1, threadCount);
 	}
 
 	@Override
@@ -95,62 +159,93 @@ public class GetNonExternalizedStringsOperation implements IRunnableWithProgress
 			 * where there is no need to display all non-externalized plug-ins in the
 			 * workspace, but only those selected.
 			 */
+			List<IProject> projects = new ArrayList<>();
 			if (fExternalizeSelectedPluginsOnly) {
-				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						PDEUIMessages.GetNonExternalizedStringsOperation_taskMessage, fSelectedModels.size());
-				Iterator<Object> iterator = fSelectedModels.iterator();
-				while (iterator.hasNext() && !fCanceled) {
-					IProject project = (IProject) iterator.next();
-					if (!WorkspaceModelManager.isBinaryProject(project))
-						getUnExternalizedStrings(project, subMonitor.split(1));
+				for (Object selected : fSelectedModels) {
+					projects.add((IProject) selected);
 				}
 			} else {
-				IPluginModelBase[] pluginModels = PluginRegistry.getWorkspaceModels();
-				SubMonitor subMonitor = SubMonitor.convert(monitor,
-						PDEUIMessages.GetNonExternalizedStringsOperation_taskMessage, pluginModels.length);
-				for (int i = 0; i < pluginModels.length && !fCanceled; i++) {
-					IProject project = pluginModels[i].getUnderlyingResource().getProject();
+				for (IPluginModelBase pluginModel : PluginRegistry.getWorkspaceModels()) {
+					IProject project = pluginModel.getUnderlyingResource().getProject();
 					if (!WorkspaceModelManager.isBinaryProject(project))
-						getUnExternalizedStrings(project, subMonitor.split(1));
+						projects.add(project);
 				}
 			}
+			SubMonitor subMonitor = SubMonitor.convert(monitor,
+					PDEUIMessages.GetNonExternalizedStringsOperation_taskMessage, projects.size());
+			scan(projects, subMonitor);
 		}
 	}
 
-	private void getUnExternalizedStrings(IProject project, IProgressMonitor monitor) {
-		PDEModelUtility.modifyModel(new ModelModification(project) {
-			@Override
-			protected void modifyModel(IBaseModel model, IProgressMonitor monitor) throws CoreException {
-				if (model instanceof IBundlePluginModelBase)
-					inspectManifest((IBundlePluginModelBase) model, monitor);
-
+	/**
+	 * Scans the given projects concurrently on a few threads of its own. The
+	 * strings found are added to the change table in the order of the
+	 * projects, each project as soon as it and all projects before it are
+	 * scanned.
+	 */
+	private void scan(List<IProject> projects, SubMonitor monitor) {
+		if (projects.isEmpty()) {
+			return;
+		}
+		SchemaCache schemas = new SchemaCache();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(fThreadCount, projects.size()), runnable -> {
+			Thread thread = new Thread(runnable, "Non-externalized strings scan"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<CompletableFuture<List<FoundString>>> scans = new ArrayList<>(projects.size());
+			for (IProject project : projects) {
+				scans.add(CompletableFuture.supplyAsync(() -> getUnExternalizedStrings(project, schemas, monitor), executor));
+			}
+			for (CompletableFuture<List<FoundString>> scan : scans) {
+				List<FoundString> found = scan.join();
 				if (monitor.isCanceled()) {
 					fCanceled = true;
+					scans.forEach(s -> s.cancel(false));
 					return;
 				}
+				for (FoundString string : found) {
+					fModelChangeTable.addToChangeTable(string.model(), string.file(), string.change(), selected(string.file()));
+				}
+				monitor.worked(1);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 
-				if (model instanceof IPluginModelBase)
-					inspectXML((IPluginModelBase) model, monitor);
+	private List<FoundString> getUnExternalizedStrings(IProject project, SchemaCache schemas, IProgressMonitor monitor) {
+		List<FoundString> found = new ArrayList<>();
+		if (monitor.isCanceled())
+			return found;
+		PDEModelUtility.modifyModel(new ModelModification(project) {
+			@Override
+			protected void modifyModel(IBaseModel model, IProgressMonitor modelMonitor) throws CoreException {
+				if (model instanceof IBundlePluginModelBase)
+					inspectManifest((IBundlePluginModelBase) model, found);
 
-				if (monitor.isCanceled()) {
-					fCanceled = true;
+				if (monitor.isCanceled())
 					return;
-				}
+
+				if (model instanceof IPluginModelBase)
+					inspectXML((IPluginModelBase) model, schemas, found);
 			}
-		}, monitor);
+		}, new NullProgressMonitor());
+		return found;
 	}
 
-	private void inspectManifest(IBundlePluginModelBase model, IProgressMonitor monitor) {
+	private void inspectManifest(IBundlePluginModelBase model, List<FoundString> found) {
 		IFile manifestFile = (IFile) model.getBundleModel().getUnderlyingResource();
 		IBundle bundle = model.getBundleModel().getBundle();
 		for (String translatableHeader : ICoreConstants.TRANSLATABLE_HEADERS) {
 			IManifestHeader header = bundle.getManifestHeader(translatableHeader);
 			if (header != null && isNotTranslated(header.getValue()))
-				fModelChangeTable.addToChangeTable(model, manifestFile, header, selected(manifestFile));
+				found.add(new FoundString(model, manifestFile, header));
 		}
 	}
 
-	private void inspectXML(IPluginModelBase model, IProgressMonitor monitor) {
+	private void inspectXML(IPluginModelBase model, SchemaCache schemas, List<FoundString> found) {
 		IFile file;
 		if (model instanceof IBundlePluginModelBase) {
 			ISharedExtensionsModel extModel = ((IBundlePluginModelBase) model).getExtensionsModel();
@@ -166,39 +261,37 @@ public class GetNonExternalizedStringsOperation implements IRunnableWithProgress
 			// check xml name declaration
 			IDocumentAttributeNode attr = ((IDocumentElementNode) base).getDocumentAttribute(IPluginObject.P_NAME);
 			if (attr != null && isNotTranslated(attr.getAttributeValue()))
-				fModelChangeTable.addToChangeTable(model, file, attr, selected(file));
+				found.add(new FoundString(model, file, attr));
 
 			// check xml provider declaration
 			attr = ((IDocumentElementNode) base).getDocumentAttribute(IPluginBase.P_PROVIDER);
 			if (attr != null && isNotTranslated(attr.getAttributeValue()))
-				fModelChangeTable.addToChangeTable(model, file, attr, selected(file));
+				found.add(new FoundString(model, file, attr));
 		}
 
-		SchemaRegistry registry = PDECore.getDefault().getSchemaRegistry();
 		IPluginExtension[] extensions = model.getPluginBase().getExtensions();
 		for (IPluginExtension extension : extensions) {
-			ISchema schema = registry.getSchema(extension.getPoint());
+			ISchema schema = schemas.getSchema(extension.getPoint());
 			if (schema != null)
-				inspectExtension(schema, extension, model, file);
+				inspectExtension(schema, schemas, extension, model, file, found);
 		}
 
 		IPluginExtensionPoint[] extensionPoints = model.getPluginBase().getExtensionPoints();
 		for (IPluginExtensionPoint extensionPoint : extensionPoints) {
-			inspectExtensionPoint(extensionPoint, model, file);
+			inspectExtensionPoint(extensionPoint, model, file, found);
 		}
 	}
 
-	private void inspectExtension(ISchema schema, IPluginParent parent, IPluginModelBase memModel, IFile file) {
+	private void inspectExtension(ISchema schema, SchemaCache schemas, IPluginParent parent, IPluginModelBase memModel, IFile file, List<FoundString> found) {
 		if (parent instanceof PluginExtensionNode parentNode) {
 			IDocumentAttributeNode[] attributes = parentNode.getNodeAttributes();
-			ISchemaElement schemaElement = schema.findElement(parentNode.getXMLTagName());
+			TranslatableElement schemaElement = schemas.getElement(schema, parentNode.getXMLTagName());
 			if (schemaElement != null) {
 				for (IDocumentAttributeNode attribute : attributes) {
 					IPluginAttribute attr = (IPluginAttribute) attribute;
-					ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
-					if (attInfo != null && attInfo.isTranslatable())
+					if (schemaElement.attributes().contains(attr.getName()))
 						if (isNotTranslated(attr.getValue()))
-							fModelChangeTable.addToChangeTable(memModel, file, attr, selected(file));
+							found.add(new FoundString(memModel, file, attr));
 				}
 			}
 		}
@@ -206,28 +299,27 @@ public class GetNonExternalizedStringsOperation implements IRunnableWithProgress
 		IPluginObject[] children = parent.getChildren();
 		for (IPluginObject element : children) {
 			IPluginElement child = (IPluginElement) element;
-			ISchemaElement schemaElement = schema.findElement(child.getName());
+			TranslatableElement schemaElement = schemas.getElement(schema, child.getName());
 			if (schemaElement != null) {
-				if (schemaElement.hasTranslatableContent())
+				if (schemaElement.content())
 					if (isNotTranslated(child.getText()))
-						fModelChangeTable.addToChangeTable(memModel, file, child, selected(file));
+						found.add(new FoundString(memModel, file, child));
 
 				IPluginAttribute[] attributes = child.getAttributes();
 				for (IPluginAttribute attr : attributes) {
-					ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
-					if (attInfo != null && attInfo.isTranslatable())
+					if (schemaElement.attributes().contains(attr.getName()))
 						if (isNotTranslated(attr.getValue()))
-							fModelChangeTable.addToChangeTable(memModel, file, attr, selected(file));
+							found.add(new FoundString(memModel, file, attr));
 				}
 			}
-			inspectExtension(schema, child, memModel, file);
+			inspectExtension(schema, schemas, child, memModel, file, found);
 		}
 	}
 
-	private void inspectExtensionPoint(IPluginExtensionPoint extensionPoint, IPluginModelBase memModel, IFile file) {
+	private void inspectExtensionPoint(IPluginExtensionPoint extensionPoint, IPluginModelBase memModel, IFile file, List<FoundString> found) {
 		if (extensionPoint instanceof PluginExtensionPointNode)
 			if (isNotTranslated(extensionPoint.getName()))
-				fModelChangeTable.addToChangeTable(memModel, file, ((PluginExtensionPointNode) extensionPoint).getNodeAttributesMap().get(IPluginObject.P_NAME), selected(file));
+				found.add(new FoundString(memModel, file, ((PluginExtensionPointNode) extensionPoint).getNodeAttributesMap().get(IPluginObject.P_NAME)));
 	}
 
 	private boolean isNotTranslated(String value) {
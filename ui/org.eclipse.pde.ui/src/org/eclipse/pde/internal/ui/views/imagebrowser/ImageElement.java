@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2024 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -29,14 +29,38 @@ public class ImageElement {
 	private static final Pattern PLUGIN_PATTERN = Pattern.compile("([a-zA-Z0-9]+\\.[a-zA-Z0-9\\.]+)_.+"); //$NON-NLS-1$
 	private SoftReference<ImageData> mImageData;
 	private final Callable<ImageData> mImageProvider;
+	private final Callable<ImageData> mThumbnailProvider;
 	private final String mPlugin;
 	private final String mPath;
+	private final int mWidth;
+	private final int mHeight;
 
 	public ImageElement(final Callable<ImageData> imageProvider, final String plugin, final String path) {
+		this(imageProvider, null, plugin, path, -1, -1);
+	}
+
+	/**
+	 * Creates an element whose size and thumbnail are already known, so that
+	 * the image itself is only decoded when it is really needed.
+	 *
+	 * @param imageProvider     provides the image
+	 * @param thumbnailProvider provides a small version of the image or
+	 *                          <code>null</code> to show the image itself
+	 * @param plugin            the plug-in containing the image
+	 * @param path              the path of the image
+	 * @param width             the width of the image or <code>-1</code> if
+	 *                          unknown
+	 * @param height            the height of the image or <code>-1</code> if
+	 *                          unknown
+	 */
+	public ImageElement(final Callable<ImageData> imageProvider, final Callable<ImageData> thumbnailProvider, final String plugin, final String path, final int width, final int height) {
 		mImageData = new SoftReference<>(null);
 		mImageProvider = imageProvider;
+		mThumbnailProvider = thumbnailProvider;
 		mPlugin = plugin;
 		mPath = path;
+		mWidth = width;
+		mHeight = height;
 	}
 
 	public String getFullPlugin() {
@@ -72,6 +96,32 @@ public class ImageElement {
 		return imageData;
 	}
 
+	/**
+	 * @return the image data to show in the image overview, which is smaller
+	 *         than the image for large images
+	 */
+	public ImageData getThumbnailData() {
+		if (mThumbnailProvider != null) {
+			try {
+				ImageData thumbnail = mThumbnailProvider.call();
+				if (thumbnail != null) {
+					return thumbnail;
+				}
+			} catch (Exception e) {
+				// fall back to the image itself
+			}
+		}
+		return getImageData();
+	}
+
+	public int getWidth() {
+		return mWidth >= 0 ? mWidth : getImageData().width;
+	}
+
+	public int getHeight() {
+		return mHeight >= 0 ? mHeight : getImageData().height;
+	}
+
 	public String getFileName() {
 		return IPath.fromOSString(mPath).lastSegment();
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2024 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -100,13 +101,17 @@ public abstract class AbstractRepository extends Job {
 		}
 	}
 
-	protected ImageData createImageData(final File jarFile, final ZipEntry entry) throws CoreException {
+	protected ImageData createImageData(final File jarFile, final String entryName) throws CoreException {
 		try (ZipFile zipFile = new ZipFile(jarFile)) {
+			ZipEntry entry = zipFile.getEntry(entryName);
+			if (entry == null) {
+				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entryName)));
+			}
 			try (InputStream inputStream = zipFile.getInputStream(entry)) {
 				return new ImageData(inputStream);
 			} catch (SWTException e) {
 				// invalid image format
-				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entry.getName()), e));
+				throw new CoreException(Status.error(NLS.bind(PDEUIMessages.AbstractRepository_ErrorLoadingImageFromJar, jarFile.getAbsolutePath(), entryName), e));
 			}
 		} catch (IOException e) {
 			throw new CoreException(Status.error(
@@ -135,26 +140,63 @@ public abstract class AbstractRepository extends Job {
 	}
 
 	protected void searchJarFile(final File jarFile, final IProgressMonitor monitor) {
-		try (ZipFile zipFile = new ZipFile(jarFile)) {
-			Enumeration<? extends ZipEntry> entries = zipFile.entries();
-			while ((entries.hasMoreElements()) && (!monitor.isCanceled())) {
-				ZipEntry entry = entries.nextElement();
-				if (isImageName(entry.getName())) {
-					addImageElement(new ImageElement(() -> createImageData(jarFile, entry), jarFile.getName(), entry.getName()));
+		collectJarImages(jarFile, monitor).forEach(this::addImageElement);
+	}
+
+	/**
+	 * Collects the images of a jar. The images are taken from the
+	 * {@link ImageIndex} of the jar if it is up to date, otherwise the jar is
+	 * scanned and indexed. Safe to be called concurrently for different jars.
+	 *
+	 * @return the images of the jar
+	 */
+	protected List<ImageElement> collectJarImages(final File jarFile, final IProgressMonitor monitor) {
+		List<ImageIndex.Entry> entries = ImageIndex.read(jarFile);
+		if (entries == null) {
+			entries = new ArrayList<>();
+			try (ZipFile zipFile = new ZipFile(jarFile)) {
+				Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+				while ((zipEntries.hasMoreElements()) && (!monitor.isCanceled())) {
+					ZipEntry entry = zipEntries.nextElement();
+					if (isImageName(entry.getName())) {
+						try (InputStream inputStream = zipFile.getInputStream(entry)) {
+							entries.add(ImageIndex.index(entry.getName(), entry.getSize(), inputStream));
+						}
+					}
 				}
+			} catch (IOException e) {
+				PDEPlugin.log(e);
+				return List.of();
 			}
-		} catch (IOException e) {
-			PDEPlugin.log(e);
+			if (!monitor.isCanceled()) {
+				ImageIndex.write(jarFile, entries);
+			}
+		}
+		List<ImageElement> images = new ArrayList<>(entries.size());
+		for (ImageIndex.Entry entry : entries) {
+			images.add(new ImageElement(() -> createImageData(jarFile, entry.path()), entry::getThumbnailData, jarFile.getName(), entry.path(), entry.width(), entry.height()));
 		}
+		return images;
 	}
 
 	protected void searchDirectory(File directory, final IProgressMonitor monitor) {
+		collectDirectoryImages(directory, monitor).forEach(this::addImageElement);
+	}
+
+	/**
+	 * Collects the images of a bundle directory. Safe to be called
+	 * concurrently for different directories.
+	 *
+	 * @return the images of the directory
+	 */
+	protected List<ImageElement> collectDirectoryImages(File directory, final IProgressMonitor monitor) {
+		List<ImageElement> images = new ArrayList<>();
 		File manifest = new File(directory, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
 		if (manifest.exists()) {
 			try {
 				Optional<String> name = getPluginName(new FileInputStream(manifest));
 				if (!name.isPresent()) {
-					return;
+					return images;
 				}
 				String pluginName = name.get();
 				int directoryPathLength = directory.getAbsolutePath().length();
@@ -167,14 +209,14 @@ public abstract class AbstractRepository extends Job {
 
 					for (File resource : next.listFiles()) {
 						if (monitor.isCanceled())
-							return;
+							return images;
 
 						if (resource.isDirectory()) {
 							locations.add(resource);
 
 						} else {
 							if (isImage(resource)) {
-								addImageElement(new ImageElement(() -> createImageData(resource), pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
+								images.add(new ImageElement(() -> createImageData(resource), pluginName, resource.getAbsolutePath().substring(directoryPathLength)));
 							}
 						}
 					}
@@ -185,6 +227,7 @@ public abstract class AbstractRepository extends Job {
 				PDEPlugin.log(e);
 			}
 		}
+		return images;
 	}
 
 	/**
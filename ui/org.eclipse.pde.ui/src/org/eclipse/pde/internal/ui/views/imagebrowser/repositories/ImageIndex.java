@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.ui.views.imagebrowser.repositories;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.eclipse.pde.internal.ui.PDEPlugin;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.ImageLoader;
+
+/**
+ * On-disk index of the images contained in a jar, holding the path, size and
+ * a thumbnail of each image so that browsing a jar again does not need to
+ * decode its images. An index file belongs to one jar location and is only
+ * used while the length and time stamp of the jar are unchanged. At most
+ * {@link #MAX_INDEXES} index files are kept, the least recently used ones are
+ * deleted first.
+ */
+public final class ImageIndex {
+
+	private static final int VERSION = 1;
+
+	/**
+	 * Maximum width and height of a thumbnail
+	 */
+	static final int THUMBNAIL_SIZE = 64;
+
+	/**
+	 * Images larger than this are not decoded while indexing, their size and
+	 * thumbnail are computed when they are displayed
+	 */
+	private static final long MAX_DECODED_SIZE = 1024 * 1024;
+
+	private static final String INDEX_FOLDER = "imageIndex"; //$NON-NLS-1$
+
+	private static final String INDEX_EXTENSION = ".idx"; //$NON-NLS-1$
+
+	/**
+	 * Maximum number of index files kept on disk
+	 */
+	public static final int MAX_INDEXES = 256;
+
+	/**
+	 * An indexed image. Width and height are <code>-1</code> and the
+	 * thumbnail is <code>null</code> if the image was not decoded.
+	 */
+	public record Entry(String path, int width, int height, byte[] thumbnail) {
+
+		ImageData getThumbnailData() {
+			if (thumbnail == null) {
+				return null;
+			}
+			try {
+				return new ImageData(new ByteArrayInputStream(thumbnail));
+			} catch (SWTException e) {
+				return null;
+			}
+		}
+	}
+
+	private ImageIndex() {
+		// static use only
+	}
+
+	/**
+	 * Reads the index of the given jar.
+	 *
+	 * @param jar the jar file
+	 * @return the indexed images or <code>null</code> if the jar is not
+	 *         indexed or has changed since it was indexed
+	 */
+	public static List<Entry> read(File jar) {
+		File file = getIndexFile(jar);
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != VERSION || in.readLong() != jar.length() || in.readLong() != jar.lastModified()) {
+				return null;
+			}
+			int count = in.readInt();
+			List<Entry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				int width = in.readInt();
+				int height = in.readInt();
+				int length = in.readInt();
+				byte[] thumbnail = null;
+				if (length >= 0) {
+					thumbnail = new byte[length];
+					in.readFully(thumbnail);
+				}
+				entries.add(new Entry(path, width, height, thumbnail));
+			}
+			file.setLastModified(System.currentTimeMillis());
+			return entries;
+		} catch (IOException e) {
+			// broken index, the jar is scanned again
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the index of the given jar, replacing an earlier index.
+	 *
+	 * @param jar     the jar file
+	 * @param entries the images of the jar
+	 */
+	public static void write(File jar, List<Entry> entries) {
+		File file = getIndexFile(jar);
+		try {
+			Path folder = Files.createDirectories(file.getParentFile().toPath());
+			Path temp = Files.createTempFile(folder, file.getName(), null);
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeLong(jar.length());
+				out.writeLong(jar.lastModified());
+				out.writeInt(entries.size());
+				for (Entry entry : entries) {
+					out.writeUTF(entry.path());
+					out.writeInt(entry.width());
+					out.writeInt(entry.height());
+					if (entry.thumbnail() == null) {
+						out.writeInt(-1);
+					} else {
+						out.writeInt(entry.thumbnail().length);
+						out.write(entry.thumbnail());
+					}
+				}
+			}
+			Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			deleteOldIndexes(file.getParentFile());
+		} catch (IOException e) {
+			PDEPlugin.log(e);
+		}
+	}
+
+	private static void deleteOldIndexes(File folder) {
+		File[] indexes = folder.listFiles((dir, name) -> name.endsWith(INDEX_EXTENSION));
+		if (indexes == null || indexes.length <= MAX_INDEXES) {
+			return;
+		}
+		Arrays.sort(indexes, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i = MAX_INDEXES; i < indexes.length; i++) {
+			indexes[i].delete();
+		}
+	}
+
+	/**
+	 * Creates the index entry of an image, decoding it only if it is not too
+	 * large. Images that fit into a thumbnail keep their original encoding,
+	 * larger ones are scaled down.
+	 *
+	 * @param path   the path of the image within the jar
+	 * @param size   the uncompressed size of the image or <code>-1</code>
+	 * @param stream the content of the image
+	 * @return the entry
+	 */
+	static Entry index(String path, long size, InputStream stream) throws IOException {
+		if (size < 0 || size > MAX_DECODED_SIZE) {
+			return new Entry(path, -1, -1, null);
+		}
+		byte[] content = stream.readNBytes((int) size);
+		ImageData data;
+		try {
+			data = new ImageData(new ByteArrayInputStream(content));
+		} catch (SWTException e) {
+			// invalid image format, reported when the image is displayed
+			return new Entry(path, -1, -1, null);
+		}
+		if (data.width <= THUMBNAIL_SIZE && data.height <= THUMBNAIL_SIZE) {
+			return new Entry(path, data.width, data.height, content);
+		}
+		return new Entry(path, data.width, data.height, encode(scale(data)));
+	}
+
+	private static ImageData scale(ImageData data) {
+		double factor = Math.min((double) THUMBNAIL_SIZE / data.width, (double) THUMBNAIL_SIZE / data.height);
+		return data.scaledTo(Math.max(1, (int) (data.width * factor)), Math.max(1, (int) (data.height * factor)));
+	}
+
+	private static byte[] encode(ImageData data) {
+		ImageLoader loader = new ImageLoader();
+		loader.data = new ImageData[] { data };
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			loader.save(out, SWT.IMAGE_PNG);
+		} catch (SWTException e) {
+			return null;
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * @param jar the jar file
+	 * @return the index file of the given jar, which may not exist
+	 */
+	public static File getIndexFile(File jar) {
+		String name;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			name = HexFormat.of().formatHex(digest.digest(jar.getAbsolutePath().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			name = Integer.toHexString(jar.getAbsolutePath().hashCode());
+		}
+		return PDEPlugin.getDefault().getStateLocation().append(INDEX_FOLDER).append(name + INDEX_EXTENSION).toFile();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 Christian Pontesegger and others.
+ *  Copyright (c) 2012, 2026 Christian Pontesegger and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -33,10 +33,16 @@ import org.eclipse.pde.core.target.TargetBundle;
 import org.eclipse.pde.internal.ui.PDEPlugin;
 import org.eclipse.pde.internal.ui.PDEUIMessages;
 import org.eclipse.pde.internal.ui.views.imagebrowser.IImageTarget;
+import org.eclipse.pde.internal.ui.views.imagebrowser.ImageElement;
 import org.eclipse.ui.PlatformUI;
 
 public class TargetPlatformRepository extends AbstractRepository {
 
+	/**
+	 * Number of bundles scanned in parallel
+	 */
+	private static final int SCAN_BATCH_SIZE = Runtime.getRuntime().availableProcessors();
+
 	private List<TargetBundle> fBundles = null;
 	private final boolean fUseCurrent;
 
@@ -60,15 +66,13 @@ public class TargetPlatformRepository extends AbstractRepository {
 			initialize(monitor);
 
 		if ((fBundles != null) && (!fBundles.isEmpty())) {
-			TargetBundle bundle = fBundles.remove(fBundles.size() - 1);
-			URI location = bundle.getBundleInfo().getLocation();
-			File file = new File(location);
-			if (isJar(file)) {
-				searchJarFile(file, monitor);
-
-			} else if (file.isDirectory()) {
-				searchDirectory(file, monitor);
-			}
+			// scan the next few bundles in parallel, keeping their order
+			List<TargetBundle> next = fBundles.subList(Math.max(0, fBundles.size() - SCAN_BATCH_SIZE), fBundles.size());
+			List<TargetBundle> batch = new ArrayList<>(next);
+			next.clear();
+			Collections.reverse(batch);
+			batch.parallelStream().map(bundle -> collectImages(bundle, monitor)).toList()
+					.forEach(images -> images.forEach(this::addImageElement));
 
 			return true;
 		}
@@ -76,6 +80,22 @@ public class TargetPlatformRepository extends AbstractRepository {
 		return false;
 	}
 
+	private List<ImageElement> collectImages(TargetBundle bundle, IProgressMonitor monitor) {
+		if (monitor.isCanceled())
+			return List.of();
+
+		URI location = bundle.getBundleInfo().getLocation();
+		File file = new File(location);
+		if (isJar(file)) {
+			return collectJarImages(file, monitor);
+
+		} else if (file.isDirectory()) {
+			return collectDirectoryImages(file, monitor);
+		}
+
+		return List.of();
+	}
+
 	private void initialize(final IProgressMonitor monitor) {
 
 		try {
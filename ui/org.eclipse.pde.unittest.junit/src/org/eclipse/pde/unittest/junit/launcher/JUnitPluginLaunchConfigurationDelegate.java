@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Red Hat Inc. and others.
+ * Copyright (c) 2021, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,7 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaElement;
@@ -95,6 +96,7 @@ import org.eclipse.pde.internal.launching.launcher.EclipsePluginValidationOperat
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.RequirementHelper;
 import org.eclipse.pde.internal.launching.launcher.VMHelper;
@@ -123,10 +125,25 @@ public class JUnitPluginLaunchConfigurationDelegate extends AbstractJavaLaunchCo
 	// or the "legacy" view handles it first
 	public static final String ATTR_PORT = JUnitPluginTestPlugin.PLUGIN_ID + ".PORT"; //$NON-NLS-1$
 
+	/**
+	 * Launch configuration attribute holding the number of OSGi instances the
+	 * test classes of a launch are distributed onto in run mode. Each instance
+	 * gets its own configuration area and workspace; their results are merged
+	 * into one test run session. Default is <code>1</code>, running all tests
+	 * in one instance.
+	 */
+	public static final String ATTR_SHARDS = JUnitPluginTestPlugin.PLUGIN_ID + ".SHARDS"; //$NON-NLS-1$
+
 	private boolean fKeepAlive = false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
 
+	// the test classes of each shard, null if the launch is not sharded
+	private List<IType[]> fShards;
+	private int[] fShardPorts;
+	private int fViewPort;
+	private File fShardArea;
+
 	private static final String DEFAULT = "<default>"; //$NON-NLS-1$
 
 	@Override
@@ -211,84 +228,101 @@ public class JUnitPluginLaunchConfigurationDelegate extends AbstractJavaLaunchCo
 				}
 			}
 
-			String mainTypeName = verifyMainTypeName(configuration);
+			fShards = null;
+			int shardCount = getShardCount(configuration, mode);
+			if (shardCount > 1) {
+				prepareShards(configuration, shardCount, SubMonitor.convert(monitor, 1));
+			}
+			if (fShards != null) {
+				selectShard(0);
+			}
+			runConfig = createVMRunnerConfiguration(configuration, mode, junitVersion, javaProject);
 
-			File workingDir = verifyWorkingDirectory(configuration);
-			String workingDirName = null;
-			if (workingDir != null) {
-				workingDirName = workingDir.getAbsolutePath();
+			// check for cancellation
+			if (monitor.isCanceled()) {
+				return null;
 			}
+		} finally {
+			// done the verification phase
+			monitor.worked(1);
+		}
+		return runConfig;
+	}
 
-			// Environment variables
-			String[] envp = getEnvironment(configuration);
+	/**
+	 * Creates the configuration of the VM running the current test elements.
+	 */
+	private VMRunnerConfiguration createVMRunnerConfiguration(ILaunchConfiguration configuration, String mode,
+			JUnitVersion junitVersion, IJavaProject javaProject) throws CoreException {
+		String mainTypeName = verifyMainTypeName(configuration);
+
+		File workingDir = verifyWorkingDirectory(configuration);
+		String workingDirName = null;
+		if (workingDir != null) {
+			workingDirName = workingDir.getAbsolutePath();
+		}
 
-			ArrayList<String> vmArguments = new ArrayList<>();
-			ArrayList<String> programArguments = new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
+		// Environment variables
+		String[] envp = getEnvironment(configuration);
 
-			// VM-specific attributes
-
-			Map<String, Object> vmAttributesMap = getVMSpecificAttributesMap(configuration);
-
-			// Classpath and modulepath
-			String[][] classpathAndModulepath = getClasspathAndModulepath(configuration);
-			String[] classpath = classpathAndModulepath[0];
-			String[] modulepath = classpathAndModulepath[1];
-
-			if (junitVersion == JUnitVersion.JUNIT5) {
-				if (!configuration.getAttribute(
-						JUnitLaunchConfigurationConstants.ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY, false)) {
-					if (!Arrays.stream(classpath).anyMatch(
-							s -> s.contains("junit-platform-launcher") || s.contains("org.junit.platform.launcher"))) { //$NON-NLS-1$ //$NON-NLS-2$
-						try {
-							JUnitRuntimeClasspathEntry x = new JUnitRuntimeClasspathEntry("junit-platform-launcher", //$NON-NLS-1$
-									null);
-							String entryString = new ClasspathLocalizer(Platform.inDevelopmentMode()).entryString(x);
-							int length = classpath.length;
-							System.arraycopy(classpath, 0, classpath = new String[length + 1], 0, length);
-							classpath[length] = entryString;
-						} catch (IOException | URISyntaxException e) {
-							throw new CoreException(Status.error("", e)); //$NON-NLS-1$
-						}
+		ArrayList<String> vmArguments = new ArrayList<>();
+		ArrayList<String> programArguments = new ArrayList<>();
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(javaProject)) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+
+		// VM-specific attributes
+
+		Map<String, Object> vmAttributesMap = getVMSpecificAttributesMap(configuration);
+
+		// Classpath and modulepath
+		String[][] classpathAndModulepath = getClasspathAndModulepath(configuration);
+		String[] classpath = classpathAndModulepath[0];
+		String[] modulepath = classpathAndModulepath[1];
+
+		if (junitVersion == JUnitVersion.JUNIT5) {
+			if (!configuration.getAttribute(
+					JUnitLaunchConfigurationConstants.ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY, false)) {
+				if (!Arrays.stream(classpath).anyMatch(
+						s -> s.contains("junit-platform-launcher") || s.contains("org.junit.platform.launcher"))) { //$NON-NLS-1$ //$NON-NLS-2$
+					try {
+						JUnitRuntimeClasspathEntry x = new JUnitRuntimeClasspathEntry("junit-platform-launcher", //$NON-NLS-1$
+								null);
+						String entryString = new ClasspathLocalizer(Platform.inDevelopmentMode()).entryString(x);
+						int length = classpath.length;
+						System.arraycopy(classpath, 0, classpath = new String[length + 1], 0, length);
+						classpath[length] = entryString;
+					} catch (IOException | URISyntaxException e) {
+						throw new CoreException(Status.error("", e)); //$NON-NLS-1$
 					}
 				}
 			}
+		}
 
-			// Create VM config
-			runConfig = new VMRunnerConfiguration(mainTypeName, classpath);
-			runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
-			runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
-			runConfig.setEnvironment(envp);
-			runConfig.setWorkingDirectory(workingDirName);
-			runConfig.setVMSpecificAttributesMap(vmAttributesMap);
-			runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
-
-			if (!JavaRuntime.isModularConfiguration(configuration)) {
-				// Bootpath
-				runConfig.setBootClassPath(getBootpath(configuration));
+		// Create VM config
+		VMRunnerConfiguration runConfig = new VMRunnerConfiguration(mainTypeName, classpath);
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+		runConfig.setEnvironment(envp);
+		runConfig.setWorkingDirectory(workingDirName);
+		runConfig.setVMSpecificAttributesMap(vmAttributesMap);
+		runConfig.setPreviewEnabled(supportsPreviewFeatures(configuration));
+
+		if (!JavaRuntime.isModularConfiguration(configuration)) {
+			// Bootpath
+			runConfig.setBootClassPath(getBootpath(configuration));
+		} else {
+			// module path
+			runConfig.setModulepath(modulepath);
+			if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS,
+					true)) {
+				runConfig.setOverrideDependencies(
+						configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
 			} else {
-				// module path
-				runConfig.setModulepath(modulepath);
-				if (!configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_DEFAULT_MODULE_CLI_OPTIONS,
-						true)) {
-					runConfig.setOverrideDependencies(
-							configuration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_MODULE_CLI_OPTIONS, "")); //$NON-NLS-1$
-				} else {
-					runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
-				}
-			}
-
-			// check for cancellation
-			if (monitor.isCanceled()) {
-				return null;
+				runConfig.setOverrideDependencies(getModuleCLIOptions(configuration));
 			}
-		} finally {
-			// done the verification phase
-			monitor.worked(1);
 		}
 		return runConfig;
 	}
@@ -330,13 +364,123 @@ public class JUnitPluginLaunchConfigurationDelegate extends AbstractJavaLaunchCo
 			monitor.worked(1);
 
 			// Launch the configuration - 1 unit of work
-			runner.run(runConfig, launch, monitor);
+			if (fShards != null) {
+				launchShards(configuration, launch, runner, runConfig, monitor);
+			} else {
+				runner.run(runConfig, launch, monitor);
+			}
 		} finally {
 			fTestElements = null;
+			fShards = null;
 			monitor.done();
 		}
 	}
 
+	private static int getShardCount(ILaunchConfiguration configuration, String mode) throws CoreException {
+		if (!ILaunchManager.RUN_MODE.equals(mode)) {
+			return 1;
+		}
+		return configuration.getAttribute(ATTR_SHARDS, 1);
+	}
+
+	/**
+	 * Distributes the test classes of the launch onto shards balanced by the
+	 * durations recorded in earlier runs. Leaves the launch unsharded if there
+	 * are not at least two test classes to run.
+	 */
+	private void prepareShards(ILaunchConfiguration configuration, int shardCount, IProgressMonitor monitor)
+			throws CoreException {
+		IJavaElement[] elements = fTestElements;
+		if (elements.length == 1 && !(elements[0] instanceof IMember)) {
+			// a test container, run the test classes it contains
+			elements = evaluateTests(configuration, monitor);
+		}
+		if (elements.length < 2 || !Arrays.stream(elements).allMatch(IType.class::isInstance)) {
+			return;
+		}
+		fShards = TestShards.partition(Arrays.copyOf(elements, elements.length, IType[].class), shardCount,
+				TestShards.loadDurations());
+		fViewPort = fPort;
+		fShardPorts = new int[fShards.size()];
+		Set<Integer> ports = new HashSet<>();
+		ports.add(fViewPort);
+		for (int i = 0; i < fShardPorts.length; i++) {
+			int port;
+			do {
+				port = evaluatePort();
+			} while (!ports.add(port));
+			fShardPorts[i] = port;
+		}
+		fShardArea = getConfigurationDirectory(configuration);
+	}
+
+	/**
+	 * Makes the given shard the one the VM configuration is created for.
+	 */
+	private void selectShard(int shard) {
+		fTestElements = fShards.get(shard);
+		fPort = fShardPorts[shard];
+		fConfigDir = getShardDirectory(shard);
+		fWorkspaceLocation = new File(fConfigDir, "data").getAbsolutePath(); //$NON-NLS-1$
+	}
+
+	private File getShardDirectory(int shard) {
+		return new File(fShardArea, "shard" + shard); //$NON-NLS-1$
+	}
+
+	/**
+	 * Launches one VM per shard, the first with the given configuration, and
+	 * merges their test runs into the test run session of the launch.
+	 */
+	private void launchShards(ILaunchConfiguration configuration, ILaunch launch, IVMRunner runner,
+			VMRunnerConfiguration firstShard, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, fShards.size() * 2);
+		boolean clearWorkspace = configuration.getAttribute(IPDELauncherConstants.DOCLEAR, false);
+		for (int i = 0; i < fShards.size(); i++) {
+			File shardDirectory = getShardDirectory(i);
+			if (clearWorkspace) {
+				CoreUtility.deleteContent(new File(shardDirectory, "data"), subMonitor.split(1)); //$NON-NLS-1$
+			}
+			LaunchConfigurationHelper.synchronizeManifests(configuration, shardDirectory);
+		}
+		subMonitor.setWorkRemaining(fShards.size());
+
+		TestShardMultiplexer multiplexer;
+		try {
+			multiplexer = new TestShardMultiplexer(fViewPort, fShardPorts);
+		} catch (IOException e) {
+			abort(Messages.JUnitPluginLaunchConfigurationDelegate_error_no_socket, e,
+					IJavaLaunchConfigurationConstants.ERR_NO_SOCKET_AVAILABLE);
+			return;
+		}
+		multiplexer.start();
+		JUnitVersion junitVersion = getJUnitVersion(configuration);
+		IJavaProject javaProject = getJavaProject(configuration);
+		for (int i = 0; i < fShards.size(); i++) {
+			try {
+				VMRunnerConfiguration runConfig = firstShard;
+				if (i > 0) {
+					selectShard(i);
+					runConfig = createVMRunnerConfiguration(configuration, ILaunchManager.RUN_MODE, junitVersion,
+							javaProject);
+				}
+				runner.run(runConfig, launch, subMonitor.split(1));
+				IProcess[] processes = launch.getProcesses();
+				if (processes.length > 0) {
+					multiplexer.setProcess(i, processes[processes.length - 1]);
+				} else {
+					multiplexer.cancel(i);
+				}
+			} catch (CoreException | RuntimeException e) {
+				// let the view finish with the shards that did start
+				for (int j = i; j < fShards.size(); j++) {
+					multiplexer.cancel(j);
+				}
+				throw e;
+			}
+		}
+	}
+
 	private int evaluatePort() throws CoreException {
 		int port = SocketUtil.findFreePort();
 		if (port == -1) {
@@ -359,7 +503,7 @@ public class JUnitPluginLaunchConfigurationDelegate extends AbstractJavaLaunchCo
 			throws CoreException {
 		fWorkspaceLocation = null;
 		fConfigDir = null;
-		fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false);
+		fModels = LaunchPreparationCache.getMergedBundleMap(configuration, false, null);
 		fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId(),
 				LinkedHashMap::new, Collectors.toCollection(ArrayList::new)));
 
@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.unittest.junit.launcher;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.pde.unittest.junit.JUnitPluginTestPlugin;
+
+/**
+ * Merges the test runs of several test shards into the single test run
+ * session the JUnit view listens for.
+ * <p>
+ * Each shard runs the remote test runner in its own OSGi instance and
+ * connects to a port of this multiplexer instead of the view. The messages of
+ * all shards are forwarded to the view, with the test identifiers made unique
+ * across shards, one test run start announcing the tests of all shards and
+ * one test run end once all shards are done. Stop requests of the view are
+ * passed on to all shards. While forwarding, the time spent in the tests of
+ * each test class is measured for balancing later runs.
+ * </p>
+ */
+public class TestShardMultiplexer {
+
+	// message identifiers of the remote test runner protocol
+	private static final int HEADER_LENGTH = 8;
+	private static final String TEST_RUN_START = "%TESTC  "; //$NON-NLS-1$
+	private static final String TEST_RUN_END = "%RUNTIME"; //$NON-NLS-1$
+	private static final String TEST_TREE = "%TSTTREE"; //$NON-NLS-1$
+	private static final String TEST_START = "%TESTS  "; //$NON-NLS-1$
+	private static final String TEST_END = "%TESTE  "; //$NON-NLS-1$
+	private static final String TEST_ERROR = "%ERROR  "; //$NON-NLS-1$
+	private static final String TEST_FAILED = "%FAILED "; //$NON-NLS-1$
+	private static final String TEST_STOP = ">STOP   "; //$NON-NLS-1$
+	private static final Map<String, String> BLOCKS = Map.of( //
+			"%TRACES ", "%TRACEE ", //$NON-NLS-1$ //$NON-NLS-2$
+			"%RTRACES", "%RTRACEE", //$NON-NLS-1$ //$NON-NLS-2$
+			"%EXPECTS", "%EXPECTE", //$NON-NLS-1$ //$NON-NLS-2$
+			"%ACTUALS", "%ACTUALE"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	private static final int CONNECT_ATTEMPTS = 20;
+
+	private record RunningTest(String className, long start) {
+	}
+
+	private final int fViewPort;
+	private final ServerSocket[] fServers;
+	private final IProcess[] fProcesses;
+	private final PrintWriter[] fShardWriters;
+	private final Map<String, Long> fDurations = new ConcurrentHashMap<>();
+	private final Object fLock = new Object();
+
+	// guarded by fLock
+	private PrintWriter fView;
+	private boolean fNoView;
+	private final List<String> fPending = new ArrayList<>();
+	private final boolean[] fShardStarted;
+	private int fStarted;
+	private int fEnded;
+	private int fTestCount;
+	private String fVersion;
+	private boolean fRunStarted;
+	private long fStartTime;
+
+	/**
+	 * Opens the ports the shards connect to.
+	 *
+	 * @param viewPort   the port of the JUnit view
+	 * @param shardPorts the ports to listen on, one per shard
+	 * @throws IOException if a port cannot be opened
+	 */
+	public TestShardMultiplexer(int viewPort, int[] shardPorts) throws IOException {
+		fViewPort = viewPort;
+		fServers = new ServerSocket[shardPorts.length];
+		fProcesses = new IProcess[shardPorts.length];
+		fShardWriters = new PrintWriter[shardPorts.length];
+		fShardStarted = new boolean[shardPorts.length];
+		try {
+			for (int i = 0; i < shardPorts.length; i++) {
+				fServers[i] = new ServerSocket(shardPorts[i], 1, InetAddress.getLoopbackAddress());
+				fServers[i].setSoTimeout(1000);
+			}
+		} catch (IOException e) {
+			closeServers();
+			throw e;
+		}
+	}
+
+	/**
+	 * Sets the process running the given shard. A shard whose process
+	 * terminates without connecting is considered done.
+	 */
+	void setProcess(int shard, IProcess process) {
+		synchronized (fProcesses) {
+			fProcesses[shard] = process;
+		}
+	}
+
+	/**
+	 * Gives up waiting for the given shard, for example because its process
+	 * could not be started.
+	 */
+	void cancel(int shard) {
+		try {
+			fServers[shard].close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Starts forwarding in background threads.
+	 */
+	public void start() {
+		fStartTime = System.currentTimeMillis();
+		Thread view = new Thread(this::connectView, "PDE JUnit shard multiplexer"); //$NON-NLS-1$
+		view.setDaemon(true);
+		view.start();
+		for (int i = 0; i < fServers.length; i++) {
+			int shard = i;
+			Thread reader = new Thread(() -> readShard(shard), "PDE JUnit shard " + shard); //$NON-NLS-1$
+			reader.setDaemon(true);
+			reader.start();
+		}
+	}
+
+	private void connectView() {
+		Socket socket = null;
+		for (int i = 0; i < CONNECT_ATTEMPTS && socket == null; i++) {
+			try {
+				socket = new Socket(InetAddress.getLoopbackAddress(), fViewPort);
+			} catch (IOException e) {
+				try {
+					Thread.sleep(1000);
+				} catch (InterruptedException e1) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+		if (socket == null) {
+			// nobody listens, the shards still run but only their processes report
+			synchronized (fLock) {
+				fNoView = true;
+				fPending.clear();
+			}
+			return;
+		}
+		try {
+			synchronized (fLock) {
+				fView = new PrintWriter(new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)), false);
+				if (fRunStarted) {
+					writeRunStart();
+				}
+				if (fEnded == fServers.length) {
+					writeRunEnd();
+				}
+			}
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					if (line.startsWith(TEST_STOP)) {
+						synchronized (fShardWriters) {
+							for (PrintWriter writer : fShardWriters) {
+								if (writer != null) {
+									writer.println(line);
+									writer.flush();
+								}
+							}
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			// the view went away
+		}
+	}
+
+	private void readShard(int shard) {
+		Map<String, RunningTest> running = new HashMap<>();
+		try (Socket socket = accept(shard)) {
+			if (socket == null) {
+				return;
+			}
+			synchronized (fShardWriters) {
+				fShardWriters[shard] = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), false);
+			}
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+				// a failure and the blocks following it are forwarded in one
+				// piece, so they are not interleaved with messages of other shards
+				StringBuilder failure = null;
+				String line;
+				while ((line = reader.readLine()) != null) {
+					String end = line.length() >= HEADER_LENGTH ? BLOCKS.get(line.substring(0, HEADER_LENGTH)) : null;
+					if (end != null) {
+						StringBuilder block = failure != null ? failure.append('\n') : new StringBuilder();
+						block.append(line);
+						while (!line.startsWith(end) && (line = reader.readLine()) != null) {
+							block.append('\n').append(line);
+						}
+						if (failure == null) {
+							forward(block.toString());
+						}
+						continue;
+					}
+					if (failure != null) {
+						forward(failure.toString());
+						failure = null;
+					}
+					if (line.startsWith(TEST_RUN_START)) {
+						shardStarted(shard, line);
+					} else if (line.startsWith(TEST_RUN_END)) {
+						break;
+					} else if (line.startsWith(TEST_ERROR) || line.startsWith(TEST_FAILED)) {
+						failure = new StringBuilder(remap(line, shard));
+					} else {
+						measure(line, running);
+						forward(remap(line, shard));
+					}
+				}
+				if (failure != null) {
+					forward(failure.toString());
+				}
+			}
+		} catch (IOException e) {
+			JUnitPluginTestPlugin.log(e);
+		} finally {
+			synchronized (fShardWriters) {
+				fShardWriters[shard] = null;
+			}
+			shardEnded(shard);
+		}
+	}
+
+	/**
+	 * Waits for the shard to connect, or for its process to terminate.
+	 */
+	private Socket accept(int shard) throws IOException {
+		try (ServerSocket server = fServers[shard]) {
+			while (true) {
+				try {
+					return server.accept();
+				} catch (SocketException e) {
+					if (server.isClosed()) {
+						// cancelled
+						return null;
+					}
+					throw e;
+				} catch (SocketTimeoutException e) {
+					IProcess process;
+					synchronized (fProcesses) {
+						process = fProcesses[shard];
+					}
+					if (process != null && process.isTerminated()) {
+						return null;
+					}
+				}
+			}
+		}
+	}
+
+	private void shardStarted(int shard, String line) {
+		String[] tokens = line.substring(HEADER_LENGTH).trim().split(" "); //$NON-NLS-1$
+		synchronized (fLock) {
+			if (fShardStarted[shard]) {
+				return;
+			}
+			fShardStarted[shard] = true;
+			try {
+				fTestCount += Integer.parseInt(tokens[0]);
+			} catch (NumberFormatException e) {
+				// count unknown
+			}
+			if (fVersion == null && tokens.length > 1) {
+				fVersion = tokens[1];
+			}
+			fStarted++;
+			checkAllStarted();
+		}
+	}
+
+	private void shardEnded(int shard) {
+		synchronized (fLock) {
+			fEnded++;
+			if (!fShardStarted[shard]) {
+				// ended without starting its test run
+				fShardStarted[shard] = true;
+				fStarted++;
+				checkAllStarted();
+			}
+			if (fEnded == fServers.length) {
+				if (fView != null) {
+					writeRunEnd();
+				}
+				TestShards.storeDurations(fDurations);
+			}
+		}
+	}
+
+	private void checkAllStarted() {
+		if (fStarted == fServers.length && !fRunStarted) {
+			fRunStarted = true;
+			if (fView != null) {
+				writeRunStart();
+			}
+		}
+	}
+
+	private void writeRunStart() {
+		fView.println(TEST_RUN_START + fTestCount + (fVersion != null ? " " + fVersion : "")); //$NON-NLS-1$ //$NON-NLS-2$
+		for (String message : fPending) {
+			fView.println(message);
+		}
+		fPending.clear();
+		fView.flush();
+	}
+
+	private void writeRunEnd() {
+		fView.println(TEST_RUN_END + (System.currentTimeMillis() - fStartTime));
+		fView.close();
+	}
+
+	private void forward(String message) {
+		synchronized (fLock) {
+			if (fRunStarted && fView != null) {
+				fView.println(message);
+				fView.flush();
+			} else if (!fNoView) {
+				fPending.add(message);
+			}
+		}
+	}
+
+	/**
+	 * Makes the test identifiers of a message unique across the shards.
+	 */
+	private String remap(String line, int shard) {
+		if (!line.startsWith(TEST_TREE) && !line.startsWith(TEST_START) && !line.startsWith(TEST_END)
+				&& !line.startsWith(TEST_ERROR) && !line.startsWith(TEST_FAILED)) {
+			return line;
+		}
+		List<String> fields = splitFields(line.substring(HEADER_LENGTH));
+		fields.set(0, remapId(fields.get(0), shard));
+		// the parent of a test tree entry
+		if (line.startsWith(TEST_TREE) && fields.size() > 5) {
+			fields.set(5, remapId(fields.get(5), shard));
+		}
+		return line.substring(0, HEADER_LENGTH) + String.join(",", fields); //$NON-NLS-1$
+	}
+
+	private String remapId(String id, int shard) {
+		try {
+			long value = Long.parseLong(id);
+			return value < 0 ? id : Long.toString(value * fServers.length + shard);
+		} catch (NumberFormatException e) {
+			return shard + "." + id; //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Splits a message at the commas that are not escaped, keeping the escapes.
+	 */
+	private static List<String> splitFields(String message) {
+		List<String> fields = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < message.length(); i++) {
+			char c = message.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == ',') {
+				fields.add(message.substring(start, i));
+				start = i + 1;
+			}
+		}
+		fields.add(message.substring(start));
+		return fields;
+	}
+
+	/**
+	 * Adds up the time spent in the tests of each test class.
+	 */
+	private void measure(String line, Map<String, RunningTest> running) {
+		if (line.startsWith(TEST_START)) {
+			List<String> fields = splitFields(line.substring(HEADER_LENGTH));
+			if (fields.size() > 1) {
+				// test names are "method(class)"
+				String name = fields.get(1);
+				int open = name.lastIndexOf('(');
+				int close = name.lastIndexOf(')');
+				if (open >= 0 && close > open) {
+					running.put(fields.get(0), new RunningTest(name.substring(open + 1, close), System.currentTimeMillis()));
+				}
+			}
+		} else if (line.startsWith(TEST_END)) {
+			RunningTest test = running.remove(splitFields(line.substring(HEADER_LENGTH)).get(0));
+			if (test != null) {
+				fDurations.merge(test.className(), System.currentTimeMillis() - test.start(), Long::sum);
+			}
+		}
+	}
+
+	private void closeServers() {
+		for (ServerSocket server : fServers) {
+			if (server != null) {
+				try {
+					server.close();
+				} catch (IOException e) {
+					// ignore
+				}
+			}
+		}
+	}
+}
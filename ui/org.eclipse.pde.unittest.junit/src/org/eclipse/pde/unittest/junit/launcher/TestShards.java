@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse contributors and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse contributors - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.unittest.junit.launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.pde.unittest.junit.JUnitPluginTestPlugin;
+
+/**
+ * Partitions the test classes of a launch into shards of about the same
+ * duration and remembers the durations of test classes measured by previous
+ * sharded runs.
+ */
+public final class TestShards {
+
+	private static final String DURATIONS_FILE = "testDurations.properties"; //$NON-NLS-1$
+
+	private TestShards() {
+		// static use only
+	}
+
+	/**
+	 * Distributes the given test classes onto the given number of shards,
+	 * longest classes first and each onto the shard with the least total
+	 * duration so far. Classes without a recorded duration are assumed to
+	 * take as long as the median recorded class.
+	 *
+	 * @param types      the test classes
+	 * @param shardCount the number of shards
+	 * @param durations  recorded durations in milliseconds by class name
+	 * @return the non-empty shards
+	 */
+	public static List<IType[]> partition(IType[] types, int shardCount, Map<String, Long> durations) {
+		long[] known = Arrays.stream(types).map(IType::getFullyQualifiedName).map(durations::get)
+				.filter(Objects::nonNull).mapToLong(Long::longValue).sorted().toArray();
+		long fallback = known.length > 0 ? Math.max(known[known.length / 2], 1) : 1;
+		Map<IType, Long> weights = new HashMap<>();
+		for (IType type : types) {
+			weights.put(type, durations.getOrDefault(type.getFullyQualifiedName(), fallback));
+		}
+		IType[] sorted = types.clone();
+		Arrays.sort(sorted, Comparator.comparing((IType t) -> weights.get(t)).reversed()
+				.thenComparing(IType::getFullyQualifiedName));
+
+		int count = Math.min(shardCount, types.length);
+		List<List<IType>> shards = new ArrayList<>(count);
+		long[] totals = new long[count];
+		for (int i = 0; i < count; i++) {
+			shards.add(new ArrayList<>());
+		}
+		for (IType type : sorted) {
+			int lightest = 0;
+			for (int i = 1; i < count; i++) {
+				if (totals[i] < totals[lightest]) {
+					lightest = i;
+				}
+			}
+			shards.get(lightest).add(type);
+			totals[lightest] += weights.get(type);
+		}
+		return shards.stream().map(s -> s.toArray(new IType[s.size()])).toList();
+	}
+
+	/**
+	 * @return the recorded durations in milliseconds by test class name
+	 */
+	static synchronized Map<String, Long> loadDurations() {
+		Map<String, Long> durations = new HashMap<>();
+		File file = getDurationsFile();
+		if (file.isFile()) {
+			Properties properties = new Properties();
+			try (InputStream stream = Files.newInputStream(file.toPath())) {
+				properties.load(stream);
+			} catch (IOException e) {
+				JUnitPluginTestPlugin.log(e);
+			}
+			for (String name : properties.stringPropertyNames()) {
+				try {
+					durations.put(name, Long.valueOf(properties.getProperty(name)));
+				} catch (NumberFormatException e) {
+					// ignore broken entries, they are measured again
+				}
+			}
+		}
+		return durations;
+	}
+
+	/**
+	 * Records the given measured durations, replacing earlier measurements of
+	 * the same classes.
+	 *
+	 * @param measured durations in milliseconds by test class name
+	 */
+	static synchronized void storeDurations(Map<String, Long> measured) {
+		if (measured.isEmpty()) {
+			return;
+		}
+		Map<String, Long> durations = loadDurations();
+		durations.putAll(measured);
+		Properties properties = new Properties();
+		durations.forEach((name, duration) -> properties.setProperty(name, duration.toString()));
+		try (OutputStream stream = Files.newOutputStream(getDurationsFile().toPath())) {
+			properties.store(stream, null);
+		} catch (IOException e) {
+			JUnitPluginTestPlugin.log(e);
+		}
+	}
+
+	private static File getDurationsFile() {
+		return JUnitPluginTestPlugin.getDefault().getStateLocation().append(DURATIONS_FILE).toFile();
+	}
+}